@@ -0,0 +1,172 @@
+package com.java.helics.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.java.helics.CombinationFederate;
+import com.java.helics.Endpoint;
+import com.java.helics.HelicsBroker;
+import com.java.helics.HelicsDataTypes;
+import com.java.helics.HelicsError;
+import com.java.helics.HelicsException;
+import com.java.helics.HelicsFederate;
+import com.java.helics.HelicsFederateInfo;
+import com.java.helics.HelicsInput;
+import com.java.helics.HelicsMessage;
+import com.java.helics.HelicsPublication;
+import com.java.helics.Input;
+import com.java.helics.JavaHelics;
+import com.java.helics.JavaHelicsLibrary;
+import com.java.helics.Message;
+import com.java.helics.Publication;
+import com.java.helics.ReusableHelicsError;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Hot paths of the HELICS bindings against a single federate on an in-process broker, once per backend.
+ *
+ * <p>Run with -Dcom.java.helics.library=&lt;path to the HELICS shared library&gt; unless the library is on the
+ * classpath in the platform directory expected by {@link JavaHelics#platformResource()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class BindingBenchmark {
+	private static final int MESSAGES_PER_INVOCATION = 64;
+	@Param({"INTERFACE", "DIRECT", "FOREIGN"})
+	public JavaHelics.Backend backend;
+	private JavaHelicsLibrary lib;
+	private HelicsBroker broker;
+	private CombinationFederate fed;
+	private HelicsFederate fedHandle;
+	private HelicsPublication pubHandle;
+	private HelicsInput rawInputHandle;
+	private Publication pub;
+	private Input input;
+	private Endpoint endpoint;
+	private Message message;
+	private ByteBuffer bytes;
+	private IntByReference actualSize;
+	private double time;
+	@Setup
+	public void setup() throws IOException {
+		lib = JavaHelics.forPlatform(backend).getLibrary();
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		broker = lib.helicsCreateBroker("inproc", "bench_broker", "--federates=1", err);
+		HelicsException.check(err);
+		final HelicsFederateInfo fi = lib.helicsCreateFederateInfo();
+		lib.helicsFederateInfoSetCoreTypeFromString(fi, "inproc", err);
+		HelicsException.check(err);
+		lib.helicsFederateInfoSetCoreInitString(fi, "--federates=1", err);
+		HelicsException.check(err);
+		lib.helicsFederateInfoSetBroker(fi, "bench_broker", err);
+		HelicsException.check(err);
+		fed = new CombinationFederate(lib, "bench", fi);
+		lib.helicsFederateInfoFree(fi);
+		fedHandle = fed.getHandle();
+		pub = fed.registerGlobalPublication("bench/value", HelicsDataTypes.HELICS_DATA_TYPE_DOUBLE, "");
+		pubHandle = pub.getHandle();
+		final Publication raw = fed.registerGlobalPublication("bench/raw", HelicsDataTypes.HELICS_DATA_TYPE_RAW, "");
+		input = fed.registerSubscription("bench/value", "");
+		final Input rawInput = fed.registerSubscription("bench/raw", "");
+		endpoint = fed.registerGlobalEndpoint("bench/endpoint", "");
+		fed.enterExecutingMode();
+		pub.publish(1.0);
+		raw.publishBytes(new byte[256], 256);
+		time = fed.requestTime(1.0);
+		rawInputHandle = rawInput.getHandle();
+		bytes = ByteBuffer.allocateDirect(256);
+		actualSize = new IntByReference();
+		message = endpoint.createMessage();
+		message.setDestination("bench/endpoint");
+		message.setData(new byte[64], 64);
+	}
+	@TearDown
+	public void tearDown() {
+		fed.disconnect();
+		fed.close();
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsBrokerWaitForDisconnect(broker, 10_000, err);
+		err.clear();
+		lib.helicsBrokerFree(broker);
+		lib.helicsCleanupLibrary();
+	}
+	@Benchmark
+	public void publishDouble() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishDouble(pubHandle, 2.0, err);
+		HelicsException.check(err);
+	}
+	@Benchmark
+	public double inputGetDouble() {
+		return input.getDouble();
+	}
+	@Benchmark
+	public int inputGetBytes() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputGetBytes(rawInputHandle, bytes, bytes.remaining(), actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * Messages sent to the federate's own endpoint are only delivered at the next grant, so sends and receives are
+	 * measured together around one time request.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES_PER_INVOCATION)
+	public void endpointSendAndGetMessage(final Blackhole bh) {
+		for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+			endpoint.sendMessage(message);
+		}
+		time = fed.requestTime(time + 1.0);
+		for (int i = 0; i < MESSAGES_PER_INVOCATION; i++) {
+			final HelicsMessage received = lib.helicsEndpointGetMessage(endpoint.getHandle());
+			bh.consume(lib.helicsMessageGetByteCount(received));
+			lib.helicsMessageFree(received);
+		}
+	}
+	@Benchmark
+	public double requestTimeRoundTrip() {
+		time = fed.requestTime(time + 1.0);
+		return time;
+	}
+	/**
+	 * Error handling with a new auto-synchronized {@link HelicsError} structure per call.
+	 */
+	@Benchmark
+	public double errorNewStructure() {
+		final HelicsError err = new HelicsError();
+		final double current = lib.helicsFederateGetCurrentTime(fedHandle, err);
+		if (err.error_code != 0) {
+			throw HelicsException.create(err.error_code, err.message);
+		}
+		return current;
+	}
+	/**
+	 * Error handling with the thread-confined {@link ReusableHelicsError}.
+	 */
+	@Benchmark
+	public double errorReusable() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double current = lib.helicsFederateGetCurrentTime(fedHandle, err);
+		HelicsException.check(err);
+		return current;
+	}
+}
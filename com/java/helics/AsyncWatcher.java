@@ -0,0 +1,168 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single daemon thread watching the asynchronous federate operations and queries of every federate in the JVM.
+ *
+ * <p>Pending operations are polled for completion, backing off while none of them make progress and parking
+ * indefinitely while there is nothing to watch.
+ *
+ * <p>A finished operation is handed to a daemon completion thread, which makes the matching Complete call and then
+ * completes the future. HELICS runs the time callbacks of a federate, such as inline {@link FederateListener}s,
+ * inside the Complete call, and non-async dependent stages of the future run on the completing thread, so neither
+ * delays the polling of other federates. The completion threads are a fixed pool sized to the available processors,
+ * so the thread count does not grow with the number of federates finishing at once; a listener or dependent stage
+ * that blocks holds one of them, and one waiting on another asynchronous operation can stall every completion.
+ */
+final class AsyncWatcher {
+	private static final long MIN_BACKOFF_NANOS = 10_000L;
+	private static final long MAX_BACKOFF_NANOS = 1_000_000L;
+	private static final ConcurrentLinkedQueue<Operation<?>> SUBMITTED = new ConcurrentLinkedQueue<>();
+	private static final Thread THREAD = new Thread(AsyncWatcher::run, "helics-async-watcher");
+	private static final AtomicInteger COMPLETION_THREADS = new AtomicInteger();
+	private static final int COMPLETION_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+	private static final ExecutorService COMPLETIONS = Executors.newFixedThreadPool(COMPLETION_POOL_SIZE, task -> {
+		final Thread thread = new Thread(task, "helics-async-completion-" + COMPLETION_THREADS.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+	static {
+		THREAD.setDaemon(true);
+		THREAD.start();
+	}
+	/**
+	 * Result of the Complete call matching a started asynchronous operation, run on a completion thread.
+	 */
+	@FunctionalInterface
+	interface Completion<T> {
+		T complete(JavaHelicsLibrary lib, HelicsFederate handle, ReusableHelicsError err);
+	}
+	/**
+	 * @return a future completed with the result of completion once the operation already started on the federate
+	 * has finished
+	 */
+	static <T> CompletableFuture<T> watch(final JavaHelicsLibrary lib, final HelicsFederate handle, final Completion<T> completion) {
+		return watch(new FederateOperation<>(lib, handle, completion));
+	}
+	/**
+	 * @return the future of the already started operation, completed on a completion thread
+	 */
+	static <T> CompletableFuture<T> watch(final Operation<T> operation) {
+		SUBMITTED.add(operation);
+		LockSupport.unpark(THREAD);
+		return operation.future;
+	}
+	private static void run() {
+		final ArrayList<Operation<?>> watched = new ArrayList<>();
+		long backoff = MIN_BACKOFF_NANOS;
+		while (true) {
+			Operation<?> next;
+			while ((next = SUBMITTED.poll()) != null) {
+				watched.add(next);
+			}
+			if (watched.isEmpty()) {
+				LockSupport.park();
+				continue;
+			}
+			boolean progress = false;
+			for (final Iterator<Operation<?>> it = watched.iterator(); it.hasNext();) {
+				final Operation<?> operation = it.next();
+				if (operation.poll()) {
+					it.remove();
+					COMPLETIONS.execute(operation::finish);
+					progress = true;
+				}
+			}
+			if (progress) {
+				backoff = MIN_BACKOFF_NANOS;
+			} else {
+				LockSupport.parkNanos(backoff);
+				backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+			}
+		}
+	}
+	/**
+	 * Started native operation polled by the watcher thread and completed on a completion thread.
+	 */
+	abstract static class Operation<T> {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		/** failure of the completion check, handed to the completion thread */
+		private Throwable pollFailure;
+		abstract boolean isCompleted(ReusableHelicsError err);
+		abstract T complete(ReusableHelicsError err);
+		/**
+		 * Called once the operation has finished or failed, before the future is completed.
+		 */
+		void done() {
+		}
+		/**
+		 * @return true once the operation has finished or its completion check has failed
+		 */
+		final boolean poll() {
+			try {
+				final ReusableHelicsError err = ReusableHelicsError.acquire();
+				final boolean completed = isCompleted(err);
+				HelicsException.check(err);
+				return completed;
+			} catch (final RuntimeException | Error e) {
+				pollFailure = e;
+				return true;
+			}
+		}
+		/**
+		 * Make the Complete call and complete the future, once {@link #poll()} has returned true.
+		 */
+		final void finish() {
+			T result = null;
+			Throwable failure = pollFailure;
+			if (failure == null) {
+				try {
+					final ReusableHelicsError err = ReusableHelicsError.acquire();
+					result = complete(err);
+					HelicsException.check(err);
+				} catch (final RuntimeException | Error e) {
+					failure = e;
+				}
+			}
+			try {
+				done();
+			} catch (final RuntimeException | Error e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
+			if (failure == null) {
+				future.complete(result);
+			} else {
+				future.completeExceptionally(failure);
+			}
+		}
+	}
+	private static final class FederateOperation<T> extends Operation<T> {
+		final JavaHelicsLibrary lib;
+		final HelicsFederate handle;
+		final Completion<T> completion;
+		FederateOperation(final JavaHelicsLibrary lib, final HelicsFederate handle, final Completion<T> completion) {
+			this.lib = lib;
+			this.handle = handle;
+			this.completion = completion;
+		}
+		@Override
+		boolean isCompleted(final ReusableHelicsError err) {
+			return lib.helicsFederateIsAsyncOperationCompleted(handle, err) != HelicsConstants.HELICS_FALSE;
+		}
+		@Override
+		T complete(final ReusableHelicsError err) {
+			return completion.complete(lib, handle, err);
+		}
+	}
+	private AsyncWatcher() {}
+}
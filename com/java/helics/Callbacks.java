@@ -0,0 +1,20 @@
+package com.java.helics;
+
+import com.sun.jna.Callback;
+import com.sun.jna.CallbackThreadInitializer;
+import com.sun.jna.Native;
+
+/**
+ * Registration helpers for the JNA callbacks handed to HELICS.
+ */
+final class Callbacks {
+	private static final CallbackThreadInitializer INITIALIZER = new CallbackThreadInitializer(true, false, "helics-callback");
+	/**
+	 * Keep the native threads calling back into the JVM attached, instead of attaching and detaching on every call.
+	 */
+	static <T extends Callback> T attached(final T callback) {
+		Native.setCallbackThreadInitializer(callback, INITIALIZER);
+		return callback;
+	}
+	private Callbacks() {}
+}
@@ -0,0 +1,68 @@
+package com.java.helics;
+
+/**
+ * Federate with both value and message interfaces, created with helicsCreateCombinationFederate.
+ */
+public class CombinationFederate extends ValueFederate {
+	public CombinationFederate(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		this(lib, create(lib, name, fi));
+	}
+	protected CombinationFederate(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		super(lib, handle);
+	}
+	public static CombinationFederate fromConfig(final JavaHelicsLibrary lib, final String configFile) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateCombinationFederateFromConfig(configFile, err);
+		HelicsException.check(err);
+		return new CombinationFederate(lib, fed);
+	}
+	private static HelicsFederate create(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateCombinationFederate(name, fi, err);
+		HelicsException.check(err);
+		return fed;
+	}
+	public Endpoint registerEndpoint(final String name, final String type) {
+		return MessageFederate.registerEndpoint(this, name, type);
+	}
+	public Endpoint registerGlobalEndpoint(final String name, final String type) {
+		return MessageFederate.registerGlobalEndpoint(this, name, type);
+	}
+	public Endpoint getEndpoint(final String name) {
+		return MessageFederate.getEndpoint(this, name);
+	}
+	public int getEndpointCount() {
+		return lib.helicsFederateGetEndpointCount(handle);
+	}
+	public boolean hasMessage() {
+		return lib.helicsFederateHasMessage(handle) == HelicsConstants.HELICS_TRUE;
+	}
+	public int pendingMessageCount() {
+		return lib.helicsFederatePendingMessageCount(handle);
+	}
+	/**
+	 * @return the next message for any endpoint of the federate; the message is invalid if there is none
+	 */
+	public Message getMessage() {
+		return new Message(lib, lib.helicsFederateGetMessage(handle));
+	}
+	/**
+	 * Pull up to max pending messages for any endpoint of the federate into the batch, replacing its previous contents.
+	 *
+	 * @return the number of messages in the batch
+	 */
+	public int drain(final MessageBatch batch, final int max) {
+		return batch.drain(lib, handle, max);
+	}
+	public Message createMessage() {
+		return MessageFederate.createMessage(this);
+	}
+	/**
+	 * @param maxIdle the number of released messages kept for reuse
+	 * @param maxOutstanding the number of messages that may be acquired and not yet released at a time
+	 * @param reserveSize the payload capacity reserved for each new message
+	 */
+	public MessagePool createMessagePool(final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		return new MessagePool(lib, handle, maxIdle, maxOutstanding, reserveSize);
+	}
+}
@@ -0,0 +1,91 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Wrapper of a {@link HelicsDataBuffer} handle, as handed to translator callbacks.
+ */
+public final class DataBuffer {
+	private static final HelicsDataTypes[] TYPES = HelicsDataTypes.values();
+	private static final ByteBuffer EMPTY = ByteBuffer.allocateDirect(0).asReadOnlyBuffer();
+	private final JavaHelicsLibrary lib;
+	private HelicsDataBuffer handle;
+	DataBuffer(final JavaHelicsLibrary lib, final HelicsDataBuffer handle) {
+		this.lib = lib;
+		this.handle = handle;
+	}
+	public HelicsDataBuffer getHandle() {
+		return handle;
+	}
+	public int getSize() {
+		return lib.helicsDataBufferSize(handle);
+	}
+	public HelicsDataTypes getType() {
+		final int type = lib.helicsDataBufferType(handle);
+		for (final HelicsDataTypes t : TYPES) {
+			if (t.value() == type) {
+				return t;
+			}
+		}
+		return HelicsDataTypes.HELICS_DATA_TYPE_UNKNOWN;
+	}
+	/**
+	 * Read only view of the serialized value in native memory, valid until the buffer is modified or released.
+	 */
+	public ByteBuffer getData() {
+		final int size = lib.helicsDataBufferSize(handle);
+		final Pointer data = size > 0 ? lib.helicsDataBufferData(handle) : null;
+		return data == null ? EMPTY : data.getByteBuffer(0, size).asReadOnlyBuffer();
+	}
+	public double toDouble() {
+		return lib.helicsDataBufferToDouble(handle);
+	}
+	public int toInteger() {
+		return lib.helicsDataBufferToInteger(handle);
+	}
+	public boolean toBoolean() {
+		return lib.helicsDataBufferToBoolean(handle) != HelicsConstants.HELICS_FALSE;
+	}
+	public double toTime() {
+		return lib.helicsDataBufferToTime(handle);
+	}
+	public int getVectorSize() {
+		return lib.helicsDataBufferVectorSize(handle);
+	}
+	/**
+	 * @return the number of values stored in values
+	 */
+	public int toVector(final double[] values) {
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsDataBufferToVector(handle, values, values.length, actualSize);
+		return actualSize.getValue();
+	}
+	/**
+	 * @return the number of bytes written
+	 */
+	public int setDouble(final double value) {
+		return lib.helicsDoubleToBytes(value, handle);
+	}
+	public int setInteger(final int value) {
+		return lib.helicsIntegerToBytes(value, handle);
+	}
+	public int setBoolean(final boolean value) {
+		return lib.helicsBooleanToBytes(value ? HelicsConstants.HELICS_TRUE : HelicsConstants.HELICS_FALSE, handle);
+	}
+	public int setString(final String value) {
+		return lib.helicsStringToBytes(value, handle);
+	}
+	public int setVector(final double[] values, final int length) {
+		Objects.checkFromIndexSize(0, length, values.length);
+		return lib.helicsVectorToBytes(values, length, handle);
+	}
+	/**
+	 * Point a callback's reusable view at the buffer currently being processed.
+	 */
+	void rebind(final HelicsDataBuffer handle) {
+		this.handle = handle;
+	}
+}
@@ -0,0 +1,138 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Wrapper of a {@link HelicsEndpoint} handle with inline error checking.
+ */
+public final class Endpoint {
+	private final JavaHelicsLibrary lib;
+	private final HelicsEndpoint handle;
+	Endpoint(final JavaHelicsLibrary lib, final HelicsEndpoint handle) {
+		this.lib = lib;
+		this.handle = handle;
+	}
+	public HelicsEndpoint getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsEndpointGetName(handle);
+	}
+	public String getType() {
+		return lib.helicsEndpointGetType(handle);
+	}
+	public String getDefaultDestination() {
+		return lib.helicsEndpointGetDefaultDestination(handle);
+	}
+	public void setDefaultDestination(final String destination) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSetDefaultDestination(handle, destination, err);
+		HelicsException.check(err);
+	}
+	public void subscribe(final String key) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSubscribe(handle, key, err);
+		HelicsException.check(err);
+	}
+	public Message createMessage() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsMessage message = lib.helicsEndpointCreateMessage(handle, err);
+		HelicsException.check(err);
+		return new Message(lib, message);
+	}
+	public void sendMessage(final Message message) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendMessage(handle, message.getHandle(), err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Send the first length bytes of a caller owned array to the default destination.
+	 */
+	public void sendBytes(final byte[] data, final int length) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytes(handle, data, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Send the remaining bytes of the buffer to the default destination; a direct buffer is read in place and the
+	 * buffer position is not changed.
+	 */
+	public void sendBytes(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytes(handle, data, data.remaining(), err);
+		HelicsException.check(err);
+	}
+	public void sendBytesTo(final byte[] data, final int length, final String destination) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesTo(handle, data, length, destination, err);
+		HelicsException.check(err);
+	}
+	public void sendBytesTo(final ByteBuffer data, final String destination) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesTo(handle, data, data.remaining(), destination, err);
+		HelicsException.check(err);
+	}
+	public void sendBytesAt(final byte[] data, final int length, final double time) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesAt(handle, data, length, time, err);
+		HelicsException.check(err);
+	}
+	public void sendBytesAt(final ByteBuffer data, final double time) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesAt(handle, data, data.remaining(), time, err);
+		HelicsException.check(err);
+	}
+	public void sendBytesToAt(final byte[] data, final int length, final String destination, final double time) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesToAt(handle, data, length, destination, time, err);
+		HelicsException.check(err);
+	}
+	public void sendBytesToAt(final ByteBuffer data, final String destination, final double time) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendBytesToAt(handle, data, data.remaining(), destination, time, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Send the message without copying it. The native message is owned by the core afterwards, so the message loses
+	 * its handle and closing it does nothing.
+	 */
+	public void sendMessageZeroCopy(final Message message) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsEndpointSendMessageZeroCopy(handle, message.getHandle(), err);
+		HelicsException.check(err);
+		message.detach();
+	}
+	/**
+	 * @param maxIdle the number of released messages kept for reuse
+	 * @param maxOutstanding the number of messages that may be acquired and not yet released at a time
+	 * @param reserveSize the payload capacity reserved for each new message
+	 */
+	public MessagePool createMessagePool(final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		return new MessagePool(lib, handle, maxIdle, maxOutstanding, reserveSize);
+	}
+	public boolean hasMessage() {
+		return lib.helicsEndpointHasMessage(handle) == HelicsConstants.HELICS_TRUE;
+	}
+	public int pendingMessageCount() {
+		return lib.helicsEndpointPendingMessageCount(handle);
+	}
+	/**
+	 * @return the next message for the endpoint; the message is invalid if there is none
+	 */
+	public Message getMessage() {
+		return new Message(lib, lib.helicsEndpointGetMessage(handle));
+	}
+	/**
+	 * Pull up to max pending messages into the batch, replacing its previous contents.
+	 *
+	 * @return the number of messages in the batch
+	 */
+	public int drain(final MessageBatch batch, final int max) {
+		return batch.drain(lib, handle, max);
+	}
+}
@@ -0,0 +1,363 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Object oriented wrapper of a {@link HelicsFederate} handle.
+ *
+ * <p>Every call passes the calling thread's {@link ReusableHelicsError} and checks it inline, so a successful call
+ * allocates nothing on the Java side. A failed call throws the {@link HelicsException} matching the error code.
+ */
+public abstract class Federate implements AutoCloseable {
+	private static final HelicsIterationResult[] ITERATION_RESULTS = HelicsIterationResult.values();
+	protected final JavaHelicsLibrary lib;
+	protected final HelicsFederate handle;
+	private final List<Object> callbacks = new ArrayList<>();
+	private FederateListeners listeners;
+	private QueryResponder queries;
+	private volatile NativeCallPool nativeCalls;
+	protected Federate(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		this.lib = lib;
+		this.handle = handle;
+	}
+	public JavaHelicsLibrary getLibrary() {
+		return lib;
+	}
+	public HelicsFederate getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsFederateGetName(handle);
+	}
+	public HelicsFederateState getState() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final int state = lib.helicsFederateGetState(handle, err);
+		HelicsException.check(err);
+		return FederateListeners.state(state);
+	}
+	/**
+	 * Make the blocking calls of this federate safe to use from virtual threads. When called from a virtual thread,
+	 * entering initializing or executing mode and requesting a time use the asynchronous API and park until the
+	 * shared watcher completes them, so no thread is held while waiting on the rest of the federation. waitCommand and
+	 * query run on the pool. Calls from platform threads are unchanged. Pass null to turn offloading off.
+	 */
+	public void setNativeCallPool(final NativeCallPool pool) {
+		this.nativeCalls = pool;
+	}
+	private boolean offload() {
+		return nativeCalls != null && Thread.currentThread().isVirtual();
+	}
+	public void enterInitializingMode() {
+		if (offload()) {
+			NativeCallPool.join(enterInitializingModeAsync());
+			return;
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateEnterInitializingMode(handle, err);
+		HelicsException.check(err);
+	}
+	public void enterExecutingMode() {
+		if (offload()) {
+			NativeCallPool.join(enterExecutingModeAsync());
+			return;
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateEnterExecutingMode(handle, err);
+		HelicsException.check(err);
+	}
+	public HelicsIterationResult enterExecutingModeIterative(final HelicsIterationRequest iterate) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final int result = lib.helicsFederateEnterExecutingModeIterative(handle, iterate.value(), err);
+		HelicsException.check(err);
+		return ITERATION_RESULTS[result];
+	}
+	/**
+	 * @return the granted time, HELICS_TIME_MAXTIME if the simulation has terminated
+	 */
+	public double requestTime(final double requestTime) {
+		if (offload()) {
+			return NativeCallPool.join(requestTimeAsync(requestTime));
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double granted = lib.helicsFederateRequestTime(handle, requestTime, err);
+		HelicsException.check(err);
+		return granted;
+	}
+	public double requestTimeAdvance(final double timeDelta) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double granted = lib.helicsFederateRequestTimeAdvance(handle, timeDelta, err);
+		HelicsException.check(err);
+		return granted;
+	}
+	public double requestNextStep() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double granted = lib.helicsFederateRequestNextStep(handle, err);
+		HelicsException.check(err);
+		return granted;
+	}
+	/**
+	 * Start entering initializing mode and return at once. The future is completed on a shared completion thread,
+	 * see {@link AsyncWatcher}, which also runs the federate's inline listeners; it cannot be cancelled and no other call may be made on the federate until it completes.
+	 */
+	public CompletableFuture<Void> enterInitializingModeAsync() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateEnterInitializingModeAsync(handle, err);
+		return watch(err, (l, h, e) -> {
+			l.helicsFederateEnterInitializingModeComplete(h, e);
+			return null;
+		});
+	}
+	public CompletableFuture<Void> enterExecutingModeAsync() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateEnterExecutingModeAsync(handle, err);
+		return watch(err, (l, h, e) -> {
+			l.helicsFederateEnterExecutingModeComplete(h, e);
+			return null;
+		});
+	}
+	/**
+	 * @return a future completed with the granted time, see {@link #enterInitializingModeAsync()}
+	 */
+	public CompletableFuture<Double> requestTimeAsync(final double requestTime) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateRequestTimeAsync(handle, requestTime, err);
+		return watch(err, (l, h, e) -> l.helicsFederateRequestTimeComplete(h, e));
+	}
+	/**
+	 * @return a future completed with the granted time and iteration result, see {@link #enterInitializingModeAsync()}
+	 */
+	public CompletableFuture<IterationTime> requestTimeIterativeAsync(final double requestTime, final HelicsIterationRequest iterate) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateRequestTimeIterativeAsync(handle, requestTime, iterate.value(), err);
+		return watch(err, (l, h, e) -> {
+			final IntByReference outIterate = ReusableHolders.size();
+			final double granted = l.helicsFederateRequestTimeIterativeComplete(h, outIterate, e);
+			return new IterationTime(granted, ITERATION_RESULTS[outIterate.getValue()]);
+		});
+	}
+	private <T> CompletableFuture<T> watch(final ReusableHelicsError err, final AsyncWatcher.Completion<T> completion) {
+		if (!err.isOk()) {
+			final CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally(HelicsException.create(err.code(), err.message()));
+			err.clear();
+			return failed;
+		}
+		return AsyncWatcher.watch(lib, handle, completion);
+	}
+	public double getCurrentTime() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double time = lib.helicsFederateGetCurrentTime(handle, err);
+		HelicsException.check(err);
+		return time;
+	}
+	/**
+	 * Block until a command is sent to the federate.
+	 */
+	public String waitCommand() {
+		final NativeCallPool pool = nativeCalls;
+		if (pool != null && Thread.currentThread().isVirtual()) {
+			return pool.call(this::waitCommand);
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final String command = lib.helicsFederateWaitCommand(handle, err);
+		HelicsException.check(err);
+		return command;
+	}
+	/**
+	 * @return the next command sent to the federate or null if there is none
+	 */
+	public String getCommand() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final String command = lib.helicsFederateGetCommand(handle, err);
+		HelicsException.check(err);
+		return command == null || command.isEmpty() ? null : command;
+	}
+	/**
+	 * Run a query through this federate and block for the result.
+	 *
+	 * @param target the name of the object to query, for example "root", "broker" or a federate name
+	 */
+	public String query(final String target, final String queryString) {
+		final NativeCallPool pool = nativeCalls;
+		if (pool != null && Thread.currentThread().isVirtual()) {
+			return pool.call(() -> query(target, queryString));
+		}
+		final HelicsQuery query = lib.helicsCreateQuery(target, queryString);
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			final String result = lib.helicsQueryExecute(query, handle, err);
+			HelicsException.check(err);
+			return result;
+		} finally {
+			lib.helicsQueryFree(query);
+		}
+	}
+	/**
+	 * Run a query through this federate and decode the result in place from native memory, without converting it to a
+	 * String first.
+	 */
+	public <T> T query(final String target, final String queryString, final QueryDecoder<T> decoder) {
+		final NativeCallPool pool = nativeCalls;
+		if (pool != null && Thread.currentThread().isVirtual()) {
+			return pool.call(() -> query(target, queryString, decoder));
+		}
+		final HelicsQuery query = lib.helicsCreateQuery(target, queryString);
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			final Pointer result = lib.helicsQueryExecuteRaw(query, handle, err);
+			HelicsException.check(err);
+			return decoder.decode(JsonReader.of(result));
+		} finally {
+			lib.helicsQueryFree(query);
+		}
+	}
+	/**
+	 * Client for running many queries through this federate concurrently, see {@link QueryClient}.
+	 *
+	 * @param maxIdle the number of completed native query objects kept for reuse
+	 */
+	public QueryClient createQueryClient(final int maxIdle) {
+		return new QueryClient(lib, handle, maxIdle);
+	}
+	public void setTimeProperty(final HelicsProperties property, final double time) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateSetTimeProperty(handle, property.value(), time, err);
+		HelicsException.check(err);
+	}
+	public void setIntegerProperty(final HelicsProperties property, final int value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateSetIntegerProperty(handle, property.value(), value, err);
+		HelicsException.check(err);
+	}
+	public void setFlagOption(final HelicsFederateFlags flag, final boolean value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateSetFlagOption(handle, flag.value(), value ? HelicsConstants.HELICS_TRUE : HelicsConstants.HELICS_FALSE, err);
+		HelicsException.check(err);
+	}
+	public Filter registerFilter(final HelicsFilterTypes type, final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFilter filt = lib.helicsFederateRegisterFilter(handle, type.value(), name, err);
+		HelicsException.check(err);
+		return new Filter(this, filt);
+	}
+	public Filter registerGlobalFilter(final HelicsFilterTypes type, final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFilter filt = lib.helicsFederateRegisterGlobalFilter(handle, type.value(), name, err);
+		HelicsException.check(err);
+		return new Filter(this, filt);
+	}
+	/**
+	 * Register a custom filter running a Java operator.
+	 */
+	public Filter registerFilter(final String name, final FilterOperator operator) {
+		final Filter filter = registerFilter(HelicsFilterTypes.HELICS_FILTER_TYPE_CUSTOM, name);
+		filter.setOperator(operator);
+		return filter;
+	}
+	public Filter getFilter(final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFilter filt = lib.helicsFederateGetFilter(handle, name, err);
+		HelicsException.check(err);
+		return new Filter(this, filt);
+	}
+	public int getFilterCount() {
+		return lib.helicsFederateGetFilterCount(handle);
+	}
+	public Translator registerTranslator(final HelicsTranslatorTypes type, final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsTranslator trans = lib.helicsFederateRegisterTranslator(handle, type.value(), name, err);
+		HelicsException.check(err);
+		return new Translator(this, trans);
+	}
+	public Translator registerGlobalTranslator(final HelicsTranslatorTypes type, final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsTranslator trans = lib.helicsFederateRegisterGlobalTranslator(handle, type.value(), name, err);
+		HelicsException.check(err);
+		return new Translator(this, trans);
+	}
+	/**
+	 * Register a custom translator running a Java operator.
+	 */
+	public Translator registerTranslator(final String name, final TranslatorOperator operator) {
+		final Translator translator = registerTranslator(HelicsTranslatorTypes.HELICS_TRANSLATOR_TYPE_CUSTOM, name);
+		translator.setOperator(operator);
+		return translator;
+	}
+	public Translator getTranslator(final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsTranslator trans = lib.helicsFederateGetTranslator(handle, name, err);
+		HelicsException.check(err);
+		return new Translator(this, trans);
+	}
+	public int getTranslatorCount() {
+		return lib.helicsFederateGetTranslatorCount(handle);
+	}
+	/**
+	 * Notify the listener inline on the HELICS thread that runs the time request or state change.
+	 */
+	public void addListener(final FederateListener listener) {
+		addListener(listener, null);
+	}
+	/**
+	 * Notify the listener through the executor, for example {@link FederateListener#boundedExecutor(String, int)}, or
+	 * inline when the executor is null.
+	 */
+	public synchronized void addListener(final FederateListener listener, final Executor executor) {
+		if (listeners == null) {
+			listeners = new FederateListeners(lib, handle);
+			retain(listeners);
+		}
+		listeners.add(listener, executor);
+	}
+	public synchronized boolean removeListener(final FederateListener listener) {
+		return listeners != null && listeners.remove(listener);
+	}
+	/**
+	 * Answer queries equal to the query string with the handler, replacing any handler already registered for it.
+	 * Queries without a handler are answered by HELICS.
+	 */
+	public synchronized void setQueryHandler(final String query, final QueryHandler handler) {
+		if (queries == null) {
+			queries = new QueryResponder(lib, handle);
+			retain(queries);
+			addListener(queries);
+		}
+		queries.put(query, handler);
+	}
+	public synchronized boolean removeQueryHandler(final String query) {
+		return queries != null && queries.remove(query);
+	}
+	/** report an error that stops every federate of the federation */
+	public void globalError(final HelicsErrorTypes errorCode, final String errorString) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateGlobalError(handle, errorCode.value(), errorString, err);
+		HelicsException.check(err);
+	}
+	/** finalize the federate and disconnect it from the federation */
+	public void disconnect() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateDisconnect(handle, err);
+		HelicsException.check(err);
+	}
+	/** release the native federate object; does not disconnect it */
+	@Override
+	public void close() {
+		lib.helicsFederateFree(handle);
+		synchronized (callbacks) {
+			callbacks.clear();
+		}
+	}
+	/**
+	 * Keep a callback handed to the native library reachable for the lifetime of the federate, JNA only holds it weakly.
+	 */
+	void retain(final Object callback) {
+		synchronized (callbacks) {
+			callbacks.add(callback);
+		}
+	}
+}
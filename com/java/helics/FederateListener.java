@@ -0,0 +1,47 @@
+package com.java.helics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives the time and state notifications of a federate, see {@link Federate#addListener(FederateListener)}.
+ * All methods default to doing nothing so a listener only overrides the events it needs.
+ */
+public interface FederateListener {
+	/**
+	 * Called on entry to a time request.
+	 */
+	default void onTimeRequestEntry(final double currentTime, final double requestTime, final boolean iterating) {
+	}
+	/**
+	 * Called when the federate time is updated, before any value or message callbacks are run.
+	 */
+	default void onTimeUpdate(final double newTime, final boolean iterating) {
+	}
+	/**
+	 * Called just before a time request returns with the granted time.
+	 */
+	default void onTimeRequestReturn(final double newTime, final boolean iterating) {
+	}
+	/**
+	 * Called when the federate state changes. A state value this binding does not know, for example one added by a
+	 * newer HELICS, is reported as HELICS_STATE_ERROR.
+	 */
+	default void onStateChange(final HelicsFederateState newState, final HelicsFederateState oldState) {
+	}
+	/**
+	 * Single threaded executor with a queue of the given capacity, preserving the order of the notifications. When the
+	 * queue is full the notification is run on the HELICS thread, which slows the federate down instead of dropping it.
+	 */
+	static Executor boundedExecutor(final String name, final int capacity) {
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(capacity), r -> {
+					final Thread thread = new Thread(r, name);
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		return executor;
+	}
+}
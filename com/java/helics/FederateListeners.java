@@ -0,0 +1,93 @@
+package com.java.helics;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import com.sun.jna.Pointer;
+
+/**
+ * Native time and state callbacks of one federate, fanned out to the registered {@link FederateListener}s.
+ * The callbacks are installed once, when the first listener is added.
+ */
+final class FederateListeners {
+	private static final HelicsFederateState[] STATES = HelicsFederateState.values();
+	private final CopyOnWriteArrayList<Registration> registrations = new CopyOnWriteArrayList<>();
+	private final HelicsTimeRequestEntryCallback timeRequestEntry = Callbacks.attached(this::timeRequestEntry);
+	private final HelicsTimeUpdateCallback timeUpdate = Callbacks.attached(this::timeUpdate);
+	private final HelicsTimeRequestReturnCallback timeRequestReturn = Callbacks.attached(this::timeRequestReturn);
+	private final HelicsStateChangeCallback stateChange = Callbacks.attached(this::stateChange);
+	FederateListeners(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateSetTimeRequestEntryCallback(handle, timeRequestEntry, null, err);
+		HelicsException.check(err);
+		lib.helicsFederateSetTimeUpdateCallback(handle, timeUpdate, null, err);
+		HelicsException.check(err);
+		lib.helicsFederateSetTimeRequestReturnCallback(handle, timeRequestReturn, null, err);
+		HelicsException.check(err);
+		lib.helicsFederateSetStateChangeCallback(handle, stateChange, null, err);
+		HelicsException.check(err);
+	}
+	void add(final FederateListener listener, final Executor executor) {
+		registrations.add(new Registration(listener, executor));
+	}
+	boolean remove(final FederateListener listener) {
+		return registrations.removeIf(r -> r.listener == listener);
+	}
+	private void timeRequestEntry(final double currentTime, final double requestTime, final int iterating, final Pointer userData) {
+		final boolean iter = iterating != HelicsConstants.HELICS_FALSE;
+		for (final Registration r : registrations) {
+			if (r.executor == null) {
+				r.listener.onTimeRequestEntry(currentTime, requestTime, iter);
+			} else {
+				r.executor.execute(() -> r.listener.onTimeRequestEntry(currentTime, requestTime, iter));
+			}
+		}
+	}
+	private void timeUpdate(final double newTime, final int iterating, final Pointer userData) {
+		final boolean iter = iterating != HelicsConstants.HELICS_FALSE;
+		for (final Registration r : registrations) {
+			if (r.executor == null) {
+				r.listener.onTimeUpdate(newTime, iter);
+			} else {
+				r.executor.execute(() -> r.listener.onTimeUpdate(newTime, iter));
+			}
+		}
+	}
+	private void timeRequestReturn(final double newTime, final int iterating, final Pointer userData) {
+		final boolean iter = iterating != HelicsConstants.HELICS_FALSE;
+		for (final Registration r : registrations) {
+			if (r.executor == null) {
+				r.listener.onTimeRequestReturn(newTime, iter);
+			} else {
+				r.executor.execute(() -> r.listener.onTimeRequestReturn(newTime, iter));
+			}
+		}
+	}
+	private void stateChange(final int newState, final int oldState, final Pointer userData) {
+		final HelicsFederateState current = state(newState);
+		final HelicsFederateState previous = state(oldState);
+		for (final Registration r : registrations) {
+			if (r.executor == null) {
+				r.listener.onStateChange(current, previous);
+			} else {
+				r.executor.execute(() -> r.listener.onStateChange(current, previous));
+			}
+		}
+	}
+	/**
+	 * @return the state with the native value, or HELICS_STATE_ERROR for a value this binding does not know
+	 */
+	static HelicsFederateState state(final int value) {
+		if (value < 0 || value >= STATES.length || STATES[value].value() != value) {
+			return HelicsFederateState.HELICS_STATE_ERROR;
+		}
+		return STATES[value];
+	}
+	private static final class Registration {
+		final FederateListener listener;
+		final Executor executor;
+		Registration(final FederateListener listener, final Executor executor) {
+			this.listener = listener;
+			this.executor = executor;
+		}
+	}
+}
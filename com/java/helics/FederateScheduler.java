@@ -0,0 +1,134 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Drives many federates in one JVM with the asynchronous time request API instead of a thread per federate.
+ *
+ * <p>Each federate enters executing mode and requests its first time asynchronously. Grants are completed through the
+ * shared {@link AsyncWatcher} as they arrive and the federate's {@link FederateStep} is run on the worker executor, which
+ * then issues the next request. With a worker pool sized to the cores the thread count no longer grows with the
+ * number of federates. The steps of one federate never run concurrently.
+ *
+ * <p>A federate whose step returns HELICS_TIME_MAXTIME keeps requesting HELICS_TIME_MAXTIME, without running the step
+ * again, until it is granted, so the federates depending on it can still advance.
+ *
+ * <p>The first failure of any federate, an error from HELICS or an exception thrown by its step, fails the run at
+ * once. The failing federate reports a global error, which stops the rest of the federation instead of leaving the
+ * other federates waiting on it.
+ */
+public final class FederateScheduler {
+	private final Executor workers;
+	private final List<Entry> entries = new ArrayList<>();
+	public FederateScheduler(final Executor workers) {
+		this.workers = workers;
+	}
+	/**
+	 * @param firstRequestTime the first time requested once the federate is executing
+	 */
+	public synchronized FederateScheduler add(final Federate fed, final double firstRequestTime, final FederateStep step) {
+		entries.add(new Entry(fed, firstRequestTime, step));
+		return this;
+	}
+	/**
+	 * Start every added federate.
+	 *
+	 * @return a future completed once every federate has been granted HELICS_TIME_MAXTIME, or failed as soon as any
+	 * federate fails
+	 */
+	public synchronized CompletableFuture<Void> run() {
+		final CompletableFuture<Void> result = new CompletableFuture<>();
+		final CompletableFuture<?>[] done = new CompletableFuture<?>[entries.size()];
+		for (int i = 0; i < done.length; i++) {
+			done[i] = entries.get(i).start(result);
+		}
+		// a failure has already failed the result
+		CompletableFuture.allOf(done).whenComplete((ignored, error) -> result.complete(null));
+		return result;
+	}
+	private final class Entry {
+		final Federate fed;
+		final double firstRequestTime;
+		final FederateStep step;
+		final CompletableFuture<Void> done = new CompletableFuture<>();
+		CompletableFuture<Void> result;
+		Entry(final Federate fed, final double firstRequestTime, final FederateStep step) {
+			this.fed = fed;
+			this.firstRequestTime = firstRequestTime;
+			this.step = step;
+		}
+		CompletableFuture<Void> start(final CompletableFuture<Void> result) {
+			this.result = result;
+			final CompletableFuture<Void> executing;
+			if (fed.getState() == HelicsFederateState.HELICS_STATE_EXECUTION) {
+				executing = CompletableFuture.completedFuture(null);
+			} else {
+				executing = fed.enterExecutingModeAsync();
+			}
+			executing.whenComplete((ignored, error) -> {
+				if (error != null) {
+					fail(error);
+				} else {
+					request(firstRequestTime);
+				}
+			});
+			return done;
+		}
+		void request(final double requestTime) {
+			if (requestTime >= HelicsConstants.HELICS_TIME_MAXTIME) {
+				finish();
+				return;
+			}
+			fed.requestTimeAsync(requestTime).whenCompleteAsync((granted, error) -> {
+				if (error != null) {
+					fail(error);
+				} else if (granted >= HelicsConstants.HELICS_TIME_MAXTIME) {
+					done.complete(null);
+				} else {
+					try {
+						request(step.step(granted));
+					} catch (final RuntimeException | Error e) {
+						fail(e);
+					}
+				}
+			}, workers);
+		}
+		/**
+		 * Request HELICS_TIME_MAXTIME until it is granted. An interruptible federate may be granted earlier times first,
+		 * which are not passed to the step.
+		 */
+		void finish() {
+			fed.requestTimeAsync(HelicsConstants.HELICS_TIME_MAXTIME).whenComplete((granted, error) -> {
+				if (error != null) {
+					fail(error);
+				} else if (granted >= HelicsConstants.HELICS_TIME_MAXTIME) {
+					done.complete(null);
+				} else {
+					finish();
+				}
+			});
+		}
+		/**
+		 * For the first failure, raise a global error so the other federates stop waiting, then fail the run; the error
+		 * has been raised by the time the caller sees the failure.
+		 */
+		void fail(final Throwable error) {
+			final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+			synchronized (result) {
+				if (!result.isDone()) {
+					try {
+						fed.globalError(HelicsErrorTypes.HELICS_USER_EXCEPTION, "federate failed: " + cause);
+					} catch (final RuntimeException e) {
+						cause.addSuppressed(e);
+					}
+					result.completeExceptionally(cause);
+				}
+			}
+			done.completeExceptionally(cause);
+		}
+	}
+}
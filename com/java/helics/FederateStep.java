@@ -0,0 +1,14 @@
+package com.java.helics;
+
+/**
+ * Work done by a federate each time a time request is granted, see {@link FederateScheduler}.
+ */
+@FunctionalInterface
+public interface FederateStep {
+	/**
+	 * @param grantedTime the time granted to the federate
+	 * @return the next time to request, or {@link HelicsConstants#HELICS_TIME_MAXTIME} once the federate has no more
+	 * work, after which the step is not run again
+	 */
+	double step(double grantedTime);
+}
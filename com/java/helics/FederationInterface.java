@@ -0,0 +1,99 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Publication, input, endpoint, filter or translator of a federate in the result of a data_flow_graph query,
+ * together with the interfaces it is connected to.
+ */
+public final class FederationInterface {
+	public enum Type {
+		PUBLICATION("publications"), INPUT("inputs"), ENDPOINT("endpoints"), FILTER("filters"), TRANSLATOR("translators");
+		private final String field;
+		private Type(final String field) {
+			this.field = field;
+		}
+		static Type fromField(final String field) {
+			for (final Type type : values()) {
+				if (type.field.equals(field)) {
+					return type;
+				}
+			}
+			return null;
+		}
+	}
+	private final Type type;
+	private String key;
+	private int federate;
+	private int handle;
+	private final List<FederationInterface> connections = new ArrayList<>();
+	private FederationInterface(final Type type) {
+		this.type = type;
+	}
+	/**
+	 * @return the type of the interface, or null for a connected interface whose type is not part of the result
+	 */
+	public Type getType() {
+		return type;
+	}
+	/**
+	 * @return the name of the interface, or null if it is unnamed
+	 */
+	public String getKey() {
+		return key;
+	}
+	public int getFederate() {
+		return federate;
+	}
+	public int getHandle() {
+		return handle;
+	}
+	/**
+	 * @return the targets of a publication or endpoint, or the sources of an input
+	 */
+	public List<FederationInterface> getConnections() {
+		return Collections.unmodifiableList(connections);
+	}
+	static FederationInterface read(final JsonReader reader, final Type type) {
+		final FederationInterface result = new FederationInterface(type);
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+			case "key":
+			case "name":
+				result.key = reader.nextString();
+				break;
+			case "federate":
+				result.federate = reader.nextInt();
+				break;
+			case "handle":
+				result.handle = reader.nextInt();
+				break;
+			case "targets":
+			case "sources":
+				reader.beginArray();
+				while (reader.hasNext()) {
+					if (reader.peek() == JsonReader.Token.STRING) {
+						final FederationInterface named = new FederationInterface(null);
+						named.key = reader.nextString();
+						result.connections.add(named);
+					} else {
+						result.connections.add(read(reader, null));
+					}
+				}
+				reader.endArray();
+				break;
+			default:
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return result;
+	}
+	@Override
+	public String toString() {
+		return type + " " + key + " (" + federate + ":" + handle + ")";
+	}
+}
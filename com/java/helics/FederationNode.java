@@ -0,0 +1,184 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Broker, core or federate in the result of a federate_map, dependency_graph or data_flow_graph query. Fields that
+ * are not part of the query are left empty.
+ */
+public final class FederationNode {
+	private static final int[] NO_IDS = new int[0];
+	public enum Kind {
+		BROKER, CORE, FEDERATE
+	}
+	private final Kind kind;
+	private String name;
+	private int id;
+	private int parent;
+	private final List<FederationNode> children = new ArrayList<>();
+	private int[] dependencies = NO_IDS;
+	private int[] dependents = NO_IDS;
+	private final List<FederationInterface> interfaces = new ArrayList<>();
+	private FederationNode(final Kind kind) {
+		this.kind = kind;
+	}
+	public Kind getKind() {
+		return kind;
+	}
+	public String getName() {
+		return name;
+	}
+	public int getId() {
+		return id;
+	}
+	public int getParent() {
+		return parent;
+	}
+	/**
+	 * @return the brokers, cores and federates below this node
+	 */
+	public List<FederationNode> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+	/**
+	 * @return the ids of the objects this node depends on, from a dependency_graph query
+	 */
+	public int[] getDependencies() {
+		return dependencies.clone();
+	}
+	/**
+	 * @return the ids of the objects depending on this node, from a dependency_graph query
+	 */
+	public int[] getDependents() {
+		return dependents.clone();
+	}
+	/**
+	 * @return the interfaces of a federate and their connections, from a data_flow_graph query
+	 */
+	public List<FederationInterface> getInterfaces() {
+		return Collections.unmodifiableList(interfaces);
+	}
+	/**
+	 * Decode the tree returned by a federate_map, dependency_graph or data_flow_graph query made to a broker.
+	 */
+	public static FederationNode read(final JsonReader reader) {
+		return read(reader, null);
+	}
+	/**
+	 * Decode the result like {@link #read(JsonReader)}, but hand each federate to the consumer as soon as it has been
+	 * read instead of adding it to its core, so only one federate is held in memory at a time.
+	 *
+	 * @return the root broker, with its brokers and cores but without federates
+	 */
+	public static FederationNode read(final JsonReader reader, final Consumer<FederationNode> federates) {
+		final FederationNode root = readNode(reader, Kind.BROKER, federates);
+		if (reader.peek() != JsonReader.Token.END_DOCUMENT) {
+			throw new IllegalStateException("unexpected data after the query result");
+		}
+		return root;
+	}
+	private static FederationNode readNode(final JsonReader reader, final Kind kind, final Consumer<FederationNode> federates) {
+		final FederationNode node = new FederationNode(kind);
+		reader.beginObject();
+		while (reader.hasNext()) {
+			final String field = reader.nextName();
+			switch (field) {
+			case "name":
+				node.name = reader.nextString();
+				break;
+			case "id":
+				node.id = reader.nextInt();
+				break;
+			case "parent":
+				node.parent = reader.nextInt();
+				break;
+			case "brokers":
+				readChildren(reader, node, Kind.BROKER, federates);
+				break;
+			case "cores":
+				readChildren(reader, node, Kind.CORE, federates);
+				break;
+			case "federates":
+				readChildren(reader, node, Kind.FEDERATE, federates);
+				break;
+			case "dependencies":
+				node.dependencies = readIds(reader);
+				break;
+			case "dependents":
+				node.dependents = readIds(reader);
+				break;
+			case "error":
+				throw readError(reader);
+			default:
+				final FederationInterface.Type type = FederationInterface.Type.fromField(field);
+				if (type != null) {
+					reader.beginArray();
+					while (reader.hasNext()) {
+						node.interfaces.add(FederationInterface.read(reader, type));
+					}
+					reader.endArray();
+				} else {
+					reader.skipValue();
+				}
+			}
+		}
+		reader.endObject();
+		return node;
+	}
+	private static void readChildren(final JsonReader reader, final FederationNode node, final Kind kind, final Consumer<FederationNode> federates) {
+		reader.beginArray();
+		while (reader.hasNext()) {
+			final FederationNode child = readNode(reader, kind, federates);
+			if (kind == Kind.FEDERATE && federates != null) {
+				federates.accept(child);
+			} else {
+				node.children.add(child);
+			}
+		}
+		reader.endArray();
+	}
+	private static int[] readIds(final JsonReader reader) {
+		int[] ids = new int[8];
+		int count = 0;
+		reader.beginArray();
+		while (reader.hasNext()) {
+			if (count == ids.length) {
+				ids = Arrays.copyOf(ids, count * 2);
+			}
+			ids[count++] = reader.nextInt();
+		}
+		reader.endArray();
+		return count == 0 ? NO_IDS : Arrays.copyOf(ids, count);
+	}
+	/**
+	 * Read the {"code", "message"} object HELICS answers with when a query fails.
+	 */
+	static HelicsException readError(final JsonReader reader) {
+		int code = HelicsErrorTypes.HELICS_ERROR_OTHER.value();
+		String message = "query failed";
+		if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+			return new HelicsException(code, reader.nextString());
+		}
+		reader.beginObject();
+		while (reader.hasNext()) {
+			final String field = reader.nextName();
+			if (field.equals("code")) {
+				code = reader.nextInt();
+			} else if (field.equals("message")) {
+				message = reader.nextString();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new HelicsException(code, message);
+	}
+	@Override
+	public String toString() {
+		return kind + " " + name + " (" + id + ")";
+	}
+}
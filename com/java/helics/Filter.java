@@ -0,0 +1,83 @@
+package com.java.helics;
+
+import com.sun.jna.Pointer;
+
+/**
+ * Wrapper of a {@link HelicsFilter} handle with inline error checking.
+ */
+public final class Filter {
+	private final Federate owner;
+	private final JavaHelicsLibrary lib;
+	private final HelicsFilter handle;
+	Filter(final Federate owner, final HelicsFilter handle) {
+		this.owner = owner;
+		this.lib = owner.lib;
+		this.handle = handle;
+	}
+	public HelicsFilter getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsFilterGetName(handle);
+	}
+	public void set(final String property, final double value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterSet(handle, property, value, err);
+		HelicsException.check(err);
+	}
+	public void setString(final String property, final String value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterSetString(handle, property, value, err);
+		HelicsException.check(err);
+	}
+	public void addSourceTarget(final String source) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterAddSourceTarget(handle, source, err);
+		HelicsException.check(err);
+	}
+	public void addDestinationTarget(final String destination) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterAddDestinationTarget(handle, destination, err);
+		HelicsException.check(err);
+	}
+	public void removeTarget(final String target) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterRemoveTarget(handle, target, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Run a Java operator on every message passing a custom filter. The callback is kept reachable by the federate
+	 * that registered the filter until the federate is closed. An exception thrown by the operator drops the message
+	 * and is reported to the JNA callback exception handler.
+	 *
+	 * <p>With the FOREIGN backend the operator is called from an FFM upcall stub that allocates nothing per message,
+	 * see {@link ForeignUpcalls}. The JNA backends convert the arguments of every call through JNA, which allocates.
+	 */
+	public void setOperator(final FilterOperator operator) {
+		final HelicsFilterCallback callback = Callbacks.attached(new OperatorCallback(lib, operator));
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFilterSetCustomCallback(handle, callback, null, err);
+		HelicsException.check(err);
+		owner.retain(callback);
+	}
+	/**
+	 * Adapter reusing a single {@link Message} view, a filter is run by one core thread at a time.
+	 */
+	private static final class OperatorCallback implements HelicsFilterCallback {
+		private final FilterOperator operator;
+		private final Message view;
+		OperatorCallback(final JavaHelicsLibrary lib, final FilterOperator operator) {
+			this.operator = operator;
+			this.view = new Message(lib, null);
+		}
+		@Override
+		public HelicsMessage invoke(final HelicsMessage message, final Pointer userData) {
+			view.rebind(message);
+			try {
+				return operator.filter(view) ? message : null;
+			} finally {
+				view.rebind(null);
+			}
+		}
+	}
+}
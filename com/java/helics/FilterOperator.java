@@ -0,0 +1,15 @@
+package com.java.helics;
+
+/**
+ * Java implementation of a custom filter, see {@link Filter#setOperator(FilterOperator)}.
+ */
+@FunctionalInterface
+public interface FilterOperator {
+	/**
+	 * Modify the message in place, for example its time or destination. The message object is reused for every call
+	 * and is only valid until the method returns.
+	 *
+	 * @return true to pass the message on, false to drop it
+	 */
+	boolean filter(Message message);
+}
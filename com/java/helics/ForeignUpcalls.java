@@ -0,0 +1,173 @@
+package com.java.helics;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import com.sun.jna.Callback;
+import com.sun.jna.CallbackReference;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+
+/**
+ * Foreign Function &amp; Memory upcall stubs for the per message callbacks of custom filters and translators, used by
+ * {@link JavaHelicsForeignMapping} in place of JNA callbacks.
+ *
+ * <p>Pointer arguments are received as 64 bit integers, which the C calling conventions of the 64 bit platforms
+ * supported by the FFM API pass exactly like pointers, and written into handles that are reused for every call. An
+ * upcall therefore allocates nothing and involves no JNA marshalling. Like the reusable views of {@link Filter} and
+ * {@link Translator}, this relies on a callback being run by one core thread at a time.
+ *
+ * <p>A stub holds its callback only weakly and is freed once the callback is no longer reachable, the same lifetime
+ * as a JNA callback. An exception thrown by the callback is reported to the JNA callback exception handler; a filter
+ * then drops the message.
+ */
+final class ForeignUpcalls {
+	private static final boolean SUPPORTED = ValueLayout.ADDRESS.byteSize() == Long.BYTES;
+	private static final FunctionDescriptor FILTER = FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG);
+	private static final FunctionDescriptor TRANSLATOR = FunctionDescriptor.ofVoid(ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG, ValueLayout.JAVA_LONG);
+	private static final MethodHandle FILTER_INVOKE;
+	private static final MethodHandle TO_MESSAGE_INVOKE;
+	private static final MethodHandle TO_VALUE_INVOKE;
+	static {
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			FILTER_INVOKE = lookup.findVirtual(FilterUpcall.class, "invoke", MethodType.methodType(long.class, long.class, long.class));
+			TO_MESSAGE_INVOKE = lookup.findVirtual(ToMessageUpcall.class, "invoke", MethodType.methodType(void.class, long.class, long.class, long.class));
+			TO_VALUE_INVOKE = lookup.findVirtual(ToValueUpcall.class, "invoke", MethodType.methodType(void.class, long.class, long.class, long.class));
+		} catch (final ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	/** upcall stubs keyed by the callback they call, each kept until its callback is collected */
+	private static final Map<Callback, MemorySegment> STUBS = new WeakHashMap<>();
+	static MemorySegment filterStub(final HelicsFilterCallback callback) {
+		return stub(callback, FILTER_INVOKE, FILTER, () -> new FilterUpcall(callback));
+	}
+	static MemorySegment toMessageStub(final HelicsTranslatorToMessageCallback callback) {
+		return stub(callback, TO_MESSAGE_INVOKE, TRANSLATOR, () -> new ToMessageUpcall(callback));
+	}
+	static MemorySegment toValueStub(final HelicsTranslatorToValueCallback callback) {
+		return stub(callback, TO_VALUE_INVOKE, TRANSLATOR, () -> new ToValueUpcall(callback));
+	}
+	private static synchronized MemorySegment stub(final Callback callback, final MethodHandle invoke,
+			final FunctionDescriptor descriptor, final Supplier<Object> upcall) {
+		if (!SUPPORTED) {
+			return MemorySegment.ofAddress(Pointer.nativeValue(CallbackReference.getFunctionPointer(callback)));
+		}
+		MemorySegment stub = STUBS.get(callback);
+		if (stub == null) {
+			stub = Linker.nativeLinker().upcallStub(invoke.bindTo(upcall.get()), descriptor, Arena.ofAuto());
+			STUBS.put(callback, stub);
+		}
+		return stub;
+	}
+	private static void report(final Callback callback, final Throwable failure) {
+		try {
+			Native.getCallbackExceptionHandler().uncaughtException(callback, failure);
+		} catch (final Throwable ignored) {
+			// nothing may be thrown back into native code
+		}
+	}
+	/**
+	 * Pointer whose address is replaced on every call instead of allocating a new one.
+	 */
+	private static final class ReusablePointer extends Pointer {
+		ReusablePointer() {
+			super(0);
+		}
+		Pointer at(final long address) {
+			peer = address;
+			return this;
+		}
+	}
+	/**
+	 * Handle pointing at a {@link ReusablePointer}, retargeted for every call.
+	 */
+	private static final class Reusable<T extends PointerType> {
+		private final ReusablePointer pointer = new ReusablePointer();
+		private final T handle;
+		Reusable(final T handle) {
+			this.handle = handle;
+			handle.setPointer(pointer);
+		}
+		T at(final long address) {
+			if (address == 0) {
+				return null;
+			}
+			pointer.at(address);
+			return handle;
+		}
+	}
+	private static final class FilterUpcall {
+		private final WeakReference<HelicsFilterCallback> callback;
+		private final Reusable<HelicsMessage> message = new Reusable<>(new HelicsMessage());
+		private final ReusablePointer userData = new ReusablePointer();
+		FilterUpcall(final HelicsFilterCallback callback) {
+			this.callback = new WeakReference<>(callback);
+		}
+		long invoke(final long messageAddress, final long userDataAddress) {
+			final HelicsFilterCallback target = callback.get();
+			if (target == null) {
+				return messageAddress;
+			}
+			try {
+				final HelicsMessage result = target.invoke(message.at(messageAddress), userDataAddress == 0 ? null : userData.at(userDataAddress));
+				return result == null ? 0 : Pointer.nativeValue(result.getPointer());
+			} catch (final Throwable e) {
+				report(target, e);
+				return 0;
+			}
+		}
+	}
+	private static final class ToMessageUpcall {
+		private final WeakReference<HelicsTranslatorToMessageCallback> callback;
+		private final Reusable<HelicsDataBuffer> value = new Reusable<>(new HelicsDataBuffer());
+		private final Reusable<HelicsMessage> message = new Reusable<>(new HelicsMessage());
+		private final ReusablePointer userData = new ReusablePointer();
+		ToMessageUpcall(final HelicsTranslatorToMessageCallback callback) {
+			this.callback = new WeakReference<>(callback);
+		}
+		void invoke(final long valueAddress, final long messageAddress, final long userDataAddress) {
+			final HelicsTranslatorToMessageCallback target = callback.get();
+			if (target == null) {
+				return;
+			}
+			try {
+				target.invoke(value.at(valueAddress), message.at(messageAddress), userDataAddress == 0 ? null : userData.at(userDataAddress));
+			} catch (final Throwable e) {
+				report(target, e);
+			}
+		}
+	}
+	private static final class ToValueUpcall {
+		private final WeakReference<HelicsTranslatorToValueCallback> callback;
+		private final Reusable<HelicsMessage> message = new Reusable<>(new HelicsMessage());
+		private final Reusable<HelicsDataBuffer> value = new Reusable<>(new HelicsDataBuffer());
+		private final ReusablePointer userData = new ReusablePointer();
+		ToValueUpcall(final HelicsTranslatorToValueCallback callback) {
+			this.callback = new WeakReference<>(callback);
+		}
+		void invoke(final long messageAddress, final long valueAddress, final long userDataAddress) {
+			final HelicsTranslatorToValueCallback target = callback.get();
+			if (target == null) {
+				return;
+			}
+			try {
+				target.invoke(message.at(messageAddress), value.at(valueAddress), userDataAddress == 0 ? null : userData.at(userDataAddress));
+			} catch (final Throwable e) {
+				report(target, e);
+			}
+		}
+	}
+	private ForeignUpcalls() {}
+}
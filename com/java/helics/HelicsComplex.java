@@ -5,7 +5,8 @@ package com.java.helics;
 
 import com.sun.jna.Structure;
 
-public static class HelicsComplex extends Structure{
+@Structure.FieldOrder({"real", "imag"})
+public class HelicsComplex extends Structure{
 	/*None*/
 	public double real;
 	/*None*/
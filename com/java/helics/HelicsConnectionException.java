@@ -0,0 +1,11 @@
+package com.java.helics;
+
+/**
+ * Thrown for {@link HelicsErrorTypes#HELICS_ERROR_CONNECTION_FAILURE}.
+ */
+public class HelicsConnectionException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsConnectionException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
@@ -9,7 +9,7 @@ result returned for requesting the value of an invalid/unknown property
 
 	public static final int HELICS_INVALID_PROPERTY_VALUE =  -972;
 
-	public static final double cHelicsBigNumber =  HELICS_BIG_NUMBER;/*
+	public static final double cHelicsBigNumber =  HelicsBigNumber.HELICS_BIG_NUMBER;/*
 definition of time zero-the beginning of simulation
 */
 
@@ -28,7 +28,7 @@ definition of an invalid time that has no meaning
 	/*
 	definition of time signifying the federate has terminated or run until the end of the simulation
 	*/
-	public static final double HELICS_TIME_MAXTIME =  HELICS_BIG_NUMBER;/*
+	public static final double HELICS_TIME_MAXTIME =  HelicsBigNumber.HELICS_BIG_NUMBER;/*
 indicator used for a true response
 */
 
@@ -5,9 +5,10 @@ package com.java.helics;
 
 import com.sun.jna.Structure;
 
-public static class HelicsError extends Structure{
+@Structure.FieldOrder({"error_code", "message"})
+public class HelicsError extends Structure{
 	/*an error code associated with the error*/
 	public int error_code;
 	/*a message associated with the error*/
-	public string message;
+	public String message;
 }
\ No newline at end of file
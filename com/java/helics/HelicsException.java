@@ -0,0 +1,75 @@
+package com.java.helics;
+
+/**
+ * Base exception thrown by the federate API when a HELICS call reports an error.
+ *
+ * <p>Exceptions are only constructed on the failure path; {@link #check(ReusableHelicsError)} is a single native
+ * read of the error code when the call succeeded.
+ */
+public class HelicsException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+	private static final HelicsErrorTypes[] ERROR_TYPES = HelicsErrorTypes.values();
+	private final int errorCode;
+	public HelicsException(final int errorCode, final String message) {
+		super(message);
+		this.errorCode = errorCode;
+	}
+	public int getErrorCode() {
+		return errorCode;
+	}
+	/**
+	 * @return the matching error type, or {@link HelicsErrorTypes#HELICS_ERROR_OTHER} for an unknown code
+	 */
+	public HelicsErrorTypes getErrorType() {
+		for (final HelicsErrorTypes type : ERROR_TYPES) {
+			if (type.value() == errorCode) {
+				return type;
+			}
+		}
+		return HelicsErrorTypes.HELICS_ERROR_OTHER;
+	}
+	/**
+	 * Throw the exception matching the error left by the last call, if any.
+	 */
+	public static void check(final ReusableHelicsError err) {
+		final int code = err.code();
+		if (code != 0) {
+			throw fromError(code, err);
+		}
+	}
+	private static HelicsException fromError(final int code, final ReusableHelicsError err) {
+		final String message = err.message();
+		err.clear();
+		return create(code, message);
+	}
+	/**
+	 * @return the typed exception for a HELICS error code
+	 */
+	public static HelicsException create(final int code, final String message) {
+		if (code == HelicsErrorTypes.HELICS_ERROR_REGISTRATION_FAILURE.value()) {
+			return new HelicsRegistrationException(code, message);
+		}
+		if (code == HelicsErrorTypes.HELICS_ERROR_CONNECTION_FAILURE.value()) {
+			return new HelicsConnectionException(code, message);
+		}
+		if (code == HelicsErrorTypes.HELICS_ERROR_INVALID_OBJECT.value()) {
+			return new HelicsInvalidObjectException(code, message);
+		}
+		if (code == HelicsErrorTypes.HELICS_ERROR_INVALID_ARGUMENT.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_DISCARD.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_INSUFFICIENT_SPACE.value()) {
+			return new HelicsInvalidArgumentException(code, message);
+		}
+		if (code == HelicsErrorTypes.HELICS_ERROR_INVALID_STATE_TRANSITION.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_INVALID_FUNCTION_CALL.value()) {
+			return new HelicsInvalidStateException(code, message);
+		}
+		if (code == HelicsErrorTypes.HELICS_ERROR_SYSTEM_FAILURE.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_FATAL.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_USER_ABORT.value()
+				|| code == HelicsErrorTypes.HELICS_ERROR_TERMINATED.value()) {
+			return new HelicsTerminationException(code, message);
+		}
+		return new HelicsException(code, message);
+	}
+}
@@ -0,0 +1,17 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+
+/**
+ * Custom filter operation, returns the filtered message or null to drop it.
+ */
+public interface HelicsFilterCallback extends Callback {
+	HelicsMessage invoke(HelicsMessage message, Pointer userData);
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.java.helics;
+
+/**
+ * Thrown for {@link HelicsErrorTypes#HELICS_ERROR_INVALID_ARGUMENT}, {@link HelicsErrorTypes#HELICS_ERROR_DISCARD}
+ * and {@link HelicsErrorTypes#HELICS_ERROR_INSUFFICIENT_SPACE}.
+ */
+public class HelicsInvalidArgumentException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsInvalidArgumentException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
@@ -0,0 +1,11 @@
+package com.java.helics;
+
+/**
+ * Thrown for {@link HelicsErrorTypes#HELICS_ERROR_INVALID_OBJECT}.
+ */
+public class HelicsInvalidObjectException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsInvalidObjectException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
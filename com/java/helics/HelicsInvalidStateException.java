@@ -0,0 +1,12 @@
+package com.java.helics;
+
+/**
+ * Thrown for {@link HelicsErrorTypes#HELICS_ERROR_INVALID_STATE_TRANSITION} and
+ * {@link HelicsErrorTypes#HELICS_ERROR_INVALID_FUNCTION_CALL}.
+ */
+public class HelicsInvalidStateException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsInvalidStateException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
@@ -0,0 +1,17 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+
+/**
+ * Called with each log message of a broker, core or federate, the level is a HelicsLogLevels value.
+ */
+public interface HelicsLoggingCallback extends Callback {
+	void invoke(int loglevel, String identifier, String message, Pointer userData);
+}
\ No newline at end of file
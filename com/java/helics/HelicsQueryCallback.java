@@ -0,0 +1,17 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+
+/**
+ * Answers a query made to a federate by filling the buffer, the query is querySize bytes and not null terminated.
+ */
+public interface HelicsQueryCallback extends Callback {
+	void invoke(Pointer query, int querySize, HelicsQueryBuffer buffer, Pointer userData);
+}
\ No newline at end of file
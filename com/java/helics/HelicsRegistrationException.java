@@ -0,0 +1,11 @@
+package com.java.helics;
+
+/**
+ * Thrown for {@link HelicsErrorTypes#HELICS_ERROR_REGISTRATION_FAILURE}.
+ */
+public class HelicsRegistrationException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsRegistrationException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
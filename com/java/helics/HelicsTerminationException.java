@@ -0,0 +1,13 @@
+package com.java.helics;
+
+/**
+ * Thrown when the federation or the federate has terminated: {@link HelicsErrorTypes#HELICS_ERROR_SYSTEM_FAILURE},
+ * {@link HelicsErrorTypes#HELICS_ERROR_FATAL}, {@link HelicsErrorTypes#HELICS_ERROR_USER_ABORT} and
+ * {@link HelicsErrorTypes#HELICS_ERROR_TERMINATED}.
+ */
+public class HelicsTerminationException extends HelicsException {
+	private static final long serialVersionUID = 1L;
+	public HelicsTerminationException(final int errorCode, final String message) {
+		super(errorCode, message);
+	}
+}
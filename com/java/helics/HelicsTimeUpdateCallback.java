@@ -0,0 +1,17 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+
+/**
+ * Called when the federate time is updated, before any value or message callbacks.
+ */
+public interface HelicsTimeUpdateCallback extends Callback {
+	void invoke(double newTime, int iterating, Pointer userData);
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Runs a broker and a set of federates inside the JVM over the inproc core type, for fast integration tests.
+ *
+ * <p>Federates are described with {@link #addFederate(String, double, Consumer, FederateStep)}: the setup registers
+ * the interfaces of the federate and the step is driven by a {@link FederateScheduler} until the stop time.
+ * {@link #close()} disconnects everything and calls helicsCleanupLibrary, so no other HELICS objects may be in use
+ * in the process at that point.
+ */
+public final class InprocFederation implements AutoCloseable {
+	public static final String CORE_TYPE = "inproc";
+	private static final int DISCONNECT_TIMEOUT_MS = 10_000;
+	private final JavaHelicsLibrary lib;
+	private final String name;
+	private final List<Member> members = new ArrayList<>();
+	private final Map<String, CombinationFederate> federates = new LinkedHashMap<>();
+	private HelicsBroker broker;
+	public InprocFederation(final JavaHelicsLibrary lib, final String name) {
+		this.lib = lib;
+		this.name = name;
+	}
+	public static boolean isAvailable(final JavaHelicsLibrary lib) {
+		return lib.helicsIsCoreTypeAvailable(CORE_TYPE) == HelicsConstants.HELICS_TRUE;
+	}
+	/**
+	 * @param firstRequestTime the first time requested once the federate is executing
+	 * @param setup registers the publications, inputs, endpoints and filters of the federate
+	 * @param step run at every granted time, returning the next time to request
+	 */
+	public InprocFederation addFederate(final String federateName, final double firstRequestTime,
+			final Consumer<CombinationFederate> setup, final FederateStep step) {
+		if (broker != null) {
+			throw new IllegalStateException("federation " + name + " is already running");
+		}
+		members.add(new Member(federateName, firstRequestTime, setup, step));
+		return this;
+	}
+	public CombinationFederate getFederate(final String federateName) {
+		return federates.get(federateName);
+	}
+	/**
+	 * Run the steps on the common fork join pool, see {@link #run(double, Executor)}.
+	 */
+	public void run(final double stopTime) {
+		run(stopTime, ForkJoinPool.commonPool());
+	}
+	/**
+	 * Start the broker and every federate, then block until all federates have been granted the stop time. If
+	 * anything fails the federates and the broker created so far are disconnected and freed before the error is thrown.
+	 */
+	public void run(final double stopTime, final Executor workers) {
+		if (!isAvailable(lib)) {
+			throw new IllegalStateException("the HELICS library was built without the " + CORE_TYPE + " core type");
+		}
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			final String brokerName = name + "_broker";
+			broker = lib.helicsCreateBroker(CORE_TYPE, brokerName, "--federates=" + members.size(), err);
+			HelicsException.check(err);
+			final FederateScheduler scheduler = new FederateScheduler(workers);
+			for (final Member member : members) {
+				final CombinationFederate fed = create(member.name, brokerName);
+				federates.put(member.name, fed);
+				member.setup.accept(fed);
+				scheduler.add(fed, Math.min(member.firstRequestTime, stopTime), granted -> {
+					final double next = member.step.step(granted);
+					return granted >= stopTime ? HelicsConstants.HELICS_TIME_MAXTIME : Math.min(next, stopTime);
+				});
+			}
+			NativeCallPool.join(scheduler.run());
+		} catch (final RuntimeException | Error e) {
+			final RuntimeException failure = release();
+			if (failure != null) {
+				e.addSuppressed(failure);
+			}
+			throw e;
+		}
+	}
+	private CombinationFederate create(final String federateName, final String brokerName) {
+		final HelicsFederateInfo fi = lib.helicsCreateFederateInfo();
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			lib.helicsFederateInfoSetCoreTypeFromString(fi, CORE_TYPE, err);
+			HelicsException.check(err);
+			lib.helicsFederateInfoSetCoreInitString(fi, "--federates=1", err);
+			HelicsException.check(err);
+			lib.helicsFederateInfoSetBroker(fi, brokerName, err);
+			HelicsException.check(err);
+			return new CombinationFederate(lib, federateName, fi);
+		} finally {
+			lib.helicsFederateInfoFree(fi);
+		}
+	}
+	/**
+	 * Disconnect and free the federates and the broker, then release the library's global state.
+	 */
+	@Override
+	public void close() {
+		final RuntimeException failure = release();
+		lib.helicsCleanupLibrary();
+		if (failure != null) {
+			throw failure;
+		}
+	}
+	/**
+	 * Disconnect and free the federates and the broker, leaving the library's global state alone.
+	 *
+	 * @return the first failure to disconnect a federate, if any
+	 */
+	private RuntimeException release() {
+		RuntimeException failure = null;
+		for (final CombinationFederate fed : federates.values()) {
+			try {
+				fed.disconnect();
+			} catch (final RuntimeException e) {
+				failure = failure == null ? e : failure;
+			}
+			fed.close();
+		}
+		federates.clear();
+		if (broker != null) {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			final int disconnected = lib.helicsBrokerWaitForDisconnect(broker, DISCONNECT_TIMEOUT_MS, err);
+			if (!err.isOk() || disconnected == HelicsConstants.HELICS_FALSE) {
+				err.clear();
+				lib.helicsBrokerDisconnect(broker, err);
+				err.clear();
+			}
+			lib.helicsBrokerFree(broker);
+			broker = null;
+		}
+		return failure;
+	}
+	private static final class Member {
+		final String name;
+		final double firstRequestTime;
+		final Consumer<CombinationFederate> setup;
+		final FederateStep step;
+		Member(final String name, final double firstRequestTime, final Consumer<CombinationFederate> setup, final FederateStep step) {
+			this.name = name;
+			this.firstRequestTime = firstRequestTime;
+			this.setup = setup;
+			this.step = step;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Wrapper of a {@link HelicsInput} handle with inline error checking.
+ */
+public final class Input {
+	private final JavaHelicsLibrary lib;
+	private final HelicsInput handle;
+	Input(final JavaHelicsLibrary lib, final HelicsInput handle) {
+		this.lib = lib;
+		this.handle = handle;
+	}
+	public HelicsInput getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsInputGetName(handle);
+	}
+	public String getType() {
+		return lib.helicsInputGetType(handle);
+	}
+	public String getUnits() {
+		return lib.helicsInputGetUnits(handle);
+	}
+	public double getDouble() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double value = lib.helicsInputGetDouble(handle, err);
+		HelicsException.check(err);
+		return value;
+	}
+	public int getInteger() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final int value = lib.helicsInputGetInteger(handle, err);
+		HelicsException.check(err);
+		return value;
+	}
+	public boolean getBoolean() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final int value = lib.helicsInputGetBoolean(handle, err);
+		HelicsException.check(err);
+		return value != HelicsConstants.HELICS_FALSE;
+	}
+	public double getTime() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final double value = lib.helicsInputGetTime(handle, err);
+		HelicsException.check(err);
+		return value;
+	}
+	/**
+	 * @return the size of the raw data currently held by the input
+	 */
+	public int getByteCount() {
+		return lib.helicsInputGetByteCount(handle);
+	}
+	/**
+	 * Copy the raw data into a caller owned array.
+	 *
+	 * @return the number of bytes stored in data
+	 */
+	public int getBytes(final byte[] data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetBytes(handle, data, data.length, actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * Copy the raw data into the remaining space of the buffer; a direct buffer is written in place and the buffer
+	 * position is not changed.
+	 *
+	 * @return the number of bytes stored in data
+	 */
+	public int getBytes(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetBytes(handle, data, data.remaining(), actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	public void setDefaultBytes(final byte[] data, final int length) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultBytes(handle, data, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Use the remaining bytes of the buffer as the default raw value.
+	 */
+	public void setDefaultBytes(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultBytes(handle, data, data.remaining(), err);
+		HelicsException.check(err);
+	}
+	public int getVectorSize() {
+		return lib.helicsInputGetVectorSize(handle);
+	}
+	/**
+	 * Copy the current vector value into a caller owned array.
+	 *
+	 * @return the number of values stored in data
+	 */
+	public int getVector(final double[] data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetVector(handle, data, data.length, actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * Copy the current vector value into the remaining space of the buffer; the buffer position is not changed.
+	 *
+	 * @return the number of values stored in data
+	 */
+	public int getVector(final DoubleBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetVector(handle, data, data.remaining(), actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * Copy the current complex vector value into a caller owned array as alternating real and imaginary values.
+	 *
+	 * @return the number of complex values stored in data
+	 */
+	public int getComplexVector(final double[] data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetComplexVector(handle, data, data.length, actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * @return the number of complex values stored in the remaining space of data
+	 */
+	public int getComplexVector(final DoubleBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsInputGetComplexVector(handle, data, data.remaining(), actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	public void setDefault(final double[] values) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultVector(handle, values, values.length, err);
+		HelicsException.check(err);
+	}
+	public void setDefault(final double value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultDouble(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void setDefault(final int value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultInteger(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void setDefault(final String value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputSetDefaultString(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void addTarget(final String target) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsInputAddTarget(handle, target, err);
+		HelicsException.check(err);
+	}
+	public boolean isUpdated() {
+		return lib.helicsInputIsUpdated(handle) == HelicsConstants.HELICS_TRUE;
+	}
+	public double getLastUpdateTime() {
+		return lib.helicsInputLastUpdateTime(handle);
+	}
+	public void clearUpdate() {
+		lib.helicsInputClearUpdate(handle);
+	}
+}
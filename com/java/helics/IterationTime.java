@@ -0,0 +1,23 @@
+package com.java.helics;
+
+/**
+ * Granted time and iteration result of an iterative time request.
+ */
+public final class IterationTime {
+	private final double time;
+	private final HelicsIterationResult result;
+	IterationTime(final double time, final HelicsIterationResult result) {
+		this.time = time;
+		this.result = result;
+	}
+	public double getTime() {
+		return time;
+	}
+	public HelicsIterationResult getIterationResult() {
+		return result;
+	}
+	@Override
+	public String toString() {
+		return "IterationTime[" + time + ", " + result + "]";
+	}
+}
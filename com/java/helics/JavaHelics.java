@@ -1,20 +1,362 @@
 package com.java.helics;
 
-import java.io.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.File;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import com.sun.jna.FunctionMapper;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Platform;
 import org.apache.commons.io.FileUtils;
-public class JavaHelics implements JavaHelicsLibrary {
+
+public class JavaHelics {
+	/** system property naming the default {@link Backend} (interface, direct or foreign) */
+	public static final String BACKEND_PROPERTY = "com.java.helics.backend";
+	/**
+	 * system property naming the directory the shared library is extracted to, defaults to jhelics under the user's
+	 * cache directory: %LOCALAPPDATA% on Windows, otherwise $XDG_CACHE_HOME or ~/.cache
+	 */
+	public static final String CACHE_PROPERTY = "com.java.helics.cache";
+	/** system property giving the path of a HELICS shared library on disk, used instead of the one in the jar */
+	public static final String LIBRARY_PROPERTY = "com.java.helics.library";
+	/** base name of the shared library, mapped to the platform file name with {@link System#mapLibraryName(String)} */
+	public static final String LIBRARY_NAME = "helics";
+	/**
+	 * the available bindings of the HELICS C API, all exposed through {@link JavaHelicsLibrary}
+	 */
+	public enum Backend {
+		/** JNA interface mapping through {@link Native#load(String, Class, java.util.Map)} */
+		INTERFACE,
+		/** JNA direct mapping of {@link JavaHelicsDirectLibrary} */
+		DIRECT,
+		/** Foreign Function &amp; Memory downcalls of {@link JavaHelicsForeignLibrary}, requires JDK 22 */
+		FOREIGN;
+		static Backend fromProperty() {
+			final String name = System.getProperty(BACKEND_PROPERTY);
+			return name == null ? INTERFACE : valueOf(name.trim().toUpperCase());
+		}
+	}
+	/**
+	 * Binds the methods ending in Raw, which return the result of a C function as a char pointer, to that function.
+	 */
+	private static final FunctionMapper RAW_RESULTS = (library, method) -> {
+		final String name = method.getName();
+		return name.endsWith("Raw") ? name.substring(0, name.length() - "Raw".length()) : name;
+	};
+	private static final Map<String, Object> OPTIONS = Collections.singletonMap(Library.OPTION_FUNCTION_MAPPER, RAW_RESULTS);
+	private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"));
+	private static String directLibraryPath;
+	private static volatile JavaHelicsLibrary shared;
 	private final JavaHelicsLibrary INSTANCE;
 	public JavaHelics(final String fileName) throws IOException {
-		private final JavaHelicsLibrary INSTANCE;
-		INSTANCE = Native.loadLibrary(extratcFile(fileName), JavaHelicsLibrary.class);
+		this(fileName, Backend.fromProperty());
+	}
+	/**
+	 * @param fileName the resource name of the HELICS shared library
+	 * @param backend the binding used for the calls made through {@link #getLibrary()}
+	 */
+	public JavaHelics(final String fileName, final Backend backend) throws IOException {
+		this(backend, extratcFile(fileName));
+	}
+	private JavaHelics(final Backend backend, final String libraryPath) {
+		switch (backend) {
+		case DIRECT:
+			registerDirect(libraryPath);
+			INSTANCE = new JavaHelicsDirectMapping();
+			break;
+		case FOREIGN:
+			JavaHelicsForeignLibrary.load(libraryPath);
+			INSTANCE = new JavaHelicsForeignMapping();
+			break;
+		default:
+			INSTANCE = Native.load(libraryPath, JavaHelicsLibrary.class, OPTIONS);
+			break;
+		}
+	}
+	public JavaHelicsLibrary getLibrary() {
+		return INSTANCE;
+	}
+	/**
+	 * Load the library for the running platform, see {@link #resolveLibraryPath()}.
+	 */
+	public static JavaHelics forPlatform(final Backend backend) throws IOException {
+		return new JavaHelics(backend, resolveLibraryPath());
+	}
+	/**
+	 * Shared library instance for the running platform and the backend named by {@link #BACKEND_PROPERTY}. The native
+	 * library is only loaded by the first call, so code using just the constants and enums never loads it.
+	 */
+	public static JavaHelicsLibrary library() {
+		JavaHelicsLibrary lib = shared;
+		if (lib == null) {
+			synchronized (JavaHelics.class) {
+				lib = shared;
+				if (lib == null) {
+					try {
+						lib = forPlatform(Backend.fromProperty()).getLibrary();
+					} catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+					shared = lib;
+				}
+			}
+		}
+		return lib;
+	}
+	/**
+	 * @return the path given by {@link #LIBRARY_PROPERTY}, otherwise the extracted {@link #platformResource()}
+	 */
+	public static String resolveLibraryPath() throws IOException {
+		final String override = System.getProperty(LIBRARY_PROPERTY);
+		if (override != null) {
+			final File file = new File(override);
+			if (!file.isFile()) {
+				throw new IOException("HELICS library " + override + " given by " + LIBRARY_PROPERTY + " does not exist");
+			}
+			return file.getAbsolutePath();
+		}
+		return extratcFile(platformResource());
 	}
-	private String extratcFile(final String fileName) throws IOException {
+	/**
+	 * @return the resource name of the library for the running platform, in the os-arch directories used by JNA, for
+	 * example linux-x86-64/libhelics.so or win32-x86-64/helics.dll
+	 */
+	public static String platformResource() {
+		return Platform.RESOURCE_PREFIX + "/" + System.mapLibraryName(LIBRARY_NAME);
+	}
+	/**
+	 * Bind the static natives of {@link JavaHelicsDirectLibrary}. Natives can only be registered once per JVM, so later
+	 * calls must name the same library.
+	 *
+	 * @throws IllegalStateException if a different library has already been registered
+	 */
+	public static synchronized void registerDirect(final String libraryPath) {
+		final String path = Paths.get(libraryPath).toAbsolutePath().normalize().toString();
+		if (directLibraryPath == null) {
+			Native.register(JavaHelicsDirectLibrary.class, NativeLibrary.getInstance(path, OPTIONS));
+			directLibraryPath = path;
+		} else if (!directLibraryPath.equals(path)) {
+			throw new IllegalStateException("the direct backend is already bound to " + directLibraryPath + ", cannot bind " + path);
+		}
+	}
+	/**
+	 * Extract the library resource into the cache directory, keyed by its {@link Fingerprint}. A library already
+	 * extracted by an earlier run is reused once its content has been checked against the fingerprint; a new one is
+	 * written to a temporary file next to its final location, checked and atomically renamed, so concurrent JVMs never
+	 * load a partially written file.
+	 */
+	static String extratcFile(final String fileName) throws IOException {
+		final Fingerprint fingerprint = Fingerprint.of(fileName);
+		final Path parent = privateDirectory(privateDirectory(cacheDirectory()).resolve(fingerprint.key()));
+		final Path cached = parent.resolve(new File(fileName).getName());
+		if (isVerified(cached, fingerprint)) {
+			return cached.toString();
+		}
+		final Path file = POSIX ? Files.createTempFile(parent, "lib", ".tmp", OWNER_ONLY) : Files.createTempFile(parent, "lib", ".tmp");
+		try {
+			try (InputStream source = openResource(fileName)) {
+				FileUtils.copyInputStreamToFile(source, file.toFile());
+			}
+			if (!fingerprint.matches(file)) {
+				throw new IOException("HELICS library resource " + fileName + " does not match its " + fingerprint.algorithm + " checksum");
+			}
+			try {
+				Files.move(file, cached, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(file, cached, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (final IOException e) {
+			// another JVM may have extracted the same library in the meantime
+			if (!isVerified(cached, fingerprint)) {
+				throw e;
+			}
+		} finally {
+			Files.deleteIfExists(file);
+		}
+		return cached.toString();
+	}
+	private static Path cacheDirectory() {
+		final String configured = System.getProperty(CACHE_PROPERTY);
+		if (configured != null) {
+			return Paths.get(configured).toAbsolutePath();
+		}
+		final String localAppData = System.getenv("LOCALAPPDATA");
+		if (Platform.isWindows() && localAppData != null) {
+			return Paths.get(localAppData, "jhelics");
+		}
+		final String xdgCache = System.getenv("XDG_CACHE_HOME");
+		if (xdgCache != null && Paths.get(xdgCache).isAbsolute()) {
+			return Paths.get(xdgCache, "jhelics");
+		}
+		return Paths.get(System.getProperty("user.home"), ".cache", "jhelics");
+	}
+	/**
+	 * Create the directory accessible to its owner only, or check that the existing one is owned by the current user
+	 * and not writable by anyone else, so no other user can plant a library in it. Ownership is only checked on file
+	 * systems with POSIX permissions; elsewhere the default location is private to the user.
+	 *
+	 * @return the real path of the directory
+	 */
+	private static Path privateDirectory(final Path dir) throws IOException {
+		if (POSIX) {
+			Files.createDirectories(dir, OWNER_ONLY);
+		} else {
+			Files.createDirectories(dir);
+		}
+		final Path real = dir.toRealPath();
+		if (POSIX && !isPrivate(Files.readAttributes(real, PosixFileAttributes.class))) {
+			throw new IOException("HELICS library cache " + real + " must be owned by " + System.getProperty("user.name")
+					+ " and not writable by other users");
+		}
+		return real;
+	}
+	private static boolean isPrivate(final PosixFileAttributes attributes) throws IOException {
+		final UserPrincipal user = FileSystems.getDefault().getUserPrincipalLookupService().lookupPrincipalByName(System.getProperty("user.name"));
+		final Set<PosixFilePermission> permissions = attributes.permissions();
+		return attributes.owner().equals(user) && !permissions.contains(PosixFilePermission.GROUP_WRITE)
+				&& !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+	}
+	/**
+	 * @return whether file is a regular file, not a link, that passes the checks of {@link #privateDirectory(Path)}
+	 * and matches the fingerprint
+	 */
+	private static boolean isVerified(final Path file, final Fingerprint fingerprint) throws IOException {
+		try {
+			final BasicFileAttributes attributes = POSIX
+					? Files.readAttributes(file, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS)
+					: Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			if (!attributes.isRegularFile() || POSIX && !isPrivate((PosixFileAttributes) attributes)) {
+				return false;
+			}
+			return fingerprint.matches(file);
+		} catch (final NoSuchFileException e) {
+			return false;
+		}
+	}
+	private static InputStream openResource(final String fileName) throws IOException {
 		final InputStream source = JavaHelics.class.getClassLoader().getResourceAsStream(fileName);
-		final File file = File.createTempFile("lib", null);
-		FileUtils.copyInputStreamToFile(source, file);
-		return file.getAbsolutePath();
+		if (source == null) {
+			throw new IOException("HELICS library resource " + fileName + " not found");
+		}
+		return source;
+	}
+	/**
+	 * Expected content of a library resource, known without reading the resource: the SHA-256 shipped next to it as
+	 * {@code <resource>.sha256}, otherwise the size and CRC-32 recorded in the central directory of its jar. Only a
+	 * resource outside a jar, such as in a development build, is hashed when it is looked up.
+	 */
+	private static final class Fingerprint {
+		private static final String SHA_256 = "SHA-256";
+		private static final String CRC_32 = "CRC-32";
+		final String algorithm;
+		final String checksum;
+		/** size of the content in bytes, or -1 when the checksum alone identifies it */
+		final long size;
+		private Fingerprint(final String algorithm, final String checksum, final long size) {
+			this.algorithm = algorithm;
+			this.checksum = checksum;
+			this.size = size;
+		}
+		static Fingerprint of(final String fileName) throws IOException {
+			final ClassLoader loader = JavaHelics.class.getClassLoader();
+			final URL resource = loader.getResource(fileName);
+			if (resource == null) {
+				throw new IOException("HELICS library resource " + fileName + " not found");
+			}
+			final URL shipped = loader.getResource(fileName + ".sha256");
+			if (shipped != null) {
+				final String checksum;
+				try (InputStream source = shipped.openStream()) {
+					// sha256sum output, the checksum optionally followed by the file name
+					checksum = new String(source.readAllBytes(), StandardCharsets.US_ASCII).trim().split("\\s+", 2)[0].toLowerCase();
+				}
+				if (!checksum.matches("[0-9a-f]{64}")) {
+					throw new IOException("malformed SHA-256 checksum in " + shipped);
+				}
+				return new Fingerprint(SHA_256, checksum, -1);
+			}
+			final URLConnection connection = resource.openConnection();
+			if (connection instanceof JarURLConnection) {
+				final JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+				if (entry.getCrc() != -1 && entry.getSize() != -1) {
+					return new Fingerprint(CRC_32, String.format("%08x", entry.getCrc()), entry.getSize());
+				}
+			}
+			try (InputStream source = openResource(fileName)) {
+				return new Fingerprint(SHA_256, checksum(source, SHA_256), -1);
+			}
+		}
+		/**
+		 * @return the name of the cache directory holding the library
+		 */
+		String key() {
+			return size < 0 ? checksum : "crc32-" + checksum + "-" + size;
+		}
+		boolean matches(final Path file) throws IOException {
+			if (size >= 0 && Files.size(file) != size) {
+				return false;
+			}
+			try (InputStream source = Files.newInputStream(file, LinkOption.NOFOLLOW_LINKS)) {
+				return checksum.equals(checksum(source, algorithm));
+			}
+		}
+		private static String checksum(final InputStream source, final String algorithm) throws IOException {
+			final byte[] buffer = new byte[64 * 1024];
+			if (CRC_32.equals(algorithm)) {
+				final CRC32 crc = new CRC32();
+				try (InputStream checked = new CheckedInputStream(source, crc)) {
+					while (checked.read(buffer) != -1) {
+						// the checksum is updated as the stream is read
+					}
+				}
+				return String.format("%08x", crc.getValue());
+			}
+			final MessageDigest sha;
+			try {
+				sha = MessageDigest.getInstance(algorithm);
+			} catch (final NoSuchAlgorithmException e) {
+				throw new IOException(e);
+			}
+			try (InputStream digested = new DigestInputStream(source, sha)) {
+				while (digested.read(buffer) != -1) {
+					// the digest is updated as the stream is read
+				}
+			}
+			final StringBuilder hex = new StringBuilder();
+			for (final byte b : sha.digest()) {
+				hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return hex.toString();
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,1727 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+import java.nio.*;
+
+/**
+ * {@link JavaHelicsLibrary} implementation forwarding to {@link JavaHelicsDirectLibrary}.
+ */
+final class JavaHelicsDirectMapping implements JavaHelicsLibrary {
+	
+	@Override
+	public HelicsDataBuffer helicsCreateDataBuffer(int initialCapacity){
+		return JavaHelicsDirectLibrary.helicsCreateDataBuffer(initialCapacity);
+	}
+	@Override
+	public int helicsDataBufferIsValid(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferIsValid(data);
+	}
+	@Override
+	public HelicsDataBuffer helicsWrapDataInBuffer(Pointer data,int dataSize,int dataCapacity){
+		return JavaHelicsDirectLibrary.helicsWrapDataInBuffer(data,dataSize,dataCapacity);
+	}
+	@Override
+	public void helicsDataBufferFree(HelicsDataBuffer data){
+		JavaHelicsDirectLibrary.helicsDataBufferFree(data);
+	}
+	@Override
+	public int helicsDataBufferSize(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferSize(data);
+	}
+	@Override
+	public int helicsDataBufferCapacity(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferCapacity(data);
+	}
+	@Override
+	public Pointer helicsDataBufferData(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferData(data);
+	}
+	@Override
+	public int helicsDataBufferReserve(HelicsDataBuffer data,int newCapacity){
+		return JavaHelicsDirectLibrary.helicsDataBufferReserve(data,newCapacity);
+	}
+	@Override
+	public HelicsDataBuffer helicsDataBufferClone(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferClone(data);
+	}
+	@Override
+	public int helicsIntegerToBytes(int value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsIntegerToBytes(value,data);
+	}
+	@Override
+	public int helicsDoubleToBytes(double value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDoubleToBytes(value,data);
+	}
+	@Override
+	public int helicsStringToBytes(String value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsStringToBytes(value,data);
+	}
+	@Override
+	public int helicsRawStringToBytes(String str,int stringSize,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsRawStringToBytes(str,stringSize,data);
+	}
+	@Override
+	public int helicsBooleanToBytes(int value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsBooleanToBytes(value,data);
+	}
+	@Override
+	public int helicsCharToBytes(char value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsCharToBytes(value,data);
+	}
+	@Override
+	public int helicsVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsVectorToBytes(value,dataSize,data);
+	}
+	@Override
+	public int helicsVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsVectorToBytes(value,dataSize,data);
+	}
+	@Override
+	public int helicsNamedPointToBytes(String name,double value,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsNamedPointToBytes(name,value,data);
+	}
+	@Override
+	public int helicsComplexVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsComplexVectorToBytes(value,dataSize,data);
+	}
+	@Override
+	public int helicsComplexVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsComplexVectorToBytes(value,dataSize,data);
+	}
+	@Override
+	public int helicsDataBufferType(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferType(data);
+	}
+	@Override
+	public int helicsDataBufferToInteger(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferToInteger(data);
+	}
+	@Override
+	public double helicsDataBufferToDouble(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferToDouble(data);
+	}
+	@Override
+	public int helicsDataBufferToBoolean(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferToBoolean(data);
+	}
+	@Override
+	public char helicsDataBufferToChar(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferToChar(data);
+	}
+	@Override
+	public int helicsDataBufferStringSize(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferStringSize(data);
+	}
+	@Override
+	public double helicsDataBufferToTime(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferToTime(data);
+	}
+	@Override
+	public void helicsDataBufferToComplex(HelicsDataBuffer data,DoubleByReference real,DoubleByReference imag){
+		JavaHelicsDirectLibrary.helicsDataBufferToComplex(data,real,imag);
+	}
+	@Override
+	public int helicsDataBufferVectorSize(HelicsDataBuffer data){
+		return JavaHelicsDirectLibrary.helicsDataBufferVectorSize(data);
+	}
+	@Override
+	public void helicsDataBufferToVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize){
+		JavaHelicsDirectLibrary.helicsDataBufferToVector(data,values,maxlen,actualSize);
+	}
+	@Override
+	public void helicsDataBufferToVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize){
+		JavaHelicsDirectLibrary.helicsDataBufferToVector(data,values,maxlen,actualSize);
+	}
+	@Override
+	public void helicsDataBufferToComplexVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize){
+		JavaHelicsDirectLibrary.helicsDataBufferToComplexVector(data,values,maxlen,actualSize);
+	}
+	@Override
+	public void helicsDataBufferToComplexVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize){
+		JavaHelicsDirectLibrary.helicsDataBufferToComplexVector(data,values,maxlen,actualSize);
+	}
+	@Override
+	public int helicsDataBufferConvertToType(HelicsDataBuffer data,int newDataType){
+		return JavaHelicsDirectLibrary.helicsDataBufferConvertToType(data,newDataType);
+	}
+	@Override
+	public String helicsGetVersion(){
+		return JavaHelicsDirectLibrary.helicsGetVersion();
+	}
+	@Override
+	public String helicsGetBuildFlags(){
+		return JavaHelicsDirectLibrary.helicsGetBuildFlags();
+	}
+	@Override
+	public String helicsGetCompilerVersion(){
+		return JavaHelicsDirectLibrary.helicsGetCompilerVersion();
+	}
+	@Override
+	public String helicsGetSystemInfo(){
+		return JavaHelicsDirectLibrary.helicsGetSystemInfo();
+	}
+	@Override
+	public void helicsLoadSignalHandler(){
+		JavaHelicsDirectLibrary.helicsLoadSignalHandler();
+	}
+	@Override
+	public void helicsLoadThreadedSignalHandler(){
+		JavaHelicsDirectLibrary.helicsLoadThreadedSignalHandler();
+	}
+	@Override
+	public void helicsClearSignalHandler(){
+		JavaHelicsDirectLibrary.helicsClearSignalHandler();
+	}
+	@Override
+	public void helicsAbort(int errorCode,String errorString){
+		JavaHelicsDirectLibrary.helicsAbort(errorCode,errorString);
+	}
+	@Override
+	public int helicsIsCoreTypeAvailable(String type){
+		return JavaHelicsDirectLibrary.helicsIsCoreTypeAvailable(type);
+	}
+	@Override
+	public HelicsCore helicsCreateCore(String type,String name,String initString,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateCore(type,name,initString,err);
+	}
+	@Override
+	public HelicsCore helicsCoreClone(HelicsCore core,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreClone(core,err);
+	}
+	@Override
+	public int helicsCoreIsValid(HelicsCore core){
+		return JavaHelicsDirectLibrary.helicsCoreIsValid(core);
+	}
+	@Override
+	public HelicsBroker helicsCreateBroker(String type,String name,String initString,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateBroker(type,name,initString,err);
+	}
+	@Override
+	public HelicsBroker helicsBrokerClone(HelicsBroker broker,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsBrokerClone(broker,err);
+	}
+	@Override
+	public int helicsBrokerIsValid(HelicsBroker broker){
+		return JavaHelicsDirectLibrary.helicsBrokerIsValid(broker);
+	}
+	@Override
+	public int helicsBrokerIsConnected(HelicsBroker broker){
+		return JavaHelicsDirectLibrary.helicsBrokerIsConnected(broker);
+	}
+	@Override
+	public void helicsBrokerDataLink(HelicsBroker broker,String source,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerDataLink(broker,source,target,err);
+	}
+	@Override
+	public void helicsBrokerAddSourceFilterToEndpoint(HelicsBroker broker,String filter,String endpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerAddSourceFilterToEndpoint(broker,filter,endpoint,err);
+	}
+	@Override
+	public void helicsBrokerAddDestinationFilterToEndpoint(HelicsBroker broker,String filter,String endpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerAddDestinationFilterToEndpoint(broker,filter,endpoint,err);
+	}
+	@Override
+	public void helicsBrokerMakeConnections(HelicsBroker broker,String file,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerMakeConnections(broker,file,err);
+	}
+	@Override
+	public int helicsCoreWaitForDisconnect(HelicsCore core,int msToWait,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreWaitForDisconnect(core,msToWait,err);
+	}
+	@Override
+	public int helicsBrokerWaitForDisconnect(HelicsBroker broker,int msToWait,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsBrokerWaitForDisconnect(broker,msToWait,err);
+	}
+	@Override
+	public int helicsCoreIsConnected(HelicsCore core){
+		return JavaHelicsDirectLibrary.helicsCoreIsConnected(core);
+	}
+	@Override
+	public void helicsCoreDataLink(HelicsCore core,String source,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreDataLink(core,source,target,err);
+	}
+	@Override
+	public void helicsCoreAddSourceFilterToEndpoint(HelicsCore core,String filter,String endpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreAddSourceFilterToEndpoint(core,filter,endpoint,err);
+	}
+	@Override
+	public void helicsCoreAddDestinationFilterToEndpoint(HelicsCore core,String filter,String endpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreAddDestinationFilterToEndpoint(core,filter,endpoint,err);
+	}
+	@Override
+	public void helicsCoreMakeConnections(HelicsCore core,String file,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreMakeConnections(core,file,err);
+	}
+	@Override
+	public String helicsBrokerGetIdentifier(HelicsBroker broker){
+		return JavaHelicsDirectLibrary.helicsBrokerGetIdentifier(broker);
+	}
+	@Override
+	public String helicsCoreGetIdentifier(HelicsCore core){
+		return JavaHelicsDirectLibrary.helicsCoreGetIdentifier(core);
+	}
+	@Override
+	public String helicsBrokerGetAddress(HelicsBroker broker){
+		return JavaHelicsDirectLibrary.helicsBrokerGetAddress(broker);
+	}
+	@Override
+	public String helicsCoreGetAddress(HelicsCore core){
+		return JavaHelicsDirectLibrary.helicsCoreGetAddress(core);
+	}
+	@Override
+	public void helicsCoreSetReadyToInit(HelicsCore core,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSetReadyToInit(core,err);
+	}
+	@Override
+	public int helicsCoreConnect(HelicsCore core,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreConnect(core,err);
+	}
+	@Override
+	public void helicsCoreDisconnect(HelicsCore core,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreDisconnect(core,err);
+	}
+	@Override
+	public HelicsFederate helicsGetFederateByName(String fedName,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsGetFederateByName(fedName,err);
+	}
+	@Override
+	public void helicsBrokerDisconnect(HelicsBroker broker,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerDisconnect(broker,err);
+	}
+	@Override
+	public void helicsFederateDestroy(HelicsFederate fed){
+		JavaHelicsDirectLibrary.helicsFederateDestroy(fed);
+	}
+	@Override
+	public void helicsBrokerDestroy(HelicsBroker broker){
+		JavaHelicsDirectLibrary.helicsBrokerDestroy(broker);
+	}
+	@Override
+	public void helicsCoreDestroy(HelicsCore core){
+		JavaHelicsDirectLibrary.helicsCoreDestroy(core);
+	}
+	@Override
+	public void helicsCoreFree(HelicsCore core){
+		JavaHelicsDirectLibrary.helicsCoreFree(core);
+	}
+	@Override
+	public void helicsBrokerFree(HelicsBroker broker){
+		JavaHelicsDirectLibrary.helicsBrokerFree(broker);
+	}
+	@Override
+	public HelicsFederate helicsCreateValueFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateValueFederate(fedName,fi,err);
+	}
+	@Override
+	public HelicsFederate helicsCreateValueFederateFromConfig(String configFile,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateValueFederateFromConfig(configFile,err);
+	}
+	@Override
+	public HelicsFederate helicsCreateMessageFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateMessageFederate(fedName,fi,err);
+	}
+	@Override
+	public HelicsFederate helicsCreateMessageFederateFromConfig(String configFile,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateMessageFederateFromConfig(configFile,err);
+	}
+	@Override
+	public HelicsFederate helicsCreateCombinationFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateCombinationFederate(fedName,fi,err);
+	}
+	@Override
+	public HelicsFederate helicsCreateCombinationFederateFromConfig(String configFile,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCreateCombinationFederateFromConfig(configFile,err);
+	}
+	@Override
+	public HelicsFederate helicsFederateClone(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateClone(fed,err);
+	}
+	@Override
+	public void helicsFederateProtect(String fedName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateProtect(fedName,err);
+	}
+	@Override
+	public void helicsFederateUnProtect(String fedName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateUnProtect(fedName,err);
+	}
+	@Override
+	public int helicsFederateIsProtected(String fedName,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateIsProtected(fedName,err);
+	}
+	@Override
+	public HelicsFederateInfo helicsCreateFederateInfo(){
+		return JavaHelicsDirectLibrary.helicsCreateFederateInfo();
+	}
+	@Override
+	public HelicsFederateInfo helicsFederateInfoClone(HelicsFederateInfo fi,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateInfoClone(fi,err);
+	}
+	@Override
+	public void helicsFederateInfoLoadFromString(HelicsFederateInfo fi,String args,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoLoadFromString(fi,args,err);
+	}
+	@Override
+	public void helicsFederateInfoFree(HelicsFederateInfo fi){
+		JavaHelicsDirectLibrary.helicsFederateInfoFree(fi);
+	}
+	@Override
+	public int helicsFederateIsValid(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateIsValid(fed);
+	}
+	@Override
+	public void helicsFederateInfoSetCoreName(HelicsFederateInfo fi,String corename,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetCoreName(fi,corename,err);
+	}
+	@Override
+	public void helicsFederateInfoSetCoreInitString(HelicsFederateInfo fi,String coreInit,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetCoreInitString(fi,coreInit,err);
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerInitString(HelicsFederateInfo fi,String brokerInit,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetBrokerInitString(fi,brokerInit,err);
+	}
+	@Override
+	public void helicsFederateInfoSetCoreType(HelicsFederateInfo fi,int coretype,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetCoreType(fi,coretype,err);
+	}
+	@Override
+	public void helicsFederateInfoSetCoreTypeFromString(HelicsFederateInfo fi,String coretype,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetCoreTypeFromString(fi,coretype,err);
+	}
+	@Override
+	public void helicsFederateInfoSetBroker(HelicsFederateInfo fi,String broker,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetBroker(fi,broker,err);
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerKey(HelicsFederateInfo fi,String brokerkey,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetBrokerKey(fi,brokerkey,err);
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerPort(HelicsFederateInfo fi,int brokerPort,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetBrokerPort(fi,brokerPort,err);
+	}
+	@Override
+	public void helicsFederateInfoSetLocalPort(HelicsFederateInfo fi,String localPort,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetLocalPort(fi,localPort,err);
+	}
+	@Override
+	public int helicsGetPropertyIndex(String val){
+		return JavaHelicsDirectLibrary.helicsGetPropertyIndex(val);
+	}
+	@Override
+	public int helicsGetFlagIndex(String val){
+		return JavaHelicsDirectLibrary.helicsGetFlagIndex(val);
+	}
+	@Override
+	public int helicsGetOptionIndex(String val){
+		return JavaHelicsDirectLibrary.helicsGetOptionIndex(val);
+	}
+	@Override
+	public int helicsGetOptionValue(String val){
+		return JavaHelicsDirectLibrary.helicsGetOptionValue(val);
+	}
+	@Override
+	public int helicsGetDataType(String val){
+		return JavaHelicsDirectLibrary.helicsGetDataType(val);
+	}
+	@Override
+	public void helicsFederateInfoSetFlagOption(HelicsFederateInfo fi,int flag,int value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetFlagOption(fi,flag,value,err);
+	}
+	@Override
+	public void helicsFederateInfoSetSeparator(HelicsFederateInfo fi,char separator,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetSeparator(fi,separator,err);
+	}
+	@Override
+	public void helicsFederateInfoSetTimeProperty(HelicsFederateInfo fi,int timeProperty,double propertyValue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetTimeProperty(fi,timeProperty,propertyValue,err);
+	}
+	@Override
+	public void helicsFederateInfoSetIntegerProperty(HelicsFederateInfo fi,int intProperty,int propertyValue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateInfoSetIntegerProperty(fi,intProperty,propertyValue,err);
+	}
+	@Override
+	public void helicsFederateRegisterInterfaces(HelicsFederate fed,String file,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateRegisterInterfaces(fed,file,err);
+	}
+	@Override
+	public void helicsFederateGlobalError(HelicsFederate fed,int errorCode,String errorString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateGlobalError(fed,errorCode,errorString,err);
+	}
+	@Override
+	public void helicsFederateLocalError(HelicsFederate fed,int errorCode,String errorString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLocalError(fed,errorCode,errorString,err);
+	}
+	@Override
+	public void helicsFederateFinalize(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateFinalize(fed,err);
+	}
+	@Override
+	public void helicsFederateFinalizeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateFinalizeAsync(fed,err);
+	}
+	@Override
+	public void helicsFederateFinalizeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateFinalizeComplete(fed,err);
+	}
+	@Override
+	public void helicsFederateDisconnect(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateDisconnect(fed,err);
+	}
+	@Override
+	public void helicsFederateDisconnectAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateDisconnectAsync(fed,err);
+	}
+	@Override
+	public void helicsFederateDisconnectComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateDisconnectComplete(fed,err);
+	}
+	@Override
+	public void helicsFederateFree(HelicsFederate fed){
+		JavaHelicsDirectLibrary.helicsFederateFree(fed);
+	}
+	@Override
+	public void helicsFederateEnterInitializingMode(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterInitializingMode(fed,err);
+	}
+	@Override
+	public void helicsFederateEnterInitializingModeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterInitializingModeAsync(fed,err);
+	}
+	@Override
+	public int helicsFederateIsAsyncOperationCompleted(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateIsAsyncOperationCompleted(fed,err);
+	}
+	@Override
+	public void helicsFederateEnterInitializingModeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterInitializingModeComplete(fed,err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingMode(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterExecutingMode(fed,err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterExecutingModeAsync(fed,err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterExecutingModeComplete(fed,err);
+	}
+	@Override
+	public int helicsFederateEnterExecutingModeIterative(HelicsFederate fed,int iterate,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateEnterExecutingModeIterative(fed,iterate,err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeIterativeAsync(HelicsFederate fed,int iterate,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateEnterExecutingModeIterativeAsync(fed,iterate,err);
+	}
+	@Override
+	public int helicsFederateEnterExecutingModeIterativeComplete(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateEnterExecutingModeIterativeComplete(fed,err);
+	}
+	@Override
+	public int helicsFederateGetState(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetState(fed,err);
+	}
+	@Override
+	public HelicsCore helicsFederateGetCore(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetCore(fed,err);
+	}
+	@Override
+	public double helicsFederateRequestTime(HelicsFederate fed,double requestTime,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestTime(fed,requestTime,err);
+	}
+	@Override
+	public double helicsFederateRequestTimeAdvance(HelicsFederate fed,double timeDelta,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestTimeAdvance(fed,timeDelta,err);
+	}
+	@Override
+	public double helicsFederateRequestNextStep(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestNextStep(fed,err);
+	}
+	@Override
+	public double helicsFederateRequestTimeIterative(HelicsFederate fed,double requestTime,int iterate,IntByReference outIteration,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestTimeIterative(fed,requestTime,iterate,outIteration,err);
+	}
+	@Override
+	public void helicsFederateRequestTimeAsync(HelicsFederate fed,double requestTime,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateRequestTimeAsync(fed,requestTime,err);
+	}
+	@Override
+	public double helicsFederateRequestTimeComplete(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestTimeComplete(fed,err);
+	}
+	@Override
+	public void helicsFederateRequestTimeIterativeAsync(HelicsFederate fed,double requestTime,int iterate,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateRequestTimeIterativeAsync(fed,requestTime,iterate,err);
+	}
+	@Override
+	public double helicsFederateRequestTimeIterativeComplete(HelicsFederate fed,IntByReference outIterate,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRequestTimeIterativeComplete(fed,outIterate,err);
+	}
+	@Override
+	public void helicsFederateProcessCommunications(HelicsFederate fed,double period,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateProcessCommunications(fed,period,err);
+	}
+	@Override
+	public String helicsFederateGetName(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetName(fed);
+	}
+	@Override
+	public void helicsFederateSetTimeProperty(HelicsFederate fed,int timeProperty,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetTimeProperty(fed,timeProperty,time,err);
+	}
+	@Override
+	public void helicsFederateSetFlagOption(HelicsFederate fed,int flag,int flagValue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetFlagOption(fed,flag,flagValue,err);
+	}
+	@Override
+	public void helicsFederateSetSeparator(HelicsFederate fed,char separator,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetSeparator(fed,separator,err);
+	}
+	@Override
+	public void helicsFederateSetIntegerProperty(HelicsFederate fed,int intProperty,int propertyVal,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetIntegerProperty(fed,intProperty,propertyVal,err);
+	}
+	@Override
+	public double helicsFederateGetTimeProperty(HelicsFederate fed,int timeProperty,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetTimeProperty(fed,timeProperty,err);
+	}
+	@Override
+	public int helicsFederateGetFlagOption(HelicsFederate fed,int flag,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetFlagOption(fed,flag,err);
+	}
+	@Override
+	public int helicsFederateGetIntegerProperty(HelicsFederate fed,int intProperty,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetIntegerProperty(fed,intProperty,err);
+	}
+	@Override
+	public double helicsFederateGetCurrentTime(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetCurrentTime(fed,err);
+	}
+	@Override
+	public void helicsFederateSetGlobal(HelicsFederate fed,String valueName,String value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetGlobal(fed,valueName,value,err);
+	}
+	@Override
+	public void helicsFederateSetTag(HelicsFederate fed,String tagName,String value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetTag(fed,tagName,value,err);
+	}
+	@Override
+	public String helicsFederateGetTag(HelicsFederate fed,String tagName,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetTag(fed,tagName,err);
+	}
+	@Override
+	public void helicsFederateAddDependency(HelicsFederate fed,String fedName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateAddDependency(fed,fedName,err);
+	}
+	@Override
+	public void helicsFederateSetLogFile(HelicsFederate fed,String logFile,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetLogFile(fed,logFile,err);
+	}
+	@Override
+	public void helicsFederateLogErrorMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLogErrorMessage(fed,logmessage,err);
+	}
+	@Override
+	public void helicsFederateLogWarningMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLogWarningMessage(fed,logmessage,err);
+	}
+	@Override
+	public void helicsFederateLogInfoMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLogInfoMessage(fed,logmessage,err);
+	}
+	@Override
+	public void helicsFederateLogDebugMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLogDebugMessage(fed,logmessage,err);
+	}
+	@Override
+	public void helicsFederateLogLevelMessage(HelicsFederate fed,int loglevel,String logmessage,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateLogLevelMessage(fed,loglevel,logmessage,err);
+	}
+	@Override
+	public void helicsFederateSendCommand(HelicsFederate fed,String target,String command,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSendCommand(fed,target,command,err);
+	}
+	@Override
+	public String helicsFederateGetCommand(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetCommand(fed,err);
+	}
+	@Override
+	public String helicsFederateGetCommandSource(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetCommandSource(fed,err);
+	}
+	@Override
+	public String helicsFederateWaitCommand(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateWaitCommand(fed,err);
+	}
+	@Override
+	public void helicsCoreSetGlobal(HelicsCore core,String valueName,String value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSetGlobal(core,valueName,value,err);
+	}
+	@Override
+	public void helicsBrokerSetGlobal(HelicsBroker broker,String valueName,String value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSetGlobal(broker,valueName,value,err);
+	}
+	@Override
+	public void helicsCoreSendCommand(HelicsCore core,String target,String command,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSendCommand(core,target,command,err);
+	}
+	@Override
+	public void helicsCoreSendOrderedCommand(HelicsCore core,String target,String command,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSendOrderedCommand(core,target,command,err);
+	}
+	@Override
+	public void helicsBrokerSendCommand(HelicsBroker broker,String target,String command,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSendCommand(broker,target,command,err);
+	}
+	@Override
+	public void helicsBrokerSendOrderedCommand(HelicsBroker broker,String target,String command,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSendOrderedCommand(broker,target,command,err);
+	}
+	@Override
+	public void helicsCoreSetLogFile(HelicsCore core,String logFileName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSetLogFile(core,logFileName,err);
+	}
+	@Override
+	public void helicsBrokerSetLogFile(HelicsBroker broker,String logFileName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSetLogFile(broker,logFileName,err);
+	}
+	@Override
+	public void helicsBrokerSetTimeBarrier(HelicsBroker broker,double barrierTime,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSetTimeBarrier(broker,barrierTime,err);
+	}
+	@Override
+	public void helicsBrokerClearTimeBarrier(HelicsBroker broker){
+		JavaHelicsDirectLibrary.helicsBrokerClearTimeBarrier(broker);
+	}
+	@Override
+	public void helicsBrokerGlobalError(HelicsBroker broker,int errorCode,String errorString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerGlobalError(broker,errorCode,errorString,err);
+	}
+	@Override
+	public void helicsCoreGlobalError(HelicsCore core,int errorCode,String errorString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreGlobalError(core,errorCode,errorString,err);
+	}
+	@Override
+	public HelicsQuery helicsCreateQuery(String target,String query){
+		return JavaHelicsDirectLibrary.helicsCreateQuery(target,query);
+	}
+	@Override
+	public String helicsQueryExecute(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryExecute(query,fed,err);
+	}
+	@Override
+	public Pointer helicsQueryExecuteRaw(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryExecuteRaw(query,fed,err);
+	}
+	@Override
+	public String helicsQueryCoreExecute(HelicsQuery query,HelicsCore core,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryCoreExecute(query,core,err);
+	}
+	@Override
+	public Pointer helicsQueryCoreExecuteRaw(HelicsQuery query,HelicsCore core,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryCoreExecuteRaw(query,core,err);
+	}
+	@Override
+	public String helicsQueryBrokerExecute(HelicsQuery query,HelicsBroker broker,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryBrokerExecute(query,broker,err);
+	}
+	@Override
+	public Pointer helicsQueryBrokerExecuteRaw(HelicsQuery query,HelicsBroker broker,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryBrokerExecuteRaw(query,broker,err);
+	}
+	@Override
+	public void helicsQueryExecuteAsync(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQueryExecuteAsync(query,fed,err);
+	}
+	@Override
+	public String helicsQueryExecuteComplete(HelicsQuery query,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryExecuteComplete(query,err);
+	}
+	@Override
+	public Pointer helicsQueryExecuteCompleteRaw(HelicsQuery query,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsQueryExecuteCompleteRaw(query,err);
+	}
+	@Override
+	public int helicsQueryIsCompleted(HelicsQuery query){
+		return JavaHelicsDirectLibrary.helicsQueryIsCompleted(query);
+	}
+	@Override
+	public void helicsQuerySetTarget(HelicsQuery query,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQuerySetTarget(query,target,err);
+	}
+	@Override
+	public void helicsQuerySetQueryString(HelicsQuery query,String queryString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQuerySetQueryString(query,queryString,err);
+	}
+	@Override
+	public void helicsQuerySetOrdering(HelicsQuery query,int mode,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQuerySetOrdering(query,mode,err);
+	}
+	@Override
+	public void helicsQueryFree(HelicsQuery query){
+		JavaHelicsDirectLibrary.helicsQueryFree(query);
+	}
+	@Override
+	public void helicsCleanupLibrary(){
+		JavaHelicsDirectLibrary.helicsCleanupLibrary();
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterSubscription(HelicsFederate fed,String key,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterSubscription(fed,key,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterPublication(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterPublication(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterTypePublication(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterTypePublication(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalPublication(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalPublication(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalTypePublication(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalTypePublication(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterInput(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterInput(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterTypeInput(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterTypeInput(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalInput(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalInput(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalTypeInput(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalTypeInput(fed,key,type,units,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateGetPublication(HelicsFederate fed,String key,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetPublication(fed,key,err);
+	}
+	@Override
+	public HelicsPublication helicsFederateGetPublicationByIndex(HelicsFederate fed,int index,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetPublicationByIndex(fed,index,err);
+	}
+	@Override
+	public HelicsInput helicsFederateGetInput(HelicsFederate fed,String key,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetInput(fed,key,err);
+	}
+	@Override
+	public HelicsInput helicsFederateGetInputByIndex(HelicsFederate fed,int index,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetInputByIndex(fed,index,err);
+	}
+	@Override
+	public HelicsInput helicsFederateGetSubscription(HelicsFederate fed,String key,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetSubscription(fed,key,err);
+	}
+	@Override
+	public void helicsFederateClearUpdates(HelicsFederate fed){
+		JavaHelicsDirectLibrary.helicsFederateClearUpdates(fed);
+	}
+	@Override
+	public void helicsFederateRegisterFromPublicationJSON(HelicsFederate fed,String json,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateRegisterFromPublicationJSON(fed,json,err);
+	}
+	@Override
+	public void helicsFederatePublishJSON(HelicsFederate fed,String json,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederatePublishJSON(fed,json,err);
+	}
+	@Override
+	public int helicsPublicationIsValid(HelicsPublication pub){
+		return JavaHelicsDirectLibrary.helicsPublicationIsValid(pub);
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishBytes(pub,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishBytes(pub,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishBytes(pub,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishString(HelicsPublication pub,String val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishString(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishInteger(HelicsPublication pub,int val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishInteger(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishBoolean(HelicsPublication pub,int val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishBoolean(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishDouble(HelicsPublication pub,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishDouble(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishTime(HelicsPublication pub,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishTime(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishChar(HelicsPublication pub,char val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishChar(pub,val,err);
+	}
+	@Override
+	public void helicsPublicationPublishComplex(HelicsPublication pub,double real,double imag,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishComplex(pub,real,imag,err);
+	}
+	@Override
+	public void helicsPublicationPublishVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishVector(pub,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishVector(pub,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishComplexVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishComplexVector(pub,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishComplexVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishComplexVector(pub,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsPublicationPublishNamedPoint(HelicsPublication pub,String field,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationPublishNamedPoint(pub,field,val,err);
+	}
+	@Override
+	public void helicsPublicationAddTarget(HelicsPublication pub,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationAddTarget(pub,target,err);
+	}
+	@Override
+	public int helicsInputIsValid(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputIsValid(ipt);
+	}
+	@Override
+	public void helicsInputAddTarget(HelicsInput ipt,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputAddTarget(ipt,target,err);
+	}
+	@Override
+	public int helicsInputGetByteCount(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetByteCount(ipt);
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,Pointer data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetBytes(ipt,data,maxDataLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,byte[] data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetBytes(ipt,data,maxDataLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,ByteBuffer data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetBytes(ipt,data,maxDataLength,actualSize,err);
+	}
+	@Override
+	public int helicsInputGetStringSize(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetStringSize(ipt);
+	}
+	@Override
+	public int helicsInputGetInteger(HelicsInput ipt,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsInputGetInteger(ipt,err);
+	}
+	@Override
+	public int helicsInputGetBoolean(HelicsInput ipt,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsInputGetBoolean(ipt,err);
+	}
+	@Override
+	public double helicsInputGetDouble(HelicsInput ipt,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsInputGetDouble(ipt,err);
+	}
+	@Override
+	public double helicsInputGetTime(HelicsInput ipt,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsInputGetTime(ipt,err);
+	}
+	@Override
+	public char helicsInputGetChar(HelicsInput ipt,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsInputGetChar(ipt,err);
+	}
+	@Override
+	public void helicsInputGetComplex(HelicsInput ipt,DoubleByReference real,DoubleByReference imag,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetComplex(ipt,real,imag,err);
+	}
+	@Override
+	public int helicsInputGetVectorSize(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetVectorSize(ipt);
+	}
+	@Override
+	public void helicsInputGetVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetVector(ipt,data,maxLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputGetVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetVector(ipt,data,maxLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputGetComplexVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetComplexVector(ipt,data,maxLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputGetComplexVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputGetComplexVector(ipt,data,maxLength,actualSize,err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultBytes(ipt,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultBytes(ipt,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultBytes(ipt,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultString(HelicsInput ipt,String defaultString,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultString(ipt,defaultString,err);
+	}
+	@Override
+	public void helicsInputSetDefaultInteger(HelicsInput ipt,int val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultInteger(ipt,val,err);
+	}
+	@Override
+	public void helicsInputSetDefaultBoolean(HelicsInput ipt,int val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultBoolean(ipt,val,err);
+	}
+	@Override
+	public void helicsInputSetDefaultTime(HelicsInput ipt,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultTime(ipt,val,err);
+	}
+	@Override
+	public void helicsInputSetDefaultChar(HelicsInput ipt,char val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultChar(ipt,val,err);
+	}
+	@Override
+	public void helicsInputSetDefaultDouble(HelicsInput ipt,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultDouble(ipt,val,err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplex(HelicsInput ipt,double real,double imag,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultComplex(ipt,real,imag,err);
+	}
+	@Override
+	public void helicsInputSetDefaultVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultVector(ipt,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultVector(ipt,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplexVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultComplexVector(ipt,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplexVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultComplexVector(ipt,vectorInput,vectorLength,err);
+	}
+	@Override
+	public void helicsInputSetDefaultNamedPoint(HelicsInput ipt,String defaultName,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetDefaultNamedPoint(ipt,defaultName,val,err);
+	}
+	@Override
+	public String helicsInputGetType(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetType(ipt);
+	}
+	@Override
+	public String helicsInputGetPublicationType(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetPublicationType(ipt);
+	}
+	@Override
+	public int helicsInputGetPublicationDataType(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetPublicationDataType(ipt);
+	}
+	@Override
+	public String helicsPublicationGetType(HelicsPublication pub){
+		return JavaHelicsDirectLibrary.helicsPublicationGetType(pub);
+	}
+	@Override
+	public String helicsInputGetName(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetName(ipt);
+	}
+	@Override
+	public String helicsSubscriptionGetTarget(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsSubscriptionGetTarget(ipt);
+	}
+	@Override
+	public String helicsPublicationGetName(HelicsPublication pub){
+		return JavaHelicsDirectLibrary.helicsPublicationGetName(pub);
+	}
+	@Override
+	public String helicsInputGetUnits(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetUnits(ipt);
+	}
+	@Override
+	public String helicsInputGetInjectionUnits(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetInjectionUnits(ipt);
+	}
+	@Override
+	public String helicsInputGetExtractionUnits(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputGetExtractionUnits(ipt);
+	}
+	@Override
+	public String helicsPublicationGetUnits(HelicsPublication pub){
+		return JavaHelicsDirectLibrary.helicsPublicationGetUnits(pub);
+	}
+	@Override
+	public String helicsInputGetInfo(HelicsInput inp){
+		return JavaHelicsDirectLibrary.helicsInputGetInfo(inp);
+	}
+	@Override
+	public void helicsInputSetInfo(HelicsInput inp,String info,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetInfo(inp,info,err);
+	}
+	@Override
+	public String helicsInputGetTag(HelicsInput inp,String tagname){
+		return JavaHelicsDirectLibrary.helicsInputGetTag(inp,tagname);
+	}
+	@Override
+	public void helicsInputSetTag(HelicsInput inp,String tagname,String tagvalue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetTag(inp,tagname,tagvalue,err);
+	}
+	@Override
+	public String helicsPublicationGetInfo(HelicsPublication pub){
+		return JavaHelicsDirectLibrary.helicsPublicationGetInfo(pub);
+	}
+	@Override
+	public void helicsPublicationSetInfo(HelicsPublication pub,String info,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationSetInfo(pub,info,err);
+	}
+	@Override
+	public String helicsPublicationGetTag(HelicsPublication pub,String tagname){
+		return JavaHelicsDirectLibrary.helicsPublicationGetTag(pub,tagname);
+	}
+	@Override
+	public void helicsPublicationSetTag(HelicsPublication pub,String tagname,String tagvalue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationSetTag(pub,tagname,tagvalue,err);
+	}
+	@Override
+	public int helicsInputGetOption(HelicsInput inp,int option){
+		return JavaHelicsDirectLibrary.helicsInputGetOption(inp,option);
+	}
+	@Override
+	public void helicsInputSetOption(HelicsInput inp,int option,int value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetOption(inp,option,value,err);
+	}
+	@Override
+	public int helicsPublicationGetOption(HelicsPublication pub,int option){
+		return JavaHelicsDirectLibrary.helicsPublicationGetOption(pub,option);
+	}
+	@Override
+	public void helicsPublicationSetOption(HelicsPublication pub,int option,int val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationSetOption(pub,option,val,err);
+	}
+	@Override
+	public void helicsPublicationSetMinimumChange(HelicsPublication pub,double tolerance,HelicsError err){
+		JavaHelicsDirectLibrary.helicsPublicationSetMinimumChange(pub,tolerance,err);
+	}
+	@Override
+	public void helicsInputSetMinimumChange(HelicsInput inp,double tolerance,HelicsError err){
+		JavaHelicsDirectLibrary.helicsInputSetMinimumChange(inp,tolerance,err);
+	}
+	@Override
+	public int helicsInputIsUpdated(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputIsUpdated(ipt);
+	}
+	@Override
+	public double helicsInputLastUpdateTime(HelicsInput ipt){
+		return JavaHelicsDirectLibrary.helicsInputLastUpdateTime(ipt);
+	}
+	@Override
+	public void helicsInputClearUpdate(HelicsInput ipt){
+		JavaHelicsDirectLibrary.helicsInputClearUpdate(ipt);
+	}
+	@Override
+	public int helicsFederateGetPublicationCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetPublicationCount(fed);
+	}
+	@Override
+	public int helicsFederateGetInputCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetInputCount(fed);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterEndpoint(fed,name,type,err);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterGlobalEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalEndpoint(fed,name,type,err);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterTargetedEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterTargetedEndpoint(fed,name,type,err);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterGlobalTargetedEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalTargetedEndpoint(fed,name,type,err);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateGetEndpoint(HelicsFederate fed,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetEndpoint(fed,name,err);
+	}
+	@Override
+	public HelicsEndpoint helicsFederateGetEndpointByIndex(HelicsFederate fed,int index,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetEndpointByIndex(fed,index,err);
+	}
+	@Override
+	public int helicsEndpointIsValid(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointIsValid(endpoint);
+	}
+	@Override
+	public void helicsEndpointSetDefaultDestination(HelicsEndpoint endpoint,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSetDefaultDestination(endpoint,dst,err);
+	}
+	@Override
+	public String helicsEndpointGetDefaultDestination(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointGetDefaultDestination(endpoint);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytes(endpoint,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytes(endpoint,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytes(endpoint,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesTo(endpoint,data,inputDataLength,dst,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesTo(endpoint,data,inputDataLength,dst,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesTo(endpoint,data,inputDataLength,dst,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesToAt(endpoint,data,inputDataLength,dst,time,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesToAt(endpoint,data,inputDataLength,dst,time,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesToAt(endpoint,data,inputDataLength,dst,time,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesAt(endpoint,data,inputDataLength,time,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesAt(endpoint,data,inputDataLength,time,err);
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendBytesAt(endpoint,data,inputDataLength,time,err);
+	}
+	@Override
+	public void helicsEndpointSendMessage(HelicsEndpoint endpoint,HelicsMessage message,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendMessage(endpoint,message,err);
+	}
+	@Override
+	public void helicsEndpointSendMessageZeroCopy(HelicsEndpoint endpoint,HelicsMessage message,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSendMessageZeroCopy(endpoint,message,err);
+	}
+	@Override
+	public void helicsEndpointSubscribe(HelicsEndpoint endpoint,String key,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSubscribe(endpoint,key,err);
+	}
+	@Override
+	public int helicsFederateHasMessage(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateHasMessage(fed);
+	}
+	@Override
+	public int helicsEndpointHasMessage(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointHasMessage(endpoint);
+	}
+	@Override
+	public int helicsFederatePendingMessageCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederatePendingMessageCount(fed);
+	}
+	@Override
+	public int helicsEndpointPendingMessageCount(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointPendingMessageCount(endpoint);
+	}
+	@Override
+	public HelicsMessage helicsEndpointGetMessage(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointGetMessage(endpoint);
+	}
+	@Override
+	public HelicsMessage helicsEndpointCreateMessage(HelicsEndpoint endpoint,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsEndpointCreateMessage(endpoint,err);
+	}
+	@Override
+	public void helicsEndpointClearMessages(HelicsEndpoint endpoint){
+		JavaHelicsDirectLibrary.helicsEndpointClearMessages(endpoint);
+	}
+	@Override
+	public HelicsMessage helicsFederateGetMessage(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetMessage(fed);
+	}
+	@Override
+	public HelicsMessage helicsFederateCreateMessage(HelicsFederate fed,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateCreateMessage(fed,err);
+	}
+	@Override
+	public void helicsFederateClearMessages(HelicsFederate fed){
+		JavaHelicsDirectLibrary.helicsFederateClearMessages(fed);
+	}
+	@Override
+	public String helicsEndpointGetType(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointGetType(endpoint);
+	}
+	@Override
+	public String helicsEndpointGetName(HelicsEndpoint endpoint){
+		return JavaHelicsDirectLibrary.helicsEndpointGetName(endpoint);
+	}
+	@Override
+	public int helicsFederateGetEndpointCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetEndpointCount(fed);
+	}
+	@Override
+	public String helicsEndpointGetInfo(HelicsEndpoint end){
+		return JavaHelicsDirectLibrary.helicsEndpointGetInfo(end);
+	}
+	@Override
+	public void helicsEndpointSetInfo(HelicsEndpoint endpoint,String info,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSetInfo(endpoint,info,err);
+	}
+	@Override
+	public String helicsEndpointGetTag(HelicsEndpoint endpoint,String tagname){
+		return JavaHelicsDirectLibrary.helicsEndpointGetTag(endpoint,tagname);
+	}
+	@Override
+	public void helicsEndpointSetTag(HelicsEndpoint endpoint,String tagname,String tagvalue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSetTag(endpoint,tagname,tagvalue,err);
+	}
+	@Override
+	public void helicsEndpointSetOption(HelicsEndpoint endpoint,int option,int value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointSetOption(endpoint,option,value,err);
+	}
+	@Override
+	public int helicsEndpointGetOption(HelicsEndpoint endpoint,int option){
+		return JavaHelicsDirectLibrary.helicsEndpointGetOption(endpoint,option);
+	}
+	@Override
+	public void helicsEndpointAddSourceTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointAddSourceTarget(endpoint,targetEndpoint,err);
+	}
+	@Override
+	public void helicsEndpointAddDestinationTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointAddDestinationTarget(endpoint,targetEndpoint,err);
+	}
+	@Override
+	public void helicsEndpointRemoveTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointRemoveTarget(endpoint,targetEndpoint,err);
+	}
+	@Override
+	public void helicsEndpointAddSourceFilter(HelicsEndpoint endpoint,String filterName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointAddSourceFilter(endpoint,filterName,err);
+	}
+	@Override
+	public void helicsEndpointAddDestinationFilter(HelicsEndpoint endpoint,String filterName,HelicsError err){
+		JavaHelicsDirectLibrary.helicsEndpointAddDestinationFilter(endpoint,filterName,err);
+	}
+	@Override
+	public String helicsMessageGetSource(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetSource(message);
+	}
+	@Override
+	public String helicsMessageGetDestination(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetDestination(message);
+	}
+	@Override
+	public String helicsMessageGetOriginalSource(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetOriginalSource(message);
+	}
+	@Override
+	public String helicsMessageGetOriginalDestination(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetOriginalDestination(message);
+	}
+	@Override
+	public double helicsMessageGetTime(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetTime(message);
+	}
+	@Override
+	public String helicsMessageGetString(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetString(message);
+	}
+	@Override
+	public int helicsMessageGetMessageID(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetMessageID(message);
+	}
+	@Override
+	public int helicsMessageGetFlagOption(HelicsMessage message,int flag){
+		return JavaHelicsDirectLibrary.helicsMessageGetFlagOption(message,flag);
+	}
+	@Override
+	public int helicsMessageGetByteCount(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetByteCount(message);
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,Pointer data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageGetBytes(message,data,maxMessageLength,actualSize,err);
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,byte[] data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageGetBytes(message,data,maxMessageLength,actualSize,err);
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,ByteBuffer data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageGetBytes(message,data,maxMessageLength,actualSize,err);
+	}
+	@Override
+	public Pointer helicsMessageGetBytesPointer(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageGetBytesPointer(message);
+	}
+	@Override
+	public int helicsMessageIsValid(HelicsMessage message){
+		return JavaHelicsDirectLibrary.helicsMessageIsValid(message);
+	}
+	@Override
+	public void helicsMessageSetSource(HelicsMessage message,String src,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetSource(message,src,err);
+	}
+	@Override
+	public void helicsMessageSetDestination(HelicsMessage message,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetDestination(message,dst,err);
+	}
+	@Override
+	public void helicsMessageSetOriginalSource(HelicsMessage message,String src,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetOriginalSource(message,src,err);
+	}
+	@Override
+	public void helicsMessageSetOriginalDestination(HelicsMessage message,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetOriginalDestination(message,dst,err);
+	}
+	@Override
+	public void helicsMessageSetTime(HelicsMessage message,double time,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetTime(message,time,err);
+	}
+	@Override
+	public void helicsMessageResize(HelicsMessage message,int newSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageResize(message,newSize,err);
+	}
+	@Override
+	public void helicsMessageReserve(HelicsMessage message,int reserveSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageReserve(message,reserveSize,err);
+	}
+	@Override
+	public void helicsMessageSetMessageID(HelicsMessage message,int messageID,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetMessageID(message,messageID,err);
+	}
+	@Override
+	public void helicsMessageClearFlags(HelicsMessage message){
+		JavaHelicsDirectLibrary.helicsMessageClearFlags(message);
+	}
+	@Override
+	public void helicsMessageSetFlagOption(HelicsMessage message,int flag,int flagValue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetFlagOption(message,flag,flagValue,err);
+	}
+	@Override
+	public void helicsMessageSetString(HelicsMessage message,String data,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetString(message,data,err);
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageSetData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageAppendData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageAppendData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageAppendData(message,data,inputDataLength,err);
+	}
+	@Override
+	public void helicsMessageCopy(HelicsMessage src_message,HelicsMessage dst_message,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageCopy(src_message,dst_message,err);
+	}
+	@Override
+	public HelicsMessage helicsMessageClone(HelicsMessage message,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsMessageClone(message,err);
+	}
+	@Override
+	public void helicsMessageFree(HelicsMessage message){
+		JavaHelicsDirectLibrary.helicsMessageFree(message);
+	}
+	@Override
+	public void helicsMessageClear(HelicsMessage message,HelicsError err){
+		JavaHelicsDirectLibrary.helicsMessageClear(message,err);
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterFilter(HelicsFederate fed,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterFilter(fed,type,name,err);
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterGlobalFilter(HelicsFederate fed,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalFilter(fed,type,name,err);
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterCloningFilter(HelicsFederate fed,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterCloningFilter(fed,name,err);
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterGlobalCloningFilter(HelicsFederate fed,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalCloningFilter(fed,name,err);
+	}
+	@Override
+	public HelicsFilter helicsCoreRegisterFilter(HelicsCore core,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreRegisterFilter(core,type,name,err);
+	}
+	@Override
+	public HelicsFilter helicsCoreRegisterCloningFilter(HelicsCore core,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreRegisterCloningFilter(core,name,err);
+	}
+	@Override
+	public int helicsFederateGetFilterCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetFilterCount(fed);
+	}
+	@Override
+	public HelicsFilter helicsFederateGetFilter(HelicsFederate fed,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetFilter(fed,name,err);
+	}
+	@Override
+	public HelicsFilter helicsFederateGetFilterByIndex(HelicsFederate fed,int index,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetFilterByIndex(fed,index,err);
+	}
+	@Override
+	public int helicsFilterIsValid(HelicsFilter filt){
+		return JavaHelicsDirectLibrary.helicsFilterIsValid(filt);
+	}
+	@Override
+	public String helicsFilterGetName(HelicsFilter filt){
+		return JavaHelicsDirectLibrary.helicsFilterGetName(filt);
+	}
+	@Override
+	public void helicsFilterSet(HelicsFilter filt,String prop,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSet(filt,prop,val,err);
+	}
+	@Override
+	public void helicsFilterSetString(HelicsFilter filt,String prop,String val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSetString(filt,prop,val,err);
+	}
+	@Override
+	public void helicsFilterAddDestinationTarget(HelicsFilter filt,String dst,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterAddDestinationTarget(filt,dst,err);
+	}
+	@Override
+	public void helicsFilterAddSourceTarget(HelicsFilter filt,String source,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterAddSourceTarget(filt,source,err);
+	}
+	@Override
+	public void helicsFilterAddDeliveryEndpoint(HelicsFilter filt,String deliveryEndpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterAddDeliveryEndpoint(filt,deliveryEndpoint,err);
+	}
+	@Override
+	public void helicsFilterRemoveTarget(HelicsFilter filt,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterRemoveTarget(filt,target,err);
+	}
+	@Override
+	public void helicsFilterRemoveDeliveryEndpoint(HelicsFilter filt,String deliveryEndpoint,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterRemoveDeliveryEndpoint(filt,deliveryEndpoint,err);
+	}
+	@Override
+	public String helicsFilterGetInfo(HelicsFilter filt){
+		return JavaHelicsDirectLibrary.helicsFilterGetInfo(filt);
+	}
+	@Override
+	public void helicsFilterSetInfo(HelicsFilter filt,String info,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSetInfo(filt,info,err);
+	}
+	@Override
+	public String helicsFilterGetTag(HelicsFilter filt,String tagname){
+		return JavaHelicsDirectLibrary.helicsFilterGetTag(filt,tagname);
+	}
+	@Override
+	public void helicsFilterSetTag(HelicsFilter filt,String tagname,String tagvalue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSetTag(filt,tagname,tagvalue,err);
+	}
+	@Override
+	public void helicsFilterSetOption(HelicsFilter filt,int option,int value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSetOption(filt,option,value,err);
+	}
+	@Override
+	public int helicsFilterGetOption(HelicsFilter filt,int option){
+		return JavaHelicsDirectLibrary.helicsFilterGetOption(filt,option);
+	}
+	@Override
+	public HelicsTranslator helicsFederateRegisterTranslator(HelicsFederate fed,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterTranslator(fed,type,name,err);
+	}
+	@Override
+	public HelicsTranslator helicsFederateRegisterGlobalTranslator(HelicsFederate fed,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateRegisterGlobalTranslator(fed,type,name,err);
+	}
+	@Override
+	public HelicsTranslator helicsCoreRegisterTranslator(HelicsCore core,int type,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsCoreRegisterTranslator(core,type,name,err);
+	}
+	@Override
+	public int helicsFederateGetTranslatorCount(HelicsFederate fed){
+		return JavaHelicsDirectLibrary.helicsFederateGetTranslatorCount(fed);
+	}
+	@Override
+	public HelicsTranslator helicsFederateGetTranslator(HelicsFederate fed,String name,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetTranslator(fed,name,err);
+	}
+	@Override
+	public HelicsTranslator helicsFederateGetTranslatorByIndex(HelicsFederate fed,int index,HelicsError err){
+		return JavaHelicsDirectLibrary.helicsFederateGetTranslatorByIndex(fed,index,err);
+	}
+	@Override
+	public int helicsTranslatorIsValid(HelicsTranslator trans){
+		return JavaHelicsDirectLibrary.helicsTranslatorIsValid(trans);
+	}
+	@Override
+	public String helicsTranslatorGetName(HelicsTranslator trans){
+		return JavaHelicsDirectLibrary.helicsTranslatorGetName(trans);
+	}
+	@Override
+	public void helicsTranslatorSet(HelicsTranslator trans,String prop,double val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSet(trans,prop,val,err);
+	}
+	@Override
+	public void helicsTranslatorSetString(HelicsTranslator trans,String prop,String val,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSetString(trans,prop,val,err);
+	}
+	@Override
+	public void helicsTranslatorAddInputTarget(HelicsTranslator trans,String input,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorAddInputTarget(trans,input,err);
+	}
+	@Override
+	public void helicsTranslatorAddPublicationTarget(HelicsTranslator trans,String pub,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorAddPublicationTarget(trans,pub,err);
+	}
+	@Override
+	public void helicsTranslatorAddSourceEndpoint(HelicsTranslator trans,String ept,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorAddSourceEndpoint(trans,ept,err);
+	}
+	@Override
+	public void helicsTranslatorAddDestinationEndpoint(HelicsTranslator trans,String ept,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorAddDestinationEndpoint(trans,ept,err);
+	}
+	@Override
+	public void helicsTranslatorRemoveTarget(HelicsTranslator trans,String target,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorRemoveTarget(trans,target,err);
+	}
+	@Override
+	public String helicsTranslatorGetInfo(HelicsTranslator trans){
+		return JavaHelicsDirectLibrary.helicsTranslatorGetInfo(trans);
+	}
+	@Override
+	public void helicsTranslatorSetInfo(HelicsTranslator trans,String info,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSetInfo(trans,info,err);
+	}
+	@Override
+	public String helicsTranslatorGetTag(HelicsTranslator trans,String tagname){
+		return JavaHelicsDirectLibrary.helicsTranslatorGetTag(trans,tagname);
+	}
+	@Override
+	public void helicsTranslatorSetTag(HelicsTranslator trans,String tagname,String tagvalue,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSetTag(trans,tagname,tagvalue,err);
+	}
+	@Override
+	public void helicsTranslatorSetOption(HelicsTranslator trans,int option,int value,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSetOption(trans,option,value,err);
+	}
+	@Override
+	public int helicsTranslatorGetOption(HelicsTranslator trans,int option){
+		return JavaHelicsDirectLibrary.helicsTranslatorGetOption(trans,option);
+	}
+	@Override
+	public void helicsBrokerSetLoggingCallback(HelicsBroker broker,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsBrokerSetLoggingCallback(broker,logger,userdata,err);
+	}
+	@Override
+	public void helicsCoreSetLoggingCallback(HelicsCore core,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsCoreSetLoggingCallback(core,logger,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetLoggingCallback(HelicsFederate fed,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetLoggingCallback(fed,logger,userdata,err);
+	}
+	@Override
+	public void helicsFilterSetCustomCallback(HelicsFilter filter,HelicsFilterCallback filtCall,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFilterSetCustomCallback(filter,filtCall,userdata,err);
+	}
+	@Override
+	public void helicsTranslatorSetCustomCallback(HelicsTranslator translator,HelicsTranslatorToMessageCallback toMessageCall,HelicsTranslatorToValueCallback toValueCall,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsTranslatorSetCustomCallback(translator,toMessageCall,toValueCall,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetQueryCallback(HelicsFederate fed,HelicsQueryCallback queryAnswer,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetQueryCallback(fed,queryAnswer,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetTimeRequestEntryCallback(HelicsFederate fed,HelicsTimeRequestEntryCallback requestTime,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetTimeRequestEntryCallback(fed,requestTime,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetTimeUpdateCallback(HelicsFederate fed,HelicsTimeUpdateCallback timeUpdate,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetTimeUpdateCallback(fed,timeUpdate,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetStateChangeCallback(HelicsFederate fed,HelicsStateChangeCallback stateChange,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetStateChangeCallback(fed,stateChange,userdata,err);
+	}
+	@Override
+	public void helicsFederateSetTimeRequestReturnCallback(HelicsFederate fed,HelicsTimeRequestReturnCallback requestTimeReturn,Pointer userdata,HelicsError err){
+		JavaHelicsDirectLibrary.helicsFederateSetTimeRequestReturnCallback(fed,requestTimeReturn,userdata,err);
+	}
+	@Override
+	public void helicsQueryBufferFill(HelicsQueryBuffer buffer,String queryResult,int strSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQueryBufferFill(buffer,queryResult,strSize,err);
+	}
+	@Override
+	public void helicsQueryBufferFill(HelicsQueryBuffer buffer,byte[] queryResult,int strSize,HelicsError err){
+		JavaHelicsDirectLibrary.helicsQueryBufferFill(buffer,queryResult,strSize,err);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,7027 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import java.lang.foreign.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
+
+/**
+ * Foreign Function &amp; Memory binding of the HELICS C API.
+ *
+ * <p>Handles, strings, buffers and out parameters are raw {@link MemorySegment}s, so callers can pass segments
+ * allocated from their own (for example confined) arenas. Requires JDK 22; call {@link #load(String)} before use.
+ */
+public final class JavaHelicsForeignLibrary {
+	private static SymbolLookup LOOKUP;
+	private static Path LIBRARY_PATH;
+	/**
+	 * Load the HELICS shared library. The downcall handles are bound once per JVM, so later calls must name the same
+	 * library.
+	 *
+	 * @throws IllegalStateException if a different library has already been loaded
+	 */
+	public static synchronized void load(final String libraryPath) {
+		final Path path = Path.of(libraryPath).toAbsolutePath().normalize();
+		if (LOOKUP == null) {
+			LOOKUP = SymbolLookup.libraryLookup(path, Arena.global());
+			LIBRARY_PATH = path;
+		} else if (!LIBRARY_PATH.equals(path)) {
+			throw new IllegalStateException("the foreign backend is already bound to " + LIBRARY_PATH + ", cannot bind " + path);
+		}
+	}
+	private static MethodHandle downcall(final String name, final FunctionDescriptor descriptor, final Linker.Option... options) {
+		if (LOOKUP == null) {
+			throw new IllegalStateException("JavaHelicsForeignLibrary.load has not been called");
+		}
+		final MemorySegment symbol = LOOKUP.find(name).orElse(null);
+		if (symbol == null) {
+			final MethodType type = descriptor.toMethodType();
+			final MethodHandle thrower = MethodHandles.throwException(type.returnType(), UnsatisfiedLinkError.class).bindTo(new UnsatisfiedLinkError(name));
+			return MethodHandles.dropArguments(thrower, 0, type.parameterList());
+		}
+		return Linker.nativeLinker().downcallHandle(symbol, descriptor, options);
+	}
+	private static RuntimeException rethrow(final Throwable t) {
+		if (t instanceof RuntimeException) {
+			return (RuntimeException) t;
+		}
+		if (t instanceof Error) {
+			throw (Error) t;
+		}
+		return new IllegalStateException(t);
+	}
+	private static final class Handles {
+		static final MethodHandle helicsCreateDataBuffer = downcall("helicsCreateDataBuffer", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsDataBufferIsValid = downcall("helicsDataBufferIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsWrapDataInBuffer = downcall("helicsWrapDataInBuffer", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsDataBufferFree = downcall("helicsDataBufferFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferSize = downcall("helicsDataBufferSize", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferCapacity = downcall("helicsDataBufferCapacity", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferData = downcall("helicsDataBufferData", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferReserve = downcall("helicsDataBufferReserve", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsDataBufferClone = downcall("helicsDataBufferClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsIntegerToBytes = downcall("helicsIntegerToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDoubleToBytes = downcall("helicsDoubleToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsStringToBytes = downcall("helicsStringToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsRawStringToBytes = downcall("helicsRawStringToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBooleanToBytes = downcall("helicsBooleanToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCharToBytes = downcall("helicsCharToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsVectorToBytes = downcall("helicsVectorToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsNamedPointToBytes = downcall("helicsNamedPointToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsComplexVectorToBytes = downcall("helicsComplexVectorToBytes", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsDataBufferType = downcall("helicsDataBufferType", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToInteger = downcall("helicsDataBufferToInteger", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToDouble = downcall("helicsDataBufferToDouble", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToBoolean = downcall("helicsDataBufferToBoolean", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToChar = downcall("helicsDataBufferToChar", FunctionDescriptor.of(ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferStringSize = downcall("helicsDataBufferStringSize", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToTime = downcall("helicsDataBufferToTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToComplex = downcall("helicsDataBufferToComplex", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferVectorSize = downcall("helicsDataBufferVectorSize", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsDataBufferToVector = downcall("helicsDataBufferToVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsDataBufferToComplexVector = downcall("helicsDataBufferToComplexVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsDataBufferConvertToType = downcall("helicsDataBufferConvertToType", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsGetVersion = downcall("helicsGetVersion", FunctionDescriptor.of(ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetBuildFlags = downcall("helicsGetBuildFlags", FunctionDescriptor.of(ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetCompilerVersion = downcall("helicsGetCompilerVersion", FunctionDescriptor.of(ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetSystemInfo = downcall("helicsGetSystemInfo", FunctionDescriptor.of(ValueLayout.ADDRESS));
+		static final MethodHandle helicsLoadSignalHandler = downcall("helicsLoadSignalHandler", FunctionDescriptor.ofVoid());
+		static final MethodHandle helicsLoadThreadedSignalHandler = downcall("helicsLoadThreadedSignalHandler", FunctionDescriptor.ofVoid());
+		static final MethodHandle helicsClearSignalHandler = downcall("helicsClearSignalHandler", FunctionDescriptor.ofVoid());
+		static final MethodHandle helicsAbort = downcall("helicsAbort", FunctionDescriptor.ofVoid(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsIsCoreTypeAvailable = downcall("helicsIsCoreTypeAvailable", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateCore = downcall("helicsCreateCore", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreClone = downcall("helicsCoreClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreIsValid = downcall("helicsCoreIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateBroker = downcall("helicsCreateBroker", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerClone = downcall("helicsBrokerClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerIsValid = downcall("helicsBrokerIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerIsConnected = downcall("helicsBrokerIsConnected", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerDataLink = downcall("helicsBrokerDataLink", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerAddSourceFilterToEndpoint = downcall("helicsBrokerAddSourceFilterToEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerAddDestinationFilterToEndpoint = downcall("helicsBrokerAddDestinationFilterToEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerMakeConnections = downcall("helicsBrokerMakeConnections", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreWaitForDisconnect = downcall("helicsCoreWaitForDisconnect", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerWaitForDisconnect = downcall("helicsBrokerWaitForDisconnect", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreIsConnected = downcall("helicsCoreIsConnected", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreDataLink = downcall("helicsCoreDataLink", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreAddSourceFilterToEndpoint = downcall("helicsCoreAddSourceFilterToEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreAddDestinationFilterToEndpoint = downcall("helicsCoreAddDestinationFilterToEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreMakeConnections = downcall("helicsCoreMakeConnections", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerGetIdentifier = downcall("helicsBrokerGetIdentifier", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreGetIdentifier = downcall("helicsCoreGetIdentifier", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerGetAddress = downcall("helicsBrokerGetAddress", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreGetAddress = downcall("helicsCoreGetAddress", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSetReadyToInit = downcall("helicsCoreSetReadyToInit", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreConnect = downcall("helicsCoreConnect", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreDisconnect = downcall("helicsCoreDisconnect", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetFederateByName = downcall("helicsGetFederateByName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerDisconnect = downcall("helicsBrokerDisconnect", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateDestroy = downcall("helicsFederateDestroy", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerDestroy = downcall("helicsBrokerDestroy", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreDestroy = downcall("helicsCoreDestroy", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreFree = downcall("helicsCoreFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerFree = downcall("helicsBrokerFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateValueFederate = downcall("helicsCreateValueFederate", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateValueFederateFromConfig = downcall("helicsCreateValueFederateFromConfig", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateMessageFederate = downcall("helicsCreateMessageFederate", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateMessageFederateFromConfig = downcall("helicsCreateMessageFederateFromConfig", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateCombinationFederate = downcall("helicsCreateCombinationFederate", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateCombinationFederateFromConfig = downcall("helicsCreateCombinationFederateFromConfig", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateClone = downcall("helicsFederateClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateProtect = downcall("helicsFederateProtect", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateUnProtect = downcall("helicsFederateUnProtect", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateIsProtected = downcall("helicsFederateIsProtected", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateFederateInfo = downcall("helicsCreateFederateInfo", FunctionDescriptor.of(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoClone = downcall("helicsFederateInfoClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoLoadFromString = downcall("helicsFederateInfoLoadFromString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoFree = downcall("helicsFederateInfoFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateIsValid = downcall("helicsFederateIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetCoreName = downcall("helicsFederateInfoSetCoreName", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetCoreInitString = downcall("helicsFederateInfoSetCoreInitString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetBrokerInitString = downcall("helicsFederateInfoSetBrokerInitString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetCoreType = downcall("helicsFederateInfoSetCoreType", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetCoreTypeFromString = downcall("helicsFederateInfoSetCoreTypeFromString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetBroker = downcall("helicsFederateInfoSetBroker", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetBrokerKey = downcall("helicsFederateInfoSetBrokerKey", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetBrokerPort = downcall("helicsFederateInfoSetBrokerPort", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetLocalPort = downcall("helicsFederateInfoSetLocalPort", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetPropertyIndex = downcall("helicsGetPropertyIndex", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetFlagIndex = downcall("helicsGetFlagIndex", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetOptionIndex = downcall("helicsGetOptionIndex", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetOptionValue = downcall("helicsGetOptionValue", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsGetDataType = downcall("helicsGetDataType", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetFlagOption = downcall("helicsFederateInfoSetFlagOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetSeparator = downcall("helicsFederateInfoSetSeparator", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetTimeProperty = downcall("helicsFederateInfoSetTimeProperty", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateInfoSetIntegerProperty = downcall("helicsFederateInfoSetIntegerProperty", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterInterfaces = downcall("helicsFederateRegisterInterfaces", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGlobalError = downcall("helicsFederateGlobalError", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLocalError = downcall("helicsFederateLocalError", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateFinalize = downcall("helicsFederateFinalize", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateFinalizeAsync = downcall("helicsFederateFinalizeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateFinalizeComplete = downcall("helicsFederateFinalizeComplete", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateDisconnect = downcall("helicsFederateDisconnect", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateDisconnectAsync = downcall("helicsFederateDisconnectAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateDisconnectComplete = downcall("helicsFederateDisconnectComplete", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateFree = downcall("helicsFederateFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterInitializingMode = downcall("helicsFederateEnterInitializingMode", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterInitializingModeAsync = downcall("helicsFederateEnterInitializingModeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateIsAsyncOperationCompleted = downcall("helicsFederateIsAsyncOperationCompleted", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterInitializingModeComplete = downcall("helicsFederateEnterInitializingModeComplete", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingMode = downcall("helicsFederateEnterExecutingMode", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingModeAsync = downcall("helicsFederateEnterExecutingModeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingModeComplete = downcall("helicsFederateEnterExecutingModeComplete", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingModeIterative = downcall("helicsFederateEnterExecutingModeIterative", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingModeIterativeAsync = downcall("helicsFederateEnterExecutingModeIterativeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateEnterExecutingModeIterativeComplete = downcall("helicsFederateEnterExecutingModeIterativeComplete", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetState = downcall("helicsFederateGetState", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetCore = downcall("helicsFederateGetCore", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTime = downcall("helicsFederateRequestTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeAdvance = downcall("helicsFederateRequestTimeAdvance", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestNextStep = downcall("helicsFederateRequestNextStep", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeIterative = downcall("helicsFederateRequestTimeIterative", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeAsync = downcall("helicsFederateRequestTimeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeComplete = downcall("helicsFederateRequestTimeComplete", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeIterativeAsync = downcall("helicsFederateRequestTimeIterativeAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRequestTimeIterativeComplete = downcall("helicsFederateRequestTimeIterativeComplete", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateProcessCommunications = downcall("helicsFederateProcessCommunications", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetName = downcall("helicsFederateGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetTimeProperty = downcall("helicsFederateSetTimeProperty", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetFlagOption = downcall("helicsFederateSetFlagOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetSeparator = downcall("helicsFederateSetSeparator", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetIntegerProperty = downcall("helicsFederateSetIntegerProperty", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetTimeProperty = downcall("helicsFederateGetTimeProperty", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetFlagOption = downcall("helicsFederateGetFlagOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetIntegerProperty = downcall("helicsFederateGetIntegerProperty", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetCurrentTime = downcall("helicsFederateGetCurrentTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetGlobal = downcall("helicsFederateSetGlobal", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetTag = downcall("helicsFederateSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetTag = downcall("helicsFederateGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateAddDependency = downcall("helicsFederateAddDependency", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetLogFile = downcall("helicsFederateSetLogFile", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLogErrorMessage = downcall("helicsFederateLogErrorMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLogWarningMessage = downcall("helicsFederateLogWarningMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLogInfoMessage = downcall("helicsFederateLogInfoMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLogDebugMessage = downcall("helicsFederateLogDebugMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateLogLevelMessage = downcall("helicsFederateLogLevelMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSendCommand = downcall("helicsFederateSendCommand", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetCommand = downcall("helicsFederateGetCommand", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetCommandSource = downcall("helicsFederateGetCommandSource", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateWaitCommand = downcall("helicsFederateWaitCommand", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSetGlobal = downcall("helicsCoreSetGlobal", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerSetGlobal = downcall("helicsBrokerSetGlobal", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSendCommand = downcall("helicsCoreSendCommand", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSendOrderedCommand = downcall("helicsCoreSendOrderedCommand", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerSendCommand = downcall("helicsBrokerSendCommand", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerSendOrderedCommand = downcall("helicsBrokerSendOrderedCommand", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSetLogFile = downcall("helicsCoreSetLogFile", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerSetLogFile = downcall("helicsBrokerSetLogFile", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerSetTimeBarrier = downcall("helicsBrokerSetTimeBarrier", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerClearTimeBarrier = downcall("helicsBrokerClearTimeBarrier", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsBrokerGlobalError = downcall("helicsBrokerGlobalError", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreGlobalError = downcall("helicsCoreGlobalError", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCreateQuery = downcall("helicsCreateQuery", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryExecute = downcall("helicsQueryExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryExecuteRaw = downcall("helicsQueryExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryCoreExecute = downcall("helicsQueryCoreExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryCoreExecuteRaw = downcall("helicsQueryCoreExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryBrokerExecute = downcall("helicsQueryBrokerExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryBrokerExecuteRaw = downcall("helicsQueryBrokerExecute", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryExecuteAsync = downcall("helicsQueryExecuteAsync", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryExecuteComplete = downcall("helicsQueryExecuteComplete", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryExecuteCompleteRaw = downcall("helicsQueryExecuteComplete", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryIsCompleted = downcall("helicsQueryIsCompleted", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQuerySetTarget = downcall("helicsQuerySetTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQuerySetQueryString = downcall("helicsQuerySetQueryString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQuerySetOrdering = downcall("helicsQuerySetOrdering", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryFree = downcall("helicsQueryFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsCleanupLibrary = downcall("helicsCleanupLibrary", FunctionDescriptor.ofVoid());
+		static final MethodHandle helicsFederateRegisterSubscription = downcall("helicsFederateRegisterSubscription", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterPublication = downcall("helicsFederateRegisterPublication", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterTypePublication = downcall("helicsFederateRegisterTypePublication", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalPublication = downcall("helicsFederateRegisterGlobalPublication", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalTypePublication = downcall("helicsFederateRegisterGlobalTypePublication", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterInput = downcall("helicsFederateRegisterInput", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterTypeInput = downcall("helicsFederateRegisterTypeInput", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalInput = downcall("helicsFederateRegisterGlobalInput", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalTypeInput = downcall("helicsFederateRegisterGlobalTypeInput", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetPublication = downcall("helicsFederateGetPublication", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetPublicationByIndex = downcall("helicsFederateGetPublicationByIndex", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetInput = downcall("helicsFederateGetInput", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetInputByIndex = downcall("helicsFederateGetInputByIndex", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetSubscription = downcall("helicsFederateGetSubscription", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateClearUpdates = downcall("helicsFederateClearUpdates", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterFromPublicationJSON = downcall("helicsFederateRegisterFromPublicationJSON", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederatePublishJSON = downcall("helicsFederatePublishJSON", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationIsValid = downcall("helicsPublicationIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishBytes = downcall("helicsPublicationPublishBytes", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsPublicationPublishString = downcall("helicsPublicationPublishString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishInteger = downcall("helicsPublicationPublishInteger", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishBoolean = downcall("helicsPublicationPublishBoolean", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishDouble = downcall("helicsPublicationPublishDouble", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishTime = downcall("helicsPublicationPublishTime", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishChar = downcall("helicsPublicationPublishChar", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishComplex = downcall("helicsPublicationPublishComplex", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationPublishVector = downcall("helicsPublicationPublishVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsPublicationPublishComplexVector = downcall("helicsPublicationPublishComplexVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsPublicationPublishNamedPoint = downcall("helicsPublicationPublishNamedPoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationAddTarget = downcall("helicsPublicationAddTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputIsValid = downcall("helicsInputIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputAddTarget = downcall("helicsInputAddTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetByteCount = downcall("helicsInputGetByteCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetBytes = downcall("helicsInputGetBytes", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputGetStringSize = downcall("helicsInputGetStringSize", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetInteger = downcall("helicsInputGetInteger", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetBoolean = downcall("helicsInputGetBoolean", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetDouble = downcall("helicsInputGetDouble", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetTime = downcall("helicsInputGetTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetChar = downcall("helicsInputGetChar", FunctionDescriptor.of(ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetComplex = downcall("helicsInputGetComplex", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetVectorSize = downcall("helicsInputGetVectorSize", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetVector = downcall("helicsInputGetVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputGetComplexVector = downcall("helicsInputGetComplexVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputSetDefaultBytes = downcall("helicsInputSetDefaultBytes", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputSetDefaultString = downcall("helicsInputSetDefaultString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultInteger = downcall("helicsInputSetDefaultInteger", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultBoolean = downcall("helicsInputSetDefaultBoolean", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultTime = downcall("helicsInputSetDefaultTime", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultChar = downcall("helicsInputSetDefaultChar", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_BYTE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultDouble = downcall("helicsInputSetDefaultDouble", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultComplex = downcall("helicsInputSetDefaultComplex", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetDefaultVector = downcall("helicsInputSetDefaultVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputSetDefaultComplexVector = downcall("helicsInputSetDefaultComplexVector", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsInputSetDefaultNamedPoint = downcall("helicsInputSetDefaultNamedPoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetType = downcall("helicsInputGetType", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetPublicationType = downcall("helicsInputGetPublicationType", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetPublicationDataType = downcall("helicsInputGetPublicationDataType", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetType = downcall("helicsPublicationGetType", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetName = downcall("helicsInputGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsSubscriptionGetTarget = downcall("helicsSubscriptionGetTarget", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetName = downcall("helicsPublicationGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetUnits = downcall("helicsInputGetUnits", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetInjectionUnits = downcall("helicsInputGetInjectionUnits", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetExtractionUnits = downcall("helicsInputGetExtractionUnits", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetUnits = downcall("helicsPublicationGetUnits", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetInfo = downcall("helicsInputGetInfo", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetInfo = downcall("helicsInputSetInfo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetTag = downcall("helicsInputGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetTag = downcall("helicsInputSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetInfo = downcall("helicsPublicationGetInfo", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationSetInfo = downcall("helicsPublicationSetInfo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetTag = downcall("helicsPublicationGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationSetTag = downcall("helicsPublicationSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputGetOption = downcall("helicsInputGetOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsInputSetOption = downcall("helicsInputSetOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationGetOption = downcall("helicsPublicationGetOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsPublicationSetOption = downcall("helicsPublicationSetOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsPublicationSetMinimumChange = downcall("helicsPublicationSetMinimumChange", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputSetMinimumChange = downcall("helicsInputSetMinimumChange", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputIsUpdated = downcall("helicsInputIsUpdated", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputLastUpdateTime = downcall("helicsInputLastUpdateTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsInputClearUpdate = downcall("helicsInputClearUpdate", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetPublicationCount = downcall("helicsFederateGetPublicationCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetInputCount = downcall("helicsFederateGetInputCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterEndpoint = downcall("helicsFederateRegisterEndpoint", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalEndpoint = downcall("helicsFederateRegisterGlobalEndpoint", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterTargetedEndpoint = downcall("helicsFederateRegisterTargetedEndpoint", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalTargetedEndpoint = downcall("helicsFederateRegisterGlobalTargetedEndpoint", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetEndpoint = downcall("helicsFederateGetEndpoint", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetEndpointByIndex = downcall("helicsFederateGetEndpointByIndex", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointIsValid = downcall("helicsEndpointIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSetDefaultDestination = downcall("helicsEndpointSetDefaultDestination", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetDefaultDestination = downcall("helicsEndpointGetDefaultDestination", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSendBytes = downcall("helicsEndpointSendBytes", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsEndpointSendBytesTo = downcall("helicsEndpointSendBytesTo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsEndpointSendBytesToAt = downcall("helicsEndpointSendBytesToAt", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsEndpointSendBytesAt = downcall("helicsEndpointSendBytesAt", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsEndpointSendMessage = downcall("helicsEndpointSendMessage", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSendMessageZeroCopy = downcall("helicsEndpointSendMessageZeroCopy", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSubscribe = downcall("helicsEndpointSubscribe", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateHasMessage = downcall("helicsFederateHasMessage", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointHasMessage = downcall("helicsEndpointHasMessage", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederatePendingMessageCount = downcall("helicsFederatePendingMessageCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointPendingMessageCount = downcall("helicsEndpointPendingMessageCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetMessage = downcall("helicsEndpointGetMessage", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointCreateMessage = downcall("helicsEndpointCreateMessage", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointClearMessages = downcall("helicsEndpointClearMessages", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetMessage = downcall("helicsFederateGetMessage", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateCreateMessage = downcall("helicsFederateCreateMessage", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateClearMessages = downcall("helicsFederateClearMessages", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetType = downcall("helicsEndpointGetType", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetName = downcall("helicsEndpointGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetEndpointCount = downcall("helicsFederateGetEndpointCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetInfo = downcall("helicsEndpointGetInfo", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSetInfo = downcall("helicsEndpointSetInfo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetTag = downcall("helicsEndpointGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSetTag = downcall("helicsEndpointSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointSetOption = downcall("helicsEndpointSetOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointGetOption = downcall("helicsEndpointGetOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsEndpointAddSourceTarget = downcall("helicsEndpointAddSourceTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointAddDestinationTarget = downcall("helicsEndpointAddDestinationTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointRemoveTarget = downcall("helicsEndpointRemoveTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointAddSourceFilter = downcall("helicsEndpointAddSourceFilter", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsEndpointAddDestinationFilter = downcall("helicsEndpointAddDestinationFilter", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetSource = downcall("helicsMessageGetSource", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetDestination = downcall("helicsMessageGetDestination", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetOriginalSource = downcall("helicsMessageGetOriginalSource", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetOriginalDestination = downcall("helicsMessageGetOriginalDestination", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetTime = downcall("helicsMessageGetTime", FunctionDescriptor.of(ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetString = downcall("helicsMessageGetString", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetMessageID = downcall("helicsMessageGetMessageID", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetFlagOption = downcall("helicsMessageGetFlagOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsMessageGetByteCount = downcall("helicsMessageGetByteCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageGetBytes = downcall("helicsMessageGetBytes", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsMessageGetBytesPointer = downcall("helicsMessageGetBytesPointer", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageIsValid = downcall("helicsMessageIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetSource = downcall("helicsMessageSetSource", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetDestination = downcall("helicsMessageSetDestination", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetOriginalSource = downcall("helicsMessageSetOriginalSource", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetOriginalDestination = downcall("helicsMessageSetOriginalDestination", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetTime = downcall("helicsMessageSetTime", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageResize = downcall("helicsMessageResize", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageReserve = downcall("helicsMessageReserve", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetMessageID = downcall("helicsMessageSetMessageID", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageClearFlags = downcall("helicsMessageClearFlags", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetFlagOption = downcall("helicsMessageSetFlagOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetString = downcall("helicsMessageSetString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageSetData = downcall("helicsMessageSetData", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsMessageAppendData = downcall("helicsMessageAppendData", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+		static final MethodHandle helicsMessageCopy = downcall("helicsMessageCopy", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageClone = downcall("helicsMessageClone", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageFree = downcall("helicsMessageFree", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS));
+		static final MethodHandle helicsMessageClear = downcall("helicsMessageClear", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterFilter = downcall("helicsFederateRegisterFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalFilter = downcall("helicsFederateRegisterGlobalFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterCloningFilter = downcall("helicsFederateRegisterCloningFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalCloningFilter = downcall("helicsFederateRegisterGlobalCloningFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreRegisterFilter = downcall("helicsCoreRegisterFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreRegisterCloningFilter = downcall("helicsCoreRegisterCloningFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetFilterCount = downcall("helicsFederateGetFilterCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetFilter = downcall("helicsFederateGetFilter", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetFilterByIndex = downcall("helicsFederateGetFilterByIndex", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterIsValid = downcall("helicsFilterIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterGetName = downcall("helicsFilterGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSet = downcall("helicsFilterSet", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSetString = downcall("helicsFilterSetString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterAddDestinationTarget = downcall("helicsFilterAddDestinationTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterAddSourceTarget = downcall("helicsFilterAddSourceTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterAddDeliveryEndpoint = downcall("helicsFilterAddDeliveryEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterRemoveTarget = downcall("helicsFilterRemoveTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterRemoveDeliveryEndpoint = downcall("helicsFilterRemoveDeliveryEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterGetInfo = downcall("helicsFilterGetInfo", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSetInfo = downcall("helicsFilterSetInfo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterGetTag = downcall("helicsFilterGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSetTag = downcall("helicsFilterSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSetOption = downcall("helicsFilterSetOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterGetOption = downcall("helicsFilterGetOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsFederateRegisterTranslator = downcall("helicsFederateRegisterTranslator", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateRegisterGlobalTranslator = downcall("helicsFederateRegisterGlobalTranslator", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreRegisterTranslator = downcall("helicsCoreRegisterTranslator", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetTranslatorCount = downcall("helicsFederateGetTranslatorCount", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetTranslator = downcall("helicsFederateGetTranslator", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateGetTranslatorByIndex = downcall("helicsFederateGetTranslatorByIndex", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorIsValid = downcall("helicsTranslatorIsValid", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorGetName = downcall("helicsTranslatorGetName", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSet = downcall("helicsTranslatorSet", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_DOUBLE,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSetString = downcall("helicsTranslatorSetString", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorAddInputTarget = downcall("helicsTranslatorAddInputTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorAddPublicationTarget = downcall("helicsTranslatorAddPublicationTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorAddSourceEndpoint = downcall("helicsTranslatorAddSourceEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorAddDestinationEndpoint = downcall("helicsTranslatorAddDestinationEndpoint", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorRemoveTarget = downcall("helicsTranslatorRemoveTarget", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorGetInfo = downcall("helicsTranslatorGetInfo", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSetInfo = downcall("helicsTranslatorSetInfo", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorGetTag = downcall("helicsTranslatorGetTag", FunctionDescriptor.of(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSetTag = downcall("helicsTranslatorSetTag", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSetOption = downcall("helicsTranslatorSetOption", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.JAVA_INT,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorGetOption = downcall("helicsTranslatorGetOption", FunctionDescriptor.of(ValueLayout.JAVA_INT,ValueLayout.ADDRESS,ValueLayout.JAVA_INT));
+		static final MethodHandle helicsBrokerSetLoggingCallback = downcall("helicsBrokerSetLoggingCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsCoreSetLoggingCallback = downcall("helicsCoreSetLoggingCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetLoggingCallback = downcall("helicsFederateSetLoggingCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFilterSetCustomCallback = downcall("helicsFilterSetCustomCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsTranslatorSetCustomCallback = downcall("helicsTranslatorSetCustomCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetQueryCallback = downcall("helicsFederateSetQueryCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetTimeRequestEntryCallback = downcall("helicsFederateSetTimeRequestEntryCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetTimeUpdateCallback = downcall("helicsFederateSetTimeUpdateCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetStateChangeCallback = downcall("helicsFederateSetStateChangeCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsFederateSetTimeRequestReturnCallback = downcall("helicsFederateSetTimeRequestReturnCallback", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.ADDRESS));
+		static final MethodHandle helicsQueryBufferFill = downcall("helicsQueryBufferFill", FunctionDescriptor.ofVoid(ValueLayout.ADDRESS,ValueLayout.ADDRESS,ValueLayout.JAVA_INT,ValueLayout.ADDRESS), Linker.Option.critical(true));
+	}
+	/** create a helics managed data buffer with initial capacity*/
+		
+	public static MemorySegment helicsCreateDataBuffer(int initialCapacity){
+		try {
+			return (MemorySegment) Handles.helicsCreateDataBuffer.invokeExact(initialCapacity);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** check whether a buffer is valid*/
+		
+	public static int helicsDataBufferIsValid(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferIsValid.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** wrap user data in a buffer object*/
+		
+	public static MemorySegment helicsWrapDataInBuffer(MemorySegment data,int dataSize,int dataCapacity){
+		try {
+			return (MemorySegment) Handles.helicsWrapDataInBuffer.invokeExact(data,dataSize,dataCapacity);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** free a DataBuffer */
+		
+	public static void helicsDataBufferFree(MemorySegment data){
+		try {
+			Handles.helicsDataBufferFree.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** get the data buffer size*/
+		
+	public static int helicsDataBufferSize(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferSize.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** get the data buffer capacity*/
+		
+	public static int helicsDataBufferCapacity(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferCapacity.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** get a pointer to the raw data*/
+		
+	public static MemorySegment helicsDataBufferData(MemorySegment data){
+		try {
+			return (MemorySegment) Handles.helicsDataBufferData.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** increase the capacity a data buffer can hold without reallocating memory
+@return HELICS_TRUE if the reservation was successful HELICS_FALSE otherwise*/
+		
+	public static int helicsDataBufferReserve(MemorySegment data,int newCapacity){
+		try {
+			return (int) Handles.helicsDataBufferReserve.invokeExact(data,newCapacity);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** create a new data buffer and copy an existing buffer*/
+		
+	public static MemorySegment helicsDataBufferClone(MemorySegment data){
+		try {
+			return (MemorySegment) Handles.helicsDataBufferClone.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert an integer to serialized bytes*/
+		
+	public static int helicsIntegerToBytes(int value,MemorySegment data){
+		try {
+			return (int) Handles.helicsIntegerToBytes.invokeExact(value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a double to serialized bytes*/
+		
+	public static int helicsDoubleToBytes(double value,MemorySegment data){
+		try {
+			return (int) Handles.helicsDoubleToBytes.invokeExact(value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a string to serialized bytes*/
+		
+	public static int helicsStringToBytes(MemorySegment value,MemorySegment data){
+		try {
+			return (int) Handles.helicsStringToBytes.invokeExact(value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a raw string (may contain nulls) to serialized bytes*/
+		
+	public static int helicsRawStringToBytes(MemorySegment str,int stringSize,MemorySegment data){
+		try {
+			return (int) Handles.helicsRawStringToBytes.invokeExact(str,stringSize,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a bool to serialized bytes*/
+		
+	public static int helicsBooleanToBytes(int value,MemorySegment data){
+		try {
+			return (int) Handles.helicsBooleanToBytes.invokeExact(value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a char to serialized bytes*/
+		
+	public static int helicsCharToBytes(byte value,MemorySegment data){
+		try {
+			return (int) Handles.helicsCharToBytes.invokeExact(value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a real vector to serialized bytes*/
+		
+	public static int helicsVectorToBytes(MemorySegment value,int dataSize,MemorySegment data){
+		try {
+			return (int) Handles.helicsVectorToBytes.invokeExact(value,dataSize,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a named point to serialized bytes*/
+		
+	public static int helicsNamedPointToBytes(MemorySegment name,double value,MemorySegment data){
+		try {
+			return (int) Handles.helicsNamedPointToBytes.invokeExact(name,value,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a complex vector to serialized bytes*/
+		
+	public static int helicsComplexVectorToBytes(MemorySegment value,int dataSize,MemorySegment data){
+		try {
+			return (int) Handles.helicsComplexVectorToBytes.invokeExact(value,dataSize,data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** extract the data type from the data buffer, if the type isn't recognized UNKNOWN is returned*/
+		
+	public static int helicsDataBufferType(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferType.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to an int*/
+		
+	public static int helicsDataBufferToInteger(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferToInteger.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to a double*/
+		
+	public static double helicsDataBufferToDouble(MemorySegment data){
+		try {
+			return (double) Handles.helicsDataBufferToDouble.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to a boolean*/
+		
+	public static int helicsDataBufferToBoolean(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferToBoolean.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to a char*/
+		
+	public static byte helicsDataBufferToChar(MemorySegment data){
+		try {
+			return (byte) Handles.helicsDataBufferToChar.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** get the size of memory required to retrieve a string from a data buffer this includes space for a null terminator*/
+		
+	public static int helicsDataBufferStringSize(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferStringSize.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to a time*/
+		
+	public static double helicsDataBufferToTime(MemorySegment data){
+		try {
+			return (double) Handles.helicsDataBufferToTime.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to complex values*/
+		
+	public static void helicsDataBufferToComplex(MemorySegment data,MemorySegment real,MemorySegment imag){
+		try {
+			Handles.helicsDataBufferToComplex.invokeExact(data,real,imag);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** get the number of elements that would be required if a vector were retrieved*/
+		
+	public static int helicsDataBufferVectorSize(MemorySegment data){
+		try {
+			return (int) Handles.helicsDataBufferVectorSize.invokeExact(data);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to double vector values*/
+		
+	public static void helicsDataBufferToVector(MemorySegment data,MemorySegment values,int maxlen,MemorySegment actualSize){
+		try {
+			Handles.helicsDataBufferToVector.invokeExact(data,values,maxlen,actualSize);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert a data buffer to complex double vector values
+@param data the buffer containing data
+@param values the storage for the converted data
+@param maxlen the number of complex values that the values vector can hold
+@param actualSize the number of complex values copied to values array
+*/
+		
+	public static void helicsDataBufferToComplexVector(MemorySegment data,MemorySegment values,int maxlen,MemorySegment actualSize){
+		try {
+			Handles.helicsDataBufferToComplexVector.invokeExact(data,values,maxlen,actualSize);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** convert the data in a data buffer to a different type representation
+@param data the buffer to convert
+@param newDataType the type that it is desired for the buffer to be converted to
+@return true if the conversion was successful*/
+		
+	public static int helicsDataBufferConvertToType(MemorySegment data,int newDataType){
+		try {
+			return (int) Handles.helicsDataBufferConvertToType.invokeExact(data,newDataType);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a version string for HELICS.
+ */
+		
+	public static MemorySegment helicsGetVersion(){
+		try {
+			return (MemorySegment) Handles.helicsGetVersion.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the build flags used to compile HELICS.
+ */
+		
+	public static MemorySegment helicsGetBuildFlags(){
+		try {
+			return (MemorySegment) Handles.helicsGetBuildFlags.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the compiler version used to compile HELICS.
+ */
+		
+	public static MemorySegment helicsGetCompilerVersion(){
+		try {
+			return (MemorySegment) Handles.helicsGetCompilerVersion.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a json formatted system information string, containing version info.
+ * The string contains fields with system information like cpu, core count, operating system, and memory,
+ * as well as information about the HELICS build.  Used for debugging reports and gathering other information.
+ */
+		
+	public static MemorySegment helicsGetSystemInfo(){
+		try {
+			return (MemorySegment) Handles.helicsGetSystemInfo.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** Load a signal handler that handles Ctrl-C and shuts down all HELICS brokers, cores,
+and federates then exits the process.*/
+		
+	public static void helicsLoadSignalHandler(){
+		try {
+			Handles.helicsLoadSignalHandler.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** Load a signal handler that handles Ctrl-C and shuts down all HELICS brokers, cores,
+and federates then exits the process.  This operation will execute in a newly created and detached thread returning control back to the
+calling program before completing operations.*/
+		
+	public static void helicsLoadThreadedSignalHandler(){
+		try {
+			Handles.helicsLoadThreadedSignalHandler.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** Clear HELICS based signal handlers.*/
+		
+	public static void helicsClearSignalHandler(){
+		try {
+			Handles.helicsClearSignalHandler.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/** Execute a global abort by sending an error code to all cores, brokers,
+and federates that were created through the current library instance.*/
+		
+	public static void helicsAbort(int errorCode,MemorySegment errorString){
+		try {
+			Handles.helicsAbort.invokeExact(errorCode,errorString);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Returns true if core/broker type specified is available in current compilation.
+ *
+ * @param type A string representing a core type.
+ *
+ * @details Options include "zmq", "udp", "ipc", "interprocess", "tcp", "default", "mpi".
+ */
+		
+	public static int helicsIsCoreTypeAvailable(MemorySegment type){
+		try {
+			return (int) Handles.helicsIsCoreTypeAvailable.invokeExact(type);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a core object.
+ *
+ * @param type The type of the core to create.
+ * @param name The name of the core. It can be a nullptr or empty string to have a name automatically assigned.
+ * @param initString An initialization string to send to the core. The format is similar to command line arguments.
+ *                   Typical options include a broker name, the broker address, the number of federates, etc.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A HelicsCore object.
+ *
+ * If the core is invalid, err will contain the corresponding error message and the returned object will be NULL.
+
+ */
+		
+	public static MemorySegment helicsCreateCore(MemorySegment type,MemorySegment name,MemorySegment initString,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateCore.invokeExact(type,name,initString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a new reference to an existing core.
+ *
+ * @details This will create a new broker object that references the existing broker. The new broker object must be freed as well.
+ *
+ * @param core An existing HelicsCore.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A new reference to the same broker.
+ */
+		
+	public static MemorySegment helicsCoreClone(MemorySegment core,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCoreClone.invokeExact(core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a core object is a valid object.
+ *
+ * @param core The HelicsCore object to test.
+ */
+		
+	public static int helicsCoreIsValid(MemorySegment core){
+		try {
+			return (int) Handles.helicsCoreIsValid.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a broker object.
+ *
+ * @param type The type of the broker to create.
+ * @param name The name of the broker. It can be a nullptr or empty string to have a name automatically assigned.
+ * @param initString An initialization string to send to the core-the format is similar to command line arguments.
+ *                   Typical options include a broker address such as --broker="XSSAF" if this is a subbroker, or the number of federates,
+ * or the address.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A HelicsBroker object.
+ *
+ * It will be NULL if there was an error indicated in the err object.
+
+ */
+		
+	public static MemorySegment helicsCreateBroker(MemorySegment type,MemorySegment name,MemorySegment initString,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateBroker.invokeExact(type,name,initString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a new reference to an existing broker.
+ *
+ * @details This will create a new broker object that references the existing broker it must be freed as well.
+ *
+ * @param broker An existing HelicsBroker.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A new reference to the same broker.
+ */
+		
+	public static MemorySegment helicsBrokerClone(MemorySegment broker,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsBrokerClone.invokeExact(broker,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a broker object is a valid object.
+ *
+ * @param broker The HelicsBroker object to test.
+ */
+		
+	public static int helicsBrokerIsValid(MemorySegment broker){
+		try {
+			return (int) Handles.helicsBrokerIsValid.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a broker is connected.
+ *
+ * @details A connected broker implies it is attached to cores or cores could reach out to communicate.
+ *
+ * @return HELICS_FALSE if not connected.
+ */
+		
+	public static int helicsBrokerIsConnected(MemorySegment broker){
+		try {
+			return (int) Handles.helicsBrokerIsConnected.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named publication and named input using a broker.
+ *
+ * @param broker The broker to generate the connection from.
+ * @param source The name of the publication (cannot be NULL).
+ * @param target The name of the target to send the publication data (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsBrokerDataLink(MemorySegment broker,MemorySegment source,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsBrokerDataLink.invokeExact(broker,source,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named filter to a source endpoint.
+ *
+ * @param broker The broker to generate the connection from.
+ * @param filter The name of the filter (cannot be NULL).
+ * @param endpoint The name of the endpoint to filter the data from (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsBrokerAddSourceFilterToEndpoint(MemorySegment broker,MemorySegment filter,MemorySegment endpoint,MemorySegment err){
+		try {
+			Handles.helicsBrokerAddSourceFilterToEndpoint.invokeExact(broker,filter,endpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named filter to a destination endpoint.
+ *
+ * @param broker The broker to generate the connection from.
+ * @param filter The name of the filter (cannot be NULL).
+ * @param endpoint The name of the endpoint to filter the data going to (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsBrokerAddDestinationFilterToEndpoint(MemorySegment broker,MemorySegment filter,MemorySegment endpoint,MemorySegment err){
+		try {
+			Handles.helicsBrokerAddDestinationFilterToEndpoint.invokeExact(broker,filter,endpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Load a file containing connection information.
+ *
+ * @param broker The broker to generate the connections from.
+ * @param file A JSON or TOML file containing connection information.
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsBrokerMakeConnections(MemorySegment broker,MemorySegment file,MemorySegment err){
+		try {
+			Handles.helicsBrokerMakeConnections.invokeExact(broker,file,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Wait for the core to disconnect.
+ *
+ * @param core The core to wait for.
+ * @param msToWait The time out in millisecond (<0 for infinite timeout).
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return HELICS_TRUE if the disconnect was successful, HELICS_FALSE if there was a timeout.
+ */
+		
+	public static int helicsCoreWaitForDisconnect(MemorySegment core,int msToWait,MemorySegment err){
+		try {
+			return (int) Handles.helicsCoreWaitForDisconnect.invokeExact(core,msToWait,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Wait for the broker to disconnect.
+ *
+ * @param broker The broker to wait for.
+ * @param msToWait The time out in millisecond (<0 for infinite timeout).
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return HELICS_TRUE if the disconnect was successful, HELICS_FALSE if there was a timeout.
+ */
+		
+	public static int helicsBrokerWaitForDisconnect(MemorySegment broker,int msToWait,MemorySegment err){
+		try {
+			return (int) Handles.helicsBrokerWaitForDisconnect.invokeExact(broker,msToWait,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a core is connected.
+ *
+ * @details A connected core implies it is attached to federates or federates could be attached to it
+ *
+ * @return HELICS_FALSE if not connected, HELICS_TRUE if it is connected.
+ */
+		
+	public static int helicsCoreIsConnected(MemorySegment core){
+		try {
+			return (int) Handles.helicsCoreIsConnected.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named publication and named input using a core.
+ *
+ * @param core The core to generate the connection from.
+ * @param source The name of the publication (cannot be NULL).
+ * @param target The name of the target to send the publication data (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsCoreDataLink(MemorySegment core,MemorySegment source,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsCoreDataLink.invokeExact(core,source,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named filter to a source endpoint.
+ *
+ * @param core The core to generate the connection from.
+ * @param filter The name of the filter (cannot be NULL).
+ * @param endpoint The name of the endpoint to filter the data from (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsCoreAddSourceFilterToEndpoint(MemorySegment core,MemorySegment filter,MemorySegment endpoint,MemorySegment err){
+		try {
+			Handles.helicsCoreAddSourceFilterToEndpoint.invokeExact(core,filter,endpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Link a named filter to a destination endpoint.
+ *
+ * @param core The core to generate the connection from.
+ * @param filter The name of the filter (cannot be NULL).
+ * @param endpoint The name of the endpoint to filter the data going to (cannot be NULL).
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsCoreAddDestinationFilterToEndpoint(MemorySegment core,MemorySegment filter,MemorySegment endpoint,MemorySegment err){
+		try {
+			Handles.helicsCoreAddDestinationFilterToEndpoint.invokeExact(core,filter,endpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Load a file containing connection information.
+ *
+ * @param core The core to generate the connections from.
+ * @param file A JSON or TOML file containing connection information.
+ *
+ * @param[in,out] err A HelicsError object, can be NULL if the errors are to be ignored.
+
+ */
+		
+	public static void helicsCoreMakeConnections(MemorySegment core,MemorySegment file,MemorySegment err){
+		try {
+			Handles.helicsCoreMakeConnections.invokeExact(core,file,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an identifier for the broker.
+ *
+ * @param broker The broker to query.
+ *
+ * @return A string containing the identifier for the broker.
+ */
+		
+	public static MemorySegment helicsBrokerGetIdentifier(MemorySegment broker){
+		try {
+			return (MemorySegment) Handles.helicsBrokerGetIdentifier.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an identifier for the core.
+ *
+ * @param core The core to query.
+ *
+ * @return A string with the identifier of the core.
+ */
+		
+	public static MemorySegment helicsCoreGetIdentifier(MemorySegment core){
+		try {
+			return (MemorySegment) Handles.helicsCoreGetIdentifier.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the network address associated with a broker.
+ *
+ * @param broker The broker to query.
+ *
+ * @return A string with the network address of the broker.
+ */
+		
+	public static MemorySegment helicsBrokerGetAddress(MemorySegment broker){
+		try {
+			return (MemorySegment) Handles.helicsBrokerGetAddress.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the network address associated with a core.
+ *
+ * @param core The core to query.
+ *
+ * @return A string with the network address of the broker.
+ */
+		
+	public static MemorySegment helicsCoreGetAddress(MemorySegment core){
+		try {
+			return (MemorySegment) Handles.helicsCoreGetAddress.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the core to ready for init.
+ *
+ * @details This function is used for cores that have filters but no federates so there needs to be
+ *          a direct signal to the core to trigger the federation initialization.
+ *
+ * @param core The core object to enable init values for.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsCoreSetReadyToInit(MemorySegment core,MemorySegment err){
+		try {
+			Handles.helicsCoreSetReadyToInit.invokeExact(core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Connect a core to the federate based on current configuration.
+ *
+ * @param core The core to connect.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return HELICS_FALSE if not connected, HELICS_TRUE if it is connected.
+ */
+		
+	public static int helicsCoreConnect(MemorySegment core,MemorySegment err){
+		try {
+			return (int) Handles.helicsCoreConnect.invokeExact(core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect a core from the federation.
+ *
+ * @param core The core to query.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsCoreDisconnect(MemorySegment core,MemorySegment err){
+		try {
+			Handles.helicsCoreDisconnect.invokeExact(core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an existing federate object from a core by name.
+ *
+ * @details The federate must have been created by one of the other functions and at least one of the objects referencing the created
+ *          federate must still be active in the process.
+ *
+ * @param fedName The name of the federate to retrieve.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return NULL if no fed is available by that name otherwise a HelicsFederate with that name.
+ */
+		
+	public static MemorySegment helicsGetFederateByName(MemorySegment fedName,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsGetFederateByName.invokeExact(fedName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect a broker.
+ *
+ * @param broker The broker to disconnect.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsBrokerDisconnect(MemorySegment broker,MemorySegment err){
+		try {
+			Handles.helicsBrokerDisconnect.invokeExact(broker,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect and free a federate.
+ */
+		
+	public static void helicsFederateDestroy(MemorySegment fed){
+		try {
+			Handles.helicsFederateDestroy.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect and free a broker.
+ */
+		
+	public static void helicsBrokerDestroy(MemorySegment broker){
+		try {
+			Handles.helicsBrokerDestroy.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect and free a core.
+ */
+		
+	public static void helicsCoreDestroy(MemorySegment core){
+		try {
+			Handles.helicsCoreDestroy.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Release the memory associated with a core.
+ */
+		
+	public static void helicsCoreFree(MemorySegment core){
+		try {
+			Handles.helicsCoreFree.invokeExact(core);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Release the memory associated with a broker.
+ */
+		
+	public static void helicsBrokerFree(MemorySegment broker){
+		try {
+			Handles.helicsBrokerFree.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a value federate from a federate info object.
+ *
+ * @details HelicsFederate objects can be used in all functions that take a HelicsFederate or HelicsFederate object as an argument.
+ *
+ * @param fedName The name of the federate to create, can NULL or an empty string to use the default name from fi or an assigned name.
+ * @param fi The federate info object that contains details on the federate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque value federate object.
+ */
+		
+	public static MemorySegment helicsCreateValueFederate(MemorySegment fedName,MemorySegment fi,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateValueFederate.invokeExact(fedName,fi,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a value federate from a JSON file, JSON string, or TOML file.
+ *
+ * @details HelicsFederate objects can be used in all functions that take a HelicsFederate or HelicsFederate object as an argument.
+ *
+ * @param configFile A JSON file or a JSON string or TOML file that contains setup and configuration information.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque value federate object.
+ */
+		
+	public static MemorySegment helicsCreateValueFederateFromConfig(MemorySegment configFile,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateValueFederateFromConfig.invokeExact(configFile,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a message federate from a federate info object.
+ *
+ * @details helics_message_federate objects can be used in all functions that take a helics_message_federate or HelicsFederate object as an
+ * argument.
+ *
+ * @param fedName The name of the federate to create.
+ * @param fi The federate info object that contains details on the federate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque message federate object.
+ */
+		
+	public static MemorySegment helicsCreateMessageFederate(MemorySegment fedName,MemorySegment fi,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateMessageFederate.invokeExact(fedName,fi,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a message federate from a JSON file or JSON string or TOML file.
+ *
+ * @details helics_message_federate objects can be used in all functions that take a helics_message_federate or HelicsFederate object as an
+ * argument.
+ *
+ * @param configFile A Config(JSON,TOML) file or a JSON string that contains setup and configuration information.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque message federate object.
+ */
+		
+	public static MemorySegment helicsCreateMessageFederateFromConfig(MemorySegment configFile,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateMessageFederateFromConfig.invokeExact(configFile,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a combination federate from a federate info object.
+ *
+ * @details Combination federates are both value federates and message federates, objects can be used in all functions
+ *                      that take a HelicsFederate, helics_message_federate or HelicsFederate object as an argument
+ *
+ * @param fedName A string with the name of the federate, can be NULL or an empty string to pull the default name from fi.
+ * @param fi The federate info object that contains details on the federate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque value federate object nullptr if the object creation failed.
+ */
+		
+	public static MemorySegment helicsCreateCombinationFederate(MemorySegment fedName,MemorySegment fi,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateCombinationFederate.invokeExact(fedName,fi,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a combination federate from a JSON file or JSON string or TOML file.
+ *
+ * @details Combination federates are both value federates and message federates, objects can be used in all functions
+ *          that take a HelicsFederate, helics_message_federate or HelicsFederate object as an argument
+ *
+ * @param configFile A JSON file or a JSON string or TOML file that contains setup and configuration information.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return An opaque combination federate object.
+ */
+		
+	public static MemorySegment helicsCreateCombinationFederateFromConfig(MemorySegment configFile,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCreateCombinationFederateFromConfig.invokeExact(configFile,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a new reference to an existing federate.
+ *
+ * @details This will create a new HelicsFederate object that references the existing federate. The new object must be freed as well.
+ *
+ * @param fed An existing HelicsFederate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A new reference to the same federate.
+ */
+		
+	public static MemorySegment helicsFederateClone(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateClone.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Protect a federate from finalizing and closing if all references go out of scope
+ *
+ * @details this function allows a federate to be retrieved on demand, it must be explicitly close later otherwise it will be destroyed
+ * when the library is closed
+ *
+ * @param fedName The name of an existing HelicsFederate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error
+ occurred during the execution of the function, in particular if no federate with the given name exists
+ */
+		
+	public static void helicsFederateProtect(MemorySegment fedName,MemorySegment err){
+		try {
+			Handles.helicsFederateProtect.invokeExact(fedName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * remove the protection of an existing federate
+ *
+ * @details this function allows a federate to be retrieved on demand, it must be explicitly close
+ later otherwise it will be destroyed
+ * when the library is closed
+ *
+ * @param fed the name of an existing federate that should not be protected
+ *
+ * @param[in,out] err An error object that will contain an error code and string if the federate was not found.
+ */
+		
+	public static void helicsFederateUnProtect(MemorySegment fedName,MemorySegment err){
+		try {
+			Handles.helicsFederateUnProtect.invokeExact(fedName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * checks if an existing federate is protected
+ *
+ *
+ * @param fed the name of an existing federate to check the protection status
+ *
+ * @param[in,out] err An error object that will contain an error code and string if the federate was not found.
+ */
+		
+	public static int helicsFederateIsProtected(MemorySegment fedName,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateIsProtected.invokeExact(fedName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a federate info object for specifying federate information when constructing a federate.
+ *
+ * @return A HelicsFederateInfo object which is a reference to the created object.
+ */
+		
+	public static MemorySegment helicsCreateFederateInfo(){
+		try {
+			return (MemorySegment) Handles.helicsCreateFederateInfo.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a federate info object from an existing one and clone the information.
+ *
+ * @param fi A federateInfo object to duplicate.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ *  @return A HelicsFederateInfo object which is a reference to the created object.
+ */
+		
+	public static MemorySegment helicsFederateInfoClone(MemorySegment fi,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateInfoClone.invokeExact(fi,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Load federate info from command line arguments contained in a string.
+ *
+ * @param fi A federateInfo object.
+ * @param args Command line arguments specified in a string.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoLoadFromString(MemorySegment fi,MemorySegment args,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoLoadFromString.invokeExact(fi,args,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Delete the memory associated with a federate info object.
+ */
+		
+	public static void helicsFederateInfoFree(MemorySegment fi){
+		try {
+			Handles.helicsFederateInfoFree.invokeExact(fi);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a federate_object is valid.
+ *
+ * @return HELICS_TRUE if the federate is a valid active federate, HELICS_FALSE otherwise
+ */
+		
+	public static int helicsFederateIsValid(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateIsValid.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the name of the core to link to for a federate.
+ *
+ * @param fi The federate info object to alter.
+ * @param corename The identifier for a core to link to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetCoreName(MemorySegment fi,MemorySegment corename,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetCoreName.invokeExact(fi,corename,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the initialization string for the core usually in the form of command line arguments.
+ *
+ * @param fi The federate info object to alter.
+ * @param coreInit A string containing command line arguments to be passed to the core.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetCoreInitString(MemorySegment fi,MemorySegment coreInit,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetCoreInitString.invokeExact(fi,coreInit,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the initialization string that a core will pass to a generated broker usually in the form of command line arguments.
+ *
+ * @param fi The federate info object to alter.
+ * @param brokerInit A string with command line arguments for a generated broker.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetBrokerInitString(MemorySegment fi,MemorySegment brokerInit,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetBrokerInitString.invokeExact(fi,brokerInit,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the core type by integer code.
+ *
+ * @details Valid values available by definitions in api-data.h.
+ * @param fi The federate info object to alter.
+ * @param coretype An numerical code for a core type see /ref helics_CoreType.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetCoreType(MemorySegment fi,int coretype,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetCoreType.invokeExact(fi,coretype,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the core type from a string.
+ *
+ * @param fi The federate info object to alter.
+ * @param coretype A string naming a core type.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetCoreTypeFromString(MemorySegment fi,MemorySegment coretype,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetCoreTypeFromString.invokeExact(fi,coretype,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the name or connection information for a broker.
+ *
+ * @details This is only used if the core is automatically created, the broker information will be transferred to the core for connection.
+ * @param fi The federate info object to alter.
+ * @param broker A string which defines the connection information for a broker either a name or an address.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetBroker(MemorySegment fi,MemorySegment broker,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetBroker.invokeExact(fi,broker,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the key for a broker connection.
+ *
+ * @details This is only used if the core is automatically created, the broker information will be transferred to the core for connection.
+ * @param fi The federate info object to alter.
+ * @param brokerkey A string containing a key for the broker to connect.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetBrokerKey(MemorySegment fi,MemorySegment brokerkey,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetBrokerKey.invokeExact(fi,brokerkey,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the port to use for the broker.
+ *
+ * @details This is only used if the core is automatically created, the broker information will be transferred to the core for connection.
+ * This will only be useful for network broker connections.
+ * @param fi The federate info object to alter.
+ * @param brokerPort The integer port number to use for connection with a broker.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetBrokerPort(MemorySegment fi,int brokerPort,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetBrokerPort.invokeExact(fi,brokerPort,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the local port to use.
+ *
+ * @details This is only used if the core is automatically created, the port information will be transferred to the core for connection.
+ * @param fi The federate info object to alter.
+ * @param localPort A string with the port information to use as the local server port can be a number or "auto" or "os_local".
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ */
+		
+	public static void helicsFederateInfoSetLocalPort(MemorySegment fi,MemorySegment localPort,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetLocalPort.invokeExact(fi,localPort,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a property index for use in /ref helicsFederateInfoSetFlagOption, /ref helicsFederateInfoSetTimeProperty,
+ * or /ref helicsFederateInfoSetIntegerProperty
+ * @param val A string with the property name.
+ * @return An int with the property code or (-1) if not a valid property.
+ */
+		
+	public static int helicsGetPropertyIndex(MemorySegment val){
+		try {
+			return (int) Handles.helicsGetPropertyIndex.invokeExact(val);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a property index for use in /ref helicsFederateInfoSetFlagOption, /ref helicsFederateSetFlagOption,
+ * @param val A string with the option name.
+ * @return An int with the property code or (-1) if not a valid property.
+ */
+		
+	public static int helicsGetFlagIndex(MemorySegment val){
+		try {
+			return (int) Handles.helicsGetFlagIndex.invokeExact(val);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an option index for use in /ref helicsPublicationSetOption, /ref helicsInputSetOption, /ref helicsEndpointSetOption,
+ * /ref helicsFilterSetOption, and the corresponding get functions.
+ *
+ * @param val A string with the option name.
+ *
+ * @return An int with the option index or (-1) if not a valid property.
+ */
+		
+	public static int helicsGetOptionIndex(MemorySegment val){
+		try {
+			return (int) Handles.helicsGetOptionIndex.invokeExact(val);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an option value for use in /ref helicsPublicationSetOption, /ref helicsInputSetOption, /ref helicsEndpointSetOption,
+ * /ref helicsFilterSetOption.
+ *
+ * @param val A string representing the value.
+ *
+ * @return An int with the option value or (-1) if not a valid value.
+ */
+		
+	public static int helicsGetOptionValue(MemorySegment val){
+		try {
+			return (int) Handles.helicsGetOptionValue.invokeExact(val);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data type for use in /ref helicsFederateRegisterPublication, /ref helicsFederateRegisterInput,
+ * /ref helicsFilterSetOption.
+ *
+ * @param val A string representing a data type.
+ *
+ * @return An int with the data type or HELICS_DATA_TYPE_UNKNOWN(-1) if not a valid value.
+ */
+		
+	public static int helicsGetDataType(MemorySegment val){
+		try {
+			return (int) Handles.helicsGetDataType.invokeExact(val);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a flag in the info structure.
+ *
+ * @details Valid flags are available /ref helics_federate_flags.
+ * @param fi The federate info object to alter.
+ * @param flag A numerical index for a flag.
+ * @param value The desired value of the flag HELICS_TRUE or HELICS_FALSE.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateInfoSetFlagOption(MemorySegment fi,int flag,int value,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetFlagOption.invokeExact(fi,flag,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the separator character in the info structure.
+ *
+ * @details The separator character is the separation character for local publications/endpoints in creating their global name.
+ * For example if the separator character is '/'  then a local endpoint would have a globally reachable name of fedName/localName.
+ * @param fi The federate info object to alter.
+ * @param separator The character to use as a separator.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateInfoSetSeparator(MemorySegment fi,byte separator,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetSeparator.invokeExact(fi,separator,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the output delay for a federate.
+ *
+ * @param fi The federate info object to alter.
+ * @param timeProperty An integer representation of the time based property to set see /ref helics_properties.
+ * @param propertyValue The value of the property to set the timeProperty to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateInfoSetTimeProperty(MemorySegment fi,int timeProperty,double propertyValue,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetTimeProperty.invokeExact(fi,timeProperty,propertyValue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set an integer property for a federate.
+ *
+ * @details Set known properties.
+ *
+ * @param fi The federateInfo object to alter.
+ * @param intProperty An int identifying the property.
+ * @param propertyValue The value to set the property to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateInfoSetIntegerProperty(MemorySegment fi,int intProperty,int propertyValue,MemorySegment err){
+		try {
+			Handles.helicsFederateInfoSetIntegerProperty.invokeExact(fi,intProperty,propertyValue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Load interfaces from a file.
+ *
+ * @param fed The federate to which to load interfaces.
+ * @param file The name of a file to load the interfaces from either JSON, or TOML.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateRegisterInterfaces(MemorySegment fed,MemorySegment file,MemorySegment err){
+		try {
+			Handles.helicsFederateRegisterInterfaces.invokeExact(fed,file,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Generate a global error from a federate.
+ *
+ * @details A global error halts the co-simulation completely.
+ *
+ * @param fed The federate to create an error in.
+ * @param errorCode The integer code for the error.
+ * @param errorString A string describing the error.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateGlobalError(MemorySegment fed,int errorCode,MemorySegment errorString,MemorySegment err){
+		try {
+			Handles.helicsFederateGlobalError.invokeExact(fed,errorCode,errorString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Generate a local error in a federate.
+ *
+ * @details This will propagate through the co-simulation but not necessarily halt the co-simulation, it has a similar effect to finalize
+ * but does allow some interaction with a core for a brief time.
+ * @param fed The federate to create an error in.
+ * @param errorCode The integer code for the error.
+ * @param errorString A string describing the error.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateLocalError(MemorySegment fed,int errorCode,MemorySegment errorString,MemorySegment err){
+		try {
+			Handles.helicsFederateLocalError.invokeExact(fed,errorCode,errorString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect/finalize the federate. This function halts all communication in the federate and disconnects it from the core.
+ */
+		
+	public static void helicsFederateFinalize(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateFinalize.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect/finalize the federate in an async call.
+ */
+		
+	public static void helicsFederateFinalizeAsync(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateFinalizeAsync.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the asynchronous disconnect/finalize call.
+ */
+		
+	public static void helicsFederateFinalizeComplete(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateFinalizeComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect/finalize the federate. This function halts all communication in the federate and disconnects it
+ * from the core.  This call is identical to helicsFederateFinalize.
+ */
+		
+	public static void helicsFederateDisconnect(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateDisconnect.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Disconnect/finalize the federate in an async call.  This call is identical to helicsFederateFinalizeAsync.
+ */
+		
+	public static void helicsFederateDisconnectAsync(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateDisconnectAsync.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the asynchronous disconnect/finalize call.  This call is identical to helicsFederateFinalizeComplete
+ */
+		
+	public static void helicsFederateDisconnectComplete(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateDisconnectComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Release the memory associated with a federate.
+ */
+		
+	public static void helicsFederateFree(MemorySegment fed){
+		try {
+			Handles.helicsFederateFree.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Enter the initialization state of a federate.
+ *
+ * @details The initialization state allows initial values to be set and received if the iteration is requested on entry to the execution
+ * state. This is a blocking call and will block until the core allows it to proceed.
+ *
+ * @param fed The federate to operate on.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterInitializingMode(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterInitializingMode.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Non blocking alternative to \ref helicsFederateEnterInitializingMode.
+ *
+ * @details The function helicsFederateEnterInitializationModeFinalize must be called to finish the operation.
+ *
+ * @param fed The federate to operate on.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterInitializingModeAsync(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterInitializingModeAsync.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if the current Asynchronous operation has completed.
+ *
+ * @param fed The federate to operate on.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return HELICS_FALSE if not completed, HELICS_TRUE if completed.
+ */
+		
+	public static int helicsFederateIsAsyncOperationCompleted(MemorySegment fed,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateIsAsyncOperationCompleted.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Finalize the entry to initialize mode that was initiated with /ref heliceEnterInitializingModeAsync.
+ *
+ * @param fed The federate desiring to complete the initialization step.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterInitializingModeComplete(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterInitializingModeComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request that the federate enter the Execution mode.
+ *
+ * @details This call is blocking until granted entry by the core object. On return from this call the federate will be at time 0.
+ *          For an asynchronous alternative call see /ref helicsFederateEnterExecutingModeAsync.
+ *
+ * @param fed A federate to change modes.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterExecutingMode(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterExecutingMode.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request that the federate enter the Execution mode.
+ *
+ * @details This call is non-blocking and will return immediately. Call /ref helicsFederateEnterExecutingModeComplete to finish the call
+ * sequence.
+ *
+ * @param fed The federate object to complete the call.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterExecutingModeAsync(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterExecutingModeAsync.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the call to /ref helicsFederateEnterExecutingModeAsync.
+ *
+ * @param fed The federate object to complete the call.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterExecutingModeComplete(MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterExecutingModeComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request an iterative time.
+ *
+ * @details This call allows for finer grain control of the iterative process than /ref helicsFederateRequestTime. It takes a time and
+ *          iteration request, and returns a time and iteration status.
+ *
+ * @param fed The federate to make the request of.
+ * @param iterate The requested iteration mode.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return An iteration structure with field containing the time and iteration status.
+ */
+		
+	public static int helicsFederateEnterExecutingModeIterative(MemorySegment fed,int iterate,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateEnterExecutingModeIterative.invokeExact(fed,iterate,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request an iterative entry to the execution mode.
+ *
+ * @details This call allows for finer grain control of the iterative process than /ref helicsFederateRequestTime. It takes a time and
+ *          iteration request, and returns a time and iteration status
+ *
+ * @param fed The federate to make the request of.
+ * @param iterate The requested iteration mode.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateEnterExecutingModeIterativeAsync(MemorySegment fed,int iterate,MemorySegment err){
+		try {
+			Handles.helicsFederateEnterExecutingModeIterativeAsync.invokeExact(fed,iterate,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the asynchronous iterative call into ExecutionMode.
+ *
+ * @param fed The federate to make the request of.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return An iteration object containing the iteration time and iteration_status.
+ */
+		
+	public static int helicsFederateEnterExecutingModeIterativeComplete(MemorySegment fed,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateEnterExecutingModeIterativeComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the current state of a federate.
+ *
+ * @param fed The federate to query.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return State the resulting state if void return HELICS_OK.
+ */
+		
+	public static int helicsFederateGetState(MemorySegment fed,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateGetState.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the core object associated with a federate.
+ *
+ * @param fed A federate object.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A core object, nullptr if invalid.
+ */
+		
+	public static MemorySegment helicsFederateGetCore(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetCore.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request the next time for federate execution.
+ *
+ * @param fed The federate to make the request of.
+ * @param requestTime The next requested time.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The time granted to the federate, will return HELICS_TIME_MAXTIME if the simulation has terminated or is invalid.
+ */
+		
+	public static double helicsFederateRequestTime(MemorySegment fed,double requestTime,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestTime.invokeExact(fed,requestTime,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request the next time for federate execution.
+ *
+ * @param fed The federate to make the request of.
+ * @param timeDelta The requested amount of time to advance.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The time granted to the federate, will return HELICS_TIME_MAXTIME if the simulation has terminated or is invalid
+ */
+		
+	public static double helicsFederateRequestTimeAdvance(MemorySegment fed,double timeDelta,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestTimeAdvance.invokeExact(fed,timeDelta,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request the next time step for federate execution.
+ *
+ * @details Feds should have setup the period or minDelta for this to work well but it will request the next time step which is the current
+ * time plus the minimum time step.
+ *
+ * @param fed The federate to make the request of.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The time granted to the federate, will return HELICS_TIME_MAXTIME if the simulation has terminated or is invalid
+ */
+		
+	public static double helicsFederateRequestNextStep(MemorySegment fed,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestNextStep.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request an iterative time.
+ *
+ * @details This call allows for finer grain control of the iterative process than /ref helicsFederateRequestTime. It takes a time and and
+ * iteration request, and returns a time and iteration status.
+ *
+ * @param fed The federate to make the request of.
+ * @param requestTime The next desired time.
+ * @param iterate The requested iteration mode.
+ *
+ * @param[out] outIteration  The iteration specification of the result.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The granted time, will return HELICS_TIME_MAXTIME if the simulation has terminated along with the appropriate iteration result.
+ */
+		
+	public static double helicsFederateRequestTimeIterative(MemorySegment fed,double requestTime,int iterate,MemorySegment outIteration,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestTimeIterative.invokeExact(fed,requestTime,iterate,outIteration,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request the next time for federate execution in an asynchronous call.
+ *
+ * @details Call /ref helicsFederateRequestTimeComplete to finish the call.
+ *
+ * @param fed The federate to make the request of.
+ * @param requestTime The next requested time.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateRequestTimeAsync(MemorySegment fed,double requestTime,MemorySegment err){
+		try {
+			Handles.helicsFederateRequestTimeAsync.invokeExact(fed,requestTime,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete an asynchronous requestTime call.
+ *
+ * @param fed The federate to make the request of.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The time granted to the federate, will return HELICS_TIME_MAXTIME if the simulation has terminated.
+ */
+		
+	public static double helicsFederateRequestTimeComplete(MemorySegment fed,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestTimeComplete.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Request an iterative time through an asynchronous call.
+ *
+ * @details This call allows for finer grain control of the iterative process than /ref helicsFederateRequestTime. It takes a time and
+ * iteration request, and returns a time and iteration status. Call /ref helicsFederateRequestTimeIterativeComplete to finish the process.
+ *
+ * @param fed The federate to make the request of.
+ * @param requestTime The next desired time.
+ * @param iterate The requested iteration mode.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateRequestTimeIterativeAsync(MemorySegment fed,double requestTime,int iterate,MemorySegment err){
+		try {
+			Handles.helicsFederateRequestTimeIterativeAsync.invokeExact(fed,requestTime,iterate,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete an iterative time request asynchronous call.
+ *
+ * @param fed The federate to make the request of.
+ *
+ * @param[out] outIterate The iteration specification of the result.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return The granted time, will return HELICS_TIME_MAXTIME if the simulation has terminated.
+ */
+		
+	public static double helicsFederateRequestTimeIterativeComplete(MemorySegment fed,MemorySegment outIterate,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateRequestTimeIterativeComplete.invokeExact(fed,outIterate,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Tell helics to process internal communications for a period of time.
+ *
+ * @param fed The federate to tell to process.
+ *
+ * @param period The length of time to process communications and then return control.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ */
+		
+	public static void helicsFederateProcessCommunications(MemorySegment fed,double period,MemorySegment err){
+		try {
+			Handles.helicsFederateProcessCommunications.invokeExact(fed,period,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the name of the federate.
+ *
+ * @param fed The federate object to query.
+ *
+ * @return A pointer to a string with the name.
+ */
+		
+	public static MemorySegment helicsFederateGetName(MemorySegment fed){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetName.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a time based property for a federate.
+ *
+ * @param fed The federate object to set the property for.
+ * @param timeProperty A integer code for a time property.
+ * @param time The requested value of the property.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateSetTimeProperty(MemorySegment fed,int timeProperty,double time,MemorySegment err){
+		try {
+			Handles.helicsFederateSetTimeProperty.invokeExact(fed,timeProperty,time,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a flag for the federate.
+ *
+ * @param fed The federate to alter a flag for.
+ * @param flag The flag to change.
+ * @param flagValue The new value of the flag. 0 for false, !=0 for true.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateSetFlagOption(MemorySegment fed,int flag,int flagValue,MemorySegment err){
+		try {
+			Handles.helicsFederateSetFlagOption.invokeExact(fed,flag,flagValue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the separator character in a federate.
+ *
+ * @details The separator character is the separation character for local publications/endpoints in creating their global name.
+ *          For example if the separator character is '/' then a local endpoint would have a globally reachable name of fedName/localName.
+ *
+ * @param fed The federate info object to alter.
+ * @param separator The character to use as a separator.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateSetSeparator(MemorySegment fed,byte separator,MemorySegment err){
+		try {
+			Handles.helicsFederateSetSeparator.invokeExact(fed,separator,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set an integer based property of a federate.
+ *
+ * @param fed The federate to change the property for.
+ * @param intProperty The property to set.
+ * @param propertyVal The value of the property.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateSetIntegerProperty(MemorySegment fed,int intProperty,int propertyVal,MemorySegment err){
+		try {
+			Handles.helicsFederateSetIntegerProperty.invokeExact(fed,intProperty,propertyVal,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the current value of a time based property in a federate.
+ *
+ * @param fed The federate query.
+ * @param timeProperty The property to query.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static double helicsFederateGetTimeProperty(MemorySegment fed,int timeProperty,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateGetTimeProperty.invokeExact(fed,timeProperty,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a flag value for a federate.
+ *
+ * @param fed The federate to get the flag for.
+ * @param flag The flag to query.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The value of the flag.
+ */
+		
+	public static int helicsFederateGetFlagOption(MemorySegment fed,int flag,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateGetFlagOption.invokeExact(fed,flag,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the current value of an integer property (such as a logging level).
+ *
+ * @param fed The federate to get the flag for.
+ * @param intProperty A code for the property to set /ref helics_handle_options.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The value of the property.
+ */
+		
+	public static int helicsFederateGetIntegerProperty(MemorySegment fed,int intProperty,MemorySegment err){
+		try {
+			return (int) Handles.helicsFederateGetIntegerProperty.invokeExact(fed,intProperty,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the current time of the federate.
+ *
+ * @param fed The federate object to query.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The current time of the federate.
+ */
+		
+	public static double helicsFederateGetCurrentTime(MemorySegment fed,MemorySegment err){
+		try {
+			return (double) Handles.helicsFederateGetCurrentTime.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a federation global value through a federate.
+ *
+ * @details This overwrites any previous value for this name.
+ * @param fed The federate to set the global through.
+ * @param valueName The name of the global to set.
+ * @param value The value of the global.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateSetGlobal(MemorySegment fed,MemorySegment valueName,MemorySegment value,MemorySegment err){
+		try {
+			Handles.helicsFederateSetGlobal.invokeExact(fed,valueName,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a federate tag value.
+ *
+ * @details This overwrites any previous value for this tag.
+ * @param fed The federate to set the tag for.
+ * @param tagName The name of the tag to set.
+ * @param value The value of the tag.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateSetTag(MemorySegment fed,MemorySegment tagName,MemorySegment value,MemorySegment err){
+		try {
+			Handles.helicsFederateSetTag.invokeExact(fed,tagName,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a federate tag value.
+ *
+ * @param fed The federate to get the tag for.
+ * @param tagName The name of the tag to query.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static MemorySegment helicsFederateGetTag(MemorySegment fed,MemorySegment tagName,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetTag.invokeExact(fed,tagName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a time dependency for a federate. The federate will depend on the given named federate for time synchronization.
+ *
+ * @param fed The federate to add the dependency for.
+ * @param fedName The name of the federate to depend on.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateAddDependency(MemorySegment fed,MemorySegment fedName,MemorySegment err){
+		try {
+			Handles.helicsFederateAddDependency.invokeExact(fed,fedName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the logging file for a federate (actually on the core associated with a federate).
+ *
+ * @param fed The federate to set the log file for.
+ * @param logFile The name of the log file.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateSetLogFile(MemorySegment fed,MemorySegment logFile,MemorySegment err){
+		try {
+			Handles.helicsFederateSetLogFile.invokeExact(fed,logFile,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Log an error message through a federate.
+ *
+ * @param fed The federate to log the error message through.
+ * @param logmessage The message to put in the log.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateLogErrorMessage(MemorySegment fed,MemorySegment logmessage,MemorySegment err){
+		try {
+			Handles.helicsFederateLogErrorMessage.invokeExact(fed,logmessage,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Log a warning message through a federate.
+ *
+ * @param fed The federate to log the warning message through.
+ * @param logmessage The message to put in the log.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateLogWarningMessage(MemorySegment fed,MemorySegment logmessage,MemorySegment err){
+		try {
+			Handles.helicsFederateLogWarningMessage.invokeExact(fed,logmessage,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Log an info message through a federate.
+ *
+ * @param fed The federate to log the info message through.
+ * @param logmessage The message to put in the log.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateLogInfoMessage(MemorySegment fed,MemorySegment logmessage,MemorySegment err){
+		try {
+			Handles.helicsFederateLogInfoMessage.invokeExact(fed,logmessage,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Log a debug message through a federate.
+ *
+ * @param fed The federate to log the debug message through.
+ * @param logmessage The message to put in the log.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateLogDebugMessage(MemorySegment fed,MemorySegment logmessage,MemorySegment err){
+		try {
+			Handles.helicsFederateLogDebugMessage.invokeExact(fed,logmessage,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Log a message through a federate.
+ *
+ * @param fed The federate to log the message through.
+ * @param loglevel The level of the message to log see /ref helics_log_levels.
+ * @param logmessage The message to put in the log.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsFederateLogLevelMessage(MemorySegment fed,int loglevel,MemorySegment logmessage,MemorySegment err){
+		try {
+			Handles.helicsFederateLogLevelMessage.invokeExact(fed,loglevel,logmessage,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a command to another helics object through a federate.
+ *
+ * @param fed The federate to send the command through.
+ * @param target The name of the object to send the command to.
+ * @param command The command to send.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsFederateSendCommand(MemorySegment fed,MemorySegment target,MemorySegment command,MemorySegment err){
+		try {
+			Handles.helicsFederateSendCommand.invokeExact(fed,target,command,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a command sent to the federate.
+ *
+ * @param fed The federate to get the command for.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A string with the command for the federate, if the string is empty no command is available.
+ */
+		
+	public static MemorySegment helicsFederateGetCommand(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetCommand.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the source of the most recently retrieved command sent to the federate.
+ *
+ * @param fed The federate to get the command for.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A string with the command for the federate, if the string is empty no command is available.
+ */
+		
+	public static MemorySegment helicsFederateGetCommandSource(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetCommandSource.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a command sent to the federate. Blocks until a command is received.
+ *
+ * @param fed The federate to get the command for.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A string with the command for the federate, if the string is empty no command is available.
+ */
+		
+	public static MemorySegment helicsFederateWaitCommand(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateWaitCommand.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a global value in a core.
+ *
+ * @details This overwrites any previous value for this name.
+ *
+ * @param core The core to set the global through.
+ * @param valueName The name of the global to set.
+ * @param value The value of the global.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsCoreSetGlobal(MemorySegment core,MemorySegment valueName,MemorySegment value,MemorySegment err){
+		try {
+			Handles.helicsCoreSetGlobal.invokeExact(core,valueName,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a federation global value.
+ *
+ * @details This overwrites any previous value for this name.
+ *
+ * @param broker The broker to set the global through.
+ * @param valueName The name of the global to set.
+ * @param value The value of the global.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerSetGlobal(MemorySegment broker,MemorySegment valueName,MemorySegment value,MemorySegment err){
+		try {
+			Handles.helicsBrokerSetGlobal.invokeExact(broker,valueName,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a command to another helics object though a core using asynchronous(fast) operations.
+ *
+ * @param core The core to send the command through.
+ * @param target The name of the object to send the command to.
+ * @param command The command to send.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsCoreSendCommand(MemorySegment core,MemorySegment target,MemorySegment command,MemorySegment err){
+		try {
+			Handles.helicsCoreSendCommand.invokeExact(core,target,command,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a command to another helics object though a core using ordered operations.
+ *
+ * @param core The core to send the command through.
+ * @param target The name of the object to send the command to.
+ * @param command The command to send.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsCoreSendOrderedCommand(MemorySegment core,MemorySegment target,MemorySegment command,MemorySegment err){
+		try {
+			Handles.helicsCoreSendOrderedCommand.invokeExact(core,target,command,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a command to another helics object through a broker using asynchronous(fast) messages.
+ *
+ * @param broker The broker to send the command through.
+ * @param target The name of the object to send the command to.
+ * @param command The command to send.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerSendCommand(MemorySegment broker,MemorySegment target,MemorySegment command,MemorySegment err){
+		try {
+			Handles.helicsBrokerSendCommand.invokeExact(broker,target,command,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a command to another helics object through a broker using ordered sequencing.
+ *
+ * @param broker The broker to send the command through.
+ * @param target The name of the object to send the command to.
+ * @param command The command to send.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerSendOrderedCommand(MemorySegment broker,MemorySegment target,MemorySegment command,MemorySegment err){
+		try {
+			Handles.helicsBrokerSendOrderedCommand.invokeExact(broker,target,command,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the log file on a core.
+ *
+ * @param core The core to set the log file for.
+ * @param logFileName The name of the file to log to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsCoreSetLogFile(MemorySegment core,MemorySegment logFileName,MemorySegment err){
+		try {
+			Handles.helicsCoreSetLogFile.invokeExact(core,logFileName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the log file on a broker.
+ *
+ * @param broker The broker to set the log file for.
+ * @param logFileName The name of the file to log to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerSetLogFile(MemorySegment broker,MemorySegment logFileName,MemorySegment err){
+		try {
+			Handles.helicsBrokerSetLogFile.invokeExact(broker,logFileName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a broker time barrier.
+ *
+ * @param broker The broker to set the time barrier for.
+ * @param barrierTime The time to set the barrier at.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerSetTimeBarrier(MemorySegment broker,double barrierTime,MemorySegment err){
+		try {
+			Handles.helicsBrokerSetTimeBarrier.invokeExact(broker,barrierTime,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear any time barrier on a broker.
+ *
+ * @param broker The broker to clear the barriers on.
+ */
+		
+	public static void helicsBrokerClearTimeBarrier(MemorySegment broker){
+		try {
+			Handles.helicsBrokerClearTimeBarrier.invokeExact(broker);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Generate a global error through a broker. This will terminate the federation.
+ *
+ * @param broker The broker to generate the global error on.
+ * @param errorCode The error code to associate with the global error.
+ * @param errorString An error message to associate with the global error.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsBrokerGlobalError(MemorySegment broker,int errorCode,MemorySegment errorString,MemorySegment err){
+		try {
+			Handles.helicsBrokerGlobalError.invokeExact(broker,errorCode,errorString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Generate a global error through a broker. This will terminate the federation.
+ *
+ * @param core The core to generate the global error.
+ * @param errorCode The error code to associate with the global error.
+ * @param errorString An error message to associate with the global error.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsCoreGlobalError(MemorySegment core,int errorCode,MemorySegment errorString,MemorySegment err){
+		try {
+			Handles.helicsCoreGlobalError.invokeExact(core,errorCode,errorString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a query object.
+ *
+ * @details A query object consists of a target and query string.
+ *
+ * @param target The name of the target to query.
+ * @param query The query to make of the target.
+ */
+		
+	public static MemorySegment helicsCreateQuery(MemorySegment target,MemorySegment query){
+		try {
+			return (MemorySegment) Handles.helicsCreateQuery.invokeExact(target,query);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param fed A federate to send the query through.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if fed or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid.
+ */
+		
+	public static MemorySegment helicsQueryExecute(MemorySegment query,MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryExecute.invokeExact(query,fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param fed A federate to send the query through.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if fed or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid.
+ */
+		
+	public static MemorySegment helicsQueryExecuteRaw(MemorySegment query,MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryExecuteRaw.invokeExact(query,fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query directly on a core.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param core The core to send the query to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if core or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid.
+ */
+		
+	public static MemorySegment helicsQueryCoreExecute(MemorySegment query,MemorySegment core,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryCoreExecute.invokeExact(query,core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query directly on a core.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param core The core to send the query to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if core or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid.
+ */
+		
+	public static MemorySegment helicsQueryCoreExecuteRaw(MemorySegment query,MemorySegment core,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryCoreExecuteRaw.invokeExact(query,core,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query directly on a broker.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param broker The broker to send the query to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if broker or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid
+ */
+		
+	public static MemorySegment helicsQueryBrokerExecute(MemorySegment query,MemorySegment broker,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryBrokerExecute.invokeExact(query,broker,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query directly on a broker.
+ *
+ * @details The call will block until the query finishes which may require communication or other delays.
+ *
+ * @param query The query object to use in the query.
+ * @param broker The broker to send the query to.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string.  The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if broker or query is an invalid object, the return string will be "#invalid" if the query itself was
+ * invalid
+ */
+		
+	public static MemorySegment helicsQueryBrokerExecuteRaw(MemorySegment query,MemorySegment broker,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryBrokerExecuteRaw.invokeExact(query,broker,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Execute a query in a non-blocking call.
+ *
+ * @param query The query object to use in the query.
+ * @param fed A federate to send the query through.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsQueryExecuteAsync(MemorySegment query,MemorySegment fed,MemorySegment err){
+		try {
+			Handles.helicsQueryExecuteAsync.invokeExact(query,fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the return from a query called with /ref helicsExecuteQueryAsync.
+ *
+ * @details The function will block until the query completes /ref isQueryComplete can be called to determine if a query has completed or
+ * not.
+ *
+ * @param query The query object to complete execution of.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string. The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if query is an invalid object
+ */
+		
+	public static MemorySegment helicsQueryExecuteComplete(MemorySegment query,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryExecuteComplete.invokeExact(query,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Complete the return from a query called with /ref helicsExecuteQueryAsync.
+ *
+ * @details The function will block until the query completes /ref isQueryComplete can be called to determine if a query has completed or
+ * not.
+ *
+ * @param query The query object to complete execution of.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ *
+ * @return A pointer to a string. The string will remain valid until the query is freed or executed again.
+ * The return will be nullptr if query is an invalid object
+ */
+		
+	public static MemorySegment helicsQueryExecuteCompleteRaw(MemorySegment query,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsQueryExecuteCompleteRaw.invokeExact(query,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if an asynchronously executed query has completed.
+ *
+ * @details This function should usually be called after a QueryExecuteAsync function has been called.
+ *
+ * @param query The query object to check if completed.
+ *
+ * @return Will return HELICS_TRUE if an asynchronous query has completed or a regular query call was made with a result,
+ * and false if an asynchronous query has not completed or is invalid
+ */
+		
+	public static int helicsQueryIsCompleted(MemorySegment query){
+		try {
+			return (int) Handles.helicsQueryIsCompleted.invokeExact(query);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Update the target of a query.
+ *
+ * @param query The query object to change the target of.
+ * @param target the name of the target to query
+ *
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsQuerySetTarget(MemorySegment query,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsQuerySetTarget.invokeExact(query,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Update the queryString of a query.
+ *
+ * @param query The query object to change the target of.
+ * @param queryString the new queryString
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsQuerySetQueryString(MemorySegment query,MemorySegment queryString,MemorySegment err){
+		try {
+			Handles.helicsQuerySetQueryString.invokeExact(query,queryString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Update the ordering mode of the query, fast runs on priority channels, ordered goes on normal channels but goes in sequence
+ *
+ * @param query The query object to change the order for.
+ * @param mode 0 for fast, 1 for ordered
+ *
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsQuerySetOrdering(MemorySegment query,int mode,MemorySegment err){
+		try {
+			Handles.helicsQuerySetOrdering.invokeExact(query,mode,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Free the memory associated with a query object.
+ */
+		
+	public static void helicsQueryFree(MemorySegment query){
+		try {
+			Handles.helicsQueryFree.invokeExact(query);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Function to do some housekeeping work.
+ *
+ * @details This runs some cleanup routines and tries to close out any residual thread that haven't been shutdown yet.
+ */
+		
+	public static void helicsCleanupLibrary(){
+		try {
+			Handles.helicsCleanupLibrary.invokeExact();
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a subscription.
+ *
+ * @details The subscription becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a subscription, must have been created with /ref helicsCreateValueFederate or
+ * /ref helicsCreateCombinationFederate.
+ * @param key The identifier matching a publication to get a subscription for.
+ * @param units A string listing the units of the subscription (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the subscription.
+ */
+		
+	public static MemorySegment helicsFederateRegisterSubscription(MemorySegment fed,MemorySegment key,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterSubscription.invokeExact(fed,key,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a publication with a known type.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication the global publication key will be prepended with the federate name.
+ * @param type A code identifying the type of the input see /ref HelicsDataTypes for available options.
+ * @param units A string listing the units of the subscription (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterPublication(MemorySegment fed,MemorySegment key,int type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterPublication.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a publication with a defined type.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication.
+ * @param type A string labeling the type of the publication.
+ * @param units A string listing the units of the subscription (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterTypePublication(MemorySegment fed,MemorySegment key,MemorySegment type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterTypePublication.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a global named publication with an arbitrary type.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication.
+ * @param type A code identifying the type of the input see /ref HelicsDataTypes for available options.
+ * @param units A string listing the units of the subscription (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalPublication(MemorySegment fed,MemorySegment key,int type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalPublication.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a global publication with a defined type.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication.
+ * @param type A string describing the expected type of the publication.
+ * @param units A string listing the units of the subscription (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalTypePublication(MemorySegment fed,MemorySegment key,MemorySegment type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalTypePublication.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a named input.
+ *
+ * @details The input becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions, inputs, and publications.
+ *
+ * @param fed The federate object in which to create an input.
+ * @param key The identifier for the publication the global input key will be prepended with the federate name.
+ * @param type A code identifying the type of the input see /ref HelicsDataTypes for available options.
+ * @param units A string listing the units of the input (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the input.
+ */
+		
+	public static MemorySegment helicsFederateRegisterInput(MemorySegment fed,MemorySegment key,int type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterInput.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register an input with a defined type.
+ *
+ * @details The input becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions, inputs, and publications.
+ *
+ * @param fed The federate object in which to create an input.
+ * @param key The identifier for the input.
+ * @param type A string describing the expected type of the input.
+ * @param units A string listing the units of the input maybe NULL.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterTypeInput(MemorySegment fed,MemorySegment key,MemorySegment type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterTypeInput.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a global named input.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication.
+ * @param type A code identifying the type of the input see /ref HelicsDataTypes for available options.
+ * @param units A string listing the units of the subscription maybe NULL.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalInput(MemorySegment fed,MemorySegment key,int type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalInput.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register a global publication with an arbitrary type.
+ *
+ * @details The publication becomes part of the federate and is destroyed when the federate is freed so there are no separate free
+ * functions for subscriptions and publications.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param key The identifier for the publication.
+ * @param type A string defining the type of the input.
+ * @param units A string listing the units of the subscription maybe NULL.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the publication.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalTypeInput(MemorySegment fed,MemorySegment key,MemorySegment type,MemorySegment units,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalTypeInput.invokeExact(fed,key,type,units,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a publication object from a key.
+ *
+ * @param fed The value federate object to use to get the publication.
+ * @param key The name of the publication.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsPublication object, the object will not be valid and err will contain an error code if no publication with the
+ * specified key exists.
+ */
+		
+	public static MemorySegment helicsFederateGetPublication(MemorySegment fed,MemorySegment key,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetPublication.invokeExact(fed,key,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a publication by its index, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param index The index of the publication to get.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsPublication.
+ */
+		
+	public static MemorySegment helicsFederateGetPublicationByIndex(MemorySegment fed,int index,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetPublicationByIndex.invokeExact(fed,index,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an input object from a key.
+ *
+ * @param fed The value federate object to use to get the publication.
+ * @param key The name of the input.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsInput object, the object will not be valid and err will contain an error code if no input with the specified
+ * key exists.
+ */
+		
+	public static MemorySegment helicsFederateGetInput(MemorySegment fed,MemorySegment key,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetInput.invokeExact(fed,key,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an input by its index, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param index The index of the publication to get.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsInput, which will be NULL if an invalid index.
+ */
+		
+	public static MemorySegment helicsFederateGetInputByIndex(MemorySegment fed,int index,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetInputByIndex.invokeExact(fed,index,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an input object from a subscription target.
+ *
+ * @param fed The value federate object to use to get the publication.
+ * @param key The name of the publication that a subscription is targeting.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsInput object, the object will not be valid and err will contain an error code if no input with the specified
+ * key exists.
+ */
+		
+	public static MemorySegment helicsFederateGetSubscription(MemorySegment fed,MemorySegment key,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetSubscription.invokeExact(fed,key,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear all the update flags from a federates inputs.
+ *
+ * @param fed The value federate object for which to clear update flags.
+ */
+		
+	public static void helicsFederateClearUpdates(MemorySegment fed){
+		try {
+			Handles.helicsFederateClearUpdates.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Register the publications via JSON publication string.
+ *
+ * @param fed The value federate object to use to register the publications.
+ * @param json The JSON publication string.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @details This would be the same JSON that would be used to publish data.
+ */
+		
+	public static void helicsFederateRegisterFromPublicationJSON(MemorySegment fed,MemorySegment json,MemorySegment err){
+		try {
+			Handles.helicsFederateRegisterFromPublicationJSON.invokeExact(fed,json,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish data contained in a JSON file or string.
+ *
+ * @param fed The value federate object through which to publish the data.
+ * @param json The publication file name or literal JSON data string.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ */
+		
+	public static void helicsFederatePublishJSON(MemorySegment fed,MemorySegment json,MemorySegment err){
+		try {
+			Handles.helicsFederatePublishJSON.invokeExact(fed,json,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a publication is valid.
+ *
+ * @param pub The publication to check.
+ *
+ * @return HELICS_TRUE if the publication is a valid publication.
+ */
+		
+	public static int helicsPublicationIsValid(MemorySegment pub){
+		try {
+			return (int) Handles.helicsPublicationIsValid.invokeExact(pub);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish raw data from a char * and length.
+ *
+ * @param pub The publication to publish for.
+ * @param data A pointer to the raw data.
+ * @param inputDataLength The size in bytes of the data to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishBytes(MemorySegment pub,MemorySegment data,int inputDataLength,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishBytes.invokeExact(pub,data,inputDataLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a string.
+ *
+ * @param pub The publication to publish for.
+ * @param val The null terminated string to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishString(MemorySegment pub,MemorySegment val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishString.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish an integer value.
+ *
+ * @param pub The publication to publish for.
+ * @param val The numerical value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishInteger(MemorySegment pub,int val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishInteger.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a Boolean Value.
+ *
+ * @param pub The publication to publish for.
+ * @param val The boolean value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishBoolean(MemorySegment pub,int val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishBoolean.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a double floating point value.
+ *
+ * @param pub The publication to publish for.
+ * @param val The numerical value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishDouble(MemorySegment pub,double val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishDouble.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a time value.
+ *
+ * @param pub The publication to publish for.
+ * @param val The numerical value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishTime(MemorySegment pub,double val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishTime.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a single character.
+ *
+ * @param pub The publication to publish for.
+ * @param val The numerical value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishChar(MemorySegment pub,byte val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishChar.invokeExact(pub,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a complex value (or pair of values).
+ *
+ * @param pub The publication to publish for.
+ * @param real The real part of a complex number to publish.
+ * @param imag The imaginary part of a complex number to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishComplex(MemorySegment pub,double real,double imag,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishComplex.invokeExact(pub,real,imag,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a vector of doubles.
+ *
+ * @param pub The publication to publish for.
+ * @param vectorInput A pointer to an array of double data.
+ *
+ * @param vectorLength The number of points to publish.
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishVector(MemorySegment pub,MemorySegment vectorInput,int vectorLength,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishVector.invokeExact(pub,vectorInput,vectorLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a vector of complex doubles.
+ *
+ * @param pub The publication to publish for.
+ * @param vectorInput A pointer to an array of complex double data (alternating real and imaginary values).
+ *
+ * @param vectorLength The number of values to publish; vectorInput must contain 2xvectorLength values.
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishComplexVector(MemorySegment pub,MemorySegment vectorInput,int vectorLength,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishComplexVector.invokeExact(pub,vectorInput,vectorLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Publish a named point.
+ *
+ * @param pub The publication to publish for.
+ * @param field A null terminated string for the field name of the namedPoint to publish.
+ * @param val A double for the value to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationPublishNamedPoint(MemorySegment pub,MemorySegment field,double val,MemorySegment err){
+		try {
+			Handles.helicsPublicationPublishNamedPoint.invokeExact(pub,field,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a named input to the list of targets a publication publishes to.
+ *
+ * @param pub The publication to add the target for.
+ * @param target The name of an input that the data should be sent to.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsPublicationAddTarget(MemorySegment pub,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsPublicationAddTarget.invokeExact(pub,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if an input is valid.
+ *
+ * @param ipt The input to check.
+ *
+ * @return HELICS_TRUE if the Input object represents a valid input.
+ */
+		
+	public static int helicsInputIsValid(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputIsValid.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a publication to the list of data that an input subscribes to.
+ *
+ * @param ipt The named input to modify.
+ * @param target The name of a publication that an input should subscribe to.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsInputAddTarget(MemorySegment ipt,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsInputAddTarget.invokeExact(ipt,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the size of the raw value for subscription.
+ *
+ * @return The size of the raw data/string in bytes.
+ */
+		
+	public static int helicsInputGetByteCount(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputGetByteCount.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the raw data for the latest value of a subscription.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[out] data The memory location of the data
+ * @param maxDataLength The maximum size of information that data can hold.
+ * @param[out] actualSize The actual length of data copied to data.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsInputGetBytes(MemorySegment ipt,MemorySegment data,int maxDataLength,MemorySegment actualSize,MemorySegment err){
+		try {
+			Handles.helicsInputGetBytes.invokeExact(ipt,data,maxDataLength,actualSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the size of a value for subscription assuming return as a string.
+ *
+ * @return The size of the string.
+ */
+		
+	public static int helicsInputGetStringSize(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputGetStringSize.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an integer value from a subscription.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return An int64_t value with the current value of the input.
+ */
+		
+	public static int helicsInputGetInteger(MemorySegment ipt,MemorySegment err){
+		try {
+			return (int) Handles.helicsInputGetInteger.invokeExact(ipt,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a boolean value from a subscription.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return A boolean value of current input value.
+ */
+		
+	public static int helicsInputGetBoolean(MemorySegment ipt,MemorySegment err){
+		try {
+			return (int) Handles.helicsInputGetBoolean.invokeExact(ipt,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a double value from a subscription.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The double value of the input.
+ */
+		
+	public static double helicsInputGetDouble(MemorySegment ipt,MemorySegment err){
+		try {
+			return (double) Handles.helicsInputGetDouble.invokeExact(ipt,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a time value from a subscription.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The resulting time value.
+ */
+		
+	public static double helicsInputGetTime(MemorySegment ipt,MemorySegment err){
+		try {
+			return (double) Handles.helicsInputGetTime.invokeExact(ipt,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a single character value from an input.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ *
+ * @return The resulting character value.
+ *         NAK (negative acknowledgment) symbol returned on error
+ */
+		
+	public static byte helicsInputGetChar(MemorySegment ipt,MemorySegment err){
+		try {
+			return (byte) Handles.helicsInputGetChar.invokeExact(ipt,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a pair of double forming a complex number from a subscriptions.
+ *
+ * @param ipt The input to get the data for.
+ *
+ * @param[out] real Memory location to place the real part of a value.
+ * @param[out] imag Memory location to place the imaginary part of a value.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ * On error the values will not be altered.
+ */
+		
+	public static void helicsInputGetComplex(MemorySegment ipt,MemorySegment real,MemorySegment imag,MemorySegment err){
+		try {
+			Handles.helicsInputGetComplex.invokeExact(ipt,real,imag,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the size of a value for subscription assuming return as an array of doubles.
+ *
+ * @return The number of doubles in a returned vector.
+ */
+		
+	public static int helicsInputGetVectorSize(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputGetVectorSize.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a vector from a subscription.
+ *
+ * @param ipt The input to get the result for.
+ *
+ * @param[out] data The location to store the data.
+ * @param maxLength The maximum size of the vector.
+ * @param[out] actualSize Location to place the actual length of the resulting vector.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputGetVector(MemorySegment ipt,MemorySegment data,int maxLength,MemorySegment actualSize,MemorySegment err){
+		try {
+			Handles.helicsInputGetVector.invokeExact(ipt,data,maxLength,actualSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a complex vector from an input.
+ *
+ * @param ipt The input to get the result for.
+ *
+ * @param[out] data The location to store the data. The data will be stored in alternating real and imaginary values.
+ * @param maxLength The maximum number of values data can hold.
+ * @param[out] actualSize Location to place the actual length of the resulting complex vector (will be 1/2 the number of values assigned).
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputGetComplexVector(MemorySegment ipt,MemorySegment data,int maxLength,MemorySegment actualSize,MemorySegment err){
+		try {
+			Handles.helicsInputGetComplexVector.invokeExact(ipt,data,maxLength,actualSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a raw data array.
+ *
+ * @param ipt The input to set the default for.
+ * @param data A pointer to the raw data to use for the default.
+ *
+ * @param inputDataLength The size of the raw data.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultBytes(MemorySegment ipt,MemorySegment data,int inputDataLength,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultBytes.invokeExact(ipt,data,inputDataLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a string.
+ *
+ * @param ipt The input to set the default for.
+ * @param defaultString A pointer to the default string.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultString(MemorySegment ipt,MemorySegment defaultString,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultString.invokeExact(ipt,defaultString,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as an integer.
+ *
+ * @param ipt The input to set the default for.
+ * @param val The default integer.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultInteger(MemorySegment ipt,int val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultInteger.invokeExact(ipt,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a boolean.
+ *
+ * @param ipt The input to set the default for.
+ * @param val The default boolean value.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultBoolean(MemorySegment ipt,int val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultBoolean.invokeExact(ipt,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a time.
+ *
+ * @param ipt The input to set the default for.
+ * @param val The default time value.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultTime(MemorySegment ipt,double val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultTime.invokeExact(ipt,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a char.
+ *
+ * @param ipt The input to set the default for.
+ * @param val The default char value.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultChar(MemorySegment ipt,byte val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultChar.invokeExact(ipt,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a double.
+ *
+ * @param ipt The input to set the default for.
+ * @param val The default double value.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultDouble(MemorySegment ipt,double val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultDouble.invokeExact(ipt,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a complex number.
+ *
+ * @param ipt The input to set the default for.
+ * @param real The default real value.
+ * @param imag The default imaginary value.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultComplex(MemorySegment ipt,double real,double imag,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultComplex.invokeExact(ipt,real,imag,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a vector of doubles.
+ *
+ * @param ipt The input to set the default for.
+ * @param vectorInput A pointer to an array of double data.
+ * @param vectorLength The number of doubles in the vector.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultVector(MemorySegment ipt,MemorySegment vectorInput,int vectorLength,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultVector.invokeExact(ipt,vectorInput,vectorLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a vector of complex doubles. The format is alternating real, imag doubles.
+ *
+ * @param ipt The input to set the default for.
+ * @param vectorInput A pointer to an array of double data alternating between real and imaginary.
+ * @param vectorLength the number of complex values in the publication (vectorInput must contain 2xvectorLength elements).
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultComplexVector(MemorySegment ipt,MemorySegment vectorInput,int vectorLength,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultComplexVector.invokeExact(ipt,vectorInput,vectorLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default as a NamedPoint.
+ *
+ * @param ipt The input to set the default for.
+ * @param defaultName A pointer to a null terminated string representing the field name to use in the named point.
+ * @param val A double value for the value of the named point.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	public static void helicsInputSetDefaultNamedPoint(MemorySegment ipt,MemorySegment defaultName,double val,MemorySegment err){
+		try {
+			Handles.helicsInputSetDefaultNamedPoint.invokeExact(ipt,defaultName,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the type of an input.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsInputGetType(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetType.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the type the publisher to an input is sending.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A const char * with the type name.
+ */
+		
+	public static MemorySegment helicsInputGetPublicationType(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetPublicationType.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the type the publisher to an input is sending.
+ *
+ * @param ipt The input to query.
+ *
+ * @return An int containing the enumeration value of the publication type.
+ */
+		
+	public static int helicsInputGetPublicationDataType(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputGetPublicationDataType.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the type of a publication.
+ *
+ * @param pub The publication to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsPublicationGetType(MemorySegment pub){
+		try {
+			return (MemorySegment) Handles.helicsPublicationGetType.invokeExact(pub);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the key of an input.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A const char with the input name.
+ */
+		
+	public static MemorySegment helicsInputGetName(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetName.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the target of a subscription.
+ *
+ * @return A const char with the subscription target.
+ */
+		
+	public static MemorySegment helicsSubscriptionGetTarget(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsSubscriptionGetTarget.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the name of a publication.
+ *
+ * @details This will be the global key used to identify the publication to the federation.
+ *
+ * @param pub The publication to query.
+ *
+ * @return A const char with the publication name.
+ */
+		
+	public static MemorySegment helicsPublicationGetName(MemorySegment pub){
+		try {
+			return (MemorySegment) Handles.helicsPublicationGetName.invokeExact(pub);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the units of an input.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsInputGetUnits(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetUnits.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the units of the publication that an input is linked to.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsInputGetInjectionUnits(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetInjectionUnits.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the units of an input.
+ *
+ * @details The same as helicsInputGetUnits.
+ *
+ * @param ipt The input to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsInputGetExtractionUnits(MemorySegment ipt){
+		try {
+			return (MemorySegment) Handles.helicsInputGetExtractionUnits.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the units of a publication.
+ *
+ * @param pub The publication to query.
+ *
+ * @return A void enumeration, HELICS_OK if everything worked.
+ */
+		
+	public static MemorySegment helicsPublicationGetUnits(MemorySegment pub){
+		try {
+			return (MemorySegment) Handles.helicsPublicationGetUnits.invokeExact(pub);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in the info field of an input.
+ *
+ * @param inp The input to query.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static MemorySegment helicsInputGetInfo(MemorySegment inp){
+		try {
+			return (MemorySegment) Handles.helicsInputGetInfo.invokeExact(inp);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in the info field for an input.
+ *
+ * @param inp The input to query.
+ * @param info The string to set.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsInputSetInfo(MemorySegment inp,MemorySegment info,MemorySegment err){
+		try {
+			Handles.helicsInputSetInfo.invokeExact(inp,info,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in a specified tag of an input.
+ *
+ * @param inp The input object to query.
+ * @param tagname The name of the tag to get the value for.
+ * @return A string with the tag data.
+ */
+		
+	public static MemorySegment helicsInputGetTag(MemorySegment inp,MemorySegment tagname){
+		try {
+			return (MemorySegment) Handles.helicsInputGetTag.invokeExact(inp,tagname);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in a specific tag for an input.
+ *
+ * @param inp The input object to query.
+ * @param tagname The string to set.
+ * @param tagvalue The string value to associate with a tag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsInputSetTag(MemorySegment inp,MemorySegment tagname,MemorySegment tagvalue,MemorySegment err){
+		try {
+			Handles.helicsInputSetTag.invokeExact(inp,tagname,tagvalue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in the info field of an publication.
+ *
+ * @param pub The publication to query.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static MemorySegment helicsPublicationGetInfo(MemorySegment pub){
+		try {
+			return (MemorySegment) Handles.helicsPublicationGetInfo.invokeExact(pub);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in the info field for a publication.
+ *
+ * @param pub The publication to set the info field for.
+ * @param info The string to set.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsPublicationSetInfo(MemorySegment pub,MemorySegment info,MemorySegment err){
+		try {
+			Handles.helicsPublicationSetInfo.invokeExact(pub,info,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in a specified tag of a publication.
+ *
+ * @param pub The publication object to query.
+ * @param tagname The name of the tag to query.
+ * @return A string with the tag data.
+ */
+		
+	public static MemorySegment helicsPublicationGetTag(MemorySegment pub,MemorySegment tagname){
+		try {
+			return (MemorySegment) Handles.helicsPublicationGetTag.invokeExact(pub,tagname);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in a specific tag for a publication.
+ *
+ * @param pub The publication object to set a tag for.
+ * @param tagname The name of the tag to set.
+ * @param tagvalue The string value to associate with a tag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsPublicationSetTag(MemorySegment pub,MemorySegment tagname,MemorySegment tagvalue,MemorySegment err){
+		try {
+			Handles.helicsPublicationSetTag.invokeExact(pub,tagname,tagvalue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the current value of an input handle option
+ *
+ * @param inp The input to query.
+ * @param option Integer representation of the option in question see /ref helics_handle_options.
+ *
+ * @return An integer value with the current value of the given option.
+ */
+		
+	public static int helicsInputGetOption(MemorySegment inp,int option){
+		try {
+			return (int) Handles.helicsInputGetOption.invokeExact(inp,option);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set an option on an input
+ *
+ * @param inp The input to query.
+ * @param option The option to set for the input /ref helics_handle_options.
+ * @param value The value to set the option to.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsInputSetOption(MemorySegment inp,int option,int value,MemorySegment err){
+		try {
+			Handles.helicsInputSetOption.invokeExact(inp,option,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the value of an option for a publication
+ *
+ * @param pub The publication to query.
+ * @param option The value to query see /ref helics_handle_options.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static int helicsPublicationGetOption(MemorySegment pub,int option){
+		try {
+			return (int) Handles.helicsPublicationGetOption.invokeExact(pub,option);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the value of an option for a publication
+ *
+ * @param pub The publication to query.
+ * @param option Integer code for the option to set /ref helics_handle_options.
+ * @param val The value to set the option to.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsPublicationSetOption(MemorySegment pub,int option,int val,MemorySegment err){
+		try {
+			Handles.helicsPublicationSetOption.invokeExact(pub,option,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the minimum change detection tolerance.
+ *
+ * @param pub The publication to modify.
+ * @param tolerance The tolerance level for publication, values changing less than this value will not be published.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsPublicationSetMinimumChange(MemorySegment pub,double tolerance,MemorySegment err){
+		try {
+			Handles.helicsPublicationSetMinimumChange.invokeExact(pub,tolerance,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the minimum change detection tolerance.
+ *
+ * @param inp The input to modify.
+ * @param tolerance The tolerance level for registering an update, values changing less than this value will not show as being updated.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsInputSetMinimumChange(MemorySegment inp,double tolerance,MemorySegment err){
+		try {
+			Handles.helicsInputSetMinimumChange.invokeExact(inp,tolerance,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a particular subscription was updated.
+ *
+ * @return HELICS_TRUE if it has been updated since the last value retrieval.
+ */
+		
+	public static int helicsInputIsUpdated(MemorySegment ipt){
+		try {
+			return (int) Handles.helicsInputIsUpdated.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the last time a subscription was updated.
+ */
+		
+	public static double helicsInputLastUpdateTime(MemorySegment ipt){
+		try {
+			return (double) Handles.helicsInputLastUpdateTime.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear the updated flag from an input.
+ */
+		
+	public static void helicsInputClearUpdate(MemorySegment ipt){
+		try {
+			Handles.helicsInputClearUpdate.invokeExact(ipt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the number of publications in a federate.
+ *
+ * @return (-1) if fed was not a valid federate otherwise returns the number of publications.
+ */
+		
+	public static int helicsFederateGetPublicationCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateGetPublicationCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the number of subscriptions in a federate.
+ *
+ * @return (-1) if fed was not a valid federate otherwise returns the number of subscriptions.
+ */
+		
+	public static int helicsFederateGetInputCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateGetInputCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create an endpoint.
+ *
+ * @details The endpoint becomes part of the federate and is destroyed when the federate is freed
+ *          so there are no separate free functions for endpoints.
+ *
+ * @param fed The federate object in which to create an endpoint must have been created
+ *           with helicsCreateMessageFederate or helicsCreateCombinationFederate.
+ * @param name The identifier for the endpoint. This will be prepended with the federate name for the global identifier.
+ * @param type A string describing the expected type of the publication (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the endpoint, or nullptr on failure.
+ */
+		
+	public static MemorySegment helicsFederateRegisterEndpoint(MemorySegment fed,MemorySegment name,MemorySegment type,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterEndpoint.invokeExact(fed,name,type,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create an endpoint.
+ *
+ * @details The endpoint becomes part of the federate and is destroyed when the federate is freed
+ *          so there are no separate free functions for endpoints.
+ *
+ * @param fed The federate object in which to create an endpoint must have been created
+              with helicsCreateMessageFederate or helicsCreateCombinationFederate.
+ * @param name The identifier for the endpoint, the given name is the global identifier.
+ * @param type A string describing the expected type of the publication (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ * @return An object containing the endpoint, or nullptr on failure.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalEndpoint(MemorySegment fed,MemorySegment name,MemorySegment type,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalEndpoint.invokeExact(fed,name,type,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a targeted endpoint.  Targeted endpoints have specific destinations predefined and do not allow sending messages to other
+ * endpoints
+ *
+ * @details The endpoint becomes part of the federate and is destroyed when the federate is freed
+ *          so there are no separate free functions for endpoints.
+ *
+ * @param fed The federate object in which to create an endpoint must have been created
+ *           with helicsCreateMessageFederate or helicsCreateCombinationFederate.
+ * @param name The identifier for the endpoint. This will be prepended with the federate name for the global identifier.
+ * @param type A string describing the expected type of the publication (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return An object containing the endpoint, or nullptr on failure.
+ */
+		
+	public static MemorySegment helicsFederateRegisterTargetedEndpoint(MemorySegment fed,MemorySegment name,MemorySegment type,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterTargetedEndpoint.invokeExact(fed,name,type,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a global targeted endpoint, Targeted endpoints have specific destinations predefined and do not allow sending messages to other
+ endpoints
+ *
+ * @details The endpoint becomes part of the federate and is destroyed when the federate is freed
+ *          so there are no separate free functions for endpoints.
+ *
+ * @param fed The federate object in which to create an endpoint must have been created
+              with helicsCreateMessageFederate or helicsCreateCombinationFederate.
+ * @param name The identifier for the endpoint, the given name is the global identifier.
+ * @param type A string describing the expected type of the publication (may be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ * @return An object containing the endpoint, or nullptr on failure.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalTargetedEndpoint(MemorySegment fed,MemorySegment name,MemorySegment type,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalTargetedEndpoint.invokeExact(fed,name,type,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an endpoint object from a name.
+ *
+ * @param fed The message federate object to use to get the endpoint.
+ * @param name The name of the endpoint.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsEndpoint object.
+ *
+ * The object will not be valid and err will contain an error code if no endpoint with the specified name exists.
+ */
+		
+	public static MemorySegment helicsFederateGetEndpoint(MemorySegment fed,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetEndpoint.invokeExact(fed,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get an endpoint by its index, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param index The index of the publication to get.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsEndpoint.
+ *
+ * The HelicsEndpoint returned will be NULL if given an invalid index.
+ */
+		
+	public static MemorySegment helicsFederateGetEndpointByIndex(MemorySegment fed,int index,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetEndpointByIndex.invokeExact(fed,index,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if an endpoint is valid.
+ *
+ * @param endpoint The endpoint object to check.
+ *
+ * @return HELICS_TRUE if the Endpoint object represents a valid endpoint.
+ */
+		
+	public static int helicsEndpointIsValid(MemorySegment endpoint){
+		try {
+			return (int) Handles.helicsEndpointIsValid.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the default destination for an endpoint if no other endpoint is given.
+ *
+ * @param endpoint The endpoint to set the destination for.
+ * @param dst A string naming the desired default endpoint.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSetDefaultDestination(MemorySegment endpoint,MemorySegment dst,MemorySegment err){
+		try {
+			Handles.helicsEndpointSetDefaultDestination.invokeExact(endpoint,dst,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the default destination for an endpoint.
+ *
+ * @param endpoint The endpoint to set the destination for.
+ *
+ * @return A string with the default destination.
+ */
+		
+	public static MemorySegment helicsEndpointGetDefaultDestination(MemorySegment endpoint){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetDefaultDestination.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message to the targeted destination.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendBytes(MemorySegment endpoint,MemorySegment data,int inputDataLength,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendBytes.invokeExact(endpoint,data,inputDataLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message to the specified destination.
+ *
+ * @param endpoint The endpoint to send the data from.
+
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ * @param dst The target destination. Use nullptr to send to the default destination.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendBytesTo(MemorySegment endpoint,MemorySegment data,int inputDataLength,MemorySegment dst,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendBytesTo.invokeExact(endpoint,data,inputDataLength,dst,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message to the specified destination at a specific time.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ *
+ * @param dst The target destination. Use nullptr to send to the default destination.
+ *
+ * @param time The time the message should be sent.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendBytesToAt(MemorySegment endpoint,MemorySegment data,int inputDataLength,MemorySegment dst,double time,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendBytesToAt.invokeExact(endpoint,data,inputDataLength,dst,time,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message at a specific time to the targeted destinations
+ *
+ * @param endpoint The endpoint to send the data from.
+ *
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ *
+ * @param time The time the message should be sent.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendBytesAt(MemorySegment endpoint,MemorySegment data,int inputDataLength,double time,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendBytesAt.invokeExact(endpoint,data,inputDataLength,time,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message object from a specific endpoint.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param message The actual message to send which will be copied.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendMessage(MemorySegment endpoint,MemorySegment message,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendMessage.invokeExact(endpoint,message,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Send a message object from a specific endpoint, the message will not be copied and the message object will no longer be valid
+ * after the call.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param message The actual message to send which will be copied.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSendMessageZeroCopy(MemorySegment endpoint,MemorySegment message,MemorySegment err){
+		try {
+			Handles.helicsEndpointSendMessageZeroCopy.invokeExact(endpoint,message,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Subscribe an endpoint to a publication.
+ *
+ * @param endpoint The endpoint to use.
+ * @param key The name of the publication.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsEndpointSubscribe(MemorySegment endpoint,MemorySegment key,MemorySegment err){
+		try {
+			Handles.helicsEndpointSubscribe.invokeExact(endpoint,key,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if the federate has any outstanding messages.
+ *
+ * @param fed The federate to check.
+ *
+ * @return HELICS_TRUE if the federate has a message waiting, HELICS_FALSE otherwise.
+ */
+		
+	public static int helicsFederateHasMessage(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateHasMessage.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a given endpoint has any unread messages.
+ *
+ * @param endpoint The endpoint to check.
+ *
+ * @return HELICS_TRUE if the endpoint has a message, HELICS_FALSE otherwise.
+ */
+		
+	public static int helicsEndpointHasMessage(MemorySegment endpoint){
+		try {
+			return (int) Handles.helicsEndpointHasMessage.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Returns the number of pending receives for the specified destination endpoint.
+ *
+ * @param fed The federate to get the number of waiting messages from.
+ */
+		
+	public static int helicsFederatePendingMessageCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederatePendingMessageCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Returns the number of pending receives for all endpoints of a particular federate.
+ *
+ * @param endpoint The endpoint to query.
+ */
+		
+	public static int helicsEndpointPendingMessageCount(MemorySegment endpoint){
+		try {
+			return (int) Handles.helicsEndpointPendingMessageCount.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Receive a packet from a particular endpoint.
+ *
+ * @param[in] endpoint The identifier for the endpoint.
+ *
+ * @return A message object.
+ */
+		
+	public static MemorySegment helicsEndpointGetMessage(MemorySegment endpoint){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetMessage.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a new empty message object.
+ *
+ * @details The message is empty and isValid will return false since there is no data associated with the message yet.
+ *
+ * @param endpoint The endpoint object to associate the message with.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ *
+ * @return A new HelicsMessage.
+ */
+		
+	public static MemorySegment helicsEndpointCreateMessage(MemorySegment endpoint,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsEndpointCreateMessage.invokeExact(endpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear all stored messages stored from an endpoint.
+ *
+ * @details This clears messages retrieved through helicsEndpointGetMessage or helicsEndpointCreateMessage
+ *
+ * @param endpoint The endpoint to clear the message for.
+ */
+		
+	public static void helicsEndpointClearMessages(MemorySegment endpoint){
+		try {
+			Handles.helicsEndpointClearMessages.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Receive a communication message for any endpoint in the federate.
+ *
+ * @details The return order will be in order of endpoint creation.
+ *          So all messages that are available for the first endpoint, then all for the second, and so on.
+ *          Within a single endpoint, the messages are ordered by time, then source_id, then order of arrival.
+ *
+ * @return A HelicsMessage which references the data in the message.
+ */
+		
+	public static MemorySegment helicsFederateGetMessage(MemorySegment fed){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetMessage.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a new empty message object.
+ *
+ * @details The message is empty and isValid will return false since there is no data associated with the message yet.
+ *
+ * @param fed the federate object to associate the message with
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ *
+ * @return A HelicsMessage containing the message data.
+ */
+		
+	public static MemorySegment helicsFederateCreateMessage(MemorySegment fed,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateCreateMessage.invokeExact(fed,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear all stored messages from a federate.
+ *
+ * @details This clears messages retrieved through helicsEndpointGetMessage or helicsFederateGetMessage
+ *
+ * @param fed The federate to clear the message for.
+ */
+		
+	public static void helicsFederateClearMessages(MemorySegment fed){
+		try {
+			Handles.helicsFederateClearMessages.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the type specified for an endpoint.
+ *
+ * @param endpoint The endpoint object in question.
+ *
+ * @return The defined type of the endpoint.
+ */
+		
+	public static MemorySegment helicsEndpointGetType(MemorySegment endpoint){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetType.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the name of an endpoint.
+ *
+ * @param endpoint The endpoint object in question.
+ *
+ * @return The name of the endpoint.
+ */
+		
+	public static MemorySegment helicsEndpointGetName(MemorySegment endpoint){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetName.invokeExact(endpoint);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the number of endpoints in a federate.
+ *
+ * @param fed The message federate to query.
+ *
+ * @return (-1) if fed was not a valid federate, otherwise returns the number of endpoints.
+ */
+		
+	public static int helicsFederateGetEndpointCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateGetEndpointCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the local information field of an endpoint.
+ *
+ * @param end The endpoint to query.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static MemorySegment helicsEndpointGetInfo(MemorySegment end){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetInfo.invokeExact(end);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in the interface information field for an endpoint.
+ *
+ * @param endpoint The endpoint to set the information for
+ * @param info The string to store in the field
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointSetInfo(MemorySegment endpoint,MemorySegment info,MemorySegment err){
+		try {
+			Handles.helicsEndpointSetInfo.invokeExact(endpoint,info,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in a specified tag of an endpoint
+ *
+ * @param endpoint The endpoint to query.
+ * @param tagname The name of the tag to query.
+ * @return A string with the tag data.
+ */
+		
+	public static MemorySegment helicsEndpointGetTag(MemorySegment endpoint,MemorySegment tagname){
+		try {
+			return (MemorySegment) Handles.helicsEndpointGetTag.invokeExact(endpoint,tagname);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in a specific tag for an endpoint.
+ *
+ * @param endpoint The endpoint to query.
+ * @param tagname The string to set.
+ * @param tagvalue The string value to associate with a tag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointSetTag(MemorySegment endpoint,MemorySegment tagname,MemorySegment tagvalue,MemorySegment err){
+		try {
+			Handles.helicsEndpointSetTag.invokeExact(endpoint,tagname,tagvalue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a handle option on an endpoint.
+ *
+ * @param endpoint The endpoint to modify.
+ * @param option Integer code for the option to set /ref helics_handle_options.
+ * @param value The value to set the option to.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointSetOption(MemorySegment endpoint,int option,int value,MemorySegment err){
+		try {
+			Handles.helicsEndpointSetOption.invokeExact(endpoint,option,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a handle option on an endpoint.
+ *
+ * @param endpoint The endpoint to modify.
+ * @param option Integer code for the option to set /ref helics_handle_options.
+ * @return the value of the option, for boolean options will be 0 or 1
+ */
+		
+	public static int helicsEndpointGetOption(MemorySegment endpoint,int option){
+		try {
+			return (int) Handles.helicsEndpointGetOption.invokeExact(endpoint,option);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * add a source target to an endpoint,  Specifying an endpoint to receive undirected messages from
+ *
+ * @param endpoint The endpoint to modify.
+ * @param targetEndpoint the endpoint to get messages from
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointAddSourceTarget(MemorySegment endpoint,MemorySegment targetEndpoint,MemorySegment err){
+		try {
+			Handles.helicsEndpointAddSourceTarget.invokeExact(endpoint,targetEndpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * add a destination target to an endpoint,  Specifying an endpoint to send undirected messages to
+ *
+ * @param endpoint The endpoint to modify.
+ * @param targetEndpoint the name of the endpoint to send messages to
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointAddDestinationTarget(MemorySegment endpoint,MemorySegment targetEndpoint,MemorySegment err){
+		try {
+			Handles.helicsEndpointAddDestinationTarget.invokeExact(endpoint,targetEndpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * remove an endpoint from being targeted
+ *
+ * @param endpoint The endpoint to modify.
+ * @param targetEndpoint the name of the endpoint to send messages to
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointRemoveTarget(MemorySegment endpoint,MemorySegment targetEndpoint,MemorySegment err){
+		try {
+			Handles.helicsEndpointRemoveTarget.invokeExact(endpoint,targetEndpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * add a source Filter to an endpoint
+ *
+ * @param endpoint The endpoint to modify.
+ * @param filterName the name of the filter to add
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsEndpointAddSourceFilter(MemorySegment endpoint,MemorySegment filterName,MemorySegment err){
+		try {
+			Handles.helicsEndpointAddSourceFilter.invokeExact(endpoint,filterName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * add a destination filter to an endpoint
+ *
+ * @param endpoint The endpoint to modify.
+ * @param filterName The name of the filter to add.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsEndpointAddDestinationFilter(MemorySegment endpoint,MemorySegment filterName,MemorySegment err){
+		try {
+			Handles.helicsEndpointAddDestinationFilter.invokeExact(endpoint,filterName,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the source endpoint of a message.
+ *
+ * @param message The message object in question.
+ *
+ * @return A string with the source endpoint.
+ */
+		
+	public static MemorySegment helicsMessageGetSource(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetSource.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the destination endpoint of a message.
+ *
+ * @param message The message object in question.
+ *
+ * @return A string with the destination endpoint.
+ */
+		
+	public static MemorySegment helicsMessageGetDestination(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetDestination.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the original source endpoint of a message, the source may have been modified by filters or other actions.
+ *
+ * @param message The message object in question.
+ *
+ * @return A string with the source of a message.
+ */
+		
+	public static MemorySegment helicsMessageGetOriginalSource(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetOriginalSource.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the original destination endpoint of a message, the destination may have been modified by filters or other actions.
+ *
+ * @param message The message object in question.
+ *
+ * @return A string with the original destination of a message.
+ */
+		
+	public static MemorySegment helicsMessageGetOriginalDestination(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetOriginalDestination.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the helics time associated with a message.
+ *
+ * @param message The message object in question.
+ *
+ * @return The time associated with a message.
+ */
+		
+	public static double helicsMessageGetTime(MemorySegment message){
+		try {
+			return (double) Handles.helicsMessageGetTime.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the payload of a message as a string.
+ *
+ * @param message The message object in question.
+ *
+ * @return A string representing the payload of a message.
+ */
+		
+	public static MemorySegment helicsMessageGetString(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetString.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the messageID of a message.
+ *
+ * @param message The message object in question.
+ *
+ * @return The messageID.
+ */
+		
+	public static int helicsMessageGetMessageID(MemorySegment message){
+		try {
+			return (int) Handles.helicsMessageGetMessageID.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a flag is set on a message.
+ *
+ * @param message The message object in question.
+ * @param flag The flag to check should be between [0,15].
+ *
+ * @return The flags associated with a message.
+ */
+		
+	public static int helicsMessageGetFlagOption(MemorySegment message,int flag){
+		try {
+			return (int) Handles.helicsMessageGetFlagOption.invokeExact(message,flag);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the size of the data payload in bytes.
+ *
+ * @param message The message object in question.
+ *
+ * @return The size of the data payload.
+ */
+		
+	public static int helicsMessageGetByteCount(MemorySegment message){
+		try {
+			return (int) Handles.helicsMessageGetByteCount.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the raw data for a message object.
+ *
+ * @param message A message object to get the data for.
+ *
+ * @param[out] data The memory location of the data.
+ * @param maxMessageLength The maximum size of information that data can hold.
+ * @param[out] actualSize The actual length of data copied to data.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	public static void helicsMessageGetBytes(MemorySegment message,MemorySegment data,int maxMessageLength,MemorySegment actualSize,MemorySegment err){
+		try {
+			Handles.helicsMessageGetBytes.invokeExact(message,data,maxMessageLength,actualSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a pointer to the raw data of a message.
+ *
+ * @param message A message object to get the data for.
+ *
+ * @return A pointer to the raw data in memory, the pointer may be NULL if the message is not a valid message.
+ */
+		
+	public static MemorySegment helicsMessageGetBytesPointer(MemorySegment message){
+		try {
+			return (MemorySegment) Handles.helicsMessageGetBytesPointer.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * A check if the message contains a valid payload.
+ *
+ * @param message The message object in question.
+ *
+ * @return HELICS_TRUE if the message contains a payload.
+ */
+		
+	public static int helicsMessageIsValid(MemorySegment message){
+		try {
+			return (int) Handles.helicsMessageIsValid.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the source of a message.
+ *
+ * @param message The message object in question.
+ * @param src A string containing the source.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetSource(MemorySegment message,MemorySegment src,MemorySegment err){
+		try {
+			Handles.helicsMessageSetSource.invokeExact(message,src,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the destination of a message.
+ *
+ * @param message The message object in question.
+ * @param dst A string containing the new destination.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetDestination(MemorySegment message,MemorySegment dst,MemorySegment err){
+		try {
+			Handles.helicsMessageSetDestination.invokeExact(message,dst,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the original source of a message.
+ *
+ * @param message The message object in question.
+ * @param src A string containing the new original source.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetOriginalSource(MemorySegment message,MemorySegment src,MemorySegment err){
+		try {
+			Handles.helicsMessageSetOriginalSource.invokeExact(message,src,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the original destination of a message.
+ *
+ * @param message The message object in question.
+ * @param dst A string containing the new original source.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetOriginalDestination(MemorySegment message,MemorySegment dst,MemorySegment err){
+		try {
+			Handles.helicsMessageSetOriginalDestination.invokeExact(message,dst,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the delivery time for a message.
+ *
+ * @param message The message object in question.
+ * @param time The time the message should be delivered.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetTime(MemorySegment message,double time,MemorySegment err){
+		try {
+			Handles.helicsMessageSetTime.invokeExact(message,time,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Resize the data buffer for a message.
+ *
+ * @details The message data buffer will be resized. There are no guarantees on what is in the buffer in newly allocated space.
+ *          If the allocated space is not sufficient new allocations will occur.
+ *
+ * @param message The message object in question.
+ * @param newSize The new size in bytes of the buffer.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageResize(MemorySegment message,int newSize,MemorySegment err){
+		try {
+			Handles.helicsMessageResize.invokeExact(message,newSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Reserve space in a buffer but don't actually resize.
+ *
+ * @details The message data buffer will be reserved but not resized.
+ *
+ * @param message The message object in question.
+ * @param reserveSize The number of bytes to reserve in the message object.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageReserve(MemorySegment message,int reserveSize,MemorySegment err){
+		try {
+			Handles.helicsMessageReserve.invokeExact(message,reserveSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the message ID for the message.
+ *
+ * @details Normally this is not needed and the core of HELICS will adjust as needed.
+ *
+ * @param message The message object in question.
+ * @param messageID A new message ID.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetMessageID(MemorySegment message,int messageID,MemorySegment err){
+		try {
+			Handles.helicsMessageSetMessageID.invokeExact(message,messageID,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clear the flags of a message.
+ *
+ * @param message The message object in question
+ */
+		
+	public static void helicsMessageClearFlags(MemorySegment message){
+		try {
+			Handles.helicsMessageClearFlags.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a flag on a message.
+ *
+ * @param message The message object in question.
+ * @param flag An index of a flag to set on the message.
+ * @param flagValue The desired value of the flag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetFlagOption(MemorySegment message,int flag,int flagValue,MemorySegment err){
+		try {
+			Handles.helicsMessageSetFlagOption.invokeExact(message,flag,flagValue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data payload of a message as a string.
+ *
+ * @param message The message object in question.
+ * @param data A null terminated string containing the message data.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetString(MemorySegment message,MemorySegment data,MemorySegment err){
+		try {
+			Handles.helicsMessageSetString.invokeExact(message,data,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data payload of a message as raw data.
+ *
+ * @param message The message object in question.
+ * @param data A string containing the message data.
+ * @param inputDataLength The length of the data to input.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageSetData(MemorySegment message,MemorySegment data,int inputDataLength,MemorySegment err){
+		try {
+			Handles.helicsMessageSetData.invokeExact(message,data,inputDataLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Append data to the payload.
+ *
+ * @param message The message object in question.
+ * @param data A string containing the message data to append.
+ * @param inputDataLength The length of the data to input.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageAppendData(MemorySegment message,MemorySegment data,int inputDataLength,MemorySegment err){
+		try {
+			Handles.helicsMessageAppendData.invokeExact(message,data,inputDataLength,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Copy a message object.
+ *
+ * @param src_message The message object to copy from.
+ * @param dst_message The message object to copy to.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageCopy(MemorySegment src_message,MemorySegment dst_message,MemorySegment err){
+		try {
+			Handles.helicsMessageCopy.invokeExact(src_message,dst_message,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Clone a message object.
+ *
+ * @param message The message object to copy from.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static MemorySegment helicsMessageClone(MemorySegment message,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsMessageClone.invokeExact(message,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Free a message object from memory
+ * @param message The message object to copy from.
+ * @details memory for message is managed so not using this function does not create memory leaks, this is an indication
+ * to the system that the memory for this message is done being used and can be reused for a new message.
+ * helicsFederateClearMessages() can also be used to clear up all stored messages at once
+ */
+		
+	public static void helicsMessageFree(MemorySegment message){
+		try {
+			Handles.helicsMessageFree.invokeExact(message);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Reset a message to empty state
+ * @param message The message object to copy from.
+ * @details The message after this function will be empty, with no source or destination
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	public static void helicsMessageClear(MemorySegment message,MemorySegment err){
+		try {
+			Handles.helicsMessageClear.invokeExact(message,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a source Filter on the specified federate.
+ *
+ * @details Filters can be created through a federate or a core, linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise equivalent behavior
+ *
+ * @param fed The federate to register through.
+ * @param type The type of filter to create /ref HelicsFilterTypes.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterFilter(MemorySegment fed,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterFilter.invokeExact(fed,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a global source filter through a federate.
+ *
+ * @details Filters can be created through a federate or a core, linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise equivalent behavior.
+ *
+ * @param fed The federate to register through.
+ * @param type The type of filter to create /ref HelicsFilterTypes.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalFilter(MemorySegment fed,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalFilter.invokeExact(fed,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a cloning Filter on the specified federate.
+ *
+ * @details Cloning filters copy a message and send it to multiple locations, source and destination can be added
+ *          through other functions.
+ *
+ * @param fed The federate to register through.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterCloningFilter(MemorySegment fed,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterCloningFilter.invokeExact(fed,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a global cloning Filter on the specified federate.
+ *
+ * @details Cloning filters copy a message and send it to multiple locations, source and destination can be added
+ *          through other functions.
+ *
+ * @param fed The federate to register through.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalCloningFilter(MemorySegment fed,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalCloningFilter.invokeExact(fed,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a source Filter on the specified core.
+ *
+ * @details Filters can be created through a federate or a core, linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise equivalent behavior.
+ *
+ * @param core The core to register through.
+ * @param type The type of filter to create /ref HelicsFilterTypes.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsCoreRegisterFilter(MemorySegment core,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCoreRegisterFilter.invokeExact(core,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a cloning Filter on the specified core.
+ *
+ * @details Cloning filters copy a message and send it to multiple locations, source and destination can be added
+ *          through other functions.
+ *
+ * @param core The core to register through.
+ * @param name The name of the filter (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter object.
+ */
+		
+	public static MemorySegment helicsCoreRegisterCloningFilter(MemorySegment core,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCoreRegisterCloningFilter.invokeExact(core,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the number of filters registered through a federate.
+ *
+ * @param fed The federate object to use to get the filter.
+ *
+ * @return A count of the number of filters registered through a federate.
+ */
+		
+	public static int helicsFederateGetFilterCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateGetFilterCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a filter by its name, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object to use to get the filter.
+ * @param name The name of the filter.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsFilter object, the object will not be valid and err will contain an error code if no filter with the specified name
+ * exists.
+ */
+		
+	public static MemorySegment helicsFederateGetFilter(MemorySegment fed,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetFilter.invokeExact(fed,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a filter by its index, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param index The index of the publication to get.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsFilter, which will be NULL if an invalid index is given.
+ */
+		
+	public static MemorySegment helicsFederateGetFilterByIndex(MemorySegment fed,int index,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetFilterByIndex.invokeExact(fed,index,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a filter is valid.
+ *
+ * @param filt The filter object to check.
+ *
+ * @return HELICS_TRUE if the Filter object represents a valid filter.
+ */
+		
+	public static int helicsFilterIsValid(MemorySegment filt){
+		try {
+			return (int) Handles.helicsFilterIsValid.invokeExact(filt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the name of the filter and store in the given string.
+ *
+ * @param filt The given filter.
+ *
+ * @return A string with the name of the filter.
+ */
+		
+	public static MemorySegment helicsFilterGetName(MemorySegment filt){
+		try {
+			return (MemorySegment) Handles.helicsFilterGetName.invokeExact(filt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a property on a filter.
+ *
+ * @param filt The filter to modify.
+ * @param prop A string containing the property to set.
+ * @param val A numerical value for the property.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterSet(MemorySegment filt,MemorySegment prop,double val,MemorySegment err){
+		try {
+			Handles.helicsFilterSet.invokeExact(filt,prop,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a string property on a filter.
+ *
+ * @param filt The filter to modify.
+ * @param prop A string containing the property to set.
+ * @param val A string containing the new value.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterSetString(MemorySegment filt,MemorySegment prop,MemorySegment val,MemorySegment err){
+		try {
+			Handles.helicsFilterSetString.invokeExact(filt,prop,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a destination target to a filter.
+ *
+ * @details All messages going to a destination are copied to the delivery address(es).
+ * @param filt The given filter to add a destination target to.
+ * @param dst The name of the endpoint to add as a destination target.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterAddDestinationTarget(MemorySegment filt,MemorySegment dst,MemorySegment err){
+		try {
+			Handles.helicsFilterAddDestinationTarget.invokeExact(filt,dst,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a source target to a filter.
+ *
+ * @details All messages coming from a source are copied to the delivery address(es).
+ *
+ * @param filt The given filter.
+ * @param source The name of the endpoint to add as a source target.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterAddSourceTarget(MemorySegment filt,MemorySegment source,MemorySegment err){
+		try {
+			Handles.helicsFilterAddSourceTarget.invokeExact(filt,source,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a delivery endpoint to a cloning filter.
+ *
+ * @details All cloned messages are sent to the delivery address(es).
+ *
+ * @param filt The given filter.
+ * @param deliveryEndpoint The name of the endpoint to deliver messages to.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterAddDeliveryEndpoint(MemorySegment filt,MemorySegment deliveryEndpoint,MemorySegment err){
+		try {
+			Handles.helicsFilterAddDeliveryEndpoint.invokeExact(filt,deliveryEndpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Remove a destination target from a filter.
+ *
+ * @param filt The given filter.
+ * @param target The named endpoint to remove as a target.
+ *
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterRemoveTarget(MemorySegment filt,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsFilterRemoveTarget.invokeExact(filt,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Remove a delivery destination from a cloning filter.
+ *
+ * @param filt The given filter (must be a cloning filter).
+ * @param deliveryEndpoint A string with the delivery endpoint to remove.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterRemoveDeliveryEndpoint(MemorySegment filt,MemorySegment deliveryEndpoint,MemorySegment err){
+		try {
+			Handles.helicsFilterRemoveDeliveryEndpoint.invokeExact(filt,deliveryEndpoint,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in the info field of a filter.
+ *
+ * @param filt The given filter.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static MemorySegment helicsFilterGetInfo(MemorySegment filt){
+		try {
+			return (MemorySegment) Handles.helicsFilterGetInfo.invokeExact(filt);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in the info field for a filter.
+ *
+ * @param filt The given filter.
+ * @param info The string to set.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsFilterSetInfo(MemorySegment filt,MemorySegment info,MemorySegment err){
+		try {
+			Handles.helicsFilterSetInfo.invokeExact(filt,info,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in a specified tag of a filter.
+ *
+ * @param filt The filter to query.
+ * @param tagname The name of the tag to query.
+ * @return A string with the tag data.
+ */
+		
+	public static MemorySegment helicsFilterGetTag(MemorySegment filt,MemorySegment tagname){
+		try {
+			return (MemorySegment) Handles.helicsFilterGetTag.invokeExact(filt,tagname);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in a specific tag for a filter.
+ *
+ * @param filt The filter object to set the tag for.
+ * @param tagname The string to set.
+ * @param tagvalue the string value to associate with a tag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsFilterSetTag(MemorySegment filt,MemorySegment tagname,MemorySegment tagvalue,MemorySegment err){
+		try {
+			Handles.helicsFilterSetTag.invokeExact(filt,tagname,tagvalue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set an option value for a filter.
+ *
+ * @param filt The given filter.
+ * @param option The option to set /ref helics_handle_options.
+ * @param value The value of the option commonly 0 for false 1 for true.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsFilterSetOption(MemorySegment filt,int option,int value,MemorySegment err){
+		try {
+			Handles.helicsFilterSetOption.invokeExact(filt,option,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a handle option for the filter.
+ *
+ * @param filt The given filter to query.
+ * @param option The option to query /ref helics_handle_options.
+ */
+		
+	public static int helicsFilterGetOption(MemorySegment filt,int option){
+		try {
+			return (int) Handles.helicsFilterGetOption.invokeExact(filt,option);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a Translator on the specified federate.
+ *
+ * @details Translators can be created through a federate or a core. Linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise have equivalent behavior.
+ *
+ * @param fed The federate to register through.
+ * @param type The type of translator to create /ref HelicsTranslatorTypes.
+ * @param name The name of the translator (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsTranslator object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterTranslator(MemorySegment fed,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterTranslator.invokeExact(fed,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a global translator through a federate.
+ *
+ * @details Translators can be created through a federate or a core. Linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise have equivalent behavior.
+ *
+ * @param fed The federate to register through.
+ * @param type The type of translator to create /ref HelicsTranslatorTypes.
+ * @param name The name of the translator (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsTranslator object.
+ */
+		
+	public static MemorySegment helicsFederateRegisterGlobalTranslator(MemorySegment fed,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateRegisterGlobalTranslator.invokeExact(fed,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Create a Translator on the specified core.
+ *
+ * @details Translators can be created through a federate or a core. Linking through a federate allows
+ *          a few extra features of name matching to function on the federate interface but otherwise have equivalent behavior.
+ *
+ * @param core The core to register through.
+ * @param type The type of translator to create /ref HelicsTranslatorTypes.
+ * @param name The name of the translator (can be NULL).
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsTranslator object.
+ */
+		
+	public static MemorySegment helicsCoreRegisterTranslator(MemorySegment core,int type,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsCoreRegisterTranslator.invokeExact(core,type,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the number of translators registered through a federate.
+ *
+ * @param fed The federate object to use to get the translator.
+ *
+ * @return A count of the number of translators registered through a federate.
+ */
+		
+	public static int helicsFederateGetTranslatorCount(MemorySegment fed){
+		try {
+			return (int) Handles.helicsFederateGetTranslatorCount.invokeExact(fed);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a translator by its name, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object to use to get the translator.
+ * @param name The name of the translator.
+ *
+ * @param[in,out] err The error object to complete if there is an error.
+
+ *
+ * @return A HelicsTranslator object. If no translator with the specified name exists, the object will not be valid and
+ * err will contain an error code.
+ */
+		
+	public static MemorySegment helicsFederateGetTranslator(MemorySegment fed,MemorySegment name,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetTranslator.invokeExact(fed,name,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a translator by its index, typically already created via registerInterfaces file or something of that nature.
+ *
+ * @param fed The federate object in which to create a publication.
+ * @param index The index of the translator to get.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ *
+ * @return A HelicsTranslator, which will be NULL if an invalid index is given.
+ */
+		
+	public static MemorySegment helicsFederateGetTranslatorByIndex(MemorySegment fed,int index,MemorySegment err){
+		try {
+			return (MemorySegment) Handles.helicsFederateGetTranslatorByIndex.invokeExact(fed,index,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Check if a translator is valid.
+ *
+ * @param trans The translator object to check.
+ *
+ * @return HELICS_TRUE if the Translator object represents a valid translator.
+ */
+		
+	public static int helicsTranslatorIsValid(MemorySegment trans){
+		try {
+			return (int) Handles.helicsTranslatorIsValid.invokeExact(trans);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the name of the translator and store in the given string.
+ *
+ * @param trans The given translator.
+ *
+ * @return A string with the name of the translator.
+ */
+		
+	public static MemorySegment helicsTranslatorGetName(MemorySegment trans){
+		try {
+			return (MemorySegment) Handles.helicsTranslatorGetName.invokeExact(trans);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a property on a translator.
+ *
+ * @param trans The translator to modify.
+ * @param prop A string containing the property to set.
+ * @param val A numerical value for the property.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorSet(MemorySegment trans,MemorySegment prop,double val,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSet.invokeExact(trans,prop,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a string property on a translator.
+ *
+ * @param trans The translator to modify.
+ * @param prop A string containing the property to set.
+ * @param val A string containing the new value.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorSetString(MemorySegment trans,MemorySegment prop,MemorySegment val,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSetString.invokeExact(trans,prop,val,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add an input to send a translator output.
+ *
+ * @details All messages sent to a translator endpoint get translated and published to the translators target inputs.
+ * This method adds an input to a translators which will receive translated messages.
+ * @param trans The given translator to add a destination target to.
+ * @param input The name of the input which will be receiving translated messages
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorAddInputTarget(MemorySegment trans,MemorySegment input,MemorySegment err){
+		try {
+			Handles.helicsTranslatorAddInputTarget.invokeExact(trans,input,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a source publication target to a translator.
+ *
+ * @details When a publication publishes data the translator will receive it and convert it to a message sent to a translators destination
+ endpoints.
+ * This method adds a publication which publishes data the translator receives and sends to its destination endpoints.
+ *
+ * @param trans The given translator.
+ * @param pub The name of the publication to subscribe.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorAddPublicationTarget(MemorySegment trans,MemorySegment pub,MemorySegment err){
+		try {
+			Handles.helicsTranslatorAddPublicationTarget.invokeExact(trans,pub,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a source endpoint target to a translator.
+ *
+ * @details The translator will "translate" all message sent to it.  This method adds an endpoint which can send the translator data.
+ *
+ * @param trans The given translator.
+ * @param ept The name of the endpoint which will send the endpoint data
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorAddSourceEndpoint(MemorySegment trans,MemorySegment ept,MemorySegment err){
+		try {
+			Handles.helicsTranslatorAddSourceEndpoint.invokeExact(trans,ept,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Add a destination target endpoint to a translator.
+ *
+ * @details The translator will "translate" all message sent to it.  This method adds an endpoint which will receive data published to the
+ translator.
+ *
+ * @param trans The given translator.
+ * @param ept The name of the endpoint the translator sends data to.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorAddDestinationEndpoint(MemorySegment trans,MemorySegment ept,MemorySegment err){
+		try {
+			Handles.helicsTranslatorAddDestinationEndpoint.invokeExact(trans,ept,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Remove a target from a translator.
+ *
+ * @param trans The given translator.
+ * @param target The name of the interface to remove as a target.
+ *
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorRemoveTarget(MemorySegment trans,MemorySegment target,MemorySegment err){
+		try {
+			Handles.helicsTranslatorRemoveTarget.invokeExact(trans,target,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in the info field of a translator.
+ *
+ * @param trans The given translator.
+ *
+ * @return A string with the info field string.
+ */
+		
+	public static MemorySegment helicsTranslatorGetInfo(MemorySegment trans){
+		try {
+			return (MemorySegment) Handles.helicsTranslatorGetInfo.invokeExact(trans);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in the info field for a translator.
+ *
+ * @param trans The given translator.
+ * @param info The string to set.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsTranslatorSetInfo(MemorySegment trans,MemorySegment info,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSetInfo.invokeExact(trans,info,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get the data in a specified tag of a translator.
+ *
+ * @param trans The translator to query.
+ * @param tagname The name of the tag to query.
+ * @return A string with the tag data.
+ */
+		
+	public static MemorySegment helicsTranslatorGetTag(MemorySegment trans,MemorySegment tagname){
+		try {
+			return (MemorySegment) Handles.helicsTranslatorGetTag.invokeExact(trans,tagname);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data in a specific tag for a translator.
+ *
+ * @param trans The translator object to set the tag for.
+ * @param tagname The string to set.
+ * @param tagvalue The string value to associate with a tag.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsTranslatorSetTag(MemorySegment trans,MemorySegment tagname,MemorySegment tagvalue,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSetTag.invokeExact(trans,tagname,tagvalue,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set an option value for a translator.
+ *
+ * @param trans The given translator.
+ * @param option The option to set /ref helics_handle_options.
+ * @param value The value of the option, commonly 0 for false or 1 for true.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+
+ */
+		
+	public static void helicsTranslatorSetOption(MemorySegment trans,int option,int value,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSetOption.invokeExact(trans,option,value,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Get a handle option for the translator.
+ *
+ * @param trans The given translator to query.
+ * @param option The option to query /ref helics_handle_options.
+ */
+		
+	public static int helicsTranslatorGetOption(MemorySegment trans,int option){
+		try {
+			return (int) Handles.helicsTranslatorGetOption.invokeExact(trans,option);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the logging callback to a broker.
+ *
+ * @details Add a logging callback function to a broker.
+ *          The logging callback will be called when
+ *          a message flows into a broker from the core or from a broker.
+ *
+ * @param broker The broker object in which to set the callback.
+ * @param logger A callback with signature void(int, const char *, const char *, void *);
+ *               the function arguments are loglevel, an identifier, a message string, and a pointer to user data.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsBrokerSetLoggingCallback(MemorySegment broker,MemorySegment logger,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsBrokerSetLoggingCallback.invokeExact(broker,logger,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+* Set the logging callback for a core.
+*
+* @details Add a logging callback function to a core. The logging callback will be called when
+*          a message flows into a core from the core or from a broker.
+*
+* @param core The core object in which to set the callback.
+* @param logger A callback with signature void(int, const char *, const char *, void *);
+*               The function arguments are loglevel, an identifier, a message string, and a pointer to user data.
+* @param userdata A pointer to user data that is passed to the function when executing.
+*
+* @param[in,out] err A pointer to an error object for catching errors.
+
+*/
+		
+	public static void helicsCoreSetLoggingCallback(MemorySegment core,MemorySegment logger,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsCoreSetLoggingCallback.invokeExact(core,logger,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the logging callback for a federate.
+ *
+ * @details Add a logging callback function to a federate. The logging callback will be called when
+ *          a message flows into a federate from the core or from a federate.
+ *
+ * @param fed The federate object in which to create a subscription must have been created with
+ *            helicsCreateValueFederate or helicsCreateCombinationFederate.
+ * @param logger A callback with signature void(int, const char *, const char *, void *);
+ *        The function arguments are loglevel, an identifier string, a message string, and a pointer to user data.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetLoggingCallback(MemorySegment fed,MemorySegment logger,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetLoggingCallback.invokeExact(fed,logger,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a general callback for a custom filter.
+ *
+ * @details Add a custom filter callback for creating a custom filter operation in the C shared library.
+ *
+ * @param filter The filter object to set the callback for.
+ * @param filtCall A callback with signature helics_message_object(helics_message_object, void *);
+ *                 The function arguments are the message to filter and a pointer to user data.
+ *                 The filter should return a new message.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFilterSetCustomCallback(MemorySegment filter,MemorySegment filtCall,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFilterSetCustomCallback.invokeExact(filter,filtCall,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set a general callback for a custom translator.
+ *
+ * @details Add a pair of custom callbacks for running a translator operation in the C shared library.
+ *
+ * @param translator The translator object to set the callbacks for.
+ *  * @param toMessageCall A callback with signature void(HelicsDataBuffer, HelicsMessage, void *);
+ *                 The function arguments are raw Value data, the messageObject to fill out and a pointer to user data.
+ *
+ * @param toValueCall A callback with signature void(HelicsMessage, HelicsDataBuffer, void *);
+ *                 The function arguments are a message object, the data buffer to fill out and a pointer to user data.
+ *
+ * @param userdata A pointer to user data that is passed to the functions when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsTranslatorSetCustomCallback(MemorySegment translator,MemorySegment toMessageCall,MemorySegment toValueCall,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsTranslatorSetCustomCallback.invokeExact(translator,toMessageCall,toValueCall,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set callback for queries executed against a federate.
+ *
+ * @details There are many queries that HELICS understands directly, but it is occasionally useful to have a federate be able to respond
+ * to specific queries with answers specific to a federate.
+ *
+ * @param fed The federate to set the callback for.
+ * @param queryAnswer A callback with signature const char *(const char *query, int querySize, HelicsQueryBuffer buffer, void *userdata);
+ *                 The function arguments include the query string requesting an answer along with its size; the string is not guaranteed to
+ be
+ * null terminated. HelicsQueryBuffer is the buffer intended to filled out by the userCallback. The buffer can be empty if the query is not
+ recognized and HELICS will generate the appropriate response.  The buffer is used to ensure memory ownership separation between user code
+ and HELICS code.
+ *  The HelicsQueryBufferFill method can be used to load a string into the buffer.
+ @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetQueryCallback(MemorySegment fed,MemorySegment queryAnswer,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetQueryCallback.invokeExact(fed,queryAnswer,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set callback for the time request.
+ *
+ * @details This callback will be executed when a valid time request is made. It is intended for the possibility of embedded data grabbers
+ in a callback to simplify user code.
+ *
+ * @param fed The federate to set the callback for.
+ * @param requestTime A callback with signature void(HelicsTime currentTime, HelicsTime requestTime, bool iterating, void *userdata);
+ *                 The function arguments are the current time value, the requested time value, a bool indicating that the time is
+ iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetTimeRequestEntryCallback(MemorySegment fed,MemorySegment requestTime,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetTimeRequestEntryCallback.invokeExact(fed,requestTime,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set callback for the time update.
+ *
+ * @details This callback will be executed every time the simulation time is updated starting on entry to executing mode.
+ *
+ * @param fed The federate to set the callback for.
+ * @param timeUpdate A callback with signature void(HelicsTime newTime, bool iterating, void *userdata);
+ *                 The function arguments are the new time value, a bool indicating that the time is iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetTimeUpdateCallback(MemorySegment fed,MemorySegment timeUpdate,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetTimeUpdateCallback.invokeExact(fed,timeUpdate,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set callback for the federate mode change.
+ *
+ * @details This callback will be executed every time the operating mode of the federate changes.
+ *
+ * @param fed The federate to set the callback for.
+ * @param stateChange A callback with signature void(HelicsFederateState newState, HelicsFederateState oldState, void *userdata);
+ *                 The function arguments are the new state, the old state, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetStateChangeCallback(MemorySegment fed,MemorySegment stateChange,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetStateChangeCallback.invokeExact(fed,stateChange,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set callback for the time request return.
+ *
+ * @details This callback will be executed after all other callbacks for a time request return.  This callback will be the last thing
+ executed before returning control to the user program.
+ * The difference between this and the TimeUpdate callback is the order of execution.  The timeUpdate callback is executed prior to
+ individual interface callbacks, this callback is executed after all others.
+ * @param fed The federate to set the callback for.
+ * @param requestTimeReturn A callback with signature void(HelicsTime newTime, bool iterating, void *userdata);
+ *                 The function arguments are the new time value, a bool indicating that the time is iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsFederateSetTimeRequestReturnCallback(MemorySegment fed,MemorySegment requestTimeReturn,MemorySegment userdata,MemorySegment err){
+		try {
+			Handles.helicsFederateSetTimeRequestReturnCallback.invokeExact(fed,requestTimeReturn,userdata,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	/**
+ * Set the data for a query callback.
+ *
+ * @details There are many queries that HELICS understands directly, but it is occasionally useful to have a federate be able to respond
+ * to specific queries with answers specific to a federate.
+ *
+ * @param buffer The buffer received in a helicsQueryCallback.
+ * @param queryResult Pointer to the data with the query result to fill the buffer with.
+ * @param strSize The size of the string.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	public static void helicsQueryBufferFill(MemorySegment buffer,MemorySegment queryResult,int strSize,MemorySegment err){
+		try {
+			Handles.helicsQueryBufferFill.invokeExact(buffer,queryResult,strSize,err);
+		} catch (Throwable t) {
+			throw rethrow(t);
+		}
+	}
+	private JavaHelicsForeignLibrary(){}
+}
\ No newline at end of file
@@ -0,0 +1,2568 @@
+/*
+Copyright (c) 2017-2022,
+Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See
+the top-level NOTICE for additional details. All rights reserved.
+SPDX-License-Identifier: BSD-3-Clause
+*/
+
+package com.java.helics;
+
+import com.sun.jna.*;
+import com.sun.jna.ptr.*;
+import java.lang.foreign.*;
+import java.nio.*;
+
+/**
+ * {@link JavaHelicsLibrary} implementation forwarding to {@link JavaHelicsForeignLibrary}.
+ */
+final class JavaHelicsForeignMapping implements JavaHelicsLibrary {
+	private static MemorySegment address(final Pointer pointer) {
+		return pointer == null ? MemorySegment.NULL : MemorySegment.ofAddress(Pointer.nativeValue(pointer));
+	}
+	private static MemorySegment address(final PointerType object) {
+		return object == null ? MemorySegment.NULL : address(object.getPointer());
+	}
+	private static MemorySegment address(final double[] values) {
+		return values == null ? MemorySegment.NULL : MemorySegment.ofArray(values);
+	}
+	private static MemorySegment address(final byte[] values) {
+		return values == null ? MemorySegment.NULL : MemorySegment.ofArray(values);
+	}
+	private static MemorySegment address(final Buffer buffer) {
+		return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer);
+	}
+	private static MemorySegment address(final Callback callback) {
+		return callback == null ? MemorySegment.NULL : address(CallbackReference.getFunctionPointer(callback));
+	}
+	private static MemorySegment filterUpcall(final HelicsFilterCallback callback) {
+		return callback == null ? MemorySegment.NULL : ForeignUpcalls.filterStub(callback);
+	}
+	private static MemorySegment toMessageUpcall(final HelicsTranslatorToMessageCallback callback) {
+		return callback == null ? MemorySegment.NULL : ForeignUpcalls.toMessageStub(callback);
+	}
+	private static MemorySegment toValueUpcall(final HelicsTranslatorToValueCallback callback) {
+		return callback == null ? MemorySegment.NULL : ForeignUpcalls.toValueStub(callback);
+	}
+	private static MemorySegment address(final HelicsError err) {
+		if (err == null) {
+			return MemorySegment.NULL;
+		}
+		if (err.getAutoWrite()) {
+			err.write();
+		}
+		return address(err.getPointer());
+	}
+	private static void read(final HelicsError err) {
+		if (err != null && err.getAutoRead()) {
+			err.read();
+		}
+	}
+	private static MemorySegment string(final Arena arena, final String value) {
+		return value == null ? MemorySegment.NULL : arena.allocateFrom(value);
+	}
+	private static String string(final MemorySegment value) {
+		return value.equals(MemorySegment.NULL) ? null : value.reinterpret(Long.MAX_VALUE).getString(0);
+	}
+	private static Pointer pointer(final MemorySegment value) {
+		return value.equals(MemorySegment.NULL) ? null : new Pointer(value.address());
+	}
+	private static <T extends PointerType> T handle(final T object, final MemorySegment value) {
+		if (value.equals(MemorySegment.NULL)) {
+			return null;
+		}
+		object.setPointer(new Pointer(value.address()));
+		return object;
+	}
+	@Override
+	public HelicsDataBuffer helicsCreateDataBuffer(int initialCapacity){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateDataBuffer(initialCapacity);
+		return handle(new HelicsDataBuffer(), result);
+	}
+	@Override
+	public int helicsDataBufferIsValid(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferIsValid(address(data));
+		return result;
+	}
+	@Override
+	public HelicsDataBuffer helicsWrapDataInBuffer(Pointer data,int dataSize,int dataCapacity){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsWrapDataInBuffer(address(data),dataSize,dataCapacity);
+		return handle(new HelicsDataBuffer(), result);
+	}
+	@Override
+	public void helicsDataBufferFree(HelicsDataBuffer data){
+		JavaHelicsForeignLibrary.helicsDataBufferFree(address(data));
+	}
+	@Override
+	public int helicsDataBufferSize(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferSize(address(data));
+		return result;
+	}
+	@Override
+	public int helicsDataBufferCapacity(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferCapacity(address(data));
+		return result;
+	}
+	@Override
+	public Pointer helicsDataBufferData(HelicsDataBuffer data){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsDataBufferData(address(data));
+		return pointer(result);
+	}
+	@Override
+	public int helicsDataBufferReserve(HelicsDataBuffer data,int newCapacity){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferReserve(address(data),newCapacity);
+		return result;
+	}
+	@Override
+	public HelicsDataBuffer helicsDataBufferClone(HelicsDataBuffer data){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsDataBufferClone(address(data));
+		return handle(new HelicsDataBuffer(), result);
+	}
+	@Override
+	public int helicsIntegerToBytes(int value,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsIntegerToBytes(value,address(data));
+		return result;
+	}
+	@Override
+	public int helicsDoubleToBytes(double value,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDoubleToBytes(value,address(data));
+		return result;
+	}
+	@Override
+	public int helicsStringToBytes(String value,HelicsDataBuffer data){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsStringToBytes(string(arena, value),address(data));
+			return result;
+		}
+	}
+	@Override
+	public int helicsRawStringToBytes(String str,int stringSize,HelicsDataBuffer data){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsRawStringToBytes(string(arena, str),stringSize,address(data));
+			return result;
+		}
+	}
+	@Override
+	public int helicsBooleanToBytes(int value,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsBooleanToBytes(value,address(data));
+		return result;
+	}
+	@Override
+	public int helicsCharToBytes(char value,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsCharToBytes((byte) value,address(data));
+		return result;
+	}
+	@Override
+	public int helicsVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsVectorToBytes(address(value),dataSize,address(data));
+		return result;
+	}
+	@Override
+	public int helicsVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsVectorToBytes(address(value),dataSize,address(data));
+		return result;
+	}
+	@Override
+	public int helicsNamedPointToBytes(String name,double value,HelicsDataBuffer data){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsNamedPointToBytes(string(arena, name),value,address(data));
+			return result;
+		}
+	}
+	@Override
+	public int helicsComplexVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsComplexVectorToBytes(address(value),dataSize,address(data));
+		return result;
+	}
+	@Override
+	public int helicsComplexVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsComplexVectorToBytes(address(value),dataSize,address(data));
+		return result;
+	}
+	@Override
+	public int helicsDataBufferType(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferType(address(data));
+		return result;
+	}
+	@Override
+	public int helicsDataBufferToInteger(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferToInteger(address(data));
+		return result;
+	}
+	@Override
+	public double helicsDataBufferToDouble(HelicsDataBuffer data){
+		final double result = JavaHelicsForeignLibrary.helicsDataBufferToDouble(address(data));
+		return result;
+	}
+	@Override
+	public int helicsDataBufferToBoolean(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferToBoolean(address(data));
+		return result;
+	}
+	@Override
+	public char helicsDataBufferToChar(HelicsDataBuffer data){
+		final byte result = JavaHelicsForeignLibrary.helicsDataBufferToChar(address(data));
+		return (char) (result & 0xff);
+	}
+	@Override
+	public int helicsDataBufferStringSize(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferStringSize(address(data));
+		return result;
+	}
+	@Override
+	public double helicsDataBufferToTime(HelicsDataBuffer data){
+		final double result = JavaHelicsForeignLibrary.helicsDataBufferToTime(address(data));
+		return result;
+	}
+	@Override
+	public void helicsDataBufferToComplex(HelicsDataBuffer data,DoubleByReference real,DoubleByReference imag){
+		JavaHelicsForeignLibrary.helicsDataBufferToComplex(address(data),address(real),address(imag));
+	}
+	@Override
+	public int helicsDataBufferVectorSize(HelicsDataBuffer data){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferVectorSize(address(data));
+		return result;
+	}
+	@Override
+	public void helicsDataBufferToVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize){
+		JavaHelicsForeignLibrary.helicsDataBufferToVector(address(data),address(values),maxlen,address(actualSize));
+	}
+	@Override
+	public void helicsDataBufferToVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize){
+		JavaHelicsForeignLibrary.helicsDataBufferToVector(address(data),address(values),maxlen,address(actualSize));
+	}
+	@Override
+	public void helicsDataBufferToComplexVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize){
+		JavaHelicsForeignLibrary.helicsDataBufferToComplexVector(address(data),address(values),maxlen,address(actualSize));
+	}
+	@Override
+	public void helicsDataBufferToComplexVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize){
+		JavaHelicsForeignLibrary.helicsDataBufferToComplexVector(address(data),address(values),maxlen,address(actualSize));
+	}
+	@Override
+	public int helicsDataBufferConvertToType(HelicsDataBuffer data,int newDataType){
+		final int result = JavaHelicsForeignLibrary.helicsDataBufferConvertToType(address(data),newDataType);
+		return result;
+	}
+	@Override
+	public String helicsGetVersion(){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsGetVersion();
+		return string(result);
+	}
+	@Override
+	public String helicsGetBuildFlags(){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsGetBuildFlags();
+		return string(result);
+	}
+	@Override
+	public String helicsGetCompilerVersion(){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsGetCompilerVersion();
+		return string(result);
+	}
+	@Override
+	public String helicsGetSystemInfo(){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsGetSystemInfo();
+		return string(result);
+	}
+	@Override
+	public void helicsLoadSignalHandler(){
+		JavaHelicsForeignLibrary.helicsLoadSignalHandler();
+	}
+	@Override
+	public void helicsLoadThreadedSignalHandler(){
+		JavaHelicsForeignLibrary.helicsLoadThreadedSignalHandler();
+	}
+	@Override
+	public void helicsClearSignalHandler(){
+		JavaHelicsForeignLibrary.helicsClearSignalHandler();
+	}
+	@Override
+	public void helicsAbort(int errorCode,String errorString){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsAbort(errorCode,string(arena, errorString));
+		}
+	}
+	@Override
+	public int helicsIsCoreTypeAvailable(String type){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsIsCoreTypeAvailable(string(arena, type));
+			return result;
+		}
+	}
+	@Override
+	public HelicsCore helicsCreateCore(String type,String name,String initString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateCore(string(arena, type),string(arena, name),string(arena, initString),address(err));
+			read(err);
+			return handle(new HelicsCore(), result);
+		}
+	}
+	@Override
+	public HelicsCore helicsCoreClone(HelicsCore core,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreClone(address(core),address(err));
+		read(err);
+		return handle(new HelicsCore(), result);
+	}
+	@Override
+	public int helicsCoreIsValid(HelicsCore core){
+		final int result = JavaHelicsForeignLibrary.helicsCoreIsValid(address(core));
+		return result;
+	}
+	@Override
+	public HelicsBroker helicsCreateBroker(String type,String name,String initString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateBroker(string(arena, type),string(arena, name),string(arena, initString),address(err));
+			read(err);
+			return handle(new HelicsBroker(), result);
+		}
+	}
+	@Override
+	public HelicsBroker helicsBrokerClone(HelicsBroker broker,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsBrokerClone(address(broker),address(err));
+		read(err);
+		return handle(new HelicsBroker(), result);
+	}
+	@Override
+	public int helicsBrokerIsValid(HelicsBroker broker){
+		final int result = JavaHelicsForeignLibrary.helicsBrokerIsValid(address(broker));
+		return result;
+	}
+	@Override
+	public int helicsBrokerIsConnected(HelicsBroker broker){
+		final int result = JavaHelicsForeignLibrary.helicsBrokerIsConnected(address(broker));
+		return result;
+	}
+	@Override
+	public void helicsBrokerDataLink(HelicsBroker broker,String source,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerDataLink(address(broker),string(arena, source),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerAddSourceFilterToEndpoint(HelicsBroker broker,String filter,String endpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerAddSourceFilterToEndpoint(address(broker),string(arena, filter),string(arena, endpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerAddDestinationFilterToEndpoint(HelicsBroker broker,String filter,String endpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerAddDestinationFilterToEndpoint(address(broker),string(arena, filter),string(arena, endpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerMakeConnections(HelicsBroker broker,String file,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerMakeConnections(address(broker),string(arena, file),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsCoreWaitForDisconnect(HelicsCore core,int msToWait,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsCoreWaitForDisconnect(address(core),msToWait,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsBrokerWaitForDisconnect(HelicsBroker broker,int msToWait,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsBrokerWaitForDisconnect(address(broker),msToWait,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsCoreIsConnected(HelicsCore core){
+		final int result = JavaHelicsForeignLibrary.helicsCoreIsConnected(address(core));
+		return result;
+	}
+	@Override
+	public void helicsCoreDataLink(HelicsCore core,String source,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreDataLink(address(core),string(arena, source),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreAddSourceFilterToEndpoint(HelicsCore core,String filter,String endpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreAddSourceFilterToEndpoint(address(core),string(arena, filter),string(arena, endpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreAddDestinationFilterToEndpoint(HelicsCore core,String filter,String endpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreAddDestinationFilterToEndpoint(address(core),string(arena, filter),string(arena, endpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreMakeConnections(HelicsCore core,String file,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreMakeConnections(address(core),string(arena, file),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsBrokerGetIdentifier(HelicsBroker broker){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsBrokerGetIdentifier(address(broker));
+		return string(result);
+	}
+	@Override
+	public String helicsCoreGetIdentifier(HelicsCore core){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreGetIdentifier(address(core));
+		return string(result);
+	}
+	@Override
+	public String helicsBrokerGetAddress(HelicsBroker broker){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsBrokerGetAddress(address(broker));
+		return string(result);
+	}
+	@Override
+	public String helicsCoreGetAddress(HelicsCore core){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreGetAddress(address(core));
+		return string(result);
+	}
+	@Override
+	public void helicsCoreSetReadyToInit(HelicsCore core,HelicsError err){
+		JavaHelicsForeignLibrary.helicsCoreSetReadyToInit(address(core),address(err));
+		read(err);
+	}
+	@Override
+	public int helicsCoreConnect(HelicsCore core,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsCoreConnect(address(core),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsCoreDisconnect(HelicsCore core,HelicsError err){
+		JavaHelicsForeignLibrary.helicsCoreDisconnect(address(core),address(err));
+		read(err);
+	}
+	@Override
+	public HelicsFederate helicsGetFederateByName(String fedName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsGetFederateByName(string(arena, fedName),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public void helicsBrokerDisconnect(HelicsBroker broker,HelicsError err){
+		JavaHelicsForeignLibrary.helicsBrokerDisconnect(address(broker),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateDestroy(HelicsFederate fed){
+		JavaHelicsForeignLibrary.helicsFederateDestroy(address(fed));
+	}
+	@Override
+	public void helicsBrokerDestroy(HelicsBroker broker){
+		JavaHelicsForeignLibrary.helicsBrokerDestroy(address(broker));
+	}
+	@Override
+	public void helicsCoreDestroy(HelicsCore core){
+		JavaHelicsForeignLibrary.helicsCoreDestroy(address(core));
+	}
+	@Override
+	public void helicsCoreFree(HelicsCore core){
+		JavaHelicsForeignLibrary.helicsCoreFree(address(core));
+	}
+	@Override
+	public void helicsBrokerFree(HelicsBroker broker){
+		JavaHelicsForeignLibrary.helicsBrokerFree(address(broker));
+	}
+	@Override
+	public HelicsFederate helicsCreateValueFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateValueFederate(string(arena, fedName),address(fi),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsCreateValueFederateFromConfig(String configFile,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateValueFederateFromConfig(string(arena, configFile),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsCreateMessageFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateMessageFederate(string(arena, fedName),address(fi),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsCreateMessageFederateFromConfig(String configFile,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateMessageFederateFromConfig(string(arena, configFile),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsCreateCombinationFederate(String fedName,HelicsFederateInfo fi,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateCombinationFederate(string(arena, fedName),address(fi),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsCreateCombinationFederateFromConfig(String configFile,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateCombinationFederateFromConfig(string(arena, configFile),address(err));
+			read(err);
+			return handle(new HelicsFederate(), result);
+		}
+	}
+	@Override
+	public HelicsFederate helicsFederateClone(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateClone(address(fed),address(err));
+		read(err);
+		return handle(new HelicsFederate(), result);
+	}
+	@Override
+	public void helicsFederateProtect(String fedName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateProtect(string(arena, fedName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateUnProtect(String fedName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateUnProtect(string(arena, fedName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsFederateIsProtected(String fedName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsFederateIsProtected(string(arena, fedName),address(err));
+			read(err);
+			return result;
+		}
+	}
+	@Override
+	public HelicsFederateInfo helicsCreateFederateInfo(){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateFederateInfo();
+		return handle(new HelicsFederateInfo(), result);
+	}
+	@Override
+	public HelicsFederateInfo helicsFederateInfoClone(HelicsFederateInfo fi,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateInfoClone(address(fi),address(err));
+		read(err);
+		return handle(new HelicsFederateInfo(), result);
+	}
+	@Override
+	public void helicsFederateInfoLoadFromString(HelicsFederateInfo fi,String args,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoLoadFromString(address(fi),string(arena, args),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoFree(HelicsFederateInfo fi){
+		JavaHelicsForeignLibrary.helicsFederateInfoFree(address(fi));
+	}
+	@Override
+	public int helicsFederateIsValid(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateIsValid(address(fed));
+		return result;
+	}
+	@Override
+	public void helicsFederateInfoSetCoreName(HelicsFederateInfo fi,String corename,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetCoreName(address(fi),string(arena, corename),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetCoreInitString(HelicsFederateInfo fi,String coreInit,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetCoreInitString(address(fi),string(arena, coreInit),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerInitString(HelicsFederateInfo fi,String brokerInit,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetBrokerInitString(address(fi),string(arena, brokerInit),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetCoreType(HelicsFederateInfo fi,int coretype,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetCoreType(address(fi),coretype,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateInfoSetCoreTypeFromString(HelicsFederateInfo fi,String coretype,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetCoreTypeFromString(address(fi),string(arena, coretype),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetBroker(HelicsFederateInfo fi,String broker,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetBroker(address(fi),string(arena, broker),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerKey(HelicsFederateInfo fi,String brokerkey,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetBrokerKey(address(fi),string(arena, brokerkey),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetBrokerPort(HelicsFederateInfo fi,int brokerPort,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetBrokerPort(address(fi),brokerPort,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateInfoSetLocalPort(HelicsFederateInfo fi,String localPort,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateInfoSetLocalPort(address(fi),string(arena, localPort),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsGetPropertyIndex(String val){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsGetPropertyIndex(string(arena, val));
+			return result;
+		}
+	}
+	@Override
+	public int helicsGetFlagIndex(String val){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsGetFlagIndex(string(arena, val));
+			return result;
+		}
+	}
+	@Override
+	public int helicsGetOptionIndex(String val){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsGetOptionIndex(string(arena, val));
+			return result;
+		}
+	}
+	@Override
+	public int helicsGetOptionValue(String val){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsGetOptionValue(string(arena, val));
+			return result;
+		}
+	}
+	@Override
+	public int helicsGetDataType(String val){
+		try (Arena arena = Arena.ofConfined()) {
+			final int result = JavaHelicsForeignLibrary.helicsGetDataType(string(arena, val));
+			return result;
+		}
+	}
+	@Override
+	public void helicsFederateInfoSetFlagOption(HelicsFederateInfo fi,int flag,int value,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetFlagOption(address(fi),flag,value,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateInfoSetSeparator(HelicsFederateInfo fi,char separator,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetSeparator(address(fi),(byte) separator,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateInfoSetTimeProperty(HelicsFederateInfo fi,int timeProperty,double propertyValue,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetTimeProperty(address(fi),timeProperty,propertyValue,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateInfoSetIntegerProperty(HelicsFederateInfo fi,int intProperty,int propertyValue,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateInfoSetIntegerProperty(address(fi),intProperty,propertyValue,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateRegisterInterfaces(HelicsFederate fed,String file,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateRegisterInterfaces(address(fed),string(arena, file),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateGlobalError(HelicsFederate fed,int errorCode,String errorString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateGlobalError(address(fed),errorCode,string(arena, errorString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLocalError(HelicsFederate fed,int errorCode,String errorString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLocalError(address(fed),errorCode,string(arena, errorString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateFinalize(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateFinalize(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateFinalizeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateFinalizeAsync(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateFinalizeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateFinalizeComplete(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateDisconnect(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateDisconnect(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateDisconnectAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateDisconnectAsync(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateDisconnectComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateDisconnectComplete(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateFree(HelicsFederate fed){
+		JavaHelicsForeignLibrary.helicsFederateFree(address(fed));
+	}
+	@Override
+	public void helicsFederateEnterInitializingMode(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterInitializingMode(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateEnterInitializingModeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterInitializingModeAsync(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public int helicsFederateIsAsyncOperationCompleted(HelicsFederate fed,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateIsAsyncOperationCompleted(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateEnterInitializingModeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterInitializingModeComplete(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingMode(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterExecutingMode(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeAsync(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterExecutingModeAsync(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeComplete(HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterExecutingModeComplete(address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public int helicsFederateEnterExecutingModeIterative(HelicsFederate fed,int iterate,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateEnterExecutingModeIterative(address(fed),iterate,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateEnterExecutingModeIterativeAsync(HelicsFederate fed,int iterate,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateEnterExecutingModeIterativeAsync(address(fed),iterate,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsFederateEnterExecutingModeIterativeComplete(HelicsFederate fed,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateEnterExecutingModeIterativeComplete(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsFederateGetState(HelicsFederate fed,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetState(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public HelicsCore helicsFederateGetCore(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetCore(address(fed),address(err));
+		read(err);
+		return handle(new HelicsCore(), result);
+	}
+	@Override
+	public double helicsFederateRequestTime(HelicsFederate fed,double requestTime,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestTime(address(fed),requestTime,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsFederateRequestTimeAdvance(HelicsFederate fed,double timeDelta,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestTimeAdvance(address(fed),timeDelta,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsFederateRequestNextStep(HelicsFederate fed,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestNextStep(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsFederateRequestTimeIterative(HelicsFederate fed,double requestTime,int iterate,IntByReference outIteration,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestTimeIterative(address(fed),requestTime,iterate,address(outIteration),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateRequestTimeAsync(HelicsFederate fed,double requestTime,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateRequestTimeAsync(address(fed),requestTime,address(err));
+		read(err);
+	}
+	@Override
+	public double helicsFederateRequestTimeComplete(HelicsFederate fed,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestTimeComplete(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateRequestTimeIterativeAsync(HelicsFederate fed,double requestTime,int iterate,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateRequestTimeIterativeAsync(address(fed),requestTime,iterate,address(err));
+		read(err);
+	}
+	@Override
+	public double helicsFederateRequestTimeIterativeComplete(HelicsFederate fed,IntByReference outIterate,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateRequestTimeIterativeComplete(address(fed),address(outIterate),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateProcessCommunications(HelicsFederate fed,double period,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateProcessCommunications(address(fed),period,address(err));
+		read(err);
+	}
+	@Override
+	public String helicsFederateGetName(HelicsFederate fed){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetName(address(fed));
+		return string(result);
+	}
+	@Override
+	public void helicsFederateSetTimeProperty(HelicsFederate fed,int timeProperty,double time,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetTimeProperty(address(fed),timeProperty,time,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetFlagOption(HelicsFederate fed,int flag,int flagValue,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetFlagOption(address(fed),flag,flagValue,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetSeparator(HelicsFederate fed,char separator,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetSeparator(address(fed),(byte) separator,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetIntegerProperty(HelicsFederate fed,int intProperty,int propertyVal,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetIntegerProperty(address(fed),intProperty,propertyVal,address(err));
+		read(err);
+	}
+	@Override
+	public double helicsFederateGetTimeProperty(HelicsFederate fed,int timeProperty,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateGetTimeProperty(address(fed),timeProperty,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsFederateGetFlagOption(HelicsFederate fed,int flag,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetFlagOption(address(fed),flag,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsFederateGetIntegerProperty(HelicsFederate fed,int intProperty,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetIntegerProperty(address(fed),intProperty,address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsFederateGetCurrentTime(HelicsFederate fed,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsFederateGetCurrentTime(address(fed),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public void helicsFederateSetGlobal(HelicsFederate fed,String valueName,String value,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateSetGlobal(address(fed),string(arena, valueName),string(arena, value),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateSetTag(HelicsFederate fed,String tagName,String value,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateSetTag(address(fed),string(arena, tagName),string(arena, value),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsFederateGetTag(HelicsFederate fed,String tagName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetTag(address(fed),string(arena, tagName),address(err));
+			read(err);
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsFederateAddDependency(HelicsFederate fed,String fedName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateAddDependency(address(fed),string(arena, fedName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateSetLogFile(HelicsFederate fed,String logFile,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateSetLogFile(address(fed),string(arena, logFile),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLogErrorMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLogErrorMessage(address(fed),string(arena, logmessage),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLogWarningMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLogWarningMessage(address(fed),string(arena, logmessage),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLogInfoMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLogInfoMessage(address(fed),string(arena, logmessage),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLogDebugMessage(HelicsFederate fed,String logmessage,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLogDebugMessage(address(fed),string(arena, logmessage),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateLogLevelMessage(HelicsFederate fed,int loglevel,String logmessage,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateLogLevelMessage(address(fed),loglevel,string(arena, logmessage),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederateSendCommand(HelicsFederate fed,String target,String command,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateSendCommand(address(fed),string(arena, target),string(arena, command),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsFederateGetCommand(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetCommand(address(fed),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public String helicsFederateGetCommandSource(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetCommandSource(address(fed),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public String helicsFederateWaitCommand(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateWaitCommand(address(fed),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public void helicsCoreSetGlobal(HelicsCore core,String valueName,String value,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreSetGlobal(address(core),string(arena, valueName),string(arena, value),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerSetGlobal(HelicsBroker broker,String valueName,String value,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerSetGlobal(address(broker),string(arena, valueName),string(arena, value),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreSendCommand(HelicsCore core,String target,String command,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreSendCommand(address(core),string(arena, target),string(arena, command),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreSendOrderedCommand(HelicsCore core,String target,String command,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreSendOrderedCommand(address(core),string(arena, target),string(arena, command),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerSendCommand(HelicsBroker broker,String target,String command,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerSendCommand(address(broker),string(arena, target),string(arena, command),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerSendOrderedCommand(HelicsBroker broker,String target,String command,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerSendOrderedCommand(address(broker),string(arena, target),string(arena, command),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreSetLogFile(HelicsCore core,String logFileName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreSetLogFile(address(core),string(arena, logFileName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerSetLogFile(HelicsBroker broker,String logFileName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerSetLogFile(address(broker),string(arena, logFileName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsBrokerSetTimeBarrier(HelicsBroker broker,double barrierTime,HelicsError err){
+		JavaHelicsForeignLibrary.helicsBrokerSetTimeBarrier(address(broker),barrierTime,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsBrokerClearTimeBarrier(HelicsBroker broker){
+		JavaHelicsForeignLibrary.helicsBrokerClearTimeBarrier(address(broker));
+	}
+	@Override
+	public void helicsBrokerGlobalError(HelicsBroker broker,int errorCode,String errorString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsBrokerGlobalError(address(broker),errorCode,string(arena, errorString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsCoreGlobalError(HelicsCore core,int errorCode,String errorString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsCoreGlobalError(address(core),errorCode,string(arena, errorString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public HelicsQuery helicsCreateQuery(String target,String query){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCreateQuery(string(arena, target),string(arena, query));
+			return handle(new HelicsQuery(), result);
+		}
+	}
+	@Override
+	public String helicsQueryExecute(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryExecute(address(query),address(fed),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public Pointer helicsQueryExecuteRaw(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryExecuteRaw(address(query),address(fed),address(err));
+		read(err);
+		return pointer(result);
+	}
+	@Override
+	public String helicsQueryCoreExecute(HelicsQuery query,HelicsCore core,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryCoreExecute(address(query),address(core),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public Pointer helicsQueryCoreExecuteRaw(HelicsQuery query,HelicsCore core,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryCoreExecuteRaw(address(query),address(core),address(err));
+		read(err);
+		return pointer(result);
+	}
+	@Override
+	public String helicsQueryBrokerExecute(HelicsQuery query,HelicsBroker broker,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryBrokerExecute(address(query),address(broker),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public Pointer helicsQueryBrokerExecuteRaw(HelicsQuery query,HelicsBroker broker,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryBrokerExecuteRaw(address(query),address(broker),address(err));
+		read(err);
+		return pointer(result);
+	}
+	@Override
+	public void helicsQueryExecuteAsync(HelicsQuery query,HelicsFederate fed,HelicsError err){
+		JavaHelicsForeignLibrary.helicsQueryExecuteAsync(address(query),address(fed),address(err));
+		read(err);
+	}
+	@Override
+	public String helicsQueryExecuteComplete(HelicsQuery query,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryExecuteComplete(address(query),address(err));
+		read(err);
+		return string(result);
+	}
+	@Override
+	public Pointer helicsQueryExecuteCompleteRaw(HelicsQuery query,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsQueryExecuteCompleteRaw(address(query),address(err));
+		read(err);
+		return pointer(result);
+	}
+	@Override
+	public int helicsQueryIsCompleted(HelicsQuery query){
+		final int result = JavaHelicsForeignLibrary.helicsQueryIsCompleted(address(query));
+		return result;
+	}
+	@Override
+	public void helicsQuerySetTarget(HelicsQuery query,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsQuerySetTarget(address(query),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsQuerySetQueryString(HelicsQuery query,String queryString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsQuerySetQueryString(address(query),string(arena, queryString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsQuerySetOrdering(HelicsQuery query,int mode,HelicsError err){
+		JavaHelicsForeignLibrary.helicsQuerySetOrdering(address(query),mode,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsQueryFree(HelicsQuery query){
+		JavaHelicsForeignLibrary.helicsQueryFree(address(query));
+	}
+	@Override
+	public void helicsCleanupLibrary(){
+		JavaHelicsForeignLibrary.helicsCleanupLibrary();
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterSubscription(HelicsFederate fed,String key,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterSubscription(address(fed),string(arena, key),string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsInput(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterPublication(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterPublication(address(fed),string(arena, key),type,string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterTypePublication(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterTypePublication(address(fed),string(arena, key),string(arena, type),string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalPublication(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalPublication(address(fed),string(arena, key),type,string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalTypePublication(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalTypePublication(address(fed),string(arena, key),string(arena, type),string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterInput(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterInput(address(fed),string(arena, key),type,string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsInput(), result);
+		}
+	}
+	@Override
+	public HelicsInput helicsFederateRegisterTypeInput(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterTypeInput(address(fed),string(arena, key),string(arena, type),string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsInput(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalInput(HelicsFederate fed,String key,int type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalInput(address(fed),string(arena, key),type,string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateRegisterGlobalTypeInput(HelicsFederate fed,String key,String type,String units,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalTypeInput(address(fed),string(arena, key),string(arena, type),string(arena, units),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateGetPublication(HelicsFederate fed,String key,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetPublication(address(fed),string(arena, key),address(err));
+			read(err);
+			return handle(new HelicsPublication(), result);
+		}
+	}
+	@Override
+	public HelicsPublication helicsFederateGetPublicationByIndex(HelicsFederate fed,int index,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetPublicationByIndex(address(fed),index,address(err));
+		read(err);
+		return handle(new HelicsPublication(), result);
+	}
+	@Override
+	public HelicsInput helicsFederateGetInput(HelicsFederate fed,String key,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetInput(address(fed),string(arena, key),address(err));
+			read(err);
+			return handle(new HelicsInput(), result);
+		}
+	}
+	@Override
+	public HelicsInput helicsFederateGetInputByIndex(HelicsFederate fed,int index,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetInputByIndex(address(fed),index,address(err));
+		read(err);
+		return handle(new HelicsInput(), result);
+	}
+	@Override
+	public HelicsInput helicsFederateGetSubscription(HelicsFederate fed,String key,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetSubscription(address(fed),string(arena, key),address(err));
+			read(err);
+			return handle(new HelicsInput(), result);
+		}
+	}
+	@Override
+	public void helicsFederateClearUpdates(HelicsFederate fed){
+		JavaHelicsForeignLibrary.helicsFederateClearUpdates(address(fed));
+	}
+	@Override
+	public void helicsFederateRegisterFromPublicationJSON(HelicsFederate fed,String json,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederateRegisterFromPublicationJSON(address(fed),string(arena, json),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFederatePublishJSON(HelicsFederate fed,String json,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFederatePublishJSON(address(fed),string(arena, json),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsPublicationIsValid(HelicsPublication pub){
+		final int result = JavaHelicsForeignLibrary.helicsPublicationIsValid(address(pub));
+		return result;
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishBytes(address(pub),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishBytes(address(pub),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishBytes(HelicsPublication pub,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishBytes(address(pub),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishString(HelicsPublication pub,String val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsPublicationPublishString(address(pub),string(arena, val),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsPublicationPublishInteger(HelicsPublication pub,int val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishInteger(address(pub),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishBoolean(HelicsPublication pub,int val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishBoolean(address(pub),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishDouble(HelicsPublication pub,double val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishDouble(address(pub),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishTime(HelicsPublication pub,double val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishTime(address(pub),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishChar(HelicsPublication pub,char val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishChar(address(pub),(byte) val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishComplex(HelicsPublication pub,double real,double imag,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishComplex(address(pub),real,imag,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishVector(address(pub),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishVector(address(pub),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishComplexVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishComplexVector(address(pub),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishComplexVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationPublishComplexVector(address(pub),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationPublishNamedPoint(HelicsPublication pub,String field,double val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsPublicationPublishNamedPoint(address(pub),string(arena, field),val,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsPublicationAddTarget(HelicsPublication pub,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsPublicationAddTarget(address(pub),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsInputIsValid(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputIsValid(address(ipt));
+		return result;
+	}
+	@Override
+	public void helicsInputAddTarget(HelicsInput ipt,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsInputAddTarget(address(ipt),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsInputGetByteCount(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetByteCount(address(ipt));
+		return result;
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,Pointer data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetBytes(address(ipt),address(data),maxDataLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,byte[] data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetBytes(address(ipt),address(data),maxDataLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputGetBytes(HelicsInput ipt,ByteBuffer data,int maxDataLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetBytes(address(ipt),address(data),maxDataLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public int helicsInputGetStringSize(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetStringSize(address(ipt));
+		return result;
+	}
+	@Override
+	public int helicsInputGetInteger(HelicsInput ipt,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetInteger(address(ipt),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public int helicsInputGetBoolean(HelicsInput ipt,HelicsError err){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetBoolean(address(ipt),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsInputGetDouble(HelicsInput ipt,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsInputGetDouble(address(ipt),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public double helicsInputGetTime(HelicsInput ipt,HelicsError err){
+		final double result = JavaHelicsForeignLibrary.helicsInputGetTime(address(ipt),address(err));
+		read(err);
+		return result;
+	}
+	@Override
+	public char helicsInputGetChar(HelicsInput ipt,HelicsError err){
+		final byte result = JavaHelicsForeignLibrary.helicsInputGetChar(address(ipt),address(err));
+		read(err);
+		return (char) (result & 0xff);
+	}
+	@Override
+	public void helicsInputGetComplex(HelicsInput ipt,DoubleByReference real,DoubleByReference imag,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetComplex(address(ipt),address(real),address(imag),address(err));
+		read(err);
+	}
+	@Override
+	public int helicsInputGetVectorSize(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetVectorSize(address(ipt));
+		return result;
+	}
+	@Override
+	public void helicsInputGetVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetVector(address(ipt),address(data),maxLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputGetVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetVector(address(ipt),address(data),maxLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputGetComplexVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetComplexVector(address(ipt),address(data),maxLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputGetComplexVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputGetComplexVector(address(ipt),address(data),maxLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultBytes(address(ipt),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultBytes(address(ipt),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultBytes(HelicsInput ipt,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultBytes(address(ipt),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultString(HelicsInput ipt,String defaultString,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsInputSetDefaultString(address(ipt),string(arena, defaultString),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsInputSetDefaultInteger(HelicsInput ipt,int val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultInteger(address(ipt),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultBoolean(HelicsInput ipt,int val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultBoolean(address(ipt),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultTime(HelicsInput ipt,double val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultTime(address(ipt),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultChar(HelicsInput ipt,char val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultChar(address(ipt),(byte) val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultDouble(HelicsInput ipt,double val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultDouble(address(ipt),val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplex(HelicsInput ipt,double real,double imag,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultComplex(address(ipt),real,imag,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultVector(address(ipt),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultVector(address(ipt),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplexVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultComplexVector(address(ipt),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultComplexVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetDefaultComplexVector(address(ipt),address(vectorInput),vectorLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetDefaultNamedPoint(HelicsInput ipt,String defaultName,double val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsInputSetDefaultNamedPoint(address(ipt),string(arena, defaultName),val,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsInputGetType(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetType(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetPublicationType(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetPublicationType(address(ipt));
+		return string(result);
+	}
+	@Override
+	public int helicsInputGetPublicationDataType(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetPublicationDataType(address(ipt));
+		return result;
+	}
+	@Override
+	public String helicsPublicationGetType(HelicsPublication pub){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsPublicationGetType(address(pub));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetName(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetName(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsSubscriptionGetTarget(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsSubscriptionGetTarget(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsPublicationGetName(HelicsPublication pub){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsPublicationGetName(address(pub));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetUnits(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetUnits(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetInjectionUnits(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetInjectionUnits(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetExtractionUnits(HelicsInput ipt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetExtractionUnits(address(ipt));
+		return string(result);
+	}
+	@Override
+	public String helicsPublicationGetUnits(HelicsPublication pub){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsPublicationGetUnits(address(pub));
+		return string(result);
+	}
+	@Override
+	public String helicsInputGetInfo(HelicsInput inp){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetInfo(address(inp));
+		return string(result);
+	}
+	@Override
+	public void helicsInputSetInfo(HelicsInput inp,String info,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsInputSetInfo(address(inp),string(arena, info),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsInputGetTag(HelicsInput inp,String tagname){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsInputGetTag(address(inp),string(arena, tagname));
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsInputSetTag(HelicsInput inp,String tagname,String tagvalue,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsInputSetTag(address(inp),string(arena, tagname),string(arena, tagvalue),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsPublicationGetInfo(HelicsPublication pub){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsPublicationGetInfo(address(pub));
+		return string(result);
+	}
+	@Override
+	public void helicsPublicationSetInfo(HelicsPublication pub,String info,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsPublicationSetInfo(address(pub),string(arena, info),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsPublicationGetTag(HelicsPublication pub,String tagname){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsPublicationGetTag(address(pub),string(arena, tagname));
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsPublicationSetTag(HelicsPublication pub,String tagname,String tagvalue,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsPublicationSetTag(address(pub),string(arena, tagname),string(arena, tagvalue),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsInputGetOption(HelicsInput inp,int option){
+		final int result = JavaHelicsForeignLibrary.helicsInputGetOption(address(inp),option);
+		return result;
+	}
+	@Override
+	public void helicsInputSetOption(HelicsInput inp,int option,int value,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetOption(address(inp),option,value,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsPublicationGetOption(HelicsPublication pub,int option){
+		final int result = JavaHelicsForeignLibrary.helicsPublicationGetOption(address(pub),option);
+		return result;
+	}
+	@Override
+	public void helicsPublicationSetOption(HelicsPublication pub,int option,int val,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationSetOption(address(pub),option,val,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsPublicationSetMinimumChange(HelicsPublication pub,double tolerance,HelicsError err){
+		JavaHelicsForeignLibrary.helicsPublicationSetMinimumChange(address(pub),tolerance,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsInputSetMinimumChange(HelicsInput inp,double tolerance,HelicsError err){
+		JavaHelicsForeignLibrary.helicsInputSetMinimumChange(address(inp),tolerance,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsInputIsUpdated(HelicsInput ipt){
+		final int result = JavaHelicsForeignLibrary.helicsInputIsUpdated(address(ipt));
+		return result;
+	}
+	@Override
+	public double helicsInputLastUpdateTime(HelicsInput ipt){
+		final double result = JavaHelicsForeignLibrary.helicsInputLastUpdateTime(address(ipt));
+		return result;
+	}
+	@Override
+	public void helicsInputClearUpdate(HelicsInput ipt){
+		JavaHelicsForeignLibrary.helicsInputClearUpdate(address(ipt));
+	}
+	@Override
+	public int helicsFederateGetPublicationCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetPublicationCount(address(fed));
+		return result;
+	}
+	@Override
+	public int helicsFederateGetInputCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetInputCount(address(fed));
+		return result;
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterEndpoint(address(fed),string(arena, name),string(arena, type),address(err));
+			read(err);
+			return handle(new HelicsEndpoint(), result);
+		}
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterGlobalEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalEndpoint(address(fed),string(arena, name),string(arena, type),address(err));
+			read(err);
+			return handle(new HelicsEndpoint(), result);
+		}
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterTargetedEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterTargetedEndpoint(address(fed),string(arena, name),string(arena, type),address(err));
+			read(err);
+			return handle(new HelicsEndpoint(), result);
+		}
+	}
+	@Override
+	public HelicsEndpoint helicsFederateRegisterGlobalTargetedEndpoint(HelicsFederate fed,String name,String type,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalTargetedEndpoint(address(fed),string(arena, name),string(arena, type),address(err));
+			read(err);
+			return handle(new HelicsEndpoint(), result);
+		}
+	}
+	@Override
+	public HelicsEndpoint helicsFederateGetEndpoint(HelicsFederate fed,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetEndpoint(address(fed),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsEndpoint(), result);
+		}
+	}
+	@Override
+	public HelicsEndpoint helicsFederateGetEndpointByIndex(HelicsFederate fed,int index,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetEndpointByIndex(address(fed),index,address(err));
+		read(err);
+		return handle(new HelicsEndpoint(), result);
+	}
+	@Override
+	public int helicsEndpointIsValid(HelicsEndpoint endpoint){
+		final int result = JavaHelicsForeignLibrary.helicsEndpointIsValid(address(endpoint));
+		return result;
+	}
+	@Override
+	public void helicsEndpointSetDefaultDestination(HelicsEndpoint endpoint,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSetDefaultDestination(address(endpoint),string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsEndpointGetDefaultDestination(HelicsEndpoint endpoint){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetDefaultDestination(address(endpoint));
+		return string(result);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytes(address(endpoint),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytes(address(endpoint),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendBytes(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytes(address(endpoint),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesTo(address(endpoint),address(data),inputDataLength,string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesTo(address(endpoint),address(data),inputDataLength,string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesTo(address(endpoint),address(data),inputDataLength,string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,double time,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesToAt(address(endpoint),address(data),inputDataLength,string(arena, dst),time,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,double time,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesToAt(address(endpoint),address(data),inputDataLength,string(arena, dst),time,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,double time,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSendBytesToAt(address(endpoint),address(data),inputDataLength,string(arena, dst),time,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytesAt(address(endpoint),address(data),inputDataLength,time,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytesAt(address(endpoint),address(data),inputDataLength,time,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,double time,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendBytesAt(address(endpoint),address(data),inputDataLength,time,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendMessage(HelicsEndpoint endpoint,HelicsMessage message,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendMessage(address(endpoint),address(message),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSendMessageZeroCopy(HelicsEndpoint endpoint,HelicsMessage message,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSendMessageZeroCopy(address(endpoint),address(message),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsEndpointSubscribe(HelicsEndpoint endpoint,String key,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSubscribe(address(endpoint),string(arena, key),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public int helicsFederateHasMessage(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateHasMessage(address(fed));
+		return result;
+	}
+	@Override
+	public int helicsEndpointHasMessage(HelicsEndpoint endpoint){
+		final int result = JavaHelicsForeignLibrary.helicsEndpointHasMessage(address(endpoint));
+		return result;
+	}
+	@Override
+	public int helicsFederatePendingMessageCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederatePendingMessageCount(address(fed));
+		return result;
+	}
+	@Override
+	public int helicsEndpointPendingMessageCount(HelicsEndpoint endpoint){
+		final int result = JavaHelicsForeignLibrary.helicsEndpointPendingMessageCount(address(endpoint));
+		return result;
+	}
+	@Override
+	public HelicsMessage helicsEndpointGetMessage(HelicsEndpoint endpoint){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetMessage(address(endpoint));
+		return handle(new HelicsMessage(), result);
+	}
+	@Override
+	public HelicsMessage helicsEndpointCreateMessage(HelicsEndpoint endpoint,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointCreateMessage(address(endpoint),address(err));
+		read(err);
+		return handle(new HelicsMessage(), result);
+	}
+	@Override
+	public void helicsEndpointClearMessages(HelicsEndpoint endpoint){
+		JavaHelicsForeignLibrary.helicsEndpointClearMessages(address(endpoint));
+	}
+	@Override
+	public HelicsMessage helicsFederateGetMessage(HelicsFederate fed){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetMessage(address(fed));
+		return handle(new HelicsMessage(), result);
+	}
+	@Override
+	public HelicsMessage helicsFederateCreateMessage(HelicsFederate fed,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateCreateMessage(address(fed),address(err));
+		read(err);
+		return handle(new HelicsMessage(), result);
+	}
+	@Override
+	public void helicsFederateClearMessages(HelicsFederate fed){
+		JavaHelicsForeignLibrary.helicsFederateClearMessages(address(fed));
+	}
+	@Override
+	public String helicsEndpointGetType(HelicsEndpoint endpoint){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetType(address(endpoint));
+		return string(result);
+	}
+	@Override
+	public String helicsEndpointGetName(HelicsEndpoint endpoint){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetName(address(endpoint));
+		return string(result);
+	}
+	@Override
+	public int helicsFederateGetEndpointCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetEndpointCount(address(fed));
+		return result;
+	}
+	@Override
+	public String helicsEndpointGetInfo(HelicsEndpoint end){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetInfo(address(end));
+		return string(result);
+	}
+	@Override
+	public void helicsEndpointSetInfo(HelicsEndpoint endpoint,String info,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSetInfo(address(endpoint),string(arena, info),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsEndpointGetTag(HelicsEndpoint endpoint,String tagname){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsEndpointGetTag(address(endpoint),string(arena, tagname));
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsEndpointSetTag(HelicsEndpoint endpoint,String tagname,String tagvalue,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointSetTag(address(endpoint),string(arena, tagname),string(arena, tagvalue),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointSetOption(HelicsEndpoint endpoint,int option,int value,HelicsError err){
+		JavaHelicsForeignLibrary.helicsEndpointSetOption(address(endpoint),option,value,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsEndpointGetOption(HelicsEndpoint endpoint,int option){
+		final int result = JavaHelicsForeignLibrary.helicsEndpointGetOption(address(endpoint),option);
+		return result;
+	}
+	@Override
+	public void helicsEndpointAddSourceTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointAddSourceTarget(address(endpoint),string(arena, targetEndpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointAddDestinationTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointAddDestinationTarget(address(endpoint),string(arena, targetEndpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointRemoveTarget(HelicsEndpoint endpoint,String targetEndpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointRemoveTarget(address(endpoint),string(arena, targetEndpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointAddSourceFilter(HelicsEndpoint endpoint,String filterName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointAddSourceFilter(address(endpoint),string(arena, filterName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsEndpointAddDestinationFilter(HelicsEndpoint endpoint,String filterName,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsEndpointAddDestinationFilter(address(endpoint),string(arena, filterName),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsMessageGetSource(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetSource(address(message));
+		return string(result);
+	}
+	@Override
+	public String helicsMessageGetDestination(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetDestination(address(message));
+		return string(result);
+	}
+	@Override
+	public String helicsMessageGetOriginalSource(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetOriginalSource(address(message));
+		return string(result);
+	}
+	@Override
+	public String helicsMessageGetOriginalDestination(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetOriginalDestination(address(message));
+		return string(result);
+	}
+	@Override
+	public double helicsMessageGetTime(HelicsMessage message){
+		final double result = JavaHelicsForeignLibrary.helicsMessageGetTime(address(message));
+		return result;
+	}
+	@Override
+	public String helicsMessageGetString(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetString(address(message));
+		return string(result);
+	}
+	@Override
+	public int helicsMessageGetMessageID(HelicsMessage message){
+		final int result = JavaHelicsForeignLibrary.helicsMessageGetMessageID(address(message));
+		return result;
+	}
+	@Override
+	public int helicsMessageGetFlagOption(HelicsMessage message,int flag){
+		final int result = JavaHelicsForeignLibrary.helicsMessageGetFlagOption(address(message),flag);
+		return result;
+	}
+	@Override
+	public int helicsMessageGetByteCount(HelicsMessage message){
+		final int result = JavaHelicsForeignLibrary.helicsMessageGetByteCount(address(message));
+		return result;
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,Pointer data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageGetBytes(address(message),address(data),maxMessageLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,byte[] data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageGetBytes(address(message),address(data),maxMessageLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageGetBytes(HelicsMessage message,ByteBuffer data,int maxMessageLength,IntByReference actualSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageGetBytes(address(message),address(data),maxMessageLength,address(actualSize),address(err));
+		read(err);
+	}
+	@Override
+	public Pointer helicsMessageGetBytesPointer(HelicsMessage message){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageGetBytesPointer(address(message));
+		return pointer(result);
+	}
+	@Override
+	public int helicsMessageIsValid(HelicsMessage message){
+		final int result = JavaHelicsForeignLibrary.helicsMessageIsValid(address(message));
+		return result;
+	}
+	@Override
+	public void helicsMessageSetSource(HelicsMessage message,String src,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsMessageSetSource(address(message),string(arena, src),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsMessageSetDestination(HelicsMessage message,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsMessageSetDestination(address(message),string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsMessageSetOriginalSource(HelicsMessage message,String src,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsMessageSetOriginalSource(address(message),string(arena, src),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsMessageSetOriginalDestination(HelicsMessage message,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsMessageSetOriginalDestination(address(message),string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsMessageSetTime(HelicsMessage message,double time,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetTime(address(message),time,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageResize(HelicsMessage message,int newSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageResize(address(message),newSize,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageReserve(HelicsMessage message,int reserveSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageReserve(address(message),reserveSize,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageSetMessageID(HelicsMessage message,int messageID,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetMessageID(address(message),messageID,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageClearFlags(HelicsMessage message){
+		JavaHelicsForeignLibrary.helicsMessageClearFlags(address(message));
+	}
+	@Override
+	public void helicsMessageSetFlagOption(HelicsMessage message,int flag,int flagValue,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetFlagOption(address(message),flag,flagValue,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageSetString(HelicsMessage message,String data,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsMessageSetString(address(message),string(arena, data),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageSetData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageSetData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageAppendData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageAppendData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageAppendData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageAppendData(address(message),address(data),inputDataLength,address(err));
+		read(err);
+	}
+	@Override
+	public void helicsMessageCopy(HelicsMessage src_message,HelicsMessage dst_message,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageCopy(address(src_message),address(dst_message),address(err));
+		read(err);
+	}
+	@Override
+	public HelicsMessage helicsMessageClone(HelicsMessage message,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsMessageClone(address(message),address(err));
+		read(err);
+		return handle(new HelicsMessage(), result);
+	}
+	@Override
+	public void helicsMessageFree(HelicsMessage message){
+		JavaHelicsForeignLibrary.helicsMessageFree(address(message));
+	}
+	@Override
+	public void helicsMessageClear(HelicsMessage message,HelicsError err){
+		JavaHelicsForeignLibrary.helicsMessageClear(address(message),address(err));
+		read(err);
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterFilter(HelicsFederate fed,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterFilter(address(fed),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterGlobalFilter(HelicsFederate fed,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalFilter(address(fed),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterCloningFilter(HelicsFederate fed,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterCloningFilter(address(fed),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsFederateRegisterGlobalCloningFilter(HelicsFederate fed,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalCloningFilter(address(fed),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsCoreRegisterFilter(HelicsCore core,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreRegisterFilter(address(core),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsCoreRegisterCloningFilter(HelicsCore core,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreRegisterCloningFilter(address(core),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public int helicsFederateGetFilterCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetFilterCount(address(fed));
+		return result;
+	}
+	@Override
+	public HelicsFilter helicsFederateGetFilter(HelicsFederate fed,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetFilter(address(fed),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsFilter(), result);
+		}
+	}
+	@Override
+	public HelicsFilter helicsFederateGetFilterByIndex(HelicsFederate fed,int index,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetFilterByIndex(address(fed),index,address(err));
+		read(err);
+		return handle(new HelicsFilter(), result);
+	}
+	@Override
+	public int helicsFilterIsValid(HelicsFilter filt){
+		final int result = JavaHelicsForeignLibrary.helicsFilterIsValid(address(filt));
+		return result;
+	}
+	@Override
+	public String helicsFilterGetName(HelicsFilter filt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFilterGetName(address(filt));
+		return string(result);
+	}
+	@Override
+	public void helicsFilterSet(HelicsFilter filt,String prop,double val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterSet(address(filt),string(arena, prop),val,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterSetString(HelicsFilter filt,String prop,String val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterSetString(address(filt),string(arena, prop),string(arena, val),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterAddDestinationTarget(HelicsFilter filt,String dst,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterAddDestinationTarget(address(filt),string(arena, dst),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterAddSourceTarget(HelicsFilter filt,String source,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterAddSourceTarget(address(filt),string(arena, source),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterAddDeliveryEndpoint(HelicsFilter filt,String deliveryEndpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterAddDeliveryEndpoint(address(filt),string(arena, deliveryEndpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterRemoveTarget(HelicsFilter filt,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterRemoveTarget(address(filt),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterRemoveDeliveryEndpoint(HelicsFilter filt,String deliveryEndpoint,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterRemoveDeliveryEndpoint(address(filt),string(arena, deliveryEndpoint),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsFilterGetInfo(HelicsFilter filt){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFilterGetInfo(address(filt));
+		return string(result);
+	}
+	@Override
+	public void helicsFilterSetInfo(HelicsFilter filt,String info,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterSetInfo(address(filt),string(arena, info),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsFilterGetTag(HelicsFilter filt,String tagname){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFilterGetTag(address(filt),string(arena, tagname));
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsFilterSetTag(HelicsFilter filt,String tagname,String tagvalue,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsFilterSetTag(address(filt),string(arena, tagname),string(arena, tagvalue),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsFilterSetOption(HelicsFilter filt,int option,int value,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFilterSetOption(address(filt),option,value,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsFilterGetOption(HelicsFilter filt,int option){
+		final int result = JavaHelicsForeignLibrary.helicsFilterGetOption(address(filt),option);
+		return result;
+	}
+	@Override
+	public HelicsTranslator helicsFederateRegisterTranslator(HelicsFederate fed,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterTranslator(address(fed),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsTranslator(), result);
+		}
+	}
+	@Override
+	public HelicsTranslator helicsFederateRegisterGlobalTranslator(HelicsFederate fed,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateRegisterGlobalTranslator(address(fed),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsTranslator(), result);
+		}
+	}
+	@Override
+	public HelicsTranslator helicsCoreRegisterTranslator(HelicsCore core,int type,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsCoreRegisterTranslator(address(core),type,string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsTranslator(), result);
+		}
+	}
+	@Override
+	public int helicsFederateGetTranslatorCount(HelicsFederate fed){
+		final int result = JavaHelicsForeignLibrary.helicsFederateGetTranslatorCount(address(fed));
+		return result;
+	}
+	@Override
+	public HelicsTranslator helicsFederateGetTranslator(HelicsFederate fed,String name,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetTranslator(address(fed),string(arena, name),address(err));
+			read(err);
+			return handle(new HelicsTranslator(), result);
+		}
+	}
+	@Override
+	public HelicsTranslator helicsFederateGetTranslatorByIndex(HelicsFederate fed,int index,HelicsError err){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsFederateGetTranslatorByIndex(address(fed),index,address(err));
+		read(err);
+		return handle(new HelicsTranslator(), result);
+	}
+	@Override
+	public int helicsTranslatorIsValid(HelicsTranslator trans){
+		final int result = JavaHelicsForeignLibrary.helicsTranslatorIsValid(address(trans));
+		return result;
+	}
+	@Override
+	public String helicsTranslatorGetName(HelicsTranslator trans){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsTranslatorGetName(address(trans));
+		return string(result);
+	}
+	@Override
+	public void helicsTranslatorSet(HelicsTranslator trans,String prop,double val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorSet(address(trans),string(arena, prop),val,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorSetString(HelicsTranslator trans,String prop,String val,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorSetString(address(trans),string(arena, prop),string(arena, val),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorAddInputTarget(HelicsTranslator trans,String input,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorAddInputTarget(address(trans),string(arena, input),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorAddPublicationTarget(HelicsTranslator trans,String pub,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorAddPublicationTarget(address(trans),string(arena, pub),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorAddSourceEndpoint(HelicsTranslator trans,String ept,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorAddSourceEndpoint(address(trans),string(arena, ept),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorAddDestinationEndpoint(HelicsTranslator trans,String ept,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorAddDestinationEndpoint(address(trans),string(arena, ept),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorRemoveTarget(HelicsTranslator trans,String target,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorRemoveTarget(address(trans),string(arena, target),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsTranslatorGetInfo(HelicsTranslator trans){
+		final MemorySegment result = JavaHelicsForeignLibrary.helicsTranslatorGetInfo(address(trans));
+		return string(result);
+	}
+	@Override
+	public void helicsTranslatorSetInfo(HelicsTranslator trans,String info,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorSetInfo(address(trans),string(arena, info),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public String helicsTranslatorGetTag(HelicsTranslator trans,String tagname){
+		try (Arena arena = Arena.ofConfined()) {
+			final MemorySegment result = JavaHelicsForeignLibrary.helicsTranslatorGetTag(address(trans),string(arena, tagname));
+			return string(result);
+		}
+	}
+	@Override
+	public void helicsTranslatorSetTag(HelicsTranslator trans,String tagname,String tagvalue,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsTranslatorSetTag(address(trans),string(arena, tagname),string(arena, tagvalue),address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsTranslatorSetOption(HelicsTranslator trans,int option,int value,HelicsError err){
+		JavaHelicsForeignLibrary.helicsTranslatorSetOption(address(trans),option,value,address(err));
+		read(err);
+	}
+	@Override
+	public int helicsTranslatorGetOption(HelicsTranslator trans,int option){
+		final int result = JavaHelicsForeignLibrary.helicsTranslatorGetOption(address(trans),option);
+		return result;
+	}
+	@Override
+	public void helicsBrokerSetLoggingCallback(HelicsBroker broker,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsBrokerSetLoggingCallback(address(broker),address(logger),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsCoreSetLoggingCallback(HelicsCore core,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsCoreSetLoggingCallback(address(core),address(logger),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetLoggingCallback(HelicsFederate fed,HelicsLoggingCallback logger,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetLoggingCallback(address(fed),address(logger),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFilterSetCustomCallback(HelicsFilter filter,HelicsFilterCallback filtCall,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFilterSetCustomCallback(address(filter),filterUpcall(filtCall),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsTranslatorSetCustomCallback(HelicsTranslator translator,HelicsTranslatorToMessageCallback toMessageCall,HelicsTranslatorToValueCallback toValueCall,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsTranslatorSetCustomCallback(address(translator),toMessageUpcall(toMessageCall),toValueUpcall(toValueCall),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetQueryCallback(HelicsFederate fed,HelicsQueryCallback queryAnswer,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetQueryCallback(address(fed),address(queryAnswer),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetTimeRequestEntryCallback(HelicsFederate fed,HelicsTimeRequestEntryCallback requestTime,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetTimeRequestEntryCallback(address(fed),address(requestTime),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetTimeUpdateCallback(HelicsFederate fed,HelicsTimeUpdateCallback timeUpdate,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetTimeUpdateCallback(address(fed),address(timeUpdate),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetStateChangeCallback(HelicsFederate fed,HelicsStateChangeCallback stateChange,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetStateChangeCallback(address(fed),address(stateChange),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsFederateSetTimeRequestReturnCallback(HelicsFederate fed,HelicsTimeRequestReturnCallback requestTimeReturn,Pointer userdata,HelicsError err){
+		JavaHelicsForeignLibrary.helicsFederateSetTimeRequestReturnCallback(address(fed),address(requestTimeReturn),address(userdata),address(err));
+		read(err);
+	}
+	@Override
+	public void helicsQueryBufferFill(HelicsQueryBuffer buffer,String queryResult,int strSize,HelicsError err){
+		try (Arena arena = Arena.ofConfined()) {
+			JavaHelicsForeignLibrary.helicsQueryBufferFill(address(buffer),string(arena, queryResult),strSize,address(err));
+			read(err);
+		}
+	}
+	@Override
+	public void helicsQueryBufferFill(HelicsQueryBuffer buffer,byte[] queryResult,int strSize,HelicsError err){
+		JavaHelicsForeignLibrary.helicsQueryBufferFill(address(buffer),address(queryResult),strSize,address(err));
+		read(err);
+	}
+}
\ No newline at end of file
@@ -9,6 +9,7 @@ package com.java.helics;
 
 import com.sun.jna.*;
 import com.sun.jna.ptr.*;
+import java.nio.*;
 
 public interface JavaHelicsLibrary extends Library {
 	
@@ -58,9 +59,17 @@ public interface JavaHelicsLibrary extends Library {
 	/** convert a char to serialized bytes*/
 		
 	int helicsCharToBytes(char value,HelicsDataBuffer data);
+	/** convert a real vector to serialized bytes*/
+		
+	int helicsVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data);
+	int helicsVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data);
 	/** convert a named point to serialized bytes*/
 		
 	int helicsNamedPointToBytes(String name,double value,HelicsDataBuffer data);
+	/** convert a complex vector to serialized bytes*/
+		
+	int helicsComplexVectorToBytes(double[] value,int dataSize,HelicsDataBuffer data);
+	int helicsComplexVectorToBytes(DoubleBuffer value,int dataSize,HelicsDataBuffer data);
 	/** extract the data type from the data buffer, if the type isn't recognized UNKNOWN is returned*/
 		
 	int helicsDataBufferType(HelicsDataBuffer data);
@@ -88,6 +97,19 @@ public interface JavaHelicsLibrary extends Library {
 	/** get the number of elements that would be required if a vector were retrieved*/
 		
 	int helicsDataBufferVectorSize(HelicsDataBuffer data);
+	/** convert a data buffer to double vector values*/
+		
+	void helicsDataBufferToVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize);
+	void helicsDataBufferToVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize);
+	/** convert a data buffer to complex double vector values
+@param data the buffer containing data
+@param values the storage for the converted data
+@param maxlen the number of complex values that the values vector can hold
+@param actualSize the number of complex values copied to values array
+*/
+		
+	void helicsDataBufferToComplexVector(HelicsDataBuffer data,double[] values,int maxlen,IntByReference actualSize);
+	void helicsDataBufferToComplexVector(HelicsDataBuffer data,DoubleBuffer values,int maxlen,IntByReference actualSize);
 	/** convert the data in a data buffer to a different type representation
 @param data the buffer to convert
 @param newDataType the type that it is desired for the buffer to be converted to
@@ -1018,7 +1040,7 @@ and federates that were created through the current library instance.*/
  * @return An iteration structure with field containing the time and iteration status.
  */
 		
-	HelicsIterationResult helicsFederateEnterExecutingModeIterative(HelicsFederate fed,HelicsIterationRequest iterate,HelicsError err);
+	int helicsFederateEnterExecutingModeIterative(HelicsFederate fed,int iterate,HelicsError err);
 	/**
  * Request an iterative entry to the execution mode.
  *
@@ -1031,7 +1053,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsFederateEnterExecutingModeIterativeAsync(HelicsFederate fed,HelicsIterationRequest iterate,HelicsError err);
+	void helicsFederateEnterExecutingModeIterativeAsync(HelicsFederate fed,int iterate,HelicsError err);
 	/**
  * Complete the asynchronous iterative call into ExecutionMode.
  *
@@ -1042,7 +1064,7 @@ and federates that were created through the current library instance.*/
  * @return An iteration object containing the iteration time and iteration_status.
  */
 		
-	HelicsIterationResult helicsFederateEnterExecutingModeIterativeComplete(HelicsFederate fed,HelicsError err);
+	int helicsFederateEnterExecutingModeIterativeComplete(HelicsFederate fed,HelicsError err);
 	/**
  * Get the current state of a federate.
  *
@@ -1053,7 +1075,7 @@ and federates that were created through the current library instance.*/
  * @return State the resulting state if void return HELICS_OK.
  */
 		
-	HelicsFederateState helicsFederateGetState(HelicsFederate fed,HelicsError err);
+	int helicsFederateGetState(HelicsFederate fed,HelicsError err);
 	/**
  * Get the core object associated with a federate.
  *
@@ -1120,7 +1142,7 @@ and federates that were created through the current library instance.*/
  * @return The granted time, will return HELICS_TIME_MAXTIME if the simulation has terminated along with the appropriate iteration result.
  */
 		
-	double helicsFederateRequestTimeIterative(HelicsFederate fed,double requestTime,HelicsIterationRequest iterate,HelicsIterationResult outIteration,HelicsError err);
+	double helicsFederateRequestTimeIterative(HelicsFederate fed,double requestTime,int iterate,IntByReference outIteration,HelicsError err);
 	/**
  * Request the next time for federate execution in an asynchronous call.
  *
@@ -1157,7 +1179,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsFederateRequestTimeIterativeAsync(HelicsFederate fed,double requestTime,HelicsIterationRequest iterate,HelicsError err);
+	void helicsFederateRequestTimeIterativeAsync(HelicsFederate fed,double requestTime,int iterate,HelicsError err);
 	/**
  * Complete an iterative time request asynchronous call.
  *
@@ -1169,7 +1191,7 @@ and federates that were created through the current library instance.*/
  * @return The granted time, will return HELICS_TIME_MAXTIME if the simulation has terminated.
  */
 		
-	double helicsFederateRequestTimeIterativeComplete(HelicsFederate fed,HelicsIterationResult outIterate,HelicsError err);
+	double helicsFederateRequestTimeIterativeComplete(HelicsFederate fed,IntByReference outIterate,HelicsError err);
 	/**
  * Tell helics to process internal communications for a period of time.
  *
@@ -1586,6 +1608,7 @@ and federates that were created through the current library instance.*/
  */
 		
 	String helicsQueryExecute(HelicsQuery query,HelicsFederate fed,HelicsError err);
+	Pointer helicsQueryExecuteRaw(HelicsQuery query,HelicsFederate fed,HelicsError err);
 	/**
  * Execute a query directly on a core.
  *
@@ -1602,6 +1625,7 @@ and federates that were created through the current library instance.*/
  */
 		
 	String helicsQueryCoreExecute(HelicsQuery query,HelicsCore core,HelicsError err);
+	Pointer helicsQueryCoreExecuteRaw(HelicsQuery query,HelicsCore core,HelicsError err);
 	/**
  * Execute a query directly on a broker.
  *
@@ -1618,6 +1642,7 @@ and federates that were created through the current library instance.*/
  */
 		
 	String helicsQueryBrokerExecute(HelicsQuery query,HelicsBroker broker,HelicsError err);
+	Pointer helicsQueryBrokerExecuteRaw(HelicsQuery query,HelicsBroker broker,HelicsError err);
 	/**
  * Execute a query in a non-blocking call.
  *
@@ -1643,6 +1668,7 @@ and federates that were created through the current library instance.*/
  */
 		
 	String helicsQueryExecuteComplete(HelicsQuery query,HelicsError err);
+	Pointer helicsQueryExecuteCompleteRaw(HelicsQuery query,HelicsError err);
 	/**
  * Check if an asynchronously executed query has completed.
  *
@@ -1970,6 +1996,20 @@ and federates that were created through the current library instance.*/
 		
 	int helicsPublicationIsValid(HelicsPublication pub);
 	/**
+ * Publish raw data from a char * and length.
+ *
+ * @param pub The publication to publish for.
+ * @param data A pointer to the raw data.
+ * @param inputDataLength The size in bytes of the data to publish.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsPublicationPublishBytes(HelicsPublication pub,Pointer data,int inputDataLength,HelicsError err);
+	void helicsPublicationPublishBytes(HelicsPublication pub,byte[] data,int inputDataLength,HelicsError err);
+	void helicsPublicationPublishBytes(HelicsPublication pub,ByteBuffer data,int inputDataLength,HelicsError err);
+	/**
  * Publish a string.
  *
  * @param pub The publication to publish for.
@@ -2048,6 +2088,32 @@ and federates that were created through the current library instance.*/
 		
 	void helicsPublicationPublishComplex(HelicsPublication pub,double real,double imag,HelicsError err);
 	/**
+ * Publish a vector of doubles.
+ *
+ * @param pub The publication to publish for.
+ * @param vectorInput A pointer to an array of double data.
+ *
+ * @param vectorLength The number of points to publish.
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsPublicationPublishVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err);
+	void helicsPublicationPublishVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err);
+	/**
+ * Publish a vector of complex doubles.
+ *
+ * @param pub The publication to publish for.
+ * @param vectorInput A pointer to an array of complex double data (alternating real and imaginary values).
+ *
+ * @param vectorLength The number of values to publish; vectorInput must contain 2xvectorLength values.
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsPublicationPublishComplexVector(HelicsPublication pub,double[] vectorInput,int vectorLength,HelicsError err);
+	void helicsPublicationPublishComplexVector(HelicsPublication pub,DoubleBuffer vectorInput,int vectorLength,HelicsError err);
+	/**
  * Publish a named point.
  *
  * @param pub The publication to publish for.
@@ -2078,7 +2144,7 @@ and federates that were created through the current library instance.*/
  * @return HELICS_TRUE if the Input object represents a valid input.
  */
 		
-	int helicsInputIsValid(HelicsIterationRequest ipt);
+	int helicsInputIsValid(HelicsInput ipt);
 	/**
  * Add a publication to the list of data that an input subscribes to.
  *
@@ -2089,14 +2155,14 @@ and federates that were created through the current library instance.*/
 
  */
 		
-	void helicsInputAddTarget(HelicsIterationRequest ipt,String target,HelicsError err);
+	void helicsInputAddTarget(HelicsInput ipt,String target,HelicsError err);
 	/**
  * Get the size of the raw value for subscription.
  *
  * @return The size of the raw data/string in bytes.
  */
 		
-	int helicsInputGetByteCount(HelicsIterationRequest ipt);
+	int helicsInputGetByteCount(HelicsInput ipt);
 	/**
  * Get the raw data for the latest value of a subscription.
  *
@@ -2108,14 +2174,16 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err A pointer to an error object for catching errors.
  */
 		
-	void helicsInputGetBytes(HelicsIterationRequest ipt,Pointer data,int maxDataLength,IntByReference actualSize,HelicsError err);
+	void helicsInputGetBytes(HelicsInput ipt,Pointer data,int maxDataLength,IntByReference actualSize,HelicsError err);
+	void helicsInputGetBytes(HelicsInput ipt,byte[] data,int maxDataLength,IntByReference actualSize,HelicsError err);
+	void helicsInputGetBytes(HelicsInput ipt,ByteBuffer data,int maxDataLength,IntByReference actualSize,HelicsError err);
 	/**
  * Get the size of a value for subscription assuming return as a string.
  *
  * @return The size of the string.
  */
 		
-	int helicsInputGetStringSize(HelicsIterationRequest ipt);
+	int helicsInputGetStringSize(HelicsInput ipt);
 	/**
  * Get an integer value from a subscription.
  *
@@ -2126,7 +2194,7 @@ and federates that were created through the current library instance.*/
  * @return An int64_t value with the current value of the input.
  */
 		
-	int helicsInputGetInteger(HelicsIterationRequest ipt,HelicsError err);
+	int helicsInputGetInteger(HelicsInput ipt,HelicsError err);
 	/**
  * Get a boolean value from a subscription.
  *
@@ -2137,7 +2205,7 @@ and federates that were created through the current library instance.*/
  * @return A boolean value of current input value.
  */
 		
-	int helicsInputGetBoolean(HelicsIterationRequest ipt,HelicsError err);
+	int helicsInputGetBoolean(HelicsInput ipt,HelicsError err);
 	/**
  * Get a double value from a subscription.
  *
@@ -2148,7 +2216,7 @@ and federates that were created through the current library instance.*/
  * @return The double value of the input.
  */
 		
-	double helicsInputGetDouble(HelicsIterationRequest ipt,HelicsError err);
+	double helicsInputGetDouble(HelicsInput ipt,HelicsError err);
 	/**
  * Get a time value from a subscription.
  *
@@ -2159,7 +2227,7 @@ and federates that were created through the current library instance.*/
  * @return The resulting time value.
  */
 		
-	double helicsInputGetTime(HelicsIterationRequest ipt,HelicsError err);
+	double helicsInputGetTime(HelicsInput ipt,HelicsError err);
 	/**
  * Get a single character value from an input.
  *
@@ -2171,7 +2239,7 @@ and federates that were created through the current library instance.*/
  *         NAK (negative acknowledgment) symbol returned on error
  */
 		
-	char helicsInputGetChar(HelicsIterationRequest ipt,HelicsError err);
+	char helicsInputGetChar(HelicsInput ipt,HelicsError err);
 	/**
  * Get a pair of double forming a complex number from a subscriptions.
  *
@@ -2183,14 +2251,53 @@ and federates that were created through the current library instance.*/
  * On error the values will not be altered.
  */
 		
-	void helicsInputGetComplex(HelicsIterationRequest ipt,DoubleByReference real,DoubleByReference imag,HelicsError err);
+	void helicsInputGetComplex(HelicsInput ipt,DoubleByReference real,DoubleByReference imag,HelicsError err);
 	/**
  * Get the size of a value for subscription assuming return as an array of doubles.
  *
  * @return The number of doubles in a returned vector.
  */
 		
-	int helicsInputGetVectorSize(HelicsIterationRequest ipt);
+	int helicsInputGetVectorSize(HelicsInput ipt);
+	/**
+ * Get a vector from a subscription.
+ *
+ * @param ipt The input to get the result for.
+ *
+ * @param[out] data The location to store the data.
+ * @param maxLength The maximum size of the vector.
+ * @param[out] actualSize Location to place the actual length of the resulting vector.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	void helicsInputGetVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err);
+	void helicsInputGetVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err);
+	/**
+ * Get a complex vector from an input.
+ *
+ * @param ipt The input to get the result for.
+ *
+ * @param[out] data The location to store the data. The data will be stored in alternating real and imaginary values.
+ * @param maxLength The maximum number of values data can hold.
+ * @param[out] actualSize Location to place the actual length of the resulting complex vector (will be 1/2 the number of values assigned).
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	void helicsInputGetComplexVector(HelicsInput ipt,double[] data,int maxLength,IntByReference actualSize,HelicsError err);
+	void helicsInputGetComplexVector(HelicsInput ipt,DoubleBuffer data,int maxLength,IntByReference actualSize,HelicsError err);
+	/**
+ * Set the default as a raw data array.
+ *
+ * @param ipt The input to set the default for.
+ * @param data A pointer to the raw data to use for the default.
+ *
+ * @param inputDataLength The size of the raw data.
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	void helicsInputSetDefaultBytes(HelicsInput ipt,Pointer data,int inputDataLength,HelicsError err);
+	void helicsInputSetDefaultBytes(HelicsInput ipt,byte[] data,int inputDataLength,HelicsError err);
+	void helicsInputSetDefaultBytes(HelicsInput ipt,ByteBuffer data,int inputDataLength,HelicsError err);
 	/**
  * Set the default as a string.
  *
@@ -2200,7 +2307,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultString(HelicsIterationRequest ipt,String defaultString,HelicsError err);
+	void helicsInputSetDefaultString(HelicsInput ipt,String defaultString,HelicsError err);
 	/**
  * Set the default as an integer.
  *
@@ -2210,7 +2317,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultInteger(HelicsIterationRequest ipt,int val,HelicsError err);
+	void helicsInputSetDefaultInteger(HelicsInput ipt,int val,HelicsError err);
 	/**
  * Set the default as a boolean.
  *
@@ -2220,7 +2327,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultBoolean(HelicsIterationRequest ipt,int val,HelicsError err);
+	void helicsInputSetDefaultBoolean(HelicsInput ipt,int val,HelicsError err);
 	/**
  * Set the default as a time.
  *
@@ -2230,7 +2337,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultTime(HelicsIterationRequest ipt,double val,HelicsError err);
+	void helicsInputSetDefaultTime(HelicsInput ipt,double val,HelicsError err);
 	/**
  * Set the default as a char.
  *
@@ -2240,7 +2347,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultChar(HelicsIterationRequest ipt,char val,HelicsError err);
+	void helicsInputSetDefaultChar(HelicsInput ipt,char val,HelicsError err);
 	/**
  * Set the default as a double.
  *
@@ -2250,7 +2357,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultDouble(HelicsIterationRequest ipt,double val,HelicsError err);
+	void helicsInputSetDefaultDouble(HelicsInput ipt,double val,HelicsError err);
 	/**
  * Set the default as a complex number.
  *
@@ -2261,7 +2368,31 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultComplex(HelicsIterationRequest ipt,double real,double imag,HelicsError err);
+	void helicsInputSetDefaultComplex(HelicsInput ipt,double real,double imag,HelicsError err);
+	/**
+ * Set the default as a vector of doubles.
+ *
+ * @param ipt The input to set the default for.
+ * @param vectorInput A pointer to an array of double data.
+ * @param vectorLength The number of doubles in the vector.
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	void helicsInputSetDefaultVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err);
+	void helicsInputSetDefaultVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err);
+	/**
+ * Set the default as a vector of complex doubles. The format is alternating real, imag doubles.
+ *
+ * @param ipt The input to set the default for.
+ * @param vectorInput A pointer to an array of double data alternating between real and imaginary.
+ * @param vectorLength the number of complex values in the publication (vectorInput must contain 2xvectorLength elements).
+ *
+ * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
+ */
+		
+	void helicsInputSetDefaultComplexVector(HelicsInput ipt,double[] vectorInput,int vectorLength,HelicsError err);
+	void helicsInputSetDefaultComplexVector(HelicsInput ipt,DoubleBuffer vectorInput,int vectorLength,HelicsError err);
 	/**
  * Set the default as a NamedPoint.
  *
@@ -2272,7 +2403,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object that will contain an error code and string if any error occurred during the execution of the function.
  */
 		
-	void helicsInputSetDefaultNamedPoint(HelicsIterationRequest ipt,String defaultName,double val,HelicsError err);
+	void helicsInputSetDefaultNamedPoint(HelicsInput ipt,String defaultName,double val,HelicsError err);
 	/**
  * Get the type of an input.
  *
@@ -2281,7 +2412,7 @@ and federates that were created through the current library instance.*/
  * @return A void enumeration, HELICS_OK if everything worked.
  */
 		
-	String helicsInputGetType(HelicsIterationRequest ipt);
+	String helicsInputGetType(HelicsInput ipt);
 	/**
  * Get the type the publisher to an input is sending.
  *
@@ -2290,7 +2421,7 @@ and federates that were created through the current library instance.*/
  * @return A const char * with the type name.
  */
 		
-	String helicsInputGetPublicationType(HelicsIterationRequest ipt);
+	String helicsInputGetPublicationType(HelicsInput ipt);
 	/**
  * Get the type the publisher to an input is sending.
  *
@@ -2299,7 +2430,7 @@ and federates that were created through the current library instance.*/
  * @return An int containing the enumeration value of the publication type.
  */
 		
-	int helicsInputGetPublicationDataType(HelicsIterationRequest ipt);
+	int helicsInputGetPublicationDataType(HelicsInput ipt);
 	/**
  * Get the type of a publication.
  *
@@ -2317,14 +2448,14 @@ and federates that were created through the current library instance.*/
  * @return A const char with the input name.
  */
 		
-	String helicsInputGetName(HelicsIterationRequest ipt);
+	String helicsInputGetName(HelicsInput ipt);
 	/**
  * Get the target of a subscription.
  *
  * @return A const char with the subscription target.
  */
 		
-	String helicsSubscriptionGetTarget(HelicsIterationRequest ipt);
+	String helicsSubscriptionGetTarget(HelicsInput ipt);
 	/**
  * Get the name of a publication.
  *
@@ -2344,7 +2475,7 @@ and federates that were created through the current library instance.*/
  * @return A void enumeration, HELICS_OK if everything worked.
  */
 		
-	String helicsInputGetUnits(HelicsIterationRequest ipt);
+	String helicsInputGetUnits(HelicsInput ipt);
 	/**
  * Get the units of the publication that an input is linked to.
  *
@@ -2353,7 +2484,7 @@ and federates that were created through the current library instance.*/
  * @return A void enumeration, HELICS_OK if everything worked.
  */
 		
-	String helicsInputGetInjectionUnits(HelicsIterationRequest ipt);
+	String helicsInputGetInjectionUnits(HelicsInput ipt);
 	/**
  * Get the units of an input.
  *
@@ -2364,7 +2495,7 @@ and federates that were created through the current library instance.*/
  * @return A void enumeration, HELICS_OK if everything worked.
  */
 		
-	String helicsInputGetExtractionUnits(HelicsIterationRequest ipt);
+	String helicsInputGetExtractionUnits(HelicsInput ipt);
 	/**
  * Get the units of a publication.
  *
@@ -2382,7 +2513,7 @@ and federates that were created through the current library instance.*/
  * @return A string with the info field string.
  */
 		
-	String helicsInputGetInfo(HelicsIterationRequest inp);
+	String helicsInputGetInfo(HelicsInput inp);
 	/**
  * Set the data in the info field for an input.
  *
@@ -2392,7 +2523,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object to fill out in case of an error.
  */
 		
-	void helicsInputSetInfo(HelicsIterationRequest inp,String info,HelicsError err);
+	void helicsInputSetInfo(HelicsInput inp,String info,HelicsError err);
 	/**
  * Get the data in a specified tag of an input.
  *
@@ -2401,7 +2532,7 @@ and federates that were created through the current library instance.*/
  * @return A string with the tag data.
  */
 		
-	String helicsInputGetTag(HelicsIterationRequest inp,String tagname);
+	String helicsInputGetTag(HelicsInput inp,String tagname);
 	/**
  * Set the data in a specific tag for an input.
  *
@@ -2412,7 +2543,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object to fill out in case of an error.
  */
 		
-	void helicsInputSetTag(HelicsIterationRequest inp,String tagname,String tagvalue,HelicsError err);
+	void helicsInputSetTag(HelicsInput inp,String tagname,String tagvalue,HelicsError err);
 	/**
  * Get the data in the info field of an publication.
  *
@@ -2461,7 +2592,7 @@ and federates that were created through the current library instance.*/
  * @return An integer value with the current value of the given option.
  */
 		
-	int helicsInputGetOption(HelicsIterationRequest inp,int option);
+	int helicsInputGetOption(HelicsInput inp,int option);
 	/**
  * Set an option on an input
  *
@@ -2472,7 +2603,7 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object to fill out in case of an error.
  */
 		
-	void helicsInputSetOption(HelicsIterationRequest inp,int option,int value,HelicsError err);
+	void helicsInputSetOption(HelicsInput inp,int option,int value,HelicsError err);
 	/**
  * Get the value of an option for a publication
  *
@@ -2513,24 +2644,24 @@ and federates that were created through the current library instance.*/
  * @param[in,out] err An error object to fill out in case of an error.
  */
 		
-	void helicsInputSetMinimumChange(HelicsIterationRequest inp,double tolerance,HelicsError err);
+	void helicsInputSetMinimumChange(HelicsInput inp,double tolerance,HelicsError err);
 	/**
  * Check if a particular subscription was updated.
  *
  * @return HELICS_TRUE if it has been updated since the last value retrieval.
  */
 		
-	int helicsInputIsUpdated(HelicsIterationRequest ipt);
+	int helicsInputIsUpdated(HelicsInput ipt);
 	/**
  * Get the last time a subscription was updated.
  */
 		
-	double helicsInputLastUpdateTime(HelicsIterationRequest ipt);
+	double helicsInputLastUpdateTime(HelicsInput ipt);
 	/**
  * Clear the updated flag from an input.
  */
 		
-	void helicsInputClearUpdate(HelicsIterationRequest ipt);
+	void helicsInputClearUpdate(HelicsInput ipt);
 	/**
  * Get the number of publications in a federate.
  *
@@ -2676,6 +2807,69 @@ and federates that were created through the current library instance.*/
 		
 	String helicsEndpointGetDefaultDestination(HelicsEndpoint endpoint);
 	/**
+ * Send a message to the targeted destination.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	void helicsEndpointSendBytes(HelicsEndpoint endpoint,Pointer data,int inputDataLength,HelicsError err);
+	void helicsEndpointSendBytes(HelicsEndpoint endpoint,byte[] data,int inputDataLength,HelicsError err);
+	void helicsEndpointSendBytes(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,HelicsError err);
+	/**
+ * Send a message to the specified destination.
+ *
+ * @param endpoint The endpoint to send the data from.
+
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ * @param dst The target destination. Use nullptr to send to the default destination.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,HelicsError err);
+	void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,HelicsError err);
+	void helicsEndpointSendBytesTo(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,HelicsError err);
+	/**
+ * Send a message to the specified destination at a specific time.
+ *
+ * @param endpoint The endpoint to send the data from.
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ *
+ * @param dst The target destination. Use nullptr to send to the default destination.
+ *
+ * @param time The time the message should be sent.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,String dst,double time,HelicsError err);
+	void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,String dst,double time,HelicsError err);
+	void helicsEndpointSendBytesToAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,String dst,double time,HelicsError err);
+	/**
+ * Send a message at a specific time to the targeted destinations
+ *
+ * @param endpoint The endpoint to send the data from.
+ *
+ * @param data The data to send.
+ *
+ * @param inputDataLength The length of the data to send.
+ *
+ * @param time The time the message should be sent.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,Pointer data,int inputDataLength,double time,HelicsError err);
+	void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,byte[] data,int inputDataLength,double time,HelicsError err);
+	void helicsEndpointSendBytesAt(HelicsEndpoint endpoint,ByteBuffer data,int inputDataLength,double time,HelicsError err);
+	/**
  * Send a message object from a specific endpoint.
  *
  * @param endpoint The endpoint to send the data from.
@@ -3030,6 +3224,29 @@ and federates that were created through the current library instance.*/
 		
 	int helicsMessageGetByteCount(HelicsMessage message);
 	/**
+ * Get the raw data for a message object.
+ *
+ * @param message A message object to get the data for.
+ *
+ * @param[out] data The memory location of the data.
+ * @param maxMessageLength The maximum size of information that data can hold.
+ * @param[out] actualSize The actual length of data copied to data.
+ * @param[in,out] err A pointer to an error object for catching errors.
+ */
+		
+	void helicsMessageGetBytes(HelicsMessage message,Pointer data,int maxMessageLength,IntByReference actualSize,HelicsError err);
+	void helicsMessageGetBytes(HelicsMessage message,byte[] data,int maxMessageLength,IntByReference actualSize,HelicsError err);
+	void helicsMessageGetBytes(HelicsMessage message,ByteBuffer data,int maxMessageLength,IntByReference actualSize,HelicsError err);
+	/**
+ * Get a pointer to the raw data of a message.
+ *
+ * @param message A message object to get the data for.
+ *
+ * @return A pointer to the raw data in memory, the pointer may be NULL if the message is not a valid message.
+ */
+		
+	Pointer helicsMessageGetBytesPointer(HelicsMessage message);
+	/**
  * A check if the message contains a valid payload.
  *
  * @param message The message object in question.
@@ -3154,6 +3371,32 @@ and federates that were created through the current library instance.*/
 		
 	void helicsMessageSetString(HelicsMessage message,String data,HelicsError err);
 	/**
+ * Set the data payload of a message as raw data.
+ *
+ * @param message The message object in question.
+ * @param data A string containing the message data.
+ * @param inputDataLength The length of the data to input.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	void helicsMessageSetData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err);
+	void helicsMessageSetData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err);
+	void helicsMessageSetData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err);
+	/**
+ * Append data to the payload.
+ *
+ * @param message The message object in question.
+ * @param data A string containing the message data to append.
+ * @param inputDataLength The length of the data to input.
+ *
+ * @param[in,out] err An error object to fill out in case of an error.
+ */
+		
+	void helicsMessageAppendData(HelicsMessage message,Pointer data,int inputDataLength,HelicsError err);
+	void helicsMessageAppendData(HelicsMessage message,byte[] data,int inputDataLength,HelicsError err);
+	void helicsMessageAppendData(HelicsMessage message,ByteBuffer data,int inputDataLength,HelicsError err);
+	/**
  * Copy a message object.
  *
  * @param src_message The message object to copy from.
@@ -3747,6 +3990,176 @@ and federates that were created through the current library instance.*/
 		
 	int helicsTranslatorGetOption(HelicsTranslator trans,int option);
 	/**
+ * Set the logging callback to a broker.
+ *
+ * @details Add a logging callback function to a broker.
+ *          The logging callback will be called when
+ *          a message flows into a broker from the core or from a broker.
+ *
+ * @param broker The broker object in which to set the callback.
+ * @param logger A callback with signature void(int, const char *, const char *, void *);
+ *               the function arguments are loglevel, an identifier, a message string, and a pointer to user data.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsBrokerSetLoggingCallback(HelicsBroker broker,HelicsLoggingCallback logger,Pointer userdata,HelicsError err);
+	/**
+* Set the logging callback for a core.
+*
+* @details Add a logging callback function to a core. The logging callback will be called when
+*          a message flows into a core from the core or from a broker.
+*
+* @param core The core object in which to set the callback.
+* @param logger A callback with signature void(int, const char *, const char *, void *);
+*               The function arguments are loglevel, an identifier, a message string, and a pointer to user data.
+* @param userdata A pointer to user data that is passed to the function when executing.
+*
+* @param[in,out] err A pointer to an error object for catching errors.
+
+*/
+		
+	void helicsCoreSetLoggingCallback(HelicsCore core,HelicsLoggingCallback logger,Pointer userdata,HelicsError err);
+	/**
+ * Set the logging callback for a federate.
+ *
+ * @details Add a logging callback function to a federate. The logging callback will be called when
+ *          a message flows into a federate from the core or from a federate.
+ *
+ * @param fed The federate object in which to create a subscription must have been created with
+ *            helicsCreateValueFederate or helicsCreateCombinationFederate.
+ * @param logger A callback with signature void(int, const char *, const char *, void *);
+ *        The function arguments are loglevel, an identifier string, a message string, and a pointer to user data.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetLoggingCallback(HelicsFederate fed,HelicsLoggingCallback logger,Pointer userdata,HelicsError err);
+	/**
+ * Set a general callback for a custom filter.
+ *
+ * @details Add a custom filter callback for creating a custom filter operation in the C shared library.
+ *
+ * @param filter The filter object to set the callback for.
+ * @param filtCall A callback with signature helics_message_object(helics_message_object, void *);
+ *                 The function arguments are the message to filter and a pointer to user data.
+ *                 The filter should return a new message.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFilterSetCustomCallback(HelicsFilter filter,HelicsFilterCallback filtCall,Pointer userdata,HelicsError err);
+	/**
+ * Set a general callback for a custom translator.
+ *
+ * @details Add a pair of custom callbacks for running a translator operation in the C shared library.
+ *
+ * @param translator The translator object to set the callbacks for.
+ *  * @param toMessageCall A callback with signature void(HelicsDataBuffer, HelicsMessage, void *);
+ *                 The function arguments are raw Value data, the messageObject to fill out and a pointer to user data.
+ *
+ * @param toValueCall A callback with signature void(HelicsMessage, HelicsDataBuffer, void *);
+ *                 The function arguments are a message object, the data buffer to fill out and a pointer to user data.
+ *
+ * @param userdata A pointer to user data that is passed to the functions when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsTranslatorSetCustomCallback(HelicsTranslator translator,HelicsTranslatorToMessageCallback toMessageCall,HelicsTranslatorToValueCallback toValueCall,Pointer userdata,HelicsError err);
+	/**
+ * Set callback for queries executed against a federate.
+ *
+ * @details There are many queries that HELICS understands directly, but it is occasionally useful to have a federate be able to respond
+ * to specific queries with answers specific to a federate.
+ *
+ * @param fed The federate to set the callback for.
+ * @param queryAnswer A callback with signature const char *(const char *query, int querySize, HelicsQueryBuffer buffer, void *userdata);
+ *                 The function arguments include the query string requesting an answer along with its size; the string is not guaranteed to
+ be
+ * null terminated. HelicsQueryBuffer is the buffer intended to filled out by the userCallback. The buffer can be empty if the query is not
+ recognized and HELICS will generate the appropriate response.  The buffer is used to ensure memory ownership separation between user code
+ and HELICS code.
+ *  The HelicsQueryBufferFill method can be used to load a string into the buffer.
+ @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetQueryCallback(HelicsFederate fed,HelicsQueryCallback queryAnswer,Pointer userdata,HelicsError err);
+	/**
+ * Set callback for the time request.
+ *
+ * @details This callback will be executed when a valid time request is made. It is intended for the possibility of embedded data grabbers
+ in a callback to simplify user code.
+ *
+ * @param fed The federate to set the callback for.
+ * @param requestTime A callback with signature void(HelicsTime currentTime, HelicsTime requestTime, bool iterating, void *userdata);
+ *                 The function arguments are the current time value, the requested time value, a bool indicating that the time is
+ iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetTimeRequestEntryCallback(HelicsFederate fed,HelicsTimeRequestEntryCallback requestTime,Pointer userdata,HelicsError err);
+	/**
+ * Set callback for the time update.
+ *
+ * @details This callback will be executed every time the simulation time is updated starting on entry to executing mode.
+ *
+ * @param fed The federate to set the callback for.
+ * @param timeUpdate A callback with signature void(HelicsTime newTime, bool iterating, void *userdata);
+ *                 The function arguments are the new time value, a bool indicating that the time is iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetTimeUpdateCallback(HelicsFederate fed,HelicsTimeUpdateCallback timeUpdate,Pointer userdata,HelicsError err);
+	/**
+ * Set callback for the federate mode change.
+ *
+ * @details This callback will be executed every time the operating mode of the federate changes.
+ *
+ * @param fed The federate to set the callback for.
+ * @param stateChange A callback with signature void(HelicsFederateState newState, HelicsFederateState oldState, void *userdata);
+ *                 The function arguments are the new state, the old state, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetStateChangeCallback(HelicsFederate fed,HelicsStateChangeCallback stateChange,Pointer userdata,HelicsError err);
+	/**
+ * Set callback for the time request return.
+ *
+ * @details This callback will be executed after all other callbacks for a time request return.  This callback will be the last thing
+ executed before returning control to the user program.
+ * The difference between this and the TimeUpdate callback is the order of execution.  The timeUpdate callback is executed prior to
+ individual interface callbacks, this callback is executed after all others.
+ * @param fed The federate to set the callback for.
+ * @param requestTimeReturn A callback with signature void(HelicsTime newTime, bool iterating, void *userdata);
+ *                 The function arguments are the new time value, a bool indicating that the time is iterating, and pointer to the userdata.
+ * @param userdata A pointer to user data that is passed to the function when executing.
+ *
+ * @param[in,out] err A pointer to an error object for catching errors.
+
+ */
+		
+	void helicsFederateSetTimeRequestReturnCallback(HelicsFederate fed,HelicsTimeRequestReturnCallback requestTimeReturn,Pointer userdata,HelicsError err);
+	/**
  * Set the data for a query callback.
  *
  * @details There are many queries that HELICS understands directly, but it is occasionally useful to have a federate be able to respond
@@ -3761,4 +4174,5 @@ and federates that were created through the current library instance.*/
  */
 		
 	void helicsQueryBufferFill(HelicsQueryBuffer buffer,String queryResult,int strSize,HelicsError err);
+	void helicsQueryBufferFill(HelicsQueryBuffer buffer,byte[] queryResult,int strSize,HelicsError err);
 	}
\ No newline at end of file
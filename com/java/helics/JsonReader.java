@@ -0,0 +1,476 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import com.sun.jna.Pointer;
+
+/**
+ * Pull parser for the JSON results of HELICS queries. The UTF-8 input is read in place from a byte buffer, which may
+ * be a view of the native result, so large results are decoded without first building a String or a document tree.
+ * Only the strings and numbers actually requested are materialized; {@link #skipValue()} skips a value of any size
+ * without allocating. A reader is not thread safe.
+ */
+public final class JsonReader {
+	/**
+	 * kind of the next element of the input, see {@link #peek()}
+	 */
+	public enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+	private static final byte EMPTY_DOCUMENT = 0;
+	private static final byte NONEMPTY_DOCUMENT = 1;
+	private static final byte EMPTY_OBJECT = 2;
+	private static final byte NONEMPTY_OBJECT = 3;
+	private static final byte DANGLING_NAME = 4;
+	private static final byte EMPTY_ARRAY = 5;
+	private static final byte NONEMPTY_ARRAY = 6;
+	private final ByteBuffer input;
+	private final int limit;
+	private int pos;
+	private Token peeked;
+	private byte[] stack = new byte[32];
+	private int depth;
+	private byte[] scratch = new byte[64];
+	/**
+	 * Read the bytes between the position and the limit of the buffer; the buffer itself is not modified.
+	 */
+	public JsonReader(final ByteBuffer utf8) {
+		this.input = utf8;
+		this.pos = utf8.position();
+		this.limit = utf8.limit();
+		this.stack[depth++] = EMPTY_DOCUMENT;
+	}
+	public JsonReader(final byte[] utf8) {
+		this(ByteBuffer.wrap(utf8));
+	}
+	public JsonReader(final String json) {
+		this(json.getBytes(StandardCharsets.UTF_8));
+	}
+	/**
+	 * Read a null terminated native string in place. The memory must stay valid while the reader is used.
+	 */
+	static JsonReader of(final Pointer utf8) {
+		if (utf8 == null) {
+			throw new IllegalStateException("query returned no result");
+		}
+		final long length = utf8.indexOf(0, (byte) 0);
+		if (length > Integer.MAX_VALUE) {
+			throw new IllegalStateException("query result of " + length + " bytes is too large");
+		}
+		return new JsonReader(utf8.getByteBuffer(0, length));
+	}
+	/**
+	 * @return the kind of the next element without consuming it
+	 */
+	public Token peek() {
+		if (peeked != null) {
+			return peeked;
+		}
+		final int scope = stack[depth - 1];
+		switch (scope) {
+		case EMPTY_ARRAY:
+			stack[depth - 1] = NONEMPTY_ARRAY;
+			if (skipWhitespace() == ']') {
+				return peeked = Token.END_ARRAY;
+			}
+			break;
+		case NONEMPTY_ARRAY: {
+			final int c = skipWhitespace();
+			if (c == ']') {
+				return peeked = Token.END_ARRAY;
+			}
+			expect(c, ',');
+			break;
+		}
+		case EMPTY_OBJECT:
+		case NONEMPTY_OBJECT: {
+			int c = skipWhitespace();
+			if (c == '}') {
+				return peeked = Token.END_OBJECT;
+			}
+			if (scope == NONEMPTY_OBJECT) {
+				expect(c, ',');
+				c = skipWhitespace();
+			}
+			if (c != '"') {
+				throw syntaxError("expected a name");
+			}
+			stack[depth - 1] = DANGLING_NAME;
+			return peeked = Token.NAME;
+		}
+		case DANGLING_NAME:
+			expect(skipWhitespace(), ':');
+			stack[depth - 1] = NONEMPTY_OBJECT;
+			break;
+		case EMPTY_DOCUMENT:
+			stack[depth - 1] = NONEMPTY_DOCUMENT;
+			break;
+		default:
+			if (skipWhitespace() != -1) {
+				throw syntaxError("unexpected data after the end of the document");
+			}
+			return peeked = Token.END_DOCUMENT;
+		}
+		return peeked = peekValue();
+	}
+	/**
+	 * @return true while the current object or array has more elements
+	 */
+	public boolean hasNext() {
+		final Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+	public void beginObject() {
+		consume(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+	public void endObject() {
+		consume(Token.END_OBJECT);
+		depth--;
+	}
+	public void beginArray() {
+		consume(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+	public void endArray() {
+		consume(Token.END_ARRAY);
+		depth--;
+	}
+	public String nextName() {
+		check(Token.NAME);
+		peeked = null;
+		return readString();
+	}
+	/**
+	 * @return the next string, or the text of the next number
+	 */
+	public String nextString() {
+		final Token token = peek();
+		if (token == Token.STRING) {
+			peeked = null;
+			return readString();
+		}
+		if (token == Token.NUMBER) {
+			final int start = pos;
+			peeked = null;
+			return decode(start, skipNumber(), true);
+		}
+		throw unexpected(Token.STRING);
+	}
+	public double nextDouble() {
+		check(Token.NUMBER);
+		final int start = pos;
+		peeked = null;
+		return parseDouble(start, skipNumber());
+	}
+	public long nextLong() {
+		check(Token.NUMBER);
+		final int start = pos;
+		peeked = null;
+		final int end = skipNumber();
+		final boolean negative = input.get(start) == '-';
+		int i = negative ? start + 1 : start;
+		if (end == i) {
+			pos = start;
+			throw syntaxError("number without digits");
+		}
+		if (end - i > 18) {
+			return parseLong(start, end);
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			final int digit = input.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return parseLong(start, end);
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+	public int nextInt() {
+		final int start = pos;
+		final long value = nextLong();
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			pos = start;
+			throw syntaxError("number " + value + " does not fit an int");
+		}
+		return (int) value;
+	}
+	public boolean nextBoolean() {
+		check(Token.BOOLEAN);
+		peeked = null;
+		if (input.get(pos) == 't') {
+			literal("true");
+			return true;
+		}
+		literal("false");
+		return false;
+	}
+	public void nextNull() {
+		check(Token.NULL);
+		peeked = null;
+		literal("null");
+	}
+	/**
+	 * Skip the next value, including all nested values of an object or array, without decoding it.
+	 *
+	 * @throws IllegalStateException at the end of an object, an array or the document, where there is no value to skip
+	 */
+	public void skipValue() {
+		int nesting = 0;
+		do {
+			switch (peek()) {
+			case BEGIN_OBJECT:
+				beginObject();
+				nesting++;
+				break;
+			case BEGIN_ARRAY:
+				beginArray();
+				nesting++;
+				break;
+			case END_OBJECT:
+				if (nesting == 0) {
+					throw syntaxError("no value to skip");
+				}
+				endObject();
+				nesting--;
+				break;
+			case END_ARRAY:
+				if (nesting == 0) {
+					throw syntaxError("no value to skip");
+				}
+				endArray();
+				nesting--;
+				break;
+			case NAME:
+			case STRING:
+				peeked = null;
+				skipString();
+				break;
+			case NUMBER:
+				peeked = null;
+				skipNumber();
+				break;
+			case BOOLEAN:
+				nextBoolean();
+				break;
+			case NULL:
+				nextNull();
+				break;
+			default:
+				throw syntaxError("no value to skip");
+			}
+		} while (nesting > 0);
+	}
+	private Token peekValue() {
+		final int c = skipWhitespace();
+		switch (c) {
+		case '{':
+			return Token.BEGIN_OBJECT;
+		case '[':
+			return Token.BEGIN_ARRAY;
+		case '"':
+			return Token.STRING;
+		case 't':
+		case 'f':
+			return Token.BOOLEAN;
+		case 'n':
+			return Token.NULL;
+		default:
+			if (c == '-' || (c >= '0' && c <= '9')) {
+				return Token.NUMBER;
+			}
+			throw syntaxError(c == -1 ? "unexpected end of input" : "unexpected character '" + (char) c + "'");
+		}
+	}
+	/**
+	 * @return the next non whitespace byte, left unconsumed, or -1 at the end of the input
+	 */
+	private int skipWhitespace() {
+		while (pos < limit) {
+			final byte c = input.get(pos);
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return c & 0xff;
+			}
+			pos++;
+		}
+		return -1;
+	}
+	private void expect(final int c, final char expected) {
+		if (c != expected) {
+			throw syntaxError("expected '" + expected + "'");
+		}
+		pos++;
+	}
+	private void consume(final Token token) {
+		check(token);
+		peeked = null;
+		pos++;
+	}
+	private void check(final Token token) {
+		if (peek() != token) {
+			throw unexpected(token);
+		}
+	}
+	private void push(final byte scope) {
+		if (depth == stack.length) {
+			final byte[] grown = new byte[depth * 2];
+			System.arraycopy(stack, 0, grown, 0, depth);
+			stack = grown;
+		}
+		stack[depth++] = scope;
+	}
+	private void literal(final String word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (pos >= limit || input.get(pos) != word.charAt(i)) {
+				throw syntaxError("expected " + word);
+			}
+			pos++;
+		}
+	}
+	/**
+	 * @return the end of the number starting at the current position, which becomes the new position
+	 */
+	private int skipNumber() {
+		while (pos < limit) {
+			final byte c = input.get(pos);
+			if ((c < '0' || c > '9') && c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+				break;
+			}
+			pos++;
+		}
+		return pos;
+	}
+	private long parseLong(final int start, final int end) {
+		final String text = decode(start, end, true);
+		try {
+			return Long.parseLong(text);
+		} catch (final NumberFormatException e) {
+			final double value = parseDouble(start, end);
+			if (value != Math.rint(value) || Math.abs(value) >= 0x1p63) {
+				pos = start;
+				throw syntaxError("number " + text + " is not a long");
+			}
+			return (long) value;
+		}
+	}
+	private double parseDouble(final int start, final int end) {
+		final String text = decode(start, end, true);
+		try {
+			return Double.parseDouble(text);
+		} catch (final NumberFormatException e) {
+			pos = start;
+			throw syntaxError("malformed number " + text);
+		}
+	}
+	/**
+	 * Read the string starting at the opening quote at the current position, decoding runs without escapes directly
+	 * from the input.
+	 */
+	private String readString() {
+		int start = ++pos;
+		boolean ascii = true;
+		StringBuilder builder = null;
+		while (true) {
+			if (pos >= limit) {
+				throw syntaxError("unterminated string");
+			}
+			final byte c = input.get(pos);
+			if (c == '"') {
+				final String run = decode(start, pos++, ascii);
+				return builder == null ? run : builder.append(run).toString();
+			}
+			if (c == '\\') {
+				if (builder == null) {
+					builder = new StringBuilder(pos - start + 16);
+				}
+				builder.append(decode(start, pos++, ascii));
+				readEscape(builder);
+				start = pos;
+				ascii = true;
+			} else {
+				if (c < 0) {
+					ascii = false;
+				}
+				pos++;
+			}
+		}
+	}
+	private void readEscape(final StringBuilder builder) {
+		if (pos >= limit) {
+			throw syntaxError("unterminated escape sequence");
+		}
+		final byte c = input.get(pos++);
+		switch (c) {
+		case 'b':
+			builder.append('\b');
+			break;
+		case 'f':
+			builder.append('\f');
+			break;
+		case 'n':
+			builder.append('\n');
+			break;
+		case 'r':
+			builder.append('\r');
+			break;
+		case 't':
+			builder.append('\t');
+			break;
+		case 'u':
+			if (pos + 4 > limit) {
+				throw syntaxError("unterminated escape sequence");
+			}
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				final int digit = Character.digit(input.get(pos++), 16);
+				if (digit < 0) {
+					throw syntaxError("invalid unicode escape");
+				}
+				value = (value << 4) | digit;
+			}
+			builder.append((char) value);
+			break;
+		case '"':
+		case '\\':
+		case '/':
+			builder.append((char) c);
+			break;
+		default:
+			throw syntaxError("invalid escape sequence");
+		}
+	}
+	private void skipString() {
+		pos++;
+		while (pos < limit) {
+			final byte c = input.get(pos++);
+			if (c == '"') {
+				return;
+			}
+			if (c == '\\') {
+				pos++;
+			}
+		}
+		throw syntaxError("unterminated string");
+	}
+	private String decode(final int start, final int end, final boolean ascii) {
+		final int length = end - start;
+		if (length == 0) {
+			return "";
+		}
+		if (input.hasArray()) {
+			return new String(input.array(), input.arrayOffset() + start, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+		}
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		input.get(start, scratch, 0, length);
+		return new String(scratch, 0, length, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+	}
+	private IllegalStateException unexpected(final Token expected) {
+		return syntaxError("expected " + expected + " but was " + peek());
+	}
+	private IllegalStateException syntaxError(final String message) {
+		return new IllegalStateException(message + " at offset " + pos);
+	}
+}
@@ -0,0 +1,214 @@
+package com.java.helics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.sun.jna.Pointer;
+
+/**
+ * Routes the log messages of brokers, cores and federates to SLF4J without blocking the HELICS threads.
+ *
+ * <p>The logging callback only copies the level, identifier and message into a preallocated ring buffer and a single
+ * daemon thread drains the buffer into the logger. Messages below the level enabled on the logger are discarded in the
+ * callback, messages arriving while the buffer is full are dropped and counted instead of stalling the native thread.
+ */
+public final class LogBridge implements AutoCloseable {
+	public static final String LOGGER_NAME = "com.java.helics.native";
+	private static final int DEFAULT_CAPACITY = 8192;
+	private static final long MAX_PARK_NANOS = 1_000_000L;
+	private static final int DUMPLOG = HelicsLogLevels.HELICS_LOG_LEVEL_DUMPLOG.value();
+	private static final int ERROR = HelicsLogLevels.HELICS_LOG_LEVEL_ERROR.value();
+	private static final int PROFILING = HelicsLogLevels.HELICS_LOG_LEVEL_PROFILING.value();
+	private static final int WARNING = HelicsLogLevels.HELICS_LOG_LEVEL_WARNING.value();
+	private static final int INTERFACES = HelicsLogLevels.HELICS_LOG_LEVEL_INTERFACES.value();
+	private static final int DEBUG = HelicsLogLevels.HELICS_LOG_LEVEL_DEBUG.value();
+	private static final int ERROR_SEVERITY = 0;
+	private static final int WARN_SEVERITY = 1;
+	private static final int INFO_SEVERITY = 2;
+	private static final int DEBUG_SEVERITY = 3;
+	private static final int TRACE_SEVERITY = 4;
+	private final Logger logger;
+	private final Slot[] slots;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final HelicsLoggingCallback callback = Callbacks.attached(this::record);
+	private final Thread thread;
+	private volatile long tail;
+	private volatile boolean idle;
+	private volatile boolean closed;
+	public LogBridge() {
+		this(LoggerFactory.getLogger(LOGGER_NAME), DEFAULT_CAPACITY);
+	}
+	/**
+	 * @param logger the logger receiving the native messages
+	 * @param capacity the number of messages buffered, rounded up to a power of two
+	 */
+	public LogBridge(final Logger logger, final int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.logger = logger;
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.slots = new Slot[size];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = new Slot();
+		}
+		this.mask = slots.length - 1;
+		this.thread = new Thread(this::run, "helics-log-bridge");
+		thread.setDaemon(true);
+		thread.start();
+	}
+	/**
+	 * Install the bridge as the logging callback of the federate; the federate keeps the bridge reachable.
+	 */
+	public void attach(final Federate fed) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		fed.getLibrary().helicsFederateSetLoggingCallback(fed.getHandle(), callback, null, err);
+		HelicsException.check(err);
+		fed.retain(this);
+	}
+	/**
+	 * Install the bridge as the logging callback of the broker; the bridge must stay reachable while the broker exists.
+	 */
+	public void attach(final JavaHelicsLibrary lib, final HelicsBroker broker) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsBrokerSetLoggingCallback(broker, callback, null, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Install the bridge as the logging callback of the core; the bridge must stay reachable while the core exists.
+	 */
+	public void attach(final JavaHelicsLibrary lib, final HelicsCore core) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsCoreSetLoggingCallback(core, callback, null, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * @return the number of messages dropped because the buffer was full
+	 */
+	public long getDropped() {
+		return dropped.get();
+	}
+	/**
+	 * Stop accepting messages and wait for the buffered ones to be written.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	private void record(final int loglevel, final String identifier, final String message, final Pointer userData) {
+		if (closed || !isEnabled(loglevel)) {
+			return;
+		}
+		long claim;
+		do {
+			claim = head.get();
+			if (claim - tail >= slots.length) {
+				dropped.incrementAndGet();
+				return;
+			}
+		} while (!head.compareAndSet(claim, claim + 1));
+		final Slot slot = slots[(int) claim & mask];
+		slot.level = loglevel;
+		slot.identifier = identifier;
+		slot.message = message;
+		slot.sequence = claim + 1;
+		if (idle) {
+			LockSupport.unpark(thread);
+		}
+	}
+	private void run() {
+		long reported = 0;
+		while (true) {
+			final long position = tail;
+			final Slot slot = slots[(int) position & mask];
+			if (slot.sequence == position + 1) {
+				write(slot.level, slot.identifier, slot.message);
+				slot.identifier = null;
+				slot.message = null;
+				tail = position + 1;
+				continue;
+			}
+			final long lost = dropped.get();
+			if (lost != reported) {
+				logger.warn("dropped {} HELICS log messages, the log buffer of {} messages was full", lost - reported, slots.length);
+				reported = lost;
+			}
+			if (closed && head.get() == position) {
+				return;
+			}
+			idle = true;
+			if (slot.sequence != position + 1) {
+				LockSupport.parkNanos(this, MAX_PARK_NANOS);
+			}
+			idle = false;
+		}
+	}
+	private boolean isEnabled(final int level) {
+		switch (severity(level)) {
+		case ERROR_SEVERITY:
+			return logger.isErrorEnabled();
+		case WARN_SEVERITY:
+			return logger.isWarnEnabled();
+		case INFO_SEVERITY:
+			return logger.isInfoEnabled();
+		case DEBUG_SEVERITY:
+			return logger.isDebugEnabled();
+		default:
+			return logger.isTraceEnabled();
+		}
+	}
+	private void write(final int level, final String identifier, final String message) {
+		switch (severity(level)) {
+		case ERROR_SEVERITY:
+			logger.error("[{}] {}", identifier, message);
+			break;
+		case WARN_SEVERITY:
+			logger.warn("[{}] {}", identifier, message);
+			break;
+		case INFO_SEVERITY:
+			logger.info("[{}] {}", identifier, message);
+			break;
+		case DEBUG_SEVERITY:
+			logger.debug("[{}] {}", identifier, message);
+			break;
+		default:
+			logger.trace("[{}] {}", identifier, message);
+		}
+	}
+	/**
+	 * Errors and warnings keep their level, profiling, summary, connection and interface messages and log dumps are
+	 * info, timing, data and debug messages are debug and everything above is trace.
+	 */
+	private static int severity(final int level) {
+		if (level == DUMPLOG || level == PROFILING) {
+			return INFO_SEVERITY;
+		} else if (level <= ERROR) {
+			return ERROR_SEVERITY;
+		} else if (level <= WARNING) {
+			return WARN_SEVERITY;
+		} else if (level <= INTERFACES) {
+			return INFO_SEVERITY;
+		} else if (level <= DEBUG) {
+			return DEBUG_SEVERITY;
+		}
+		return TRACE_SEVERITY;
+	}
+	private static final class Slot {
+		volatile long sequence;
+		int level;
+		String identifier;
+		String message;
+	}
+}
@@ -0,0 +1,177 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Wrapper of a {@link HelicsMessage} handle with inline error checking.
+ */
+public final class Message implements AutoCloseable {
+	private static final ByteBuffer EMPTY = ByteBuffer.allocateDirect(0).asReadOnlyBuffer();
+	private final JavaHelicsLibrary lib;
+	private HelicsMessage handle;
+	private MessagePool pool;
+	private boolean idle;
+	Message(final JavaHelicsLibrary lib, final HelicsMessage handle) {
+		this(lib, handle, null);
+	}
+	Message(final JavaHelicsLibrary lib, final HelicsMessage handle, final MessagePool pool) {
+		this.lib = lib;
+		this.handle = handle;
+		this.pool = pool;
+	}
+	public HelicsMessage getHandle() {
+		return handle;
+	}
+	public boolean isValid() {
+		return lib.helicsMessageIsValid(handle) == HelicsConstants.HELICS_TRUE;
+	}
+	public String getSource() {
+		return lib.helicsMessageGetSource(handle);
+	}
+	public String getDestination() {
+		return lib.helicsMessageGetDestination(handle);
+	}
+	public double getTime() {
+		return lib.helicsMessageGetTime(handle);
+	}
+	public String getString() {
+		return lib.helicsMessageGetString(handle);
+	}
+	public int getByteCount() {
+		return lib.helicsMessageGetByteCount(handle);
+	}
+	/**
+	 * Read only view of the message payload in native memory. The view is valid until the message is modified,
+	 * reused or freed and must not be retained past that point.
+	 */
+	public ByteBuffer getData() {
+		final int count = lib.helicsMessageGetByteCount(handle);
+		if (count <= 0) {
+			return EMPTY;
+		}
+		final Pointer data = lib.helicsMessageGetBytesPointer(handle);
+		if (data == null) {
+			return EMPTY;
+		}
+		return data.getByteBuffer(0, count).asReadOnlyBuffer();
+	}
+	/**
+	 * Copy the payload into a caller owned array.
+	 *
+	 * @return the number of bytes stored in data
+	 */
+	public int getBytes(final byte[] data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsMessageGetBytes(handle, data, data.length, actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	/**
+	 * Copy the payload into the remaining space of the buffer; the buffer position is not changed.
+	 *
+	 * @return the number of bytes stored in data
+	 */
+	public int getBytes(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final IntByReference actualSize = ReusableHolders.size();
+		lib.helicsMessageGetBytes(handle, data, data.remaining(), actualSize, err);
+		HelicsException.check(err);
+		return actualSize.getValue();
+	}
+	public void setData(final byte[] data, final int length) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageSetData(handle, data, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Replace the payload with the remaining bytes of the buffer.
+	 */
+	public void setData(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageSetData(handle, data, data.remaining(), err);
+		HelicsException.check(err);
+	}
+	public void appendData(final byte[] data, final int length) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageAppendData(handle, data, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Append the remaining bytes of the buffer to the payload.
+	 */
+	public void appendData(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageAppendData(handle, data, data.remaining(), err);
+		HelicsException.check(err);
+	}
+	public void setString(final String data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageSetString(handle, data, err);
+		HelicsException.check(err);
+	}
+	public void setDestination(final String destination) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageSetDestination(handle, destination, err);
+		HelicsException.check(err);
+	}
+	public void setTime(final double time) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageSetTime(handle, time, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Return a pooled message to its {@link MessagePool}, otherwise release it back to the federate. Any view returned
+	 * by {@link #getData()} becomes invalid. Closing a message that is already closed does nothing.
+	 */
+	@Override
+	public void close() {
+		if (handle == null || idle) {
+			return;
+		}
+		if (pool != null) {
+			pool.release(this);
+		} else {
+			free();
+		}
+	}
+	/**
+	 * Free the native message and drop the handle, so the message can no longer be used or freed again.
+	 */
+	void free() {
+		final HelicsMessage freed = handle;
+		handle = null;
+		pool = null;
+		lib.helicsMessageFree(freed);
+	}
+	MessagePool getPool() {
+		return pool;
+	}
+	/**
+	 * Drop the handle without freeing it, once the native message belongs to the core.
+	 */
+	void detach() {
+		handle = null;
+		pool = null;
+	}
+	/**
+	 * @return true while the message is held by its pool for reuse
+	 */
+	boolean isIdle() {
+		return idle;
+	}
+	void setIdle(final boolean idle) {
+		this.idle = idle;
+	}
+	/**
+	 * Point a callback's reusable view at the message currently being processed.
+	 */
+	void rebind(final HelicsMessage handle) {
+		this.handle = handle;
+	}
+}
@@ -0,0 +1,153 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Reusable columnar holder for messages drained from an endpoint or federate in one pass.
+ * Headers are kept in parallel arrays and all payloads are packed into a single direct buffer.
+ * A batch is not thread safe and is overwritten by the next drain.
+ */
+public final class MessageBatch {
+	private final String[] source;
+	private final String[] destination;
+	private final double[] time;
+	private final int[] messageId;
+	private final int[] offset;
+	private final int[] length;
+	private ByteBuffer payload;
+	private int size;
+	public MessageBatch(final int capacity) {
+		this(capacity, capacity * 256);
+	}
+	/**
+	 * @param capacity the maximum number of messages drained at once
+	 * @param payloadCapacity the initial size of the payload buffer, grown as required
+	 */
+	public MessageBatch(final int capacity, final int payloadCapacity) {
+		this.source = new String[capacity];
+		this.destination = new String[capacity];
+		this.time = new double[capacity];
+		this.messageId = new int[capacity];
+		this.offset = new int[capacity];
+		this.length = new int[capacity];
+		this.payload = ByteBuffer.allocateDirect(Math.max(payloadCapacity, 64));
+	}
+	public int capacity() {
+		return time.length;
+	}
+	public int size() {
+		return size;
+	}
+	public String getSource(final int index) {
+		return source[checkIndex(index)];
+	}
+	public String getDestination(final int index) {
+		return destination[checkIndex(index)];
+	}
+	public double getTime(final int index) {
+		return time[checkIndex(index)];
+	}
+	public int getMessageId(final int index) {
+		return messageId[checkIndex(index)];
+	}
+	/**
+	 * @return the position of the payload of the message in {@link #getPayload()}
+	 */
+	public int getOffset(final int index) {
+		return offset[checkIndex(index)];
+	}
+	public int getLength(final int index) {
+		return length[checkIndex(index)];
+	}
+	/**
+	 * @return a read only view of the packed payloads, positioned at zero with the limit at the end of the last payload
+	 */
+	public ByteBuffer getPayload() {
+		final ByteBuffer view = payload.asReadOnlyBuffer();
+		view.position(0).limit(size == 0 ? 0 : offset[size - 1] + length[size - 1]);
+		return view;
+	}
+	/**
+	 * Copy the payload of a single message into a caller owned array.
+	 *
+	 * @return the number of bytes stored in data
+	 */
+	public int getPayload(final int index, final byte[] data) {
+		final int count = Math.min(length[checkIndex(index)], data.length);
+		payload.duplicate().position(offset[index]).get(data, 0, count);
+		return count;
+	}
+	public void clear() {
+		Arrays.fill(source, 0, size, null);
+		Arrays.fill(destination, 0, size, null);
+		size = 0;
+	}
+	int drain(final JavaHelicsLibrary lib, final HelicsEndpoint endpoint, final int max) {
+		clear();
+		final int count = Math.min(Math.min(max, capacity()), lib.helicsEndpointPendingMessageCount(endpoint));
+		for (int i = 0; i < count; i++) {
+			if (!add(lib, lib.helicsEndpointGetMessage(endpoint))) {
+				break;
+			}
+		}
+		return size;
+	}
+	int drain(final JavaHelicsLibrary lib, final HelicsFederate fed, final int max) {
+		clear();
+		final int count = Math.min(Math.min(max, capacity()), lib.helicsFederatePendingMessageCount(fed));
+		for (int i = 0; i < count; i++) {
+			if (!add(lib, lib.helicsFederateGetMessage(fed))) {
+				break;
+			}
+		}
+		return size;
+	}
+	private boolean add(final JavaHelicsLibrary lib, final HelicsMessage message) {
+		if (lib.helicsMessageIsValid(message) != HelicsConstants.HELICS_TRUE) {
+			return false;
+		}
+		try {
+			final int start = size == 0 ? 0 : offset[size - 1] + length[size - 1];
+			final int count = lib.helicsMessageGetByteCount(message);
+			ensurePayload(start + count);
+			int copied = 0;
+			if (count > 0) {
+				final ReusableHelicsError err = ReusableHelicsError.acquire();
+				final IntByReference actualSize = ReusableHolders.size();
+				payload.limit(start + count).position(start);
+				lib.helicsMessageGetBytes(message, payload, count, actualSize, err);
+				payload.clear();
+				HelicsException.check(err);
+				copied = actualSize.getValue();
+			}
+			source[size] = lib.helicsMessageGetSource(message);
+			destination[size] = lib.helicsMessageGetDestination(message);
+			time[size] = lib.helicsMessageGetTime(message);
+			messageId[size] = lib.helicsMessageGetMessageID(message);
+			offset[size] = start;
+			length[size] = copied;
+			size++;
+			return true;
+		} finally {
+			lib.helicsMessageFree(message);
+		}
+	}
+	private void ensurePayload(final int required) {
+		if (required <= payload.capacity()) {
+			return;
+		}
+		final ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(required, payload.capacity() * 2));
+		final ByteBuffer used = payload.duplicate();
+		used.position(0).limit(size == 0 ? 0 : offset[size - 1] + length[size - 1]);
+		grown.put(used).clear();
+		payload = grown;
+	}
+	private int checkIndex(final int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("message index " + index + " out of range for batch of size " + size);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,92 @@
+package com.java.helics;
+
+/**
+ * Federate with endpoints, created with helicsCreateMessageFederate.
+ */
+public class MessageFederate extends Federate {
+	public MessageFederate(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		this(lib, create(lib, name, fi));
+	}
+	protected MessageFederate(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		super(lib, handle);
+	}
+	public static MessageFederate fromConfig(final JavaHelicsLibrary lib, final String configFile) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateMessageFederateFromConfig(configFile, err);
+		HelicsException.check(err);
+		return new MessageFederate(lib, fed);
+	}
+	private static HelicsFederate create(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateMessageFederate(name, fi, err);
+		HelicsException.check(err);
+		return fed;
+	}
+	public Endpoint registerEndpoint(final String name, final String type) {
+		return registerEndpoint(this, name, type);
+	}
+	public Endpoint registerGlobalEndpoint(final String name, final String type) {
+		return registerGlobalEndpoint(this, name, type);
+	}
+	public Endpoint getEndpoint(final String name) {
+		return getEndpoint(this, name);
+	}
+	public int getEndpointCount() {
+		return lib.helicsFederateGetEndpointCount(handle);
+	}
+	public boolean hasMessage() {
+		return lib.helicsFederateHasMessage(handle) == HelicsConstants.HELICS_TRUE;
+	}
+	public int pendingMessageCount() {
+		return lib.helicsFederatePendingMessageCount(handle);
+	}
+	/**
+	 * @return the next message for any endpoint of the federate; the message is invalid if there is none
+	 */
+	public Message getMessage() {
+		return new Message(lib, lib.helicsFederateGetMessage(handle));
+	}
+	/**
+	 * Pull up to max pending messages for any endpoint of the federate into the batch, replacing its previous contents.
+	 *
+	 * @return the number of messages in the batch
+	 */
+	public int drain(final MessageBatch batch, final int max) {
+		return batch.drain(lib, handle, max);
+	}
+	public Message createMessage() {
+		return createMessage(this);
+	}
+	/**
+	 * @param maxIdle the number of released messages kept for reuse
+	 * @param maxOutstanding the number of messages that may be acquired and not yet released at a time
+	 * @param reserveSize the payload capacity reserved for each new message
+	 */
+	public MessagePool createMessagePool(final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		return new MessagePool(lib, handle, maxIdle, maxOutstanding, reserveSize);
+	}
+	static Endpoint registerEndpoint(final Federate fed, final String name, final String type) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsEndpoint ept = fed.lib.helicsFederateRegisterEndpoint(fed.handle, name, type, err);
+		HelicsException.check(err);
+		return new Endpoint(fed.lib, ept);
+	}
+	static Endpoint registerGlobalEndpoint(final Federate fed, final String name, final String type) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsEndpoint ept = fed.lib.helicsFederateRegisterGlobalEndpoint(fed.handle, name, type, err);
+		HelicsException.check(err);
+		return new Endpoint(fed.lib, ept);
+	}
+	static Endpoint getEndpoint(final Federate fed, final String name) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsEndpoint ept = fed.lib.helicsFederateGetEndpoint(fed.handle, name, err);
+		HelicsException.check(err);
+		return new Endpoint(fed.lib, ept);
+	}
+	static Message createMessage(final Federate fed) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsMessage message = fed.lib.helicsFederateCreateMessage(fed.handle, err);
+		HelicsException.check(err);
+		return new Message(fed.lib, message);
+	}
+}
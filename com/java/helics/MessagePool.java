@@ -0,0 +1,145 @@
+package com.java.helics;
+
+import java.util.ArrayDeque;
+
+/**
+ * Bounded pool of messages created by an endpoint or federate. Messages are reserved with helicsMessageReserve
+ * when created and cleared with helicsMessageClear when returned, so the native buffers are reused under load.
+ * At most maxOutstanding messages are handed out at a time and at most maxIdle are kept for reuse, which bounds the
+ * native messages the pool holds. Like the federate it belongs to, a pool is not thread safe.
+ */
+public final class MessagePool implements AutoCloseable {
+	private final JavaHelicsLibrary lib;
+	private final HelicsEndpoint endpoint;
+	private final HelicsFederate fed;
+	private final int maxIdle;
+	private final int maxOutstanding;
+	private final int reserveSize;
+	private final ArrayDeque<Message> idle;
+	private int outstanding;
+	private boolean closed;
+	MessagePool(final JavaHelicsLibrary lib, final HelicsEndpoint endpoint, final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		this(lib, endpoint, null, maxIdle, maxOutstanding, reserveSize);
+	}
+	MessagePool(final JavaHelicsLibrary lib, final HelicsFederate fed, final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		this(lib, null, fed, maxIdle, maxOutstanding, reserveSize);
+	}
+	private MessagePool(final JavaHelicsLibrary lib, final HelicsEndpoint endpoint, final HelicsFederate fed,
+			final int maxIdle, final int maxOutstanding, final int reserveSize) {
+		if (maxIdle < 0 || reserveSize < 0) {
+			throw new IllegalArgumentException("maxIdle and reserveSize must not be negative");
+		}
+		if (maxOutstanding <= 0) {
+			throw new IllegalArgumentException("maxOutstanding must be positive");
+		}
+		this.lib = lib;
+		this.endpoint = endpoint;
+		this.fed = fed;
+		this.maxIdle = maxIdle;
+		this.maxOutstanding = maxOutstanding;
+		this.reserveSize = reserveSize;
+		this.idle = new ArrayDeque<>(maxIdle);
+	}
+	/**
+	 * @return an empty message, reused from the pool when one is available
+	 * @throws IllegalStateException if maxOutstanding messages are already in use or the pool is closed
+	 */
+	public Message acquire() {
+		if (closed) {
+			throw new IllegalStateException("message pool is closed");
+		}
+		if (outstanding >= maxOutstanding) {
+			throw new IllegalStateException("all " + maxOutstanding + " messages of the pool are in use");
+		}
+		Message message = idle.pollFirst();
+		if (message == null) {
+			message = create();
+		} else {
+			message.setIdle(false);
+		}
+		outstanding++;
+		return message;
+	}
+	/**
+	 * Clear the message and keep it for reuse, or free it if the pool already holds maxIdle messages.
+	 *
+	 * @throws IllegalStateException if the message has already been released
+	 */
+	public void release(final Message message) {
+		checkOutstanding(message);
+		outstanding--;
+		if (closed || idle.size() >= maxIdle) {
+			message.free();
+			return;
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsMessageClear(message.getHandle(), err);
+		if (!err.isOk()) {
+			message.free();
+		}
+		HelicsException.check(err);
+		message.setIdle(true);
+		idle.addFirst(message);
+	}
+	/**
+	 * Send a copy of the message through the endpoint and return the message to the pool.
+	 */
+	public void send(final Endpoint endpoint, final Message message) {
+		checkOutstanding(message);
+		try {
+			endpoint.sendMessage(message);
+		} finally {
+			release(message);
+		}
+	}
+	/**
+	 * Hand the message over to the endpoint with helicsEndpointSendMessageZeroCopy. The native message now belongs
+	 * to the core, so it is dropped from the pool and the message no longer has a handle; closing it does nothing.
+	 */
+	public void transfer(final Endpoint endpoint, final Message message) {
+		checkOutstanding(message);
+		endpoint.sendMessageZeroCopy(message);
+		outstanding--;
+	}
+	/**
+	 * @return the number of messages acquired and not yet released or transferred
+	 */
+	public int getOutstanding() {
+		return outstanding;
+	}
+	public int getIdle() {
+		return idle.size();
+	}
+	/**
+	 * Free all idle messages, messages still outstanding are freed when they are released or closed.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		Message message;
+		while ((message = idle.pollFirst()) != null) {
+			message.free();
+		}
+	}
+	private Message create() {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsMessage handle = endpoint != null ? lib.helicsEndpointCreateMessage(endpoint, err) : lib.helicsFederateCreateMessage(fed, err);
+		HelicsException.check(err);
+		if (reserveSize > 0) {
+			lib.helicsMessageReserve(handle, reserveSize, err);
+			if (!err.isOk()) {
+				lib.helicsMessageFree(handle);
+			}
+			HelicsException.check(err);
+		}
+		return new Message(lib, handle, this);
+	}
+	private void checkOutstanding(final Message message) {
+		if (message.getPool() != this) {
+			throw new IllegalArgumentException("message does not belong to this pool");
+		}
+		if (message.isIdle()) {
+			throw new IllegalStateException("message has already been released to the pool");
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.java.helics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Small pool of platform threads running blocking HELICS calls on behalf of virtual threads, see
+ * {@link Federate#setNativeCallPool(NativeCallPool)}. The virtual thread parks while the call runs, so it does not
+ * pin its carrier thread inside native code.
+ */
+public final class NativeCallPool implements AutoCloseable {
+	private final ExecutorService executor;
+	public NativeCallPool(final int threads) {
+		final AtomicInteger count = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, r -> {
+			final Thread thread = new Thread(r, "helics-native-call-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	/**
+	 * Run the call on the pool when the caller is a virtual thread, otherwise run it directly.
+	 */
+	public <T> T call(final Supplier<T> call) {
+		if (!Thread.currentThread().isVirtual()) {
+			return call.get();
+		}
+		return join(CompletableFuture.supplyAsync(call, executor));
+	}
+	/**
+	 * Wait for a future without pinning a virtual thread, rethrowing the unchecked exception it failed with.
+	 */
+	static <T> T join(final CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,119 @@
+package com.java.helics;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * Wrapper of a {@link HelicsPublication} handle with inline error checking.
+ */
+public final class Publication {
+	private final JavaHelicsLibrary lib;
+	private final HelicsPublication handle;
+	Publication(final JavaHelicsLibrary lib, final HelicsPublication handle) {
+		this.lib = lib;
+		this.handle = handle;
+	}
+	public HelicsPublication getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsPublicationGetName(handle);
+	}
+	public String getType() {
+		return lib.helicsPublicationGetType(handle);
+	}
+	public String getUnits() {
+		return lib.helicsPublicationGetUnits(handle);
+	}
+	public void publish(final double value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishDouble(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void publish(final int value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishInteger(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void publish(final boolean value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishBoolean(handle, value ? HelicsConstants.HELICS_TRUE : HelicsConstants.HELICS_FALSE, err);
+		HelicsException.check(err);
+	}
+	public void publish(final String value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishString(handle, value, err);
+		HelicsException.check(err);
+	}
+	public void publishComplex(final double real, final double imag) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishComplex(handle, real, imag, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Publish the first length bytes of a caller owned array as raw data.
+	 */
+	public void publishBytes(final byte[] data, final int length) {
+		Objects.checkFromIndexSize(0, length, data.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishBytes(handle, data, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Publish the remaining bytes of the buffer as raw data; a direct buffer is read in place without copying.
+	 */
+	public void publishBytes(final ByteBuffer data) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishBytes(handle, data, data.remaining(), err);
+		HelicsException.check(err);
+	}
+	public void publish(final double[] values) {
+		publish(values, values.length);
+	}
+	/**
+	 * Publish the first length values of a caller owned array in a single call.
+	 */
+	public void publish(final double[] values, final int length) {
+		Objects.checkFromIndexSize(0, length, values.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishVector(handle, values, length, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Publish the remaining values of the buffer; a direct buffer is passed without copying.
+	 */
+	public void publish(final DoubleBuffer values) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishVector(handle, values, values.remaining(), err);
+		HelicsException.check(err);
+	}
+	/**
+	 * @param values alternating real and imaginary values
+	 * @param count the number of complex values, values must hold 2 x count doubles
+	 */
+	public void publishComplex(final double[] values, final int count) {
+		Objects.checkFromIndexSize(0, 2 * count, values.length);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishComplexVector(handle, values, count, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Publish the remaining alternating real and imaginary values of the buffer.
+	 */
+	public void publishComplex(final DoubleBuffer values) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishComplexVector(handle, values, values.remaining() / 2, err);
+		HelicsException.check(err);
+	}
+	public void publishNamedPoint(final String field, final double value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationPublishNamedPoint(handle, field, value, err);
+		HelicsException.check(err);
+	}
+	public void addTarget(final String target) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsPublicationAddTarget(handle, target, err);
+		HelicsException.check(err);
+	}
+}
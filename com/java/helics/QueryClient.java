@@ -0,0 +1,174 @@
+package com.java.helics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import com.sun.jna.Pointer;
+
+/**
+ * Runs queries through a federate with helicsQueryExecuteAsync, so any number of them can be in flight at once.
+ * Outstanding queries are watched by the shared {@link AsyncWatcher} thread and the native query objects are
+ * retargeted with helicsQuerySetTarget and helicsQuerySetQueryString for the next query instead of being recreated.
+ * A client may be used from any thread.
+ */
+public final class QueryClient implements AutoCloseable {
+	private final JavaHelicsLibrary lib;
+	private final HelicsFederate fed;
+	private final int maxIdle;
+	private final ArrayDeque<HelicsQuery> idle;
+	private boolean closed;
+	QueryClient(final JavaHelicsLibrary lib, final HelicsFederate fed, final int maxIdle) {
+		if (maxIdle < 0) {
+			throw new IllegalArgumentException("maxIdle must not be negative");
+		}
+		this.lib = lib;
+		this.fed = fed;
+		this.maxIdle = maxIdle;
+		this.idle = new ArrayDeque<>(maxIdle);
+	}
+	/**
+	 * @return a future completed with the query result on a shared completion thread
+	 */
+	public CompletableFuture<String> query(final String target, final String queryString) {
+		return start(target, queryString, (query, err) -> lib.helicsQueryExecuteComplete(query, err));
+	}
+	/**
+	 * Decode the result on the completion thread, in place from native memory, instead of converting it to a String.
+	 * The native query object is only reused once the decoder returns, and the decoder holds one of the bounded pool of
+	 * completion threads while it runs, so it should do no more than decode.
+	 */
+	public <T> CompletableFuture<T> query(final String target, final String queryString, final QueryDecoder<T> decoder) {
+		return start(target, queryString, (query, err) -> {
+			final Pointer result = lib.helicsQueryExecuteCompleteRaw(query, err);
+			HelicsException.check(err);
+			return decoder.decode(JsonReader.of(result));
+		});
+	}
+	/**
+	 * Send the same query to every target before waiting on any of them.
+	 *
+	 * @return a future completed with the results keyed by target, in the order of targets, once all queries have
+	 * finished; it fails if any query fails
+	 */
+	public CompletableFuture<Map<String, String>> queryAll(final Collection<String> targets, final String queryString) {
+		return queryAll(targets, target -> query(target, queryString));
+	}
+	/**
+	 * Send the same query to every target and decode each result like {@link #query(String, String, QueryDecoder)}.
+	 */
+	public <T> CompletableFuture<Map<String, T>> queryAll(final Collection<String> targets, final String queryString, final QueryDecoder<T> decoder) {
+		return queryAll(targets, target -> query(target, queryString, decoder));
+	}
+	/**
+	 * Free the idle query objects; queries still in flight are freed as soon as they complete.
+	 */
+	@Override
+	public void close() {
+		final List<HelicsQuery> freed;
+		synchronized (idle) {
+			closed = true;
+			freed = new ArrayList<>(idle);
+			idle.clear();
+		}
+		for (final HelicsQuery query : freed) {
+			lib.helicsQueryFree(query);
+		}
+	}
+	private <T> CompletableFuture<T> start(final String target, final String queryString, final Result<T> result) {
+		final HelicsQuery query;
+		try {
+			query = acquire(target, queryString);
+		} catch (final RuntimeException e) {
+			final CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsQueryExecuteAsync(query, fed, err);
+		if (!err.isOk()) {
+			final CompletableFuture<T> failed = new CompletableFuture<>();
+			failed.completeExceptionally(HelicsException.create(err.code(), err.message()));
+			err.clear();
+			release(query);
+			return failed;
+		}
+		return AsyncWatcher.watch(new QueryOperation<>(query, result));
+	}
+	private <T> CompletableFuture<Map<String, T>> queryAll(final Collection<String> targets, final Function<String, CompletableFuture<T>> query) {
+		final List<String> names = new ArrayList<>(targets);
+		final List<CompletableFuture<T>> results = new ArrayList<>(names.size());
+		for (final String target : names) {
+			results.add(query.apply(target));
+		}
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+			final Map<String, T> byTarget = new LinkedHashMap<>(names.size() * 2);
+			for (int i = 0; i < names.size(); i++) {
+				byTarget.put(names.get(i), results.get(i).join());
+			}
+			return byTarget;
+		});
+	}
+	private HelicsQuery acquire(final String target, final String queryString) {
+		final HelicsQuery reused;
+		synchronized (idle) {
+			if (closed) {
+				throw new IllegalStateException("query client is closed");
+			}
+			reused = idle.pollFirst();
+		}
+		if (reused == null) {
+			return lib.helicsCreateQuery(target, queryString);
+		}
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsQuerySetTarget(reused, target, err);
+		if (err.isOk()) {
+			lib.helicsQuerySetQueryString(reused, queryString, err);
+		}
+		if (!err.isOk()) {
+			lib.helicsQueryFree(reused);
+		}
+		HelicsException.check(err);
+		return reused;
+	}
+	private void release(final HelicsQuery query) {
+		synchronized (idle) {
+			if (!closed && idle.size() < maxIdle) {
+				idle.addFirst(query);
+				return;
+			}
+		}
+		lib.helicsQueryFree(query);
+	}
+	/**
+	 * Complete call reading the result of a finished query, run on a completion thread.
+	 */
+	@FunctionalInterface
+	private interface Result<T> {
+		T read(HelicsQuery query, ReusableHelicsError err);
+	}
+	private final class QueryOperation<T> extends AsyncWatcher.Operation<T> {
+		private final HelicsQuery query;
+		private final Result<T> result;
+		QueryOperation(final HelicsQuery query, final Result<T> result) {
+			this.query = query;
+			this.result = result;
+		}
+		@Override
+		boolean isCompleted(final ReusableHelicsError err) {
+			return lib.helicsQueryIsCompleted(query) != HelicsConstants.HELICS_FALSE;
+		}
+		@Override
+		T complete(final ReusableHelicsError err) {
+			return result.read(query, err);
+		}
+		@Override
+		void done() {
+			release(query);
+		}
+	}
+}
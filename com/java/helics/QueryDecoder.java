@@ -0,0 +1,12 @@
+package com.java.helics;
+
+/**
+ * Decodes a query result straight from the native result buffer, for example {@link FederationNode#read(JsonReader)}.
+ */
+@FunctionalInterface
+public interface QueryDecoder<T> {
+	/**
+	 * Called while the native result is still valid; the reader must not be used after returning.
+	 */
+	T decode(JsonReader reader);
+}
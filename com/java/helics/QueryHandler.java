@@ -0,0 +1,14 @@
+package com.java.helics;
+
+/**
+ * Answers a query made to a federate, see {@link Federate#setQueryHandler(String, QueryHandler)}.
+ */
+@FunctionalInterface
+public interface QueryHandler {
+	/**
+	 * Called on the HELICS thread processing the query.
+	 *
+	 * @return the response, or null to let HELICS answer the query itself
+	 */
+	QueryResponse answer(String query);
+}
@@ -0,0 +1,116 @@
+package com.java.helics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import com.sun.jna.Pointer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Query callback of one federate dispatching to the {@link QueryHandler} registered for the query string.
+ * Cacheable responses are kept per query and dropped on the next time update. A handler that throws is logged and
+ * the query answered with a HELICS style JSON error, nothing is thrown back into the native library.
+ */
+final class QueryResponder implements FederateListener {
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryResponder.class);
+	private final JavaHelicsLibrary lib;
+	private final ConcurrentHashMap<String, Registration> handlers = new ConcurrentHashMap<>();
+	private final HelicsQueryCallback callback = Callbacks.attached(this::answer);
+	private volatile long generation;
+	QueryResponder(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		this.lib = lib;
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsFederateSetQueryCallback(handle, callback, null, err);
+		HelicsException.check(err);
+	}
+	void put(final String query, final QueryHandler handler) {
+		handlers.put(query, new Registration(handler));
+	}
+	boolean remove(final String query) {
+		return handlers.remove(query) != null;
+	}
+	/**
+	 * Invalidate every cached response at once.
+	 */
+	@Override
+	public void onTimeUpdate(final double newTime, final boolean iterating) {
+		generation++;
+	}
+	private void answer(final Pointer query, final int querySize, final HelicsQueryBuffer buffer, final Pointer userData) {
+		String text = null;
+		try {
+			text = new String(query.getByteArray(0, querySize), StandardCharsets.UTF_8);
+			final Registration registration = handlers.get(text);
+			if (registration == null) {
+				return;
+			}
+			final byte[] response = registration.respond(text, generation);
+			if (response == null) {
+				return;
+			}
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			lib.helicsQueryBufferFill(buffer, response, response.length, err);
+			HelicsException.check(err);
+		} catch (final Throwable e) {
+			fail(text, buffer, e);
+		}
+	}
+	private void fail(final String query, final HelicsQueryBuffer buffer, final Throwable failure) {
+		try {
+			LOGGER.error("failed to answer query {}", query, failure);
+			final byte[] response = errorResponse(failure).getBytes(StandardCharsets.UTF_8);
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			lib.helicsQueryBufferFill(buffer, response, response.length, err);
+			err.clear();
+		} catch (final Throwable ignored) {
+			// nothing may be thrown back into native code
+		}
+	}
+	/**
+	 * @return the error object HELICS itself answers failed queries with
+	 */
+	private static String errorResponse(final Throwable failure) {
+		final String message = failure.getMessage() == null ? failure.getClass().getName() : failure.getMessage();
+		final StringBuilder json = new StringBuilder("{\"error\":{\"code\":500,\"message\":\"");
+		for (int i = 0; i < message.length(); i++) {
+			final char c = message.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < 0x20) {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
+		}
+		return json.append("\"}}").toString();
+	}
+	private static final class Registration {
+		final QueryHandler handler;
+		volatile Cached cached;
+		Registration(final QueryHandler handler) {
+			this.handler = handler;
+		}
+		byte[] respond(final String query, final long generation) {
+			final Cached current = cached;
+			if (current != null && current.generation == generation) {
+				return current.data;
+			}
+			final QueryResponse response = handler.answer(query);
+			if (response == null) {
+				return null;
+			}
+			if (response.isCacheable()) {
+				cached = new Cached(response.getData(), generation);
+			}
+			return response.getData();
+		}
+	}
+	private static final class Cached {
+		final byte[] data;
+		final long generation;
+		Cached(final byte[] data, final long generation) {
+			this.data = data;
+			this.generation = generation;
+		}
+	}
+}
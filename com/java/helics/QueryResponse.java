@@ -0,0 +1,40 @@
+package com.java.helics;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encoded answer to a query. A cacheable response is reused for the same query until the federate is granted a new
+ * time, so the handler is only run once per time step.
+ */
+public final class QueryResponse {
+	private final byte[] data;
+	private final boolean cacheable;
+	private QueryResponse(final byte[] data, final boolean cacheable) {
+		this.data = data;
+		this.cacheable = cacheable;
+	}
+	public static QueryResponse of(final String response) {
+		return new QueryResponse(response.getBytes(StandardCharsets.UTF_8), false);
+	}
+	/**
+	 * @param response the encoded response, the array is used as is and must not be modified afterwards
+	 */
+	public static QueryResponse of(final byte[] response) {
+		return new QueryResponse(response, false);
+	}
+	public static QueryResponse untilNextGrant(final String response) {
+		return new QueryResponse(response.getBytes(StandardCharsets.UTF_8), true);
+	}
+	/**
+	 * @param response the encoded response, the array is used as is and must not be modified afterwards
+	 */
+	public static QueryResponse untilNextGrant(final byte[] response) {
+		return new QueryResponse(response, true);
+	}
+	public boolean isCacheable() {
+		return cacheable;
+	}
+	byte[] getData() {
+		return data;
+	}
+}
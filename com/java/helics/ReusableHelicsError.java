@@ -0,0 +1,53 @@
+package com.java.helics;
+
+import com.sun.jna.Pointer;
+
+/**
+ * {@link HelicsError} that is allocated once per thread and reused for every call.
+ *
+ * <p>Automatic synchronization is turned off, so JNA neither writes nor reads the structure around a call.
+ * {@link #code()} reads only {@code error_code} from native memory and {@link #message()} decodes the message
+ * only when that code is non zero. Call {@link #clear()} (or use {@link #acquire()}) before passing the object
+ * to the next function, since HELICS skips calls made with an error already set.
+ */
+public final class ReusableHelicsError extends HelicsError {
+	private static final ThreadLocal<ReusableHelicsError> CURRENT = ThreadLocal.withInitial(ReusableHelicsError::new);
+	private final int messageOffset;
+	public ReusableHelicsError() {
+		setAutoSynch(false);
+		messageOffset = fieldOffset("message");
+		clear();
+	}
+	/**
+	 * @return the calling thread's error object, cleared and ready to be passed to the next call
+	 */
+	public static ReusableHelicsError acquire() {
+		final ReusableHelicsError err = CURRENT.get();
+		err.clear();
+		return err;
+	}
+	/**
+	 * @return the error code written by the last call, read directly from native memory
+	 */
+	public int code() {
+		return getPointer().getInt(0);
+	}
+	public boolean isOk() {
+		return code() == HelicsErrorTypes.HELICS_OK.value();
+	}
+	/**
+	 * @return the message of the last call, or null when it succeeded
+	 */
+	public String message() {
+		if (isOk()) {
+			return null;
+		}
+		final Pointer message = getPointer().getPointer(messageOffset);
+		return message == null ? "" : message.getString(0);
+	}
+	/** reset the native error code so the object can be passed to the next call */
+	public void clear() {
+		getPointer().setInt(0, HelicsErrorTypes.HELICS_OK.value());
+		getPointer().setPointer(messageOffset, null);
+	}
+}
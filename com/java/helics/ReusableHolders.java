@@ -0,0 +1,17 @@
+package com.java.helics;
+
+import com.sun.jna.ptr.IntByReference;
+
+/**
+ * Thread-confined out parameter holders reused by the federate API instead of allocating one per call.
+ */
+final class ReusableHolders {
+	private static final ThreadLocal<IntByReference> SIZE = ThreadLocal.withInitial(IntByReference::new);
+	/**
+	 * @return the calling thread's size holder
+	 */
+	static IntByReference size() {
+		return SIZE.get();
+	}
+	private ReusableHolders() {}
+}
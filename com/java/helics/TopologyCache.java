@@ -0,0 +1,179 @@
+package com.java.helics;
+
+import java.util.concurrent.TimeUnit;
+import com.sun.jna.Pointer;
+
+/**
+ * Cached {@link TopologySnapshot} of a federation, queried through a broker, core or federate.
+ *
+ * <p>The snapshot is rebuilt from a data_flow_graph query only when it is stale: after {@link #invalidate()}, after
+ * a time grant of a federate passed to {@link #refreshOnTimeUpdate(Federate)}, or once the optional maximum age has
+ * passed. A stale snapshot is first checked with the cheap counter query, which HELICS changes whenever the
+ * federation changes, and kept when the counter has not moved. A cache may be used from any thread.
+ */
+public final class TopologyCache {
+	private static final String GRAPH_QUERY = "data_flow_graph";
+	private static final String COUNTER_QUERY = "counter";
+	/** error codes of a JSON error answer meaning the target does not support the query, as opposed to a transient failure */
+	private static final int BAD_REQUEST = 400;
+	private static final int NOT_FOUND = 404;
+	private static final int METHOD_NOT_ALLOWED = 405;
+	private static final int NOT_IMPLEMENTED = 501;
+	private final JavaHelicsLibrary lib;
+	private final Execute execute;
+	private final String target;
+	private volatile TopologySnapshot snapshot;
+	private volatile boolean stale = true;
+	private volatile long maxAgeNanos;
+	private volatile long refreshedAt;
+	private boolean counterAvailable = true;
+	private TopologyCache(final JavaHelicsLibrary lib, final Execute execute, final String target) {
+		this.lib = lib;
+		this.execute = execute;
+		this.target = target;
+	}
+	/**
+	 * @param target the object whose topology is cached, "root" for the whole federation
+	 */
+	public static TopologyCache of(final JavaHelicsLibrary lib, final HelicsBroker broker, final String target) {
+		return new TopologyCache(lib, (query, err) -> lib.helicsQueryBrokerExecuteRaw(query, broker, err), target);
+	}
+	public static TopologyCache of(final JavaHelicsLibrary lib, final HelicsCore core, final String target) {
+		return new TopologyCache(lib, (query, err) -> lib.helicsQueryCoreExecuteRaw(query, core, err), target);
+	}
+	public static TopologyCache of(final Federate fed, final String target) {
+		final JavaHelicsLibrary lib = fed.getLibrary();
+		final HelicsFederate handle = fed.getHandle();
+		return new TopologyCache(lib, (query, err) -> lib.helicsQueryExecuteRaw(query, handle, err), target);
+	}
+	/**
+	 * Mark the snapshot stale whenever the federate is granted a new time.
+	 */
+	public void refreshOnTimeUpdate(final Federate fed) {
+		fed.addListener(new FederateListener() {
+			@Override
+			public void onTimeUpdate(final double newTime, final boolean iterating) {
+				stale = true;
+			}
+		});
+	}
+	/**
+	 * Treat the snapshot as stale once it is older than maxAge; zero, the default, keeps it until invalidated.
+	 */
+	public void setMaxAge(final long maxAge, final TimeUnit unit) {
+		this.maxAgeNanos = unit.toNanos(maxAge);
+	}
+	public void invalidate() {
+		stale = true;
+	}
+	/**
+	 * @return the current snapshot, refreshed first if it is stale
+	 */
+	public TopologySnapshot get() {
+		final TopologySnapshot current = snapshot;
+		if (current != null && !stale && !expired()) {
+			return current;
+		}
+		return refresh(false);
+	}
+	/**
+	 * Rebuild the snapshot even if the counter has not changed.
+	 */
+	public TopologySnapshot reload() {
+		return refresh(true);
+	}
+	private synchronized TopologySnapshot refresh(final boolean force) {
+		if (!force && snapshot != null && !stale && !expired()) {
+			return snapshot;
+		}
+		final long started = System.nanoTime();
+		stale = false;
+		try {
+			final String counter = readCounter();
+			if (force || snapshot == null || counter == null || !counter.equals(snapshot.getCounter())) {
+				snapshot = new TopologySnapshot(query(GRAPH_QUERY, FederationNode::read), counter);
+			}
+		} catch (final RuntimeException | Error e) {
+			stale = true;
+			throw e;
+		}
+		refreshedAt = started;
+		return snapshot;
+	}
+	private boolean expired() {
+		final long maxAge = maxAgeNanos;
+		return maxAge > 0 && System.nanoTime() - refreshedAt > maxAge;
+	}
+	/**
+	 * @return the counter of the target, or null if it could not be read this time. The counter query is only turned
+	 * off for good when the target does not support it or answers with something that does not parse; a timeout or
+	 * other transient error is retried on the next refresh.
+	 */
+	private String readCounter() {
+		if (!counterAvailable) {
+			return null;
+		}
+		try {
+			return query(COUNTER_QUERY, this::readCounter);
+		} catch (final HelicsException e) {
+			return null;
+		} catch (final IllegalStateException e) {
+			counterAvailable = false;
+			return null;
+		}
+	}
+	/**
+	 * @return the counter, or null if the target answered with a JSON error object
+	 */
+	private String readCounter(final JsonReader reader) {
+		if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+			return reader.nextString();
+		}
+		int code = 0;
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if (!"error".equals(reader.nextName())) {
+				reader.skipValue();
+				continue;
+			}
+			reader.beginObject();
+			while (reader.hasNext()) {
+				if ("code".equals(reader.nextName())) {
+					code = reader.nextInt();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+		reader.endObject();
+		if (code == 0) {
+			throw new IllegalStateException("counter query answered with an object that is not an error");
+		}
+		if (code == BAD_REQUEST || code == NOT_FOUND || code == METHOD_NOT_ALLOWED || code == NOT_IMPLEMENTED) {
+			counterAvailable = false;
+		}
+		return null;
+	}
+	/**
+	 * Execute the query and decode the raw result before the query is freed.
+	 */
+	private <T> T query(final String queryString, final QueryDecoder<T> decoder) {
+		final HelicsQuery query = lib.helicsCreateQuery(target, queryString);
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			final Pointer result = execute.execute(query, err);
+			HelicsException.check(err);
+			return decoder.decode(JsonReader.of(result));
+		} finally {
+			lib.helicsQueryFree(query);
+		}
+	}
+	/**
+	 * Raw execute call of the broker, core or federate the cache queries through.
+	 */
+	@FunctionalInterface
+	private interface Execute {
+		Pointer execute(HelicsQuery query, ReusableHelicsError err);
+	}
+}
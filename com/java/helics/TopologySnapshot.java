@@ -0,0 +1,142 @@
+package com.java.helics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, indexed view of the federation decoded from one data_flow_graph query, see {@link TopologyCache}.
+ * All lookups are hash lookups that never call into HELICS.
+ */
+public final class TopologySnapshot {
+	private final FederationNode root;
+	private final String counter;
+	private final List<FederationNode> federates = new ArrayList<>();
+	private final Map<String, FederationNode> federatesByName = new HashMap<>();
+	private final Map<Integer, FederationNode> nodesById = new HashMap<>();
+	private final Map<FederationInterface.Type, Map<String, FederationInterface>> interfacesByKey = new EnumMap<>(FederationInterface.Type.class);
+	private final Map<Long, FederationInterface> interfacesByHandle = new HashMap<>();
+	private final Map<FederationInterface, FederationNode> owners = new LinkedHashMap<>();
+	private final Map<FederationInterface, List<FederationInterface>> subscribers = new IdentityHashMap<>();
+	TopologySnapshot(final FederationNode root, final String counter) {
+		this.root = root;
+		this.counter = counter;
+		for (final FederationInterface.Type type : FederationInterface.Type.values()) {
+			interfacesByKey.put(type, new HashMap<>());
+		}
+		index(root);
+		linkSubscribers();
+	}
+	/**
+	 * @return the root of the broker, core and federate tree
+	 */
+	public FederationNode getRoot() {
+		return root;
+	}
+	/**
+	 * @return the value of the counter query the snapshot was built at, or null if the counter is not available
+	 */
+	public String getCounter() {
+		return counter;
+	}
+	public List<FederationNode> getFederates() {
+		return Collections.unmodifiableList(federates);
+	}
+	/**
+	 * @return the federate with the name, or null
+	 */
+	public FederationNode getFederate(final String name) {
+		return federatesByName.get(name);
+	}
+	/**
+	 * @return the broker, core or federate with the id, or null
+	 */
+	public FederationNode getNode(final int id) {
+		return nodesById.get(id);
+	}
+	/**
+	 * @return the interface of the type with the key, or null
+	 */
+	public FederationInterface getInterface(final FederationInterface.Type type, final String key) {
+		return interfacesByKey.get(type).get(key);
+	}
+	/**
+	 * @return the interface with the global handle, made of the federate id and the handle within the federate, or null
+	 */
+	public FederationInterface getInterface(final int federate, final int handle) {
+		return interfacesByHandle.get(handleKey(federate, handle));
+	}
+	/**
+	 * @return the federate owning the interface, or null
+	 */
+	public FederationNode getOwner(final FederationInterface iface) {
+		return owners.get(iface);
+	}
+	/**
+	 * @return the inputs subscribed to the publication with the key, empty for an unknown publication
+	 */
+	public List<FederationInterface> getSubscribers(final String publicationKey) {
+		final FederationInterface publication = getInterface(FederationInterface.Type.PUBLICATION, publicationKey);
+		if (publication == null) {
+			return Collections.emptyList();
+		}
+		final List<FederationInterface> inputs = subscribers.get(publication);
+		return inputs == null ? Collections.emptyList() : inputs;
+	}
+	private void index(final FederationNode node) {
+		nodesById.put(node.getId(), node);
+		if (node.getKind() == FederationNode.Kind.FEDERATE) {
+			federates.add(node);
+			federatesByName.put(node.getName(), node);
+		}
+		for (final FederationInterface iface : node.getInterfaces()) {
+			if (iface.getKey() != null) {
+				interfacesByKey.get(iface.getType()).put(iface.getKey(), iface);
+			}
+			interfacesByHandle.put(handleKey(iface.getFederate(), iface.getHandle()), iface);
+			owners.put(iface, node);
+		}
+		for (final FederationNode child : node.getChildren()) {
+			index(child);
+		}
+	}
+	/**
+	 * Connections may be reported from either side, by the targets of a publication or the sources of an input, so
+	 * both are merged.
+	 */
+	private void linkSubscribers() {
+		final Map<FederationInterface, Set<FederationInterface>> links = new IdentityHashMap<>();
+		for (final FederationInterface iface : owners.keySet()) {
+			if (iface.getType() != FederationInterface.Type.PUBLICATION && iface.getType() != FederationInterface.Type.INPUT) {
+				continue;
+			}
+			final boolean publication = iface.getType() == FederationInterface.Type.PUBLICATION;
+			for (final FederationInterface connection : iface.getConnections()) {
+				final FederationInterface other = resolve(connection, publication ? FederationInterface.Type.INPUT : FederationInterface.Type.PUBLICATION);
+				if (other != null) {
+					links.computeIfAbsent(publication ? iface : other, p -> new LinkedHashSet<>()).add(publication ? other : iface);
+				}
+			}
+		}
+		for (final Map.Entry<FederationInterface, Set<FederationInterface>> link : links.entrySet()) {
+			subscribers.put(link.getKey(), Collections.unmodifiableList(new ArrayList<>(link.getValue())));
+		}
+	}
+	private FederationInterface resolve(final FederationInterface connection, final FederationInterface.Type type) {
+		final FederationInterface byHandle = interfacesByHandle.get(handleKey(connection.getFederate(), connection.getHandle()));
+		if (byHandle != null && byHandle.getType() == type) {
+			return byHandle;
+		}
+		return connection.getKey() == null ? null : interfacesByKey.get(type).get(connection.getKey());
+	}
+	private static long handleKey(final int federate, final int handle) {
+		return ((long) federate << 32) | (handle & 0xffffffffL);
+	}
+}
@@ -0,0 +1,109 @@
+package com.java.helics;
+
+import com.sun.jna.Pointer;
+
+/**
+ * Wrapper of a {@link HelicsTranslator} handle with inline error checking.
+ */
+public final class Translator {
+	private final Federate owner;
+	private final JavaHelicsLibrary lib;
+	private final HelicsTranslator handle;
+	Translator(final Federate owner, final HelicsTranslator handle) {
+		this.owner = owner;
+		this.lib = owner.lib;
+		this.handle = handle;
+	}
+	public HelicsTranslator getHandle() {
+		return handle;
+	}
+	public String getName() {
+		return lib.helicsTranslatorGetName(handle);
+	}
+	public void set(final String property, final double value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorSet(handle, property, value, err);
+		HelicsException.check(err);
+	}
+	public void setString(final String property, final String value) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorSetString(handle, property, value, err);
+		HelicsException.check(err);
+	}
+	public void addInputTarget(final String input) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorAddInputTarget(handle, input, err);
+		HelicsException.check(err);
+	}
+	public void addPublicationTarget(final String publication) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorAddPublicationTarget(handle, publication, err);
+		HelicsException.check(err);
+	}
+	public void addSourceEndpoint(final String endpoint) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorAddSourceEndpoint(handle, endpoint, err);
+		HelicsException.check(err);
+	}
+	public void addDestinationEndpoint(final String endpoint) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorAddDestinationEndpoint(handle, endpoint, err);
+		HelicsException.check(err);
+	}
+	public void removeTarget(final String target) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorRemoveTarget(handle, target, err);
+		HelicsException.check(err);
+	}
+	/**
+	 * Run a Java operator for both translation directions of a custom translator. The callbacks are kept reachable by
+	 * the federate that registered the translator until the federate is closed. As for {@link Filter#setOperator},
+	 * only the FOREIGN backend calls the operator without allocating.
+	 */
+	public void setOperator(final TranslatorOperator operator) {
+		final OperatorCallbacks callbacks = new OperatorCallbacks(lib, operator);
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		lib.helicsTranslatorSetCustomCallback(handle, Callbacks.attached(callbacks.toMessage), Callbacks.attached(callbacks.toValue), null, err);
+		HelicsException.check(err);
+		owner.retain(callbacks);
+	}
+	/**
+	 * Pair of adapters sharing one reusable {@link Message} and {@link DataBuffer} view per direction.
+	 */
+	private static final class OperatorCallbacks {
+		final HelicsTranslatorToMessageCallback toMessage;
+		final HelicsTranslatorToValueCallback toValue;
+		OperatorCallbacks(final JavaHelicsLibrary lib, final TranslatorOperator operator) {
+			final DataBuffer toMessageValue = new DataBuffer(lib, null);
+			final Message toMessageMessage = new Message(lib, null);
+			final DataBuffer toValueValue = new DataBuffer(lib, null);
+			final Message toValueMessage = new Message(lib, null);
+			this.toMessage = new HelicsTranslatorToMessageCallback() {
+				@Override
+				public void invoke(final HelicsDataBuffer value, final HelicsMessage message, final Pointer userData) {
+					toMessageValue.rebind(value);
+					toMessageMessage.rebind(message);
+					try {
+						operator.toMessage(toMessageValue, toMessageMessage);
+					} finally {
+						toMessageValue.rebind(null);
+						toMessageMessage.rebind(null);
+					}
+				}
+			};
+			this.toValue = new HelicsTranslatorToValueCallback() {
+				@Override
+				public void invoke(final HelicsMessage message, final HelicsDataBuffer value, final Pointer userData) {
+					toValueMessage.rebind(message);
+					toValueValue.rebind(value);
+					try {
+						operator.toValue(toValueMessage, toValueValue);
+					} finally {
+						toValueMessage.rebind(null);
+						toValueValue.rebind(null);
+					}
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.java.helics;
+
+/**
+ * Java implementation of a custom translator, see {@link Translator#setOperator(TranslatorOperator)}.
+ *
+ * <p>The {@link DataBuffer} and {@link Message} arguments are reused for every call and are only valid until the
+ * method returns.
+ */
+public interface TranslatorOperator {
+	/**
+	 * Fill out the message from a value published to the translator.
+	 */
+	void toMessage(DataBuffer value, Message message);
+	/**
+	 * Fill out the value buffer from a message sent to the translator.
+	 */
+	void toValue(Message message, DataBuffer value);
+}
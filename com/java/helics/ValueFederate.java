@@ -0,0 +1,77 @@
+package com.java.helics;
+
+/**
+ * Federate with publications and inputs, created with helicsCreateValueFederate.
+ */
+public class ValueFederate extends Federate {
+	public ValueFederate(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		this(lib, create(lib, name, fi));
+	}
+	protected ValueFederate(final JavaHelicsLibrary lib, final HelicsFederate handle) {
+		super(lib, handle);
+	}
+	public static ValueFederate fromConfig(final JavaHelicsLibrary lib, final String configFile) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateValueFederateFromConfig(configFile, err);
+		HelicsException.check(err);
+		return new ValueFederate(lib, fed);
+	}
+	private static HelicsFederate create(final JavaHelicsLibrary lib, final String name, final HelicsFederateInfo fi) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsFederate fed = lib.helicsCreateValueFederate(name, fi, err);
+		HelicsException.check(err);
+		return fed;
+	}
+	public Publication registerPublication(final String key, final HelicsDataTypes type, final String units) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsPublication pub = lib.helicsFederateRegisterPublication(handle, key, type.value(), units, err);
+		HelicsException.check(err);
+		return new Publication(lib, pub);
+	}
+	public Publication registerGlobalPublication(final String key, final HelicsDataTypes type, final String units) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsPublication pub = lib.helicsFederateRegisterGlobalPublication(handle, key, type.value(), units, err);
+		HelicsException.check(err);
+		return new Publication(lib, pub);
+	}
+	public Input registerSubscription(final String key, final String units) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsInput ipt = lib.helicsFederateRegisterSubscription(handle, key, units, err);
+		HelicsException.check(err);
+		return new Input(lib, ipt);
+	}
+	public Input registerInput(final String key, final HelicsDataTypes type, final String units) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsInput ipt = lib.helicsFederateRegisterInput(handle, key, type.value(), units, err);
+		HelicsException.check(err);
+		return new Input(lib, ipt);
+	}
+	public Publication getPublication(final String key) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsPublication pub = lib.helicsFederateGetPublication(handle, key, err);
+		HelicsException.check(err);
+		return new Publication(lib, pub);
+	}
+	public Input getInput(final String key) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsInput ipt = lib.helicsFederateGetInput(handle, key, err);
+		HelicsException.check(err);
+		return new Input(lib, ipt);
+	}
+	public Input getSubscription(final String key) {
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsInput ipt = lib.helicsFederateGetSubscription(handle, key, err);
+		HelicsException.check(err);
+		return new Input(lib, ipt);
+	}
+	public int getPublicationCount() {
+		return lib.helicsFederateGetPublicationCount(handle);
+	}
+	public int getInputCount() {
+		return lib.helicsFederateGetInputCount(handle);
+	}
+	/** clear the updated flag of all the inputs */
+	public void clearUpdates() {
+		lib.helicsFederateClearUpdates(handle);
+	}
+}
@@ -54,7 +54,8 @@ class JavaBindingGenerator(object):
             javaBoilerPlateStr = copyRightStr
             javaBoilerPlateStr += "package com.java.helics;\n\n"  
             javaBoilerPlateStr += "import com.sun.jna.*;\n"
-            javaBoilerPlateStr += "import com.sun.jna.ptr.*;\n\n"
+            javaBoilerPlateStr += "import com.sun.jna.ptr.*;\n"
+            javaBoilerPlateStr += "import java.nio.*;\n\n"
             javaBoilerPlateStr += "public interface JavaHelicsLibrary extends Library {\n\t"
             return javaBoilerPlateStr  
              
@@ -103,20 +104,23 @@ class JavaBindingGenerator(object):
                 structFile.write("/*\n"+f"{strucComment}\n*/")
                 structFile.write("\npackage com.java.helics;")
                 structFile.write("\n\nimport com.sun.jna.Structure;")
-                structFile.write(f"\n\npublic static class {strucSpelling} extends Structure"+"{")
                 structStrBody = ""
+                structFieldOrder = []
                 for structKey in structDict.get('members',{}).keys():
                     keywordSpelling = structDict.get('members',{}).get(structKey,{}).get('spelling','')
                     keywordtype = structDict.get('members',{}).get(structKey,{}).get('type')
                     keywordcomm = structDict.get('members',{}).get(structKey,{}).get('brief_comment')
+                    structFieldOrder.append(f"\"{keywordSpelling}\"")
                     if keywordtype == "Pointer" and strucSpelling == "HelicsError":
-                        structStrBody += f"\n\t/*{keywordcomm}*/\n\tpublic string {keywordSpelling};"
+                        structStrBody += f"\n\t/*{keywordcomm}*/\n\tpublic String {keywordSpelling};"
                     if keywordtype == "Int":
                         structStrBody += f"\n\t/*{keywordcomm}*/\n\tpublic int {keywordSpelling};"
                     if keywordtype == "Double":
                         structStrBody += f"\n\t/*{keywordcomm}*/\n\tpublic double {keywordSpelling};"
             
                
+                structFile.write("\n\n@Structure.FieldOrder({" + ", ".join(structFieldOrder) + "})")
+                structFile.write(f"\npublic class {strucSpelling} extends Structure"+"{")
                 structFile.write(structStrBody)
                 structFile.write(f"\n"+"}")
 
@@ -167,6 +171,9 @@ class JavaBindingGenerator(object):
                     varstr += "\n\t/*\n\t"
                     varstr += f"{varComment}\n\t"
                     varstr += "*/"
+                # a value naming a macro refers to the standalone constant class created for it by createMacro
+                if varValue.isidentifier():
+                    varValue = "".join(varValue.title().split('_')) + "." + varValue
                 if varType == "Double" or varType == "HelicsTime":
                     varstr += f"\n\tpublic static final double {varSpelling} =  {varValue};"
             elif isinstance(varValue, float):
@@ -202,45 +209,15 @@ class JavaBindingGenerator(object):
                 "helicsCreateBrokerFromArgs",
                 "helicsCreateCoreFromArgs",
                 "helicsFederateInfoLoadFromArgs",
-                "helicsEndpointSendBytes",
-                "helicsEndpointSendBytesAt",
-                "helicsEndpointSendBytesTo",
-                "helicsEndpointSendBytesToAt",
                 "helicsInputGetNamedPoint",
                 "helicsInputGetString",
-                "helicsInputGetVector",
-                "helicsInputGetComplexVector",
-                "helicsInputSetDefaultBytes",
-                "helicsInputSetDefaultVector",
-                "helicsInputSetDefaultComplexVector",
-                "helicsMessageAppendData",
-                "helicsMessageGetBytes",
-                "helicsMessageSetData",
-                "helicsMessageGetBytesPointer",
-                "helicsPublicationPublishBytes",
-                "helicsPublicationPublishVector",
-                "helicsPublicationPublishComplexVector",
                 "helicsLoadSignalHandlerCallback",
                 "helicsLoadSignalHandlerCallbackNoExit",
-                "helicsBrokerSetLoggingCallback",
-                "helicsCoreSetLoggingCallback",
-                "helicsFederateSetLoggingCallback",
-                "helicsFilterSetCustomCallback",
-                "helicsFederateSetQueryCallback",
-                "helicsFederateSetTimeUpdateCallback",
-                "helicsFederateSetStateChangeCallback",
-                "helicsFederateSetTimeRequestEntryCallback",
-                "helicsFederateSetTimeRequestReturnCallback",
-                "helicsTranslatorSetCustomCallback",
                 "helicsTimeToBytes",
                 "helicsComplexToBytes",
                 "helicsComplexObjectToBytes",
-                "helicsVectorToBytes",
-                "helicsComplexVectorToBytes",
                 "helicsDataBufferToString",
                 "helicsDataBufferToRawString",
-                "helicsDataBufferToVector",
-                "helicsDataBufferToComplexVector",
                 "helicsDataBufferToNamedPoint",
                 "helicsCloseLibrary",
                 "helicsErrorInitialize",
@@ -248,6 +225,42 @@ class JavaBindingGenerator(object):
                 "helicsDataBufferToComplexObject",
                 "helicsErrorClear"
             ]
+            # arguments that are bound once per listed Java type, a primitive array and an NIO buffer or a callback interface
+            functionArgumentOverloads = {
+                "helicsVectorToBytes": {"value": ["double[]", "DoubleBuffer"]},
+                "helicsComplexVectorToBytes": {"value": ["double[]", "DoubleBuffer"]},
+                "helicsDataBufferToVector": {"values": ["double[]", "DoubleBuffer"]},
+                "helicsDataBufferToComplexVector": {"values": ["double[]", "DoubleBuffer"]},
+                "helicsPublicationPublishVector": {"vectorInput": ["double[]", "DoubleBuffer"]},
+                "helicsPublicationPublishComplexVector": {"vectorInput": ["double[]", "DoubleBuffer"]},
+                "helicsInputGetVector": {"data": ["double[]", "DoubleBuffer"]},
+                "helicsInputGetComplexVector": {"data": ["double[]", "DoubleBuffer"]},
+                "helicsInputSetDefaultVector": {"vectorInput": ["double[]", "DoubleBuffer"]},
+                "helicsInputSetDefaultComplexVector": {"vectorInput": ["double[]", "DoubleBuffer"]},
+                "helicsPublicationPublishBytes": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsInputGetBytes": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsInputSetDefaultBytes": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsEndpointSendBytes": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsEndpointSendBytesTo": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsEndpointSendBytesAt": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsEndpointSendBytesToAt": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsMessageGetBytes": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsMessageSetData": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsMessageAppendData": {"data": ["Pointer", "byte[]", "ByteBuffer"]},
+                "helicsFilterSetCustomCallback": {"filtCall": ["HelicsFilterCallback"]},
+                "helicsTranslatorSetCustomCallback": {"toMessageCall": ["HelicsTranslatorToMessageCallback"], "toValueCall": ["HelicsTranslatorToValueCallback"]},
+                "helicsFederateSetTimeRequestEntryCallback": {"requestTime": ["HelicsTimeRequestEntryCallback"]},
+                "helicsFederateSetTimeUpdateCallback": {"timeUpdate": ["HelicsTimeUpdateCallback"]},
+                "helicsFederateSetStateChangeCallback": {"stateChange": ["HelicsStateChangeCallback"]},
+                "helicsFederateSetTimeRequestReturnCallback": {"requestTimeReturn": ["HelicsTimeRequestReturnCallback"]},
+                "helicsBrokerSetLoggingCallback": {"logger": ["HelicsLoggingCallback"]},
+                "helicsCoreSetLoggingCallback": {"logger": ["HelicsLoggingCallback"]},
+                "helicsFederateSetLoggingCallback": {"logger": ["HelicsLoggingCallback"]},
+                "helicsFederateSetQueryCallback": {"queryAnswer": ["HelicsQueryCallback"]},
+                "helicsQueryBufferFill": {"queryResult": ["String", "byte[]"]}
+            }
+            # functions whose result string is also bound as the raw char pointer, under the function name with a Raw suffix
+            functionRawResults = ["helicsQueryExecute", "helicsQueryCoreExecute", "helicsQueryBrokerExecute", "helicsQueryExecuteComplete"]
             functionName = functionDict.get("spelling")
             if functionName not in functionsToIgnoreJNA:
                 functionName = functionDict.get("spelling")
@@ -257,19 +270,23 @@ class JavaBindingGenerator(object):
                 functionReturnType = getFunctionReturnType(functionDict)
                 functionJavaCallStr += "\n\t" + functionReturnType 
                 functionJavaCallStr += " "+ functionName + "("
-                size = len(functionDict.get('arguments',{}).keys())
-                count = 0
-                if size != 0:
-                    for a in functionDict.get('arguments',{}).keys():
-                        if count == size - 1:
-                            functionJavaCallStr += getFunctionArgs(functionDict.get('arguments',{}).get(a,{})) + ");"
-                        else:
-                            functionJavaCallStr += getFunctionArgs(functionDict.get('arguments',{}).get(a,{})) + ","
-                        count = count + 1
-                    return functionJavaCallStr
-                else:
-                    functionJavaCallStr += ");"
-                    return functionJavaCallStr
+                functionArgVariants = [[]]
+                for a in functionDict.get('arguments',{}).keys():
+                    argDict = functionDict.get('arguments',{}).get(a,{})
+                    argOverloads = functionArgumentOverloads.get(functionName,{}).get(argDict.get("spelling"))
+                    if argOverloads != None:
+                        functionArgVariants = [v + [f"{t} {argDict.get('spelling')}"] for v in functionArgVariants for t in argOverloads]
+                    else:
+                        functionArgVariants = [v + [getFunctionArgs(argDict)] for v in functionArgVariants]
+                functionJavaCallStr += ",".join(functionArgVariants[0]) + ");"
+                for functionArgs in functionArgVariants[1:]:
+                    functionJavaCallStr += "\n\t" + functionReturnType + " " + functionName + "(" + ",".join(functionArgs) + ");"
+                for functionArgs in functionArgVariants:
+                    helicsJAVADirectFunctions.append((functionComment, functionReturnType, functionName, functionArgs))
+                if functionName in functionRawResults:
+                    functionJavaCallStr += "\n\tPointer " + functionName + "Raw(" + ",".join(functionArgVariants[0]) + ");"
+                    helicsJAVADirectFunctions.append((functionComment, "Pointer", functionName + "Raw", functionArgVariants[0]))
+                return functionJavaCallStr
             
             else:
                 return ""
@@ -289,10 +306,10 @@ class JavaBindingGenerator(object):
                 "HelicsEndpoint": "HelicsEndpoint",
                 "HelicsFederate": "HelicsFederate",
                 "HelicsFederateInfo": "HelicsFederateInfo",
-                "HelicsFederateState": "HelicsFederateState",
+                "HelicsFederateState": "int",
                 "HelicsFilter": "HelicsFilter",
                 "HelicsInput": "HelicsInput",
-                "HelicsIterationResult": "HelicsIterationResult",
+                "HelicsIterationResult": "int",
                 "HelicsMessage": "HelicsMessage",
                 "HelicsPublication": "HelicsPublication",
                 "HelicsQuery": "HelicsQuery",
@@ -332,9 +349,9 @@ class JavaBindingGenerator(object):
                 "HelicsFederateInfo": "HelicsFederateInfo",
                 "HelicsFilter": "HelicsFilter",
                 "HelicsFilterTypes": "int",
-                "HelicsInput": "HelicsIterationRequest",
-                "HelicsIterationRequest": "HelicsIterationRequest",
-                "HelicsIterationResult_*": "HelicsIterationResult", 
+                "HelicsInput": "HelicsInput",
+                "HelicsIterationRequest": "int",
+                "HelicsIterationResult_*": "IntByReference",
                 "HelicsMessage": "HelicsMessage",
                 "HelicsPublication": "HelicsPublication",
                 "HelicsQuery": "HelicsQuery",
@@ -358,8 +375,270 @@ class JavaBindingGenerator(object):
             returnstr += " "+ argDict.get("spelling")
             return returnstr 
 
+        def createDirectLibrary(directFunctions: list) -> None:
+            """
+                Create the JNA direct mapped class with a static native method for each C function
+            """
+            with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsDirectLibrary.java"), "w") as directLibraryFile:
+                directLibraryFile.write(createCopyRight())
+                directLibraryFile.write("package com.java.helics;\n\n")
+                directLibraryFile.write("import com.sun.jna.*;\n")
+                directLibraryFile.write("import com.sun.jna.ptr.*;\n")
+                directLibraryFile.write("import java.nio.*;\n\n")
+                directLibraryFile.write("/**\n * JNA direct mapping of the HELICS C API.\n *\n")
+                directLibraryFile.write(" * <p>Every method is a static native bound through {@link Native#register(Class, String)} so calls skip the\n")
+                directLibraryFile.write(" * reflective proxy used by {@link JavaHelicsLibrary}. Call {@link JavaHelics#registerDirect(String)} before use.\n */\n")
+                directLibraryFile.write("public final class JavaHelicsDirectLibrary {\n\t")
+                previousFunctionName = ""
+                for (functionComment, functionReturnType, functionName, functionArgs) in directFunctions:
+                    if functionName != previousFunctionName:
+                        directLibraryFile.write("\n\t" + functionComment + "\n\t\t")
+                    previousFunctionName = functionName
+                    directLibraryFile.write(f"\n\tpublic static native {functionReturnType} {functionName}(" + ",".join(functionArgs) + ");")
+                directLibraryFile.write("\n\tprivate JavaHelicsDirectLibrary(){}")
+                directLibraryFile.write("\n}")
+
+        def createDirectMapping(directFunctions: list) -> None:
+            """
+                Create the JavaHelicsLibrary implementation that forwards to the direct mapped static natives
+            """
+            with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsDirectMapping.java"), "w") as directMappingFile:
+                directMappingFile.write(createCopyRight())
+                directMappingFile.write("package com.java.helics;\n\n")
+                directMappingFile.write("import com.sun.jna.*;\n")
+                directMappingFile.write("import com.sun.jna.ptr.*;\n")
+                directMappingFile.write("import java.nio.*;\n\n")
+                directMappingFile.write("/**\n * {@link JavaHelicsLibrary} implementation forwarding to {@link JavaHelicsDirectLibrary}.\n */\n")
+                directMappingFile.write("final class JavaHelicsDirectMapping implements JavaHelicsLibrary {\n\t")
+                for (functionComment, functionReturnType, functionName, functionArgs) in directFunctions:
+                    argNames = ",".join([arg.split(" ")[-1] for arg in functionArgs])
+                    returnStr = "" if functionReturnType == "void" else "return "
+                    directMappingFile.write(f"\n\t@Override\n\tpublic {functionReturnType} {functionName}(" + ",".join(functionArgs) + "){")
+                    directMappingFile.write(f"\n\t\t{returnStr}JavaHelicsDirectLibrary.{functionName}({argNames});\n\t}}")
+                directMappingFile.write("\n}")
+
+        def getForeignType(javaType: str) -> tuple:
+            """
+                Map the Java JNA type of an argument or return value to its FFM carrier and value layout
+            """
+            foreignTypeMap = {
+                "char": ("byte", "ValueLayout.JAVA_BYTE"),
+                "double": ("double", "ValueLayout.JAVA_DOUBLE"),
+                "int": ("int", "ValueLayout.JAVA_INT"),
+                "long": ("long", "ValueLayout.JAVA_LONG"),
+                "void": ("void", None)
+            }
+            return foreignTypeMap.get(javaType, ("MemorySegment", "ValueLayout.ADDRESS"))
+
+        def createForeignLibrary(foreignFunctions: list) -> None:
+            """
+                Create the Java 22 Foreign Function & Memory binding with one downcall handle for each C function
+            """
+            with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsForeignLibrary.java"), "w") as foreignLibraryFile:
+                foreignLibraryFile.write(createCopyRight())
+                foreignLibraryFile.write("package com.java.helics;\n\n")
+                foreignLibraryFile.write("import java.lang.foreign.*;\n")
+                foreignLibraryFile.write("import java.lang.invoke.MethodHandle;\n")
+                foreignLibraryFile.write("import java.lang.invoke.MethodHandles;\n")
+                foreignLibraryFile.write("import java.lang.invoke.MethodType;\n")
+                foreignLibraryFile.write("import java.nio.file.Path;\n\n")
+                foreignLibraryFile.write("/**\n * Foreign Function &amp; Memory binding of the HELICS C API.\n *\n")
+                foreignLibraryFile.write(" * <p>Handles, strings, buffers and out parameters are raw {@link MemorySegment}s, so callers can pass segments\n")
+                foreignLibraryFile.write(" * allocated from their own (for example confined) arenas. Requires JDK 22; call {@link #load(String)} before use.\n */\n")
+                foreignLibraryFile.write("public final class JavaHelicsForeignLibrary {\n\t")
+                foreignLibraryFile.write("private static SymbolLookup LOOKUP;\n\t")
+                foreignLibraryFile.write("private static Path LIBRARY_PATH;\n\t")
+                foreignLibraryFile.write("/**\n\t * Load the HELICS shared library. The downcall handles are bound once per JVM, so later calls must name the same\n\t * library.\n\t *\n\t * @throws IllegalStateException if a different library has already been loaded\n\t */\n\t")
+                foreignLibraryFile.write("public static synchronized void load(final String libraryPath) {\n\t\t")
+                foreignLibraryFile.write("final Path path = Path.of(libraryPath).toAbsolutePath().normalize();\n\t\t")
+                foreignLibraryFile.write("if (LOOKUP == null) {\n\t\t\t")
+                foreignLibraryFile.write("LOOKUP = SymbolLookup.libraryLookup(path, Arena.global());\n\t\t\t")
+                foreignLibraryFile.write("LIBRARY_PATH = path;\n\t\t")
+                foreignLibraryFile.write("} else if (!LIBRARY_PATH.equals(path)) {\n\t\t\t")
+                foreignLibraryFile.write("throw new IllegalStateException(\"the foreign backend is already bound to \" + LIBRARY_PATH + \", cannot bind \" + path);\n\t\t}\n\t}\n\t")
+                foreignLibraryFile.write("private static MethodHandle downcall(final String name, final FunctionDescriptor descriptor, final Linker.Option... options) {\n\t\t")
+                foreignLibraryFile.write("if (LOOKUP == null) {\n\t\t\t")
+                foreignLibraryFile.write("throw new IllegalStateException(\"JavaHelicsForeignLibrary.load has not been called\");\n\t\t}\n\t\t")
+                foreignLibraryFile.write("final MemorySegment symbol = LOOKUP.find(name).orElse(null);\n\t\t")
+                foreignLibraryFile.write("if (symbol == null) {\n\t\t\t")
+                foreignLibraryFile.write("final MethodType type = descriptor.toMethodType();\n\t\t\t")
+                foreignLibraryFile.write("final MethodHandle thrower = MethodHandles.throwException(type.returnType(), UnsatisfiedLinkError.class).bindTo(new UnsatisfiedLinkError(name));\n\t\t\t")
+                foreignLibraryFile.write("return MethodHandles.dropArguments(thrower, 0, type.parameterList());\n\t\t}\n\t\t")
+                foreignLibraryFile.write("return Linker.nativeLinker().downcallHandle(symbol, descriptor, options);\n\t}\n\t")
+                foreignLibraryFile.write("private static RuntimeException rethrow(final Throwable t) {\n\t\t")
+                foreignLibraryFile.write("if (t instanceof RuntimeException) {\n\t\t\treturn (RuntimeException) t;\n\t\t}\n\t\t")
+                foreignLibraryFile.write("if (t instanceof Error) {\n\t\t\tthrow (Error) t;\n\t\t}\n\t\t")
+                foreignLibraryFile.write("return new IllegalStateException(t);\n\t}\n\t")
+                foreignLibraryFile.write("private static final class Handles {")
+                # overloads of one C function share a single downcall taking MemorySegment arguments
+                uniqueForeignFunctions = []
+                criticalForeignFunctions = []
+                for foreignFunction in foreignFunctions:
+                    if foreignFunction[2] not in [f[2] for f in uniqueForeignFunctions]:
+                        uniqueForeignFunctions.append(foreignFunction)
+                    # array and buffer arguments may be heap segments, which only critical downcalls accept
+                    if any([arg.split(" ")[0].endswith("[]") or arg.split(" ")[0] in ["ByteBuffer", "DoubleBuffer"] for arg in foreignFunction[3]]):
+                        criticalForeignFunctions.append(foreignFunction[2])
+                foreignFunctions = uniqueForeignFunctions
+                for (functionComment, functionReturnType, functionName, functionArgs) in foreignFunctions:
+                    argLayouts = [getForeignType(arg.split(" ")[0])[1] for arg in functionArgs]
+                    returnLayout = getForeignType(functionReturnType)[1]
+                    if returnLayout == None:
+                        descriptor = "FunctionDescriptor.ofVoid(" + ",".join(argLayouts) + ")"
+                    else:
+                        descriptor = "FunctionDescriptor.of(" + ",".join([returnLayout] + argLayouts) + ")"
+                    if functionName in criticalForeignFunctions:
+                        descriptor += ", Linker.Option.critical(true)"
+                    # the Raw bindings call the C function without the suffix
+                    symbolName = functionName[:-len("Raw")] if functionName.endswith("Raw") else functionName
+                    foreignLibraryFile.write(f"\n\t\tstatic final MethodHandle {functionName} = downcall(\"{symbolName}\", {descriptor});")
+                foreignLibraryFile.write("\n\t}")
+                for (functionComment, functionReturnType, functionName, functionArgs) in foreignFunctions:
+                    foreignArgs = [getForeignType(arg.split(" ")[0])[0] + " " + arg.split(" ")[-1] for arg in functionArgs]
+                    argNames = ",".join([arg.split(" ")[-1] for arg in functionArgs])
+                    foreignReturnType = getForeignType(functionReturnType)[0]
+                    if foreignReturnType == "void":
+                        invokeStr = f"Handles.{functionName}.invokeExact({argNames});"
+                    else:
+                        invokeStr = f"return ({foreignReturnType}) Handles.{functionName}.invokeExact({argNames});"
+                    foreignLibraryFile.write("\n\t" + functionComment + "\n\t\t")
+                    foreignLibraryFile.write(f"\n\tpublic static {foreignReturnType} {functionName}(" + ",".join(foreignArgs) + "){")
+                    foreignLibraryFile.write(f"\n\t\ttry {{\n\t\t\t{invokeStr}\n\t\t}} catch (Throwable t) {{\n\t\t\tthrow rethrow(t);\n\t\t}}\n\t}}")
+                foreignLibraryFile.write("\n\tprivate JavaHelicsForeignLibrary(){}")
+                foreignLibraryFile.write("\n}")
+
+        def createForeignMapping(foreignFunctions: list) -> None:
+            """
+                Create the JavaHelicsLibrary implementation that converts the JNA types and forwards to the FFM downcalls
+            """
+            # callback types passed as FFM upcall stubs, with the mapping method and the ForeignUpcalls factory of each;
+            # distinct names, as overloads taking different functional interfaces are ambiguous for lambdas
+            upcalls = {
+                "HelicsFilterCallback": ("filterUpcall", "filterStub"),
+                "HelicsTranslatorToMessageCallback": ("toMessageUpcall", "toMessageStub"),
+                "HelicsTranslatorToValueCallback": ("toValueUpcall", "toValueStub"),
+            }
+            with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsForeignMapping.java"), "w") as foreignMappingFile:
+                foreignMappingFile.write(createCopyRight())
+                foreignMappingFile.write("package com.java.helics;\n\n")
+                foreignMappingFile.write("import com.sun.jna.*;\n")
+                foreignMappingFile.write("import com.sun.jna.ptr.*;\n")
+                foreignMappingFile.write("import java.lang.foreign.*;\n")
+                foreignMappingFile.write("import java.nio.*;\n\n")
+                foreignMappingFile.write("/**\n * {@link JavaHelicsLibrary} implementation forwarding to {@link JavaHelicsForeignLibrary}.\n */\n")
+                foreignMappingFile.write("final class JavaHelicsForeignMapping implements JavaHelicsLibrary {\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final Pointer pointer) {\n\t\t")
+                foreignMappingFile.write("return pointer == null ? MemorySegment.NULL : MemorySegment.ofAddress(Pointer.nativeValue(pointer));\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final PointerType object) {\n\t\t")
+                foreignMappingFile.write("return object == null ? MemorySegment.NULL : address(object.getPointer());\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final double[] values) {\n\t\t")
+                foreignMappingFile.write("return values == null ? MemorySegment.NULL : MemorySegment.ofArray(values);\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final byte[] values) {\n\t\t")
+                foreignMappingFile.write("return values == null ? MemorySegment.NULL : MemorySegment.ofArray(values);\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final Buffer buffer) {\n\t\t")
+                foreignMappingFile.write("return buffer == null ? MemorySegment.NULL : MemorySegment.ofBuffer(buffer);\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final Callback callback) {\n\t\t")
+                foreignMappingFile.write("return callback == null ? MemorySegment.NULL : address(CallbackReference.getFunctionPointer(callback));\n\t}\n\t")
+                for upcallType, (upcallName, stubName) in upcalls.items():
+                    # the per message callbacks run through FFM upcall stubs instead of JNA
+                    foreignMappingFile.write(f"private static MemorySegment {upcallName}(final {upcallType} callback) {{\n\t\t")
+                    foreignMappingFile.write(f"return callback == null ? MemorySegment.NULL : ForeignUpcalls.{stubName}(callback);\n\t}}\n\t")
+                foreignMappingFile.write("private static MemorySegment address(final HelicsError err) {\n\t\t")
+                foreignMappingFile.write("if (err == null) {\n\t\t\treturn MemorySegment.NULL;\n\t\t}\n\t\t")
+                foreignMappingFile.write("if (err.getAutoWrite()) {\n\t\t\terr.write();\n\t\t}\n\t\t")
+                foreignMappingFile.write("return address(err.getPointer());\n\t}\n\t")
+                foreignMappingFile.write("private static void read(final HelicsError err) {\n\t\t")
+                foreignMappingFile.write("if (err != null && err.getAutoRead()) {\n\t\t\terr.read();\n\t\t}\n\t}\n\t")
+                foreignMappingFile.write("private static MemorySegment string(final Arena arena, final String value) {\n\t\t")
+                foreignMappingFile.write("return value == null ? MemorySegment.NULL : arena.allocateFrom(value);\n\t}\n\t")
+                foreignMappingFile.write("private static String string(final MemorySegment value) {\n\t\t")
+                foreignMappingFile.write("return value.equals(MemorySegment.NULL) ? null : value.reinterpret(Long.MAX_VALUE).getString(0);\n\t}\n\t")
+                foreignMappingFile.write("private static Pointer pointer(final MemorySegment value) {\n\t\t")
+                foreignMappingFile.write("return value.equals(MemorySegment.NULL) ? null : new Pointer(value.address());\n\t}\n\t")
+                foreignMappingFile.write("private static <T extends PointerType> T handle(final T object, final MemorySegment value) {\n\t\t")
+                foreignMappingFile.write("if (value.equals(MemorySegment.NULL)) {\n\t\t\treturn null;\n\t\t}\n\t\t")
+                foreignMappingFile.write("object.setPointer(new Pointer(value.address()));\n\t\t")
+                foreignMappingFile.write("return object;\n\t}")
+                for (functionComment, functionReturnType, functionName, functionArgs) in foreignFunctions:
+                    argTypes = [arg.split(" ")[0] for arg in functionArgs]
+                    argExprs = []
+                    for arg in functionArgs:
+                        argType = arg.split(" ")[0]
+                        argName = arg.split(" ")[-1]
+                        if argType in ["int", "double", "long"]:
+                            argExprs.append(argName)
+                        elif argType == "char":
+                            argExprs.append(f"(byte) {argName}")
+                        elif argType == "String":
+                            argExprs.append(f"string(arena, {argName})")
+                        elif argType in upcalls:
+                            argExprs.append(f"{upcalls[argType][0]}({argName})")
+                        else:
+                            argExprs.append(f"address({argName})")
+                    callStr = f"JavaHelicsForeignLibrary.{functionName}(" + ",".join(argExprs) + ")"
+                    bodyIndent = "\n\t\t\t" if "String" in argTypes else "\n\t\t"
+                    bodyStr = ""
+                    if functionReturnType == "void":
+                        bodyStr += f"{bodyIndent}{callStr};"
+                    else:
+                        bodyStr += f"{bodyIndent}final {getForeignType(functionReturnType)[0]} result = {callStr};"
+                    if "HelicsError" in argTypes:
+                        bodyStr += f"{bodyIndent}read(" + functionArgs[argTypes.index("HelicsError")].split(" ")[-1] + ");"
+                    if functionReturnType in ["int", "double", "long"]:
+                        bodyStr += f"{bodyIndent}return result;"
+                    elif functionReturnType == "char":
+                        bodyStr += f"{bodyIndent}return (char) (result & 0xff);"
+                    elif functionReturnType == "String":
+                        bodyStr += f"{bodyIndent}return string(result);"
+                    elif functionReturnType == "Pointer":
+                        bodyStr += f"{bodyIndent}return pointer(result);"
+                    elif functionReturnType != "void":
+                        bodyStr += f"{bodyIndent}return handle(new {functionReturnType}(), result);"
+                    foreignMappingFile.write(f"\n\t@Override\n\tpublic {functionReturnType} {functionName}(" + ",".join(functionArgs) + "){")
+                    if "String" in argTypes:
+                        foreignMappingFile.write("\n\t\ttry (Arena arena = Arena.ofConfined()) {" + bodyStr + "\n\t\t}")
+                    else:
+                        foreignMappingFile.write(bodyStr)
+                    foreignMappingFile.write("\n\t}")
+                foreignMappingFile.write("\n}")
+
+        def createCallback(callbackName: str, callbackDef: tuple) -> None:
+            """
+                Create the JNA callback interface for a C function pointer argument, the signatures are not part of the parse result
+            """
+            (callbackComment, callbackReturnType, callbackArgs) = callbackDef
+            with open(os.path.join(self.__rootDir,"com\\java\\helics",f"{callbackName}.java"), "w") as callbackFile:
+                callbackFile.write(createCopyRight())
+                callbackFile.write("package com.java.helics;\n\n")
+                callbackFile.write("import com.sun.jna.*;\n\n")
+                callbackFile.write(f"/**\n * {callbackComment}\n */\n")
+                callbackFile.write(f"public interface {callbackName} extends Callback {{\n\t")
+                callbackFile.write(f"{callbackReturnType} invoke(" + ", ".join(callbackArgs) + ");\n}")
+
+        def createCopyRight() -> str:
+            copyRightStr = "/*\n"
+            copyRightStr += "Copyright (c) 2017-2022,\n"
+            copyRightStr += "Battelle Memorial Institute; Lawrence Livermore National Security, LLC; Alliance for Sustainable Energy, LLC.  See\n"
+            copyRightStr += "the top-level NOTICE for additional details. All rights reserved.\n"
+            copyRightStr += "SPDX-License-Identifier: BSD-3-Clause\n"
+            copyRightStr += "*/\n\n"
+            return copyRightStr
+
+        # C function pointer types used by the callback setters, keyed by the Java interface name
+        helicsJAVACallbacks = {
+            "HelicsFilterCallback": ("Custom filter operation, returns the filtered message or null to drop it.", "HelicsMessage", ["HelicsMessage message", "Pointer userData"]),
+            "HelicsTranslatorToMessageCallback": ("Custom translator operation filling out a message from raw value data.", "void", ["HelicsDataBuffer value", "HelicsMessage message", "Pointer userData"]),
+            "HelicsTranslatorToValueCallback": ("Custom translator operation filling out the value data buffer from a message.", "void", ["HelicsMessage message", "HelicsDataBuffer value", "Pointer userData"]),
+            "HelicsTimeRequestEntryCallback": ("Called on entry to a time request with the current and requested time.", "void", ["double currentTime", "double requestTime", "int iterating", "Pointer userData"]),
+            "HelicsTimeUpdateCallback": ("Called when the federate time is updated, before any value or message callbacks.", "void", ["double newTime", "int iterating", "Pointer userData"]),
+            "HelicsStateChangeCallback": ("Called when the federate state changes, the states are HelicsFederateState values.", "void", ["int newState", "int oldState", "Pointer userData"]),
+            "HelicsTimeRequestReturnCallback": ("Called just before a time request returns with the granted time.", "void", ["double newTime", "int iterating", "Pointer userData"]),
+            "HelicsLoggingCallback": ("Called with each log message of a broker, core or federate, the level is a HelicsLogLevels value.", "void", ["int loglevel", "String identifier", "String message", "Pointer userData"]),
+            "HelicsQueryCallback": ("Answers a query made to a federate by filling the buffer, the query is querySize bytes and not null terminated.", "void", ["Pointer query", "int querySize", "HelicsQueryBuffer buffer", "Pointer userData"])
+        }
         helicsJAVAStr = ""
         helicsJAVAWrapperFunctions = []
+        helicsJAVADirectFunctions = []
         helicsJAVAConstants= []
         helicsJAVAStandAloneConstantFiles = []
         for cu in self.__helicsParser.parsedInfo.keys():
@@ -388,22 +667,12 @@ class JavaBindingGenerator(object):
         for wrapperStr in helicsJAVAWrapperFunctions:
             helicsJAVAStr += wrapperStr 
         helicsJAVAStr += "\n\t"+"}"
-        with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsLibrary.java"), "w") as helicsJavaMainClassFile:
-            helicsJavaMainClassFile.write("package com.java.helics;\n\n")
-            helicsJavaMainClassFile.write("import java.io.*;\n")
-            helicsJavaMainClassFile.write("import java.io.IOException;\n")
-            helicsJavaMainClassFile.write("import java.io.InputStream;\n")
-            helicsJavaMainClassFile.write("import java.io.File;\n")
-            helicsJavaMainClassFile.write("import org.apache.commons.io.FileUtils;\n")
-            helicsJavaMainClassFile.write("public class JavaHelics implements JavaHelicsLibrary {\n\t")
-            helicsJavaMainClassFile.write("public JavaHelics(final String fileName) throws IOException {\n\t\t")
-            helicsJavaMainClassFile.write("INSTANCE = Native.loadLibrary(extratcFile(fileName), JavaHelicsLibrary.class);\n\t")
-            helicsJavaMainClassFile.write("}\n\t")
-            helicsJavaMainClassFile.write("private String extratcFile(final String fileName) throws IOException {\n\t\t")
-            helicsJavaMainClassFile.write("final InputStream source = JavaHelics.class.getClassLoader().getResourceAsStream(fileName);\n\t\t")
-            helicsJavaMainClassFile.write("final File file = File.createTempFile(\"lib\", null);\n\t\t")
-            helicsJavaMainClassFile.write("FileUtils.copyInputStreamToFile(source, file);\n\t\t")
-            helicsJavaMainClassFile.write("return file.getAbsolutePath();\n\t}\n}")
-        with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelics.java"), "w") as helicsJavaFile:
+        with open(os.path.join(self.__rootDir,"com\\java\\helics","JavaHelicsLibrary.java"), "w") as helicsJavaFile:
             helicsJavaFile.write(helicsJAVAStr)
+        for callbackName in helicsJAVACallbacks.keys():
+            createCallback(callbackName, helicsJAVACallbacks[callbackName])
+        createDirectLibrary(helicsJAVADirectFunctions)
+        createDirectMapping(helicsJAVADirectFunctions)
+        createForeignLibrary(helicsJAVADirectFunctions)
+        createForeignMapping(helicsJAVADirectFunctions)
         javaBindingGeneratorLogger.info("JAVA HELICS API successfully created!")
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class AsyncWatcherTest {
+	@Test
+	@Timeout(10)
+	void blockingCompletionDoesNotStallOtherOperations() throws Exception {
+		final FakeLibrary fake = new FakeLibrary().on("helicsFederateIsAsyncOperationCompleted", args -> HelicsConstants.HELICS_TRUE);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CompletableFuture<String> blocked = AsyncWatcher.watch(fake.lib, new HelicsFederate(), (l, h, e) -> {
+			try {
+				release.await();
+			} catch (final InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Thread.currentThread().getName();
+		});
+		final CompletableFuture<String> other = AsyncWatcher.watch(fake.lib, new HelicsFederate(), (l, h, e) -> Thread.currentThread().getName());
+		final String thread = other.get(5, TimeUnit.SECONDS);
+		assertNotEquals("helics-async-watcher", thread);
+		release.countDown();
+		assertNotEquals(thread, blocked.get(5, TimeUnit.SECONDS));
+		assertEquals(2, fake.count("helicsFederateIsAsyncOperationCompleted"));
+	}	@Test
+	@Timeout(10)
+	void completionThreadsAreBounded() throws Exception {
+		final FakeLibrary fake = new FakeLibrary().on("helicsFederateIsAsyncOperationCompleted", args -> HelicsConstants.HELICS_TRUE);
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+		final CompletableFuture<?>[] futures = new CompletableFuture<?>[256];
+		for (int i = 0; i < futures.length; i++) {
+			futures[i] = AsyncWatcher.watch(fake.lib, new HelicsFederate(), (l, h, e) -> {
+				threads.add(Thread.currentThread().getName());
+				try {
+					Thread.sleep(1);
+				} catch (final InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				return null;
+			});
+		}
+		CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+		assertTrue(threads.size() <= Math.max(2, Runtime.getRuntime().availableProcessors()), threads::toString);
+	}
+}
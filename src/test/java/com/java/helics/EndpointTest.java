@@ -0,0 +1,24 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class EndpointTest {
+	@Test
+	void rejectsByteLengthsPastTheArray() {
+		final FakeLibrary fake = new FakeLibrary();
+		final Endpoint endpoint = new Endpoint(fake.lib, new HelicsEndpoint());
+		final byte[] data = new byte[8];
+		assertThrows(IndexOutOfBoundsException.class, () -> endpoint.sendBytes(data, 9));
+		assertThrows(IndexOutOfBoundsException.class, () -> endpoint.sendBytesTo(data, 9, "dest"));
+		assertThrows(IndexOutOfBoundsException.class, () -> endpoint.sendBytesAt(data, 9, 1.0));
+		assertThrows(IndexOutOfBoundsException.class, () -> endpoint.sendBytesToAt(data, -1, "dest", 1.0));
+		assertEquals(0, fake.count("helicsEndpointSendBytes") + fake.count("helicsEndpointSendBytesTo")
+				+ fake.count("helicsEndpointSendBytesAt") + fake.count("helicsEndpointSendBytesToAt"));
+		endpoint.sendBytes(data, 8);
+		endpoint.sendBytesToAt(data, 0, "dest", 1.0);
+		assertEquals(1, fake.count("helicsEndpointSendBytes"));
+		assertEquals(1, fake.count("helicsEndpointSendBytesToAt"));
+	}
+}
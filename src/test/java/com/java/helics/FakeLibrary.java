@@ -0,0 +1,57 @@
+package com.java.helics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * {@link JavaHelicsLibrary} stand-in for tests that run without a HELICS library. Calls are answered by the handler
+ * registered for the function name, or with the default value of the return type, and counted per name.
+ */
+final class FakeLibrary implements InvocationHandler {
+	private final Map<String, Function<Object[], Object>> handlers = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+	final JavaHelicsLibrary lib = (JavaHelicsLibrary) Proxy.newProxyInstance(JavaHelicsLibrary.class.getClassLoader(),
+			new Class<?>[] { JavaHelicsLibrary.class }, this);
+	FakeLibrary on(final String function, final Function<Object[], Object> handler) {
+		handlers.put(function, handler);
+		return this;
+	}
+	int count(final String function) {
+		final AtomicInteger count = calls.get(function);
+		return count == null ? 0 : count.get();
+	}
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) {
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			default:
+				return "FakeLibrary";
+			}
+		}
+		calls.computeIfAbsent(method.getName(), name -> new AtomicInteger()).incrementAndGet();
+		final Function<Object[], Object> handler = handlers.get(method.getName());
+		if (handler != null) {
+			return handler.apply(args);
+		}
+		final Class<?> type = method.getReturnType();
+		if (type == int.class) {
+			return 0;
+		} else if (type == long.class) {
+			return 0L;
+		} else if (type == double.class) {
+			return 0.0;
+		} else if (type == boolean.class) {
+			return false;
+		}
+		return null;
+	}
+}
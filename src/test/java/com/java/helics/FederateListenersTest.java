@@ -0,0 +1,30 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FederateListenersTest {
+	@Test
+	void mapsUnknownStatesToError() {
+		final HelicsStateChangeCallback[] installed = new HelicsStateChangeCallback[1];
+		final FakeLibrary fake = new FakeLibrary().on("helicsFederateSetStateChangeCallback", args -> {
+			installed[0] = (HelicsStateChangeCallback) args[1];
+			return null;
+		});
+		final FederateListeners listeners = new FederateListeners(fake.lib, new HelicsFederate());
+		final List<HelicsFederateState> states = new ArrayList<>();
+		listeners.add(new FederateListener() {
+			@Override
+			public void onStateChange(final HelicsFederateState newState, final HelicsFederateState oldState) {
+				states.add(newState);
+				states.add(oldState);
+			}
+		}, null);
+		installed[0].invoke(HelicsFederateState.HELICS_STATE_EXECUTION.value(), HelicsFederateState.HELICS_STATE_PENDING_EXEC.value(), null);
+		installed[0].invoke(42, -1, null);
+		assertEquals(List.of(HelicsFederateState.HELICS_STATE_EXECUTION, HelicsFederateState.HELICS_STATE_PENDING_EXEC,
+				HelicsFederateState.HELICS_STATE_ERROR, HelicsFederateState.HELICS_STATE_ERROR), states);
+	}
+}
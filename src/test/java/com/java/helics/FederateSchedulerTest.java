@@ -0,0 +1,131 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class FederateSchedulerTest {
+	private static final String BROKER = "scheduler_test_broker";
+	@Test
+	@Timeout(10)
+	void stoppedFederateRequestsMaxTimeUntilGranted() throws Exception {
+		final List<Double> requested = Collections.synchronizedList(new ArrayList<>());
+		final double[] grants = { 1, 2, 2.5, HelicsConstants.HELICS_TIME_MAXTIME };
+		final int[] next = new int[1];
+		final FakeLibrary fake = new FakeLibrary()
+				.on("helicsFederateIsAsyncOperationCompleted", args -> HelicsConstants.HELICS_TRUE)
+				.on("helicsFederateRequestTimeAsync", args -> requested.add((Double) args[1]))
+				.on("helicsFederateRequestTimeComplete", args -> grants[next[0]++]);
+		final List<Double> steps = new ArrayList<>();
+		new FederateScheduler(Runnable::run)
+				.add(new CombinationFederate(fake.lib, new HelicsFederate()), 1, granted -> {
+					steps.add(granted);
+					return granted >= 2 ? HelicsConstants.HELICS_TIME_MAXTIME : granted + 1;
+				})
+				.run().get(5, TimeUnit.SECONDS);
+		// the early grant of 2.5 is not passed to the step
+		assertEquals(List.of(1.0, 2.0), steps);
+		assertEquals(List.of(1.0, 2.0, HelicsConstants.HELICS_TIME_MAXTIME, HelicsConstants.HELICS_TIME_MAXTIME), requested);
+	}
+	@Test
+	@Timeout(10)
+	void failingStepFailsTheRunAndStopsTheFederation() {
+		final HelicsFederate failing = new HelicsFederate();
+		final HelicsFederate waiting = new HelicsFederate();
+		final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+		final FakeLibrary fake = new FakeLibrary()
+				// the waiting federate depends on the failing one and is only released by the global error
+				.on("helicsFederateIsAsyncOperationCompleted", args -> args[0] == waiting && errors.isEmpty()
+						? HelicsConstants.HELICS_FALSE : HelicsConstants.HELICS_TRUE)
+				.on("helicsFederateRequestTimeComplete", args -> args[0] == waiting ? HelicsConstants.HELICS_TIME_MAXTIME : 1.0)
+				.on("helicsFederateGlobalError", args -> {
+					assertSame(failing, args[0]);
+					errors.add((String) args[2]);
+					return null;
+				});
+		final RuntimeException failure = new IllegalStateException("step failed");
+		final CompletableFuture<Void> run = new FederateScheduler(Runnable::run)
+				.add(new CombinationFederate(fake.lib, failing), 1, granted -> {
+					throw failure;
+				})
+				.add(new CombinationFederate(fake.lib, waiting), 1, granted -> granted + 1)
+				.run();
+		final ExecutionException thrown = assertThrows(ExecutionException.class, () -> run.get(5, TimeUnit.SECONDS));
+		assertSame(failure, thrown.getCause());
+		assertEquals(1, errors.size());
+	}
+	/**
+	 * Runs against a real HELICS library, given by {@link JavaHelics#LIBRARY_PROPERTY}, and is skipped without one.
+	 */
+	@Test
+	@Timeout(60)
+	void federateFinishingEarlyDoesNotHoldBackTheOthers() throws Exception {
+		assumeTrue(System.getProperty(JavaHelics.LIBRARY_PROPERTY) != null, "no HELICS library configured");
+		final JavaHelicsLibrary lib = JavaHelics.library();
+		assumeTrue(InprocFederation.isAvailable(lib), "no inproc core");
+		final ReusableHelicsError err = ReusableHelicsError.acquire();
+		final HelicsBroker broker = lib.helicsCreateBroker(InprocFederation.CORE_TYPE, BROKER, "--federates=2", err);
+		HelicsException.check(err);
+		final ValueFederate early = create(lib, "early");
+		final ValueFederate late = create(lib, "late");
+		final ExecutorService workers = Executors.newFixedThreadPool(2);
+		try {
+			final Publication earlyValue = early.registerGlobalPublication("early/value", HelicsDataTypes.HELICS_DATA_TYPE_DOUBLE, "");
+			final Publication lateValue = late.registerGlobalPublication("late/value", HelicsDataTypes.HELICS_DATA_TYPE_DOUBLE, "");
+			early.registerSubscription("late/value", "");
+			late.registerSubscription("early/value", "");
+			final List<Double> earlySteps = new ArrayList<>();
+			final List<Double> lateSteps = new ArrayList<>();
+			new FederateScheduler(workers)
+					.add(early, 1, granted -> {
+						earlySteps.add(granted);
+						earlyValue.publish(granted);
+						return granted >= 2 ? HelicsConstants.HELICS_TIME_MAXTIME : granted + 1;
+					})
+					.add(late, 1, granted -> {
+						lateSteps.add(granted);
+						lateValue.publish(granted);
+						return granted >= 5 ? HelicsConstants.HELICS_TIME_MAXTIME : granted + 1;
+					})
+					.run().get(30, TimeUnit.SECONDS);
+			assertEquals(List.of(1.0, 2.0), earlySteps);
+			assertEquals(List.of(1.0, 2.0, 3.0, 4.0, 5.0), lateSteps);
+		} finally {
+			workers.shutdown();
+			early.disconnect();
+			late.disconnect();
+			early.close();
+			late.close();
+			lib.helicsBrokerWaitForDisconnect(broker, 10_000, err);
+			err.clear();
+			lib.helicsBrokerFree(broker);
+			lib.helicsCleanupLibrary();
+		}
+	}
+	private static ValueFederate create(final JavaHelicsLibrary lib, final String name) {
+		final HelicsFederateInfo fi = lib.helicsCreateFederateInfo();
+		try {
+			final ReusableHelicsError err = ReusableHelicsError.acquire();
+			lib.helicsFederateInfoSetCoreTypeFromString(fi, InprocFederation.CORE_TYPE, err);
+			HelicsException.check(err);
+			lib.helicsFederateInfoSetCoreInitString(fi, "--federates=1", err);
+			HelicsException.check(err);
+			lib.helicsFederateInfoSetBroker(fi, BROKER, err);
+			HelicsException.check(err);
+			return new ValueFederate(lib, name, fi);
+		} finally {
+			lib.helicsFederateInfoFree(fi);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.sun.jna.Callback;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
+/**
+ * Calls the upcall stubs through downcall handles, the way HELICS calls them, without a HELICS library.
+ */
+class ForeignUpcallsTest {
+	private static final FunctionDescriptor FILTER = FunctionDescriptor.of(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS);
+	private static final FunctionDescriptor TRANSLATOR = FunctionDescriptor.ofVoid(ValueLayout.ADDRESS, ValueLayout.ADDRESS, ValueLayout.ADDRESS);
+	@Test
+	void filterReceivesAndReturnsTheMessage() throws Throwable {
+		final List<Long> seen = new ArrayList<>();
+		final HelicsFilterCallback callback = (message, userData) -> {
+			seen.add(Pointer.nativeValue(message.getPointer()));
+			assertNull(userData);
+			return Pointer.nativeValue(message.getPointer()) == 0x2000 ? null : message;
+		};
+		final MethodHandle filter = downcall(ForeignUpcalls.filterStub(callback), FILTER);
+		assertEquals(0x1000, ((MemorySegment) filter.invokeExact(MemorySegment.ofAddress(0x1000), MemorySegment.NULL)).address());
+		assertEquals(0, ((MemorySegment) filter.invokeExact(MemorySegment.ofAddress(0x2000), MemorySegment.NULL)).address());
+		assertEquals(List.of(0x1000L, 0x2000L), seen);
+		assertSame(ForeignUpcalls.filterStub(callback), ForeignUpcalls.filterStub(callback));
+	}
+	@Test
+	void filterDropsTheMessageAndReportsAnException() throws Throwable {
+		final RuntimeException failure = new IllegalStateException("operator failed");
+		final HelicsFilterCallback callback = (message, userData) -> {
+			throw failure;
+		};
+		final List<Throwable> reported = new ArrayList<>();
+		final Callback.UncaughtExceptionHandler previous = Native.getCallbackExceptionHandler();
+		Native.setCallbackExceptionHandler((c, e) -> reported.add(e));
+		try {
+			final MethodHandle filter = downcall(ForeignUpcalls.filterStub(callback), FILTER);
+			assertEquals(0, ((MemorySegment) filter.invokeExact(MemorySegment.ofAddress(0x1000), MemorySegment.NULL)).address());
+		} finally {
+			Native.setCallbackExceptionHandler(previous);
+		}
+		assertEquals(List.of(failure), reported);
+		Reference.reachabilityFence(callback);
+	}
+	@Test
+	void translatorsReceiveValueMessageAndUserData() throws Throwable {
+		final List<Long> seen = new ArrayList<>();
+		final HelicsTranslatorToMessageCallback toMessage = (value, message, userData) -> {
+			seen.add(Pointer.nativeValue(value.getPointer()));
+			seen.add(Pointer.nativeValue(message.getPointer()));
+			seen.add(Pointer.nativeValue(userData));
+		};
+		final HelicsTranslatorToValueCallback toValue = (message, value, userData) -> {
+			seen.add(Pointer.nativeValue(message.getPointer()));
+			seen.add(value == null ? -1L : Pointer.nativeValue(value.getPointer()));
+		};
+		final MethodHandle first = downcall(ForeignUpcalls.toMessageStub(toMessage), TRANSLATOR);
+		final MethodHandle second = downcall(ForeignUpcalls.toValueStub(toValue), TRANSLATOR);
+		first.invokeExact(MemorySegment.ofAddress(0x10), MemorySegment.ofAddress(0x20), MemorySegment.ofAddress(0x30));
+		second.invokeExact(MemorySegment.ofAddress(0x40), MemorySegment.NULL, MemorySegment.NULL);
+		assertEquals(List.of(0x10L, 0x20L, 0x30L, 0x40L, -1L), seen);
+		// the stubs only hold their callbacks weakly
+		Reference.reachabilityFence(toMessage);
+		Reference.reachabilityFence(toValue);
+	}
+	private static MethodHandle downcall(final MemorySegment stub, final FunctionDescriptor descriptor) {
+		return Linker.nativeLinker().downcallHandle(stub, descriptor);
+	}
+}
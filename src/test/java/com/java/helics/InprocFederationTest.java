@@ -0,0 +1,32 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class InprocFederationTest {
+	@Test
+	void failedRunReleasesTheFederatesAndTheBroker() {
+		final FakeLibrary fake = new FakeLibrary()
+				.on("helicsIsCoreTypeAvailable", args -> HelicsConstants.HELICS_TRUE)
+				.on("helicsCreateBroker", args -> new HelicsBroker())
+				.on("helicsCreateCombinationFederate", args -> new HelicsFederate());
+		final RuntimeException failure = new IllegalStateException("setup failed");
+		final InprocFederation federation = new InprocFederation(fake.lib, "failing")
+				.addFederate("first", 1, fed -> {}, granted -> granted + 1)
+				.addFederate("second", 1, fed -> {
+					throw failure;
+				}, granted -> granted + 1);
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> federation.run(10)));
+		assertEquals(2, fake.count("helicsFederateDisconnect"));
+		assertEquals(2, fake.count("helicsFederateFree"));
+		assertEquals(1, fake.count("helicsBrokerDisconnect"));
+		assertEquals(1, fake.count("helicsBrokerFree"));
+		assertEquals(0, fake.count("helicsCleanupLibrary"));
+		federation.close();
+		assertEquals(2, fake.count("helicsFederateFree"));
+		assertEquals(1, fake.count("helicsBrokerFree"));
+		assertEquals(1, fake.count("helicsCleanupLibrary"));
+	}
+}
@@ -0,0 +1,75 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JavaHelicsCacheTest {
+	private static final String PLAIN = "jhelics-test/plain/library.bin";
+	private static final String SHIPPED = "jhelics-test/shipped/library.bin";
+	@TempDir
+	Path temp;
+	private Path cache;
+	private String previous;
+	@BeforeEach
+	void setUp() {
+		cache = temp.resolve("cache");
+		previous = System.setProperty(JavaHelics.CACHE_PROPERTY, cache.toString());
+	}
+	@AfterEach
+	void tearDown() {
+		if (previous == null) {
+			System.clearProperty(JavaHelics.CACHE_PROPERTY);
+		} else {
+			System.setProperty(JavaHelics.CACHE_PROPERTY, previous);
+		}
+	}
+	@Test
+	void extractsIntoAnOwnerOnlyDirectoryAndReusesIt() throws IOException {
+		final Path extracted = Paths.get(JavaHelics.extratcFile(PLAIN));
+		assertEquals("not really a shared library\n", Files.readString(extracted, StandardCharsets.US_ASCII));
+		assertEquals(cache.toRealPath(), extracted.getParent().getParent());
+		if (isPosix()) {
+			assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(cache)));
+			assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(extracted.getParent())));
+		}
+		final long modified = Files.getLastModifiedTime(extracted).toMillis();
+		assertEquals(extracted.toString(), JavaHelics.extratcFile(PLAIN));
+		assertEquals(modified, Files.getLastModifiedTime(extracted).toMillis());
+	}
+	@Test
+	void replacesACorruptedLibrary() throws IOException {
+		final Path extracted = Paths.get(JavaHelics.extratcFile(PLAIN));
+		Files.writeString(extracted, "tampered", StandardCharsets.US_ASCII);
+		assertEquals(extracted.toString(), JavaHelics.extratcFile(PLAIN));
+		assertEquals("not really a shared library\n", Files.readString(extracted, StandardCharsets.US_ASCII));
+	}
+	@Test
+	void usesTheShippedChecksumAsKey() throws IOException {
+		final String expected = new String(getClass().getClassLoader().getResourceAsStream(SHIPPED + ".sha256").readAllBytes(),
+				StandardCharsets.US_ASCII).substring(0, 64);
+		final Path extracted = Paths.get(JavaHelics.extratcFile(SHIPPED));
+		assertEquals(expected, extracted.getParent().getFileName().toString());
+	}
+	@Test
+	void rejectsADirectoryWritableByOthers() throws IOException {
+		assumeTrue(isPosix());
+		Files.createDirectories(cache);
+		Files.setPosixFilePermissions(cache, PosixFilePermissions.fromString("rwxrwxrwx"));
+		assertThrows(IOException.class, () -> JavaHelics.extratcFile(PLAIN));
+	}
+	private static boolean isPosix() {
+		return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	}
+}
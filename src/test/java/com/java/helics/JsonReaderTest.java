@@ -0,0 +1,147 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class JsonReaderTest {
+	@Test
+	void readsNestedObjectsAndArrays() {
+		final JsonReader reader = new JsonReader(" {\"a\": [1, {\"b\": [] }, [true, false, null]], \"c\": {}}\n");
+		reader.beginObject();
+		assertEquals("a", reader.nextName());
+		reader.beginArray();
+		assertEquals(1, reader.nextInt());
+		reader.beginObject();
+		assertEquals("b", reader.nextName());
+		reader.beginArray();
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		reader.endObject();
+		reader.beginArray();
+		assertTrue(reader.nextBoolean());
+		assertFalse(reader.nextBoolean());
+		reader.nextNull();
+		reader.endArray();
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		assertEquals("c", reader.nextName());
+		reader.beginObject();
+		reader.endObject();
+		reader.endObject();
+		assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+	}
+	@Test
+	void decodesEscapesAndUtf8() {
+		final JsonReader reader = new JsonReader("[\"plain\", \"a\\\"b\\\\c\\/d\\n\\t\", \"\\u00e9\\u20ac\", \"\u00e9t\u00e9 \u20ac\", \"\"]");
+		reader.beginArray();
+		assertEquals("plain", reader.nextString());
+		assertEquals("a\"b\\c/d\n\t", reader.nextString());
+		assertEquals("\u00e9\u20ac", reader.nextString());
+		assertEquals("\u00e9t\u00e9 \u20ac", reader.nextString());
+		assertEquals("", reader.nextString());
+		reader.endArray();
+	}
+	@Test
+	void readsNumbers() {
+		final JsonReader reader = new JsonReader("[0, -42, 9223372036854775807, -9223372036854775808, 1e3, 2.5, -1.5e-3, 12345678901, 3]");
+		reader.beginArray();
+		assertEquals(0, reader.nextLong());
+		assertEquals(-42, reader.nextInt());
+		assertEquals(Long.MAX_VALUE, reader.nextLong());
+		assertEquals(Long.MIN_VALUE, reader.nextLong());
+		assertEquals(1000, reader.nextLong());
+		assertEquals(2.5, reader.nextDouble());
+		assertEquals("-1.5e-3", reader.nextString());
+		assertThrows(IllegalStateException.class, reader::nextInt);
+		assertEquals(12345678901L, reader.nextLong());
+		assertThrows(IllegalStateException.class, reader::nextBoolean);
+		assertEquals(3, reader.nextInt());
+		reader.endArray();
+	}
+	@Test
+	void rejectsNumbersThatAreNotLongs() {
+		final JsonReader fraction = new JsonReader("[1.5]");
+		fraction.beginArray();
+		assertThrows(IllegalStateException.class, fraction::nextLong);
+		final JsonReader overflow = new JsonReader("[9223372036854775808]");
+		overflow.beginArray();
+		assertThrows(IllegalStateException.class, overflow::nextLong);
+		final JsonReader malformed = new JsonReader("[1-2]");
+		malformed.beginArray();
+		assertThrows(IllegalStateException.class, malformed::nextDouble);
+		final JsonReader sign = new JsonReader("[-, -x]");
+		sign.beginArray();
+		assertThrows(IllegalStateException.class, sign::nextLong);
+		assertThrows(IllegalStateException.class, sign::nextInt);
+		assertThrows(IllegalStateException.class, sign::nextDouble);
+		final JsonReader letter = new JsonReader("[-x]");
+		letter.beginArray();
+		assertThrows(IllegalStateException.class, letter::nextLong);
+	}
+	@Test
+	void rejectsMalformedInput() {
+		assertThrows(IllegalStateException.class, () -> new JsonReader("\"unterminated").nextString());
+		assertThrows(IllegalStateException.class, () -> new JsonReader("\"bad \\x escape\"").nextString());
+		assertThrows(IllegalStateException.class, () -> new JsonReader("\"\\u12\"").nextString());
+		assertThrows(IllegalStateException.class, () -> new JsonReader("").peek());
+		assertThrows(IllegalStateException.class, () -> new JsonReader("tru").nextBoolean());
+		final JsonReader missingColon = new JsonReader("{\"a\" 1}");
+		missingColon.beginObject();
+		missingColon.nextName();
+		assertThrows(IllegalStateException.class, missingColon::peek);
+		final JsonReader trailingComma = new JsonReader("{\"a\": 1,}");
+		trailingComma.beginObject();
+		trailingComma.nextName();
+		trailingComma.nextInt();
+		assertThrows(IllegalStateException.class, trailingComma::peek);
+		final JsonReader trailingData = new JsonReader("{} {}");
+		trailingData.skipValue();
+		assertThrows(IllegalStateException.class, trailingData::peek);
+		final JsonReader wrongType = new JsonReader("[1]");
+		assertThrows(IllegalStateException.class, wrongType::beginObject);
+	}
+	@Test
+	void skipsValuesOfAnySize() {
+		final JsonReader reader = new JsonReader("{\"skip\": {\"a\": [1, \"x\\\"]\", {\"b\": null}], \"c\": true}, \"keep\": 7, \"tail\": \"s\"}");
+		reader.beginObject();
+		assertEquals("skip", reader.nextName());
+		reader.skipValue();
+		assertEquals("keep", reader.nextName());
+		assertEquals(7, reader.nextInt());
+		reader.skipValue();
+		reader.skipValue();
+		reader.endObject();
+		assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+	}
+	@Test
+	void skipValueRejectsTheEndOfAScope() {
+		final JsonReader object = new JsonReader("[{}]");
+		object.beginArray();
+		object.beginObject();
+		assertThrows(IllegalStateException.class, object::skipValue);
+		object.endObject();
+		assertThrows(IllegalStateException.class, object::skipValue);
+		object.endArray();
+		assertThrows(IllegalStateException.class, object::skipValue);
+	}
+	@Test
+	void readsDirectBuffersBetweenPositionAndLimit() {
+		final byte[] json = "xx{\"name\": \"caf\u00e9\", \"id\": 12}yy".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+		direct.put(json).position(2).limit(json.length - 2);
+		final JsonReader reader = new JsonReader(direct);
+		reader.beginObject();
+		assertEquals("name", reader.nextName());
+		assertEquals("caf\u00e9", reader.nextString());
+		assertEquals("id", reader.nextName());
+		assertEquals(12, reader.nextLong());
+		reader.endObject();
+		assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+		assertEquals(2, direct.position());
+	}
+}
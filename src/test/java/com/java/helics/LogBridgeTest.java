@@ -0,0 +1,144 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+@Timeout(10)
+class LogBridgeTest {
+	@Test
+	void mapsLevelsAndKeepsOrder() {
+		final RecordingLogger logger = new RecordingLogger(Level.TRACE);
+		final HelicsLoggingCallback callback;
+		try (LogBridge bridge = new LogBridge(logger, 16)) {
+			callback = attach(bridge);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_ERROR.value(), "fed", "error", null);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_WARNING.value(), "fed", "warning", null);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_SUMMARY.value(), "fed", "summary", null);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_PROFILING.value(), "fed", "profiling", null);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_TIMING.value(), "fed", "timing", null);
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_TRACE.value(), "fed", "trace", null);
+		}
+		assertEquals(List.of("ERROR [fed] error", "WARN [fed] warning", "INFO [fed] summary", "INFO [fed] profiling",
+				"DEBUG [fed] timing", "TRACE [fed] trace"), logger.lines());
+	}
+	@Test
+	void discardsDisabledLevelsWithoutCountingThem() {
+		final RecordingLogger logger = new RecordingLogger(Level.WARN);
+		final LogBridge bridge = new LogBridge(logger, 4);
+		final HelicsLoggingCallback callback = attach(bridge);
+		for (int i = 0; i < 100; i++) {
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_DEBUG.value(), "core", "debug " + i, null);
+		}
+		callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_WARNING.value(), "core", "warning", null);
+		bridge.close();
+		assertEquals(0, bridge.getDropped());
+		assertEquals(List.of("WARN [core] warning"), logger.lines());
+	}
+	@Test
+	void dropsAndCountsWhileTheBufferIsFull() throws InterruptedException {
+		final RecordingLogger logger = new RecordingLogger(Level.INFO);
+		logger.block();
+		final LogBridge bridge = new LogBridge(logger, 4);
+		final HelicsLoggingCallback callback = attach(bridge);
+		for (int i = 0; i < 10; i++) {
+			callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_WARNING.value(), "broker", "message " + i, null);
+		}
+		assertEquals(6, bridge.getDropped());
+		logger.release();
+		bridge.close();
+		final List<String> lines = logger.lines();
+		assertEquals(List.of("WARN [broker] message 0", "WARN [broker] message 1", "WARN [broker] message 2",
+				"WARN [broker] message 3"), lines.subList(0, 4));
+		assertEquals(5, lines.size());
+		assertTrue(lines.get(4).startsWith("WARN dropped 6 HELICS log messages"), lines.get(4));
+	}
+	@Test
+	void ignoresMessagesAfterClose() {
+		final RecordingLogger logger = new RecordingLogger(Level.INFO);
+		final LogBridge bridge = new LogBridge(logger, 4);
+		final HelicsLoggingCallback callback = attach(bridge);
+		bridge.close();
+		callback.invoke(HelicsLogLevels.HELICS_LOG_LEVEL_ERROR.value(), "fed", "late", null);
+		assertEquals(List.of(), logger.lines());
+		assertEquals(0, bridge.getDropped());
+	}
+	private static HelicsLoggingCallback attach(final LogBridge bridge) {
+		final HelicsLoggingCallback[] installed = new HelicsLoggingCallback[1];
+		final FakeLibrary fake = new FakeLibrary().on("helicsBrokerSetLoggingCallback", args -> {
+			installed[0] = (HelicsLoggingCallback) args[1];
+			return null;
+		});
+		bridge.attach(fake.lib, new HelicsBroker());
+		return installed[0];
+	}
+	/**
+	 * Logger keeping the formatted lines, optionally blocking the first call until released.
+	 */
+	private static final class RecordingLogger extends LegacyAbstractLogger {
+		private final Level enabled;
+		private final List<String> lines = new ArrayList<>();
+		private final CountDownLatch released = new CountDownLatch(1);
+		private volatile boolean blocking;
+		RecordingLogger(final Level enabled) {
+			this.enabled = enabled;
+			this.name = "test";
+		}
+		void block() {
+			blocking = true;
+		}
+		void release() {
+			released.countDown();
+		}
+		synchronized List<String> lines() {
+			return new ArrayList<>(lines);
+		}
+		@Override
+		public boolean isTraceEnabled() {
+			return enabled.toInt() <= Level.TRACE.toInt();
+		}
+		@Override
+		public boolean isDebugEnabled() {
+			return enabled.toInt() <= Level.DEBUG.toInt();
+		}
+		@Override
+		public boolean isInfoEnabled() {
+			return enabled.toInt() <= Level.INFO.toInt();
+		}
+		@Override
+		public boolean isWarnEnabled() {
+			return enabled.toInt() <= Level.WARN.toInt();
+		}
+		@Override
+		public boolean isErrorEnabled() {
+			return true;
+		}
+		@Override
+		protected String getFullyQualifiedCallerName() {
+			return null;
+		}
+		@Override
+		protected void handleNormalizedLoggingCall(final Level level, final Marker marker, final String messagePattern,
+				final Object[] arguments, final Throwable throwable) {
+			if (blocking) {
+				try {
+					released.await(5, TimeUnit.SECONDS);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			synchronized (this) {
+				lines.add(level + " " + MessageFormatter.basicArrayFormat(messagePattern, arguments));
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.jna.Pointer;
+
+class MessagePoolTest {
+	private final List<Long> freed = new ArrayList<>();
+	private FakeLibrary fake;
+	private Endpoint endpoint;
+	private long nextAddress = 0x1000;
+	@BeforeEach
+	void setUp() {
+		fake = new FakeLibrary()
+				.on("helicsEndpointCreateMessage", args -> {
+					final HelicsMessage message = new HelicsMessage();
+					message.setPointer(new Pointer(nextAddress += 0x10));
+					return message;
+				})
+				.on("helicsMessageFree", args -> {
+					freed.add(Pointer.nativeValue(((HelicsMessage) args[0]).getPointer()));
+					return null;
+				});
+		endpoint = new Endpoint(fake.lib, new HelicsEndpoint());
+	}
+	@Test
+	void reusesReleasedMessagesUpToMaxIdle() {
+		final MessagePool pool = endpoint.createMessagePool(1, 4, 64);
+		final Message first = pool.acquire();
+		final Message second = pool.acquire();
+		assertEquals(2, fake.count("helicsMessageReserve"));
+		pool.release(first);
+		pool.release(second);
+		assertEquals(0, pool.getOutstanding());
+		assertEquals(1, pool.getIdle());
+		assertEquals(1, fake.count("helicsMessageClear"));
+		assertEquals(List.of(0x1020L), freed);
+		assertNull(second.getHandle());
+		assertSame(first, pool.acquire());
+		assertEquals(2, fake.count("helicsEndpointCreateMessage"));
+	}
+	@Test
+	void rejectsReleasingAMessageTwice() {
+		final MessagePool pool = endpoint.createMessagePool(4, 4, 0);
+		final Message message = pool.acquire();
+		pool.release(message);
+		assertThrows(IllegalStateException.class, () -> pool.release(message));
+		assertEquals(0, pool.getOutstanding());
+		assertEquals(1, pool.getIdle());
+		final Message reused = pool.acquire();
+		assertSame(message, reused);
+		assertNotSame(reused, pool.acquire());
+	}
+	@Test
+	void closeIsIdempotent() {
+		final MessagePool pool = endpoint.createMessagePool(0, 4, 0);
+		final Message message = pool.acquire();
+		message.close();
+		message.close();
+		assertEquals(1, freed.size());
+		final Message idle = endpoint.createMessagePool(4, 4, 0).acquire();
+		idle.close();
+		idle.close();
+		assertEquals(1, freed.size());
+	}
+	@Test
+	void boundsOutstandingMessages() {
+		final MessagePool pool = endpoint.createMessagePool(4, 2, 0);
+		final Message first = pool.acquire();
+		pool.acquire();
+		assertThrows(IllegalStateException.class, pool::acquire);
+		pool.release(first);
+		assertSame(first, pool.acquire());
+	}
+	@Test
+	void transferDropsTheHandle() {
+		final MessagePool pool = endpoint.createMessagePool(4, 4, 0);
+		final Message message = pool.acquire();
+		pool.transfer(endpoint, message);
+		assertEquals(1, fake.count("helicsEndpointSendMessageZeroCopy"));
+		assertEquals(0, pool.getOutstanding());
+		assertNull(message.getHandle());
+		message.close();
+		assertEquals(0, fake.count("helicsMessageFree"));
+		assertEquals(0, pool.getIdle());
+	}
+	@Test
+	void closeFreesIdleMessagesAndRejectsAcquire() {
+		final MessagePool pool = endpoint.createMessagePool(4, 4, 0);
+		final Message idle = pool.acquire();
+		final Message outstanding = pool.acquire();
+		pool.release(idle);
+		pool.close();
+		assertEquals(List.of(0x1010L), freed);
+		assertThrows(IllegalStateException.class, pool::acquire);
+		outstanding.close();
+		assertEquals(List.of(0x1010L, 0x1020L), freed);
+	}
+	@Test
+	void rejectsDataLengthsPastTheArray() {
+		final Message message = endpoint.createMessagePool(1, 1, 0).acquire();
+		final byte[] data = new byte[8];
+		assertThrows(IndexOutOfBoundsException.class, () -> message.setData(data, 9));
+		assertThrows(IndexOutOfBoundsException.class, () -> message.appendData(data, -1));
+		assertEquals(0, fake.count("helicsMessageSetData") + fake.count("helicsMessageAppendData"));
+		message.setData(data, 8);
+		message.appendData(data, 4);
+		assertEquals(1, fake.count("helicsMessageSetData"));
+		assertEquals(1, fake.count("helicsMessageAppendData"));
+	}
+}
@@ -0,0 +1,36 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+class PublicationTest {
+	private final FakeLibrary fake = new FakeLibrary();
+	private final Publication publication = new Publication(fake.lib, new HelicsPublication());
+	@Test
+	void rejectsVectorLengthsPastTheArray() {
+		final double[] values = new double[4];
+		assertThrows(IndexOutOfBoundsException.class, () -> publication.publish(values, 5));
+		assertThrows(IndexOutOfBoundsException.class, () -> publication.publish(values, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> publication.publishComplex(values, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> publication.publishComplex(values, Integer.MAX_VALUE));
+		assertThrows(IndexOutOfBoundsException.class, () -> new DataBuffer(fake.lib, new HelicsDataBuffer()).setVector(values, 5));
+		assertEquals(0, fake.count("helicsPublicationPublishVector"));
+		assertEquals(0, fake.count("helicsPublicationPublishComplexVector"));
+		assertEquals(0, fake.count("helicsVectorToBytes"));
+		publication.publish(values, 4);
+		publication.publishComplex(values, 2);
+		assertEquals(1, fake.count("helicsPublicationPublishVector"));
+		assertEquals(1, fake.count("helicsPublicationPublishComplexVector"));
+	}
+	@Test
+	void rejectsByteLengthsPastTheArray() {
+		final byte[] data = new byte[8];
+		assertThrows(IndexOutOfBoundsException.class, () -> publication.publishBytes(data, 9));
+		assertThrows(IndexOutOfBoundsException.class, () -> new Input(fake.lib, new HelicsInput()).setDefaultBytes(data, 9));
+		assertEquals(0, fake.count("helicsPublicationPublishBytes"));
+		assertEquals(0, fake.count("helicsInputSetDefaultBytes"));
+		publication.publishBytes(data, 8);
+		assertEquals(1, fake.count("helicsPublicationPublishBytes"));
+	}
+}
@@ -0,0 +1,62 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.jna.Memory;
+
+class QueryResponderTest {
+	private final List<String> filled = new ArrayList<>();
+	private HelicsQueryCallback callback;
+	private QueryResponder responder;
+	private boolean failFill;
+	@BeforeEach
+	void setUp() {
+		final FakeLibrary fake = new FakeLibrary()
+				.on("helicsFederateSetQueryCallback", args -> {
+					callback = (HelicsQueryCallback) args[1];
+					return null;
+				})
+				.on("helicsQueryBufferFill", args -> {
+					if (failFill) {
+						failFill = false;
+						throw new IllegalStateException("buffer gone");
+					}
+					filled.add(new String(Arrays.copyOf((byte[]) args[1], (Integer) args[2]), StandardCharsets.UTF_8));
+					return null;
+				});
+		responder = new QueryResponder(fake.lib, new HelicsFederate());
+	}
+	@Test
+	void answersRegisteredQueries() {
+		responder.put("state", query -> QueryResponse.of("\"ok\""));
+		ask("state");
+		ask("unknown");
+		assertEquals(List.of("\"ok\""), filled);
+	}
+	@Test
+	void answersAFailingHandlerWithAnError() {
+		responder.put("state", query -> {
+			throw new IllegalArgumentException("bad \"state\"\n");
+		});
+		ask("state");
+		assertEquals(List.of("{\"error\":{\"code\":500,\"message\":\"bad \\\"state\\\"\\u000a\"}}"), filled);
+	}
+	@Test
+	void answersAFailedFillWithAnError() {
+		responder.put("state", query -> QueryResponse.of("\"ok\""));
+		failFill = true;
+		ask("state");
+		assertEquals(List.of("{\"error\":{\"code\":500,\"message\":\"buffer gone\"}}"), filled);
+	}
+	private void ask(final String query) {
+		final byte[] bytes = query.getBytes(StandardCharsets.UTF_8);
+		final Memory memory = new Memory(bytes.length);
+		memory.write(0, bytes, 0, bytes.length);
+		callback.invoke(memory, bytes.length, new HelicsQueryBuffer(), null);
+	}
+}
@@ -0,0 +1,86 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+
+class TopologyCacheTest {
+	/** counter answer standing for a failed query execution */
+	private static final String FAIL = "fail";
+	private final Map<HelicsQuery, String> queries = new ConcurrentHashMap<>();
+	private final Queue<String> counters = new ArrayDeque<>();
+	private int counterQueries;
+	private int graphQueries;
+	private TopologyCache cache;
+	@BeforeEach
+	void setUp() {
+		final FakeLibrary fake = new FakeLibrary()
+				.on("helicsCreateQuery", args -> {
+					final HelicsQuery query = new HelicsQuery();
+					queries.put(query, (String) args[1]);
+					return query;
+				})
+				.on("helicsQueryBrokerExecuteRaw", args -> {
+					if (!"counter".equals(queries.get(args[0]))) {
+						graphQueries++;
+						return string("{\"name\":\"root\",\"id\":1}");
+					}
+					counterQueries++;
+					final String answer = counters.remove();
+					if (answer == FAIL) {
+						((ReusableHelicsError) args[2]).getPointer().setInt(0, HelicsErrorTypes.HELICS_ERROR_EXECUTION_FAILURE.value());
+						return null;
+					}
+					return string(answer);
+				});
+		cache = TopologyCache.of(fake.lib, new HelicsBroker(), "root");
+	}
+	@Test
+	void keepsTheCounterAfterTransientErrors() {
+		refresh(FAIL);
+		assertEquals(1, graphQueries);
+		refresh("5");
+		refresh("5");
+		assertEquals(2, graphQueries);
+		refresh("{\"error\":{\"code\":504,\"message\":\"timed out\"}}");
+		refresh("5");
+		refresh("5");
+		assertEquals(4, graphQueries);
+		assertEquals(6, counterQueries);
+	}
+	@Test
+	void turnsTheCounterOffWhenTheQueryIsUnknown() {
+		refresh("{\"error\":{\"code\":400,\"message\":\"unrecognized query\"}}");
+		cache.invalidate();
+		cache.get();
+		assertEquals(1, counterQueries);
+		assertEquals(2, graphQueries);
+	}
+	@Test
+	void turnsTheCounterOffWhenTheAnswerDoesNotParse() {
+		refresh("#invalid");
+		cache.invalidate();
+		cache.get();
+		assertEquals(1, counterQueries);
+		assertEquals(2, graphQueries);
+	}
+	private void refresh(final String counter) {
+		counters.add(counter);
+		cache.invalidate();
+		cache.get();
+	}
+	private static Pointer string(final String value) {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		final Memory memory = new Memory(bytes.length + 1);
+		memory.write(0, bytes, 0, bytes.length);
+		memory.setByte(bytes.length, (byte) 0);
+		return memory;
+	}
+}
@@ -0,0 +1,65 @@
+package com.java.helics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TopologySnapshotTest {
+	private static final String GRAPH = "{\"name\":\"root\",\"id\":1,\"cores\":[{\"name\":\"core\",\"id\":2,\"parent\":1,\"federates\":["
+			+ "{\"name\":\"source\",\"id\":131072,\"parent\":2,"
+			+ "\"publications\":[{\"key\":\"source/power\",\"federate\":131072,\"handle\":0,"
+			+ "\"targets\":[{\"key\":\"sink/power\",\"federate\":131073,\"handle\":0}]},"
+			+ "{\"key\":\"source/voltage\",\"federate\":131072,\"handle\":1}],"
+			+ "\"endpoints\":[{\"key\":\"source/ep\",\"federate\":131072,\"handle\":2}]},"
+			+ "{\"name\":\"sink\",\"id\":131073,\"parent\":2,"
+			+ "\"inputs\":[{\"key\":\"sink/power\",\"federate\":131073,\"handle\":0,\"sources\":[\"source/power\"]},"
+			+ "{\"key\":\"sink/voltage\",\"federate\":131073,\"handle\":1,\"sources\":[\"source/voltage\"]},"
+			+ "{\"federate\":131073,\"handle\":2,\"sources\":[{\"federate\":131072,\"handle\":1}]}],"
+			+ "\"unknown\":{\"ignored\":[1,2,3]}}]}]}";
+	private static TopologySnapshot snapshot() {
+		return new TopologySnapshot(FederationNode.read(new JsonReader(GRAPH)), "7");
+	}
+	@Test
+	void indexesFederatesAndNodes() {
+		final TopologySnapshot snapshot = snapshot();
+		assertEquals("7", snapshot.getCounter());
+		assertEquals(2, snapshot.getFederates().size());
+		assertEquals(131073, snapshot.getFederate("sink").getId());
+		assertNull(snapshot.getFederate("missing"));
+		assertEquals(FederationNode.Kind.CORE, snapshot.getNode(2).getKind());
+		assertSame(snapshot.getRoot(), snapshot.getNode(1));
+		assertNull(snapshot.getNode(3));
+	}
+	@Test
+	void indexesInterfacesByKeyAndHandle() {
+		final TopologySnapshot snapshot = snapshot();
+		final FederationInterface power = snapshot.getInterface(FederationInterface.Type.PUBLICATION, "source/power");
+		assertEquals(0, power.getHandle());
+		assertSame(power, snapshot.getInterface(131072, 0));
+		assertSame(snapshot.getFederate("source"), snapshot.getOwner(power));
+		assertEquals(FederationInterface.Type.ENDPOINT, snapshot.getInterface(131072, 2).getType());
+		assertNull(snapshot.getInterface(FederationInterface.Type.INPUT, "source/power"));
+		assertNull(snapshot.getInterface(131074, 0));
+	}
+	@Test
+	void mergesSubscribersReportedFromEitherSide() {
+		final TopologySnapshot snapshot = snapshot();
+		assertEquals(List.of("sink/power"), keys(snapshot.getSubscribers("source/power")));
+		final List<FederationInterface> voltage = snapshot.getSubscribers("source/voltage");
+		assertEquals(2, voltage.size());
+		assertSame(snapshot.getInterface(131073, 1), voltage.get(0));
+		assertSame(snapshot.getInterface(131073, 2), voltage.get(1));
+		assertTrue(snapshot.getSubscribers("source/missing").isEmpty());
+	}
+	private static List<String> keys(final List<FederationInterface> interfaces) {
+		final List<String> keys = new ArrayList<>();
+		for (final FederationInterface iface : interfaces) {
+			keys.add(iface.getKey());
+		}
+		return keys;
+	}
+}